@@ -0,0 +1,77 @@
+package io.github.tourem.maven.descriptor.benchmarks;
+
+import io.github.tourem.maven.descriptor.model.DependencyTreeFormat;
+import io.github.tourem.maven.descriptor.model.DependencyTreeOptions;
+import io.github.tourem.maven.descriptor.service.DependencyTreeCollector;
+import org.apache.maven.model.Model;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link DependencyTreeCollector#collect} over every module of a synthetic reactor.
+ *
+ * @author tourem
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DependencyTreeCollectorBenchmark {
+
+    @Param({"10", "100"})
+    public int modules;
+
+    @Param({"10", "40"})
+    public int dependenciesPerModule;
+
+    @Param({"FLAT", "BOTH"})
+    public DependencyTreeFormat format;
+
+    private ReactorFixture fixture;
+    private List<Model> models;
+    private List<Path> moduleDirs;
+    private DependencyTreeOptions options;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        fixture = ReactorFixture.create(SyntheticReactor.of(modules, dependenciesPerModule, 1, 0));
+        models = fixture.moduleModels();
+        moduleDirs = fixture.moduleDirs();
+        options = DependencyTreeOptions.builder()
+                .include(true)
+                .scopes(DependencyTreeOptions.defaultScopes())
+                .format(format)
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        fixture.close();
+    }
+
+    @Benchmark
+    public void collectReactor(Blackhole blackhole) {
+        DependencyTreeCollector collector = new DependencyTreeCollector();
+        for (int i = 0; i < models.size(); i++) {
+            blackhole.consume(collector.collect(models.get(i), moduleDirs.get(i), options));
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package io.github.tourem.maven.descriptor.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import com.fasterxml.jackson.dataformat.yaml.YAMLGenerator;
+import io.github.tourem.maven.descriptor.model.DependencyTreeFormat;
+import io.github.tourem.maven.descriptor.model.DependencyTreeOptions;
+import io.github.tourem.maven.descriptor.model.LicenseOptions;
+import io.github.tourem.maven.descriptor.model.ProjectDescriptor;
+import io.github.tourem.maven.descriptor.service.MavenProjectAnalyzer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON and YAML serialization of a descriptor, with the mapper settings used by the generate mojo
+ * (JSR-310 dates as strings, pretty printing, no YAML document marker).
+ *
+ * @author tourem
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DescriptorSerializationBenchmark {
+
+    @Param({"10", "100", "500"})
+    public int modules;
+
+    @Param({"10"})
+    public int dependenciesPerModule;
+
+    private ProjectDescriptor descriptor;
+    private ObjectMapper jsonMapper;
+    private ObjectMapper yamlMapper;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        try (ReactorFixture fixture = ReactorFixture.create(SyntheticReactor.of(modules, dependenciesPerModule, 2, 0))) {
+            MavenProjectAnalyzer analyzer = new MavenProjectAnalyzer(
+                    DependencyTreeOptions.builder()
+                            .include(true)
+                            .scopes(DependencyTreeOptions.defaultScopes())
+                            .format(DependencyTreeFormat.BOTH)
+                            .build(),
+                    LicenseOptions.builder().include(true).build());
+            descriptor = analyzer.analyzeProject(fixture.projectRoot());
+        }
+
+        jsonMapper = new ObjectMapper();
+        jsonMapper.findAndRegisterModules();
+        jsonMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        jsonMapper.enable(SerializationFeature.INDENT_OUTPUT);
+
+        yamlMapper = new ObjectMapper(YAMLFactory.builder()
+                .disable(YAMLGenerator.Feature.WRITE_DOC_START_MARKER)
+                .build());
+        yamlMapper.findAndRegisterModules();
+        yamlMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        yamlMapper.enable(SerializationFeature.INDENT_OUTPUT);
+    }
+
+    @Benchmark
+    public long writeJson() throws IOException {
+        CountingOutputStream out = new CountingOutputStream();
+        jsonMapper.writeValue(out, descriptor);
+        return out.count;
+    }
+
+    @Benchmark
+    public long writeYaml() throws IOException {
+        CountingOutputStream out = new CountingOutputStream();
+        yamlMapper.writeValue(out, descriptor);
+        return out.count;
+    }
+
+    /**
+     * Discards bytes so the benchmark measures serialization, not I/O.
+     */
+    private static final class CountingOutputStream extends OutputStream {
+        long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package io.github.tourem.maven.descriptor.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Minimal local Maven repository ({@code ~/.m2/repository} layout) holding only POM files:
+ * license metadata, transitive dependencies and BOMs. Enough for the license and dependency
+ * collectors, which never open jars.
+ *
+ * @author tourem
+ */
+public final class FakeLocalRepository {
+
+    private final Path root;
+
+    public FakeLocalRepository(Path root) throws IOException {
+        this.root = Files.createDirectories(root);
+    }
+
+    public Path root() {
+        return root;
+    }
+
+    /**
+     * Write a library POM.
+     *
+     * @param license license name, or null for a POM without {@code <licenses>}
+     * @param dependencies compile dependencies of the library
+     */
+    public Path library(Coordinates library, String license, List<Coordinates> dependencies) throws IOException {
+        StringBuilder xml = new StringBuilder();
+        xml.append(header(library, "jar"));
+        if (license != null) {
+            xml.append("  <licenses>\n    <license>\n      <name>").append(license)
+               .append("</name>\n    </license>\n  </licenses>\n");
+        }
+        if (!dependencies.isEmpty()) {
+            xml.append("  <dependencies>\n");
+            for (Coordinates dep : dependencies) {
+                xml.append(dependency(dep, "    "));
+            }
+            xml.append("  </dependencies>\n");
+        }
+        xml.append("</project>\n");
+        return write(library, xml.toString());
+    }
+
+    /**
+     * Write a BOM POM managing the given versions.
+     */
+    public Path bom(Coordinates bom, List<Coordinates> managed) throws IOException {
+        StringBuilder xml = new StringBuilder();
+        xml.append(header(bom, "pom"));
+        xml.append("  <dependencyManagement>\n    <dependencies>\n");
+        for (Coordinates dep : managed) {
+            xml.append(dependency(dep, "      "));
+        }
+        xml.append("    </dependencies>\n  </dependencyManagement>\n</project>\n");
+        return write(bom, xml.toString());
+    }
+
+    /**
+     * Path of an artifact's POM in the repository.
+     */
+    public Path pomPath(Coordinates coordinates) {
+        return root.resolve(coordinates.groupId().replace('.', '/'))
+                .resolve(coordinates.artifactId())
+                .resolve(coordinates.version())
+                .resolve(coordinates.artifactId() + "-" + coordinates.version() + ".pom");
+    }
+
+    private Path write(Coordinates coordinates, String xml) throws IOException {
+        Path pom = pomPath(coordinates);
+        Files.createDirectories(pom.getParent());
+        Files.writeString(pom, xml);
+        return pom;
+    }
+
+    private static String header(Coordinates coordinates, String packaging) {
+        return """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <project xmlns="http://maven.apache.org/POM/4.0.0">
+              <modelVersion>4.0.0</modelVersion>
+              <groupId>%s</groupId>
+              <artifactId>%s</artifactId>
+              <version>%s</version>
+              <packaging>%s</packaging>
+            """.formatted(coordinates.groupId(), coordinates.artifactId(), coordinates.version(), packaging);
+    }
+
+    static String dependency(Coordinates dep, String indent) {
+        StringBuilder xml = new StringBuilder();
+        xml.append(indent).append("<dependency>\n");
+        xml.append(indent).append("  <groupId>").append(dep.groupId()).append("</groupId>\n");
+        xml.append(indent).append("  <artifactId>").append(dep.artifactId()).append("</artifactId>\n");
+        if (dep.version() != null) {
+            xml.append(indent).append("  <version>").append(dep.version()).append("</version>\n");
+        }
+        xml.append(indent).append("</dependency>\n");
+        return xml.toString();
+    }
+
+    /**
+     * Maven coordinates; version may be null (managed) or a property reference.
+     */
+    public record Coordinates(String groupId, String artifactId, String version) {
+
+        public Coordinates withVersion(String newVersion) {
+            return new Coordinates(groupId, artifactId, newVersion);
+        }
+    }
+}
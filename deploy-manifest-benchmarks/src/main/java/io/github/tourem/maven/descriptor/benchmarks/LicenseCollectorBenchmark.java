@@ -0,0 +1,100 @@
+package io.github.tourem.maven.descriptor.benchmarks;
+
+import io.github.tourem.maven.descriptor.model.LicenseInfo;
+import io.github.tourem.maven.descriptor.model.LicenseOptions;
+import io.github.tourem.maven.descriptor.service.LicenseCollector;
+import io.github.tourem.maven.descriptor.util.PomModelCache;
+import org.apache.maven.model.Model;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link LicenseCollector#collect} over every module of a synthetic reactor, resolving
+ * transitive license metadata from the fake local repository.
+ *
+ * @author tourem
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LicenseCollectorBenchmark {
+
+    @Param({"10", "100"})
+    public int modules;
+
+    @Param({"10", "40"})
+    public int dependenciesPerModule;
+
+    @Param({"3"})
+    public int transitiveDependencies;
+
+    @Param({"3"})
+    public int transitiveDepth;
+
+    @Param({"true", "false"})
+    public boolean includeTransitive;
+
+    @Param({"true"})
+    public boolean coldCache;
+
+    private ReactorFixture fixture;
+    private List<Model> models;
+    private List<Path> moduleDirs;
+    private LicenseOptions options;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        SyntheticReactor reactor = new SyntheticReactor(modules, dependenciesPerModule, 1, 0,
+                Math.max(50, dependenciesPerModule * 4), transitiveDependencies, transitiveDepth);
+        fixture = ReactorFixture.create(reactor);
+        models = fixture.moduleModels();
+        moduleDirs = fixture.moduleDirs();
+        options = LicenseOptions.builder()
+                .include(true)
+                .licenseWarnings(true)
+                .includeTransitiveLicenses(includeTransitive)
+                // the persistent index would serve every invocation after the first
+                .persistentIndex(!coldCache)
+                .build();
+    }
+
+    @Setup(Level.Invocation)
+    public void resetCache() {
+        if (coldCache) {
+            PomModelCache.shared().clear();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        fixture.close();
+    }
+
+    @Benchmark
+    public void collectReactor(Blackhole blackhole) {
+        LicenseCollector collector = new LicenseCollector();
+        for (int i = 0; i < models.size(); i++) {
+            LicenseInfo info = collector.collect(models.get(i), moduleDirs.get(i), options);
+            blackhole.consume(info);
+        }
+    }
+}
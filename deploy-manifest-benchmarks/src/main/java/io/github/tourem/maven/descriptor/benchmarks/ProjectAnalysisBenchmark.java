@@ -0,0 +1,89 @@
+package io.github.tourem.maven.descriptor.benchmarks;
+
+import io.github.tourem.maven.descriptor.model.AnalysisOptions;
+import io.github.tourem.maven.descriptor.model.LicenseOptions;
+import io.github.tourem.maven.descriptor.model.ProjectDescriptor;
+import io.github.tourem.maven.descriptor.service.MavenProjectAnalyzer;
+import io.github.tourem.maven.descriptor.util.PomModelCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end {@link MavenProjectAnalyzer#analyzeProject} on synthetic reactors.
+ *
+ * <p>With {@code coldCache} the shared POM cache is cleared before each invocation and the
+ * persistent license index is off, as in a first build; otherwise POMs and licenses stay cached
+ * between invocations, as in a long-lived daemon.</p>
+ *
+ * @author tourem
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProjectAnalysisBenchmark {
+
+    @Param({"10", "100", "500"})
+    public int modules;
+
+    @Param({"10"})
+    public int dependenciesPerModule;
+
+    @Param({"2"})
+    public int parentDepth;
+
+    @Param({"2"})
+    public int bomImports;
+
+    @Param({"false", "true"})
+    public boolean licenses;
+
+    @Param({"1"})
+    public int parallelism;
+
+    @Param({"true"})
+    public boolean coldCache;
+
+    private ReactorFixture fixture;
+    private MavenProjectAnalyzer analyzer;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        fixture = ReactorFixture.create(SyntheticReactor.of(modules, dependenciesPerModule, parentDepth, bomImports));
+        LicenseOptions licenseOptions = LicenseOptions.builder().include(licenses).persistentIndex(!coldCache).build();
+        analyzer = new MavenProjectAnalyzer(null, licenseOptions, null, null,
+                AnalysisOptions.builder().parallelism(parallelism).build());
+    }
+
+    @Setup(Level.Invocation)
+    public void resetCache() {
+        if (coldCache) {
+            PomModelCache.shared().clear();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        fixture.close();
+    }
+
+    @Benchmark
+    public ProjectDescriptor analyzeProject() {
+        return analyzer.analyzeProject(fixture.projectRoot());
+    }
+}
@@ -0,0 +1,77 @@
+package io.github.tourem.maven.descriptor.benchmarks;
+
+import io.github.tourem.maven.descriptor.util.LicenseIndex;
+import io.github.tourem.maven.descriptor.util.PomModelCache;
+import org.apache.maven.model.Model;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A synthetic reactor generated in a temporary directory, with {@code maven.repo.local} pointing
+ * at its fake repository and the license index kept in the same directory until
+ * {@link #close()}, so runs never touch the user's {@code ~/.m2}.
+ *
+ * @author tourem
+ */
+public final class ReactorFixture implements AutoCloseable {
+
+    private static final String REPO_PROPERTY = "maven.repo.local";
+
+    private final Path workDir;
+    private final SyntheticReactor.Generated generated;
+    private final String previousRepo;
+    private final String previousLicenseIndex;
+
+    private ReactorFixture(Path workDir, SyntheticReactor.Generated generated) {
+        this.workDir = workDir;
+        this.generated = generated;
+        this.previousRepo = System.getProperty(REPO_PROPERTY);
+        this.previousLicenseIndex = System.getProperty(LicenseIndex.INDEX_FILE_PROPERTY);
+        System.setProperty(REPO_PROPERTY, generated.localRepository().toString());
+        System.setProperty(LicenseIndex.INDEX_FILE_PROPERTY, workDir.resolve("licenses.idx").toString());
+    }
+
+    public static ReactorFixture create(SyntheticReactor reactor) throws IOException {
+        Path workDir = Files.createTempDirectory("deploy-manifest-bench");
+        return new ReactorFixture(workDir, reactor.generate(workDir));
+    }
+
+    public Path projectRoot() {
+        return generated.projectRoot();
+    }
+
+    public List<Path> moduleDirs() {
+        return generated.moduleDirs();
+    }
+
+    /**
+     * Raw models of the leaf modules, in reactor order.
+     */
+    public List<Model> moduleModels() throws Exception {
+        List<Model> models = new ArrayList<>();
+        for (Path dir : generated.moduleDirs()) {
+            models.add(PomModelCache.shared().read(dir.resolve("pom.xml")));
+        }
+        return models;
+    }
+
+    @Override
+    public void close() throws IOException {
+        restore(REPO_PROPERTY, previousRepo);
+        restore(LicenseIndex.INDEX_FILE_PROPERTY, previousLicenseIndex);
+        PomModelCache.shared().clear();
+        SyntheticReactor.deleteRecursively(workDir);
+    }
+
+    private static void restore(String property, String previous) {
+        if (previous != null) {
+            System.setProperty(property, previous);
+        } else {
+            System.clearProperty(property);
+        }
+    }
+}
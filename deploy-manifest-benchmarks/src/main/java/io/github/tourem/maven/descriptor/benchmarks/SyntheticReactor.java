@@ -0,0 +1,320 @@
+package io.github.tourem.maven.descriptor.benchmarks;
+
+import io.github.tourem.maven.descriptor.benchmarks.FakeLocalRepository.Coordinates;
+
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Generates a synthetic multi-module reactor and the matching fake local repository.
+ *
+ * <p>Layout: {@code synthetic-root} (pom) -> {@code parentDepth - 1} nested aggregator layers ->
+ * {@code modules} jar modules. Leaf modules inherit groupId and version, declare
+ * {@code dependenciesPerModule} third-party dependencies (versions from root properties, or
+ * managed by the imported BOMs when {@code bomImports > 0}) and depend on the previous module.
+ * Every other module has Spring Boot style {@code application*.yml} resources and every third
+ * module the Spring Boot plugin, so resource and executable detectors have work to do.</p>
+ *
+ * <p>Third-party libraries form a layered DAG of {@code transitiveDepth + 1} tiers: each library
+ * depends on {@code transitiveDependencies} libraries of the next tier, so dependency paths are
+ * at most {@code transitiveDepth} levels deep. Licenses rotate between a few common values (and
+ * some are missing).</p>
+ *
+ * <p>Generation is deterministic: the same parameters always produce the same files.</p>
+ *
+ * @param modules number of leaf jar modules
+ * @param dependenciesPerModule third-party dependencies declared by each module
+ * @param parentDepth length of the parent chain above leaf modules (1 = modules directly under root)
+ * @param bomImports number of BOMs imported by the root POM (0 = versions through root properties)
+ * @param libraries size of the third-party library pool
+ * @param transitiveDependencies dependencies declared by each library POM (except the last tier)
+ * @param transitiveDepth number of library tiers below the directly declared ones
+ * @author tourem
+ */
+public record SyntheticReactor(int modules, int dependenciesPerModule, int parentDepth, int bomImports,
+                               int libraries, int transitiveDependencies, int transitiveDepth) {
+
+    public static final String GROUP_ID = "com.example.synthetic";
+    public static final String LIBRARY_GROUP_ID = "org.example.lib";
+    public static final String VERSION = "1.0.0-SNAPSHOT";
+
+    private static final String[] LICENSES = {
+            "Apache License, Version 2.0", "MIT License", "Eclipse Public License 2.0", "BSD-3-Clause", null
+    };
+
+    public SyntheticReactor {
+        if (modules < 1 || dependenciesPerModule < 0 || parentDepth < 1 || bomImports < 0
+                || libraries < 1 || transitiveDependencies < 0 || transitiveDepth < 0) {
+            throw new IllegalArgumentException("Invalid synthetic reactor parameters");
+        }
+    }
+
+    /**
+     * Reactor with a library pool sized for the requested dependencies, 3 transitive
+     * dependencies per library and 3 transitive levels.
+     */
+    public static SyntheticReactor of(int modules, int dependenciesPerModule, int parentDepth, int bomImports) {
+        return new SyntheticReactor(modules, dependenciesPerModule, parentDepth, bomImports,
+                Math.max(50, dependenciesPerModule * 4), 3, 3);
+    }
+
+    /**
+     * Write the reactor under {@code workDir/reactor} and the repository under {@code workDir/m2/repository}.
+     */
+    public Generated generate(Path workDir) throws IOException {
+        FakeLocalRepository repository = new FakeLocalRepository(workDir.resolve("m2").resolve("repository"));
+        writeLibraries(repository);
+        List<Coordinates> boms = writeBoms(repository);
+
+        Path root = Files.createDirectories(workDir.resolve("reactor"));
+        List<Path> moduleDirs = new ArrayList<>();
+
+        // Parent chain: root, then layer-1 .. layer-(depth-1)
+        Path layerDir = root;
+        String parentArtifactId = null;
+        for (int level = 0; level < parentDepth; level++) {
+            String artifactId = level == 0 ? "synthetic-root" : "layer-" + level;
+            boolean last = level == parentDepth - 1;
+            List<String> children = new ArrayList<>();
+            if (last) {
+                for (int m = 0; m < modules; m++) {
+                    children.add(moduleName(m));
+                }
+            } else {
+                children.add("layer-" + (level + 1));
+            }
+            Files.writeString(layerDir.resolve("pom.xml"),
+                    level == 0 ? rootPom(children, boms) : layerPom(artifactId, parentArtifactId, children));
+            parentArtifactId = artifactId;
+            if (!last) {
+                layerDir = Files.createDirectories(layerDir.resolve("layer-" + (level + 1)));
+            }
+        }
+
+        for (int m = 0; m < modules; m++) {
+            Path moduleDir = Files.createDirectories(layerDir.resolve(moduleName(m)));
+            Files.writeString(moduleDir.resolve("pom.xml"), modulePom(m, parentArtifactId));
+            if (m % 2 == 0) {
+                Path resources = Files.createDirectories(moduleDir.resolve("src/main/resources"));
+                Files.writeString(resources.resolve("application.yml"), """
+                    spring:
+                      application:
+                        name: %s
+                    server:
+                      port: %d
+                    management:
+                      endpoints:
+                        web:
+                          base-path: /actuator
+                    """.formatted(moduleName(m), 8000 + m));
+                Files.writeString(resources.resolve("application-prod.yml"), """
+                    server:
+                      port: %d
+                    """.formatted(9000 + m));
+            }
+            moduleDirs.add(moduleDir);
+        }
+        return new Generated(root, repository.root(), moduleDirs);
+    }
+
+    /**
+     * Delete a generated tree.
+     */
+    public static void deleteRecursively(Path dir) throws IOException {
+        if (dir == null || !Files.exists(dir)) {
+            return;
+        }
+        Files.walkFileTree(dir, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                Files.delete(file);
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult postVisitDirectory(Path d, IOException exc) throws IOException {
+                Files.delete(d);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    static Coordinates library(int index) {
+        return new Coordinates(LIBRARY_GROUP_ID, "lib-" + index, "1." + (index % 7) + "." + (index % 3));
+    }
+
+    static String moduleName(int index) {
+        return String.format("module-%04d", index);
+    }
+
+    private void writeLibraries(FakeLocalRepository repository) throws IOException {
+        int tiers = transitiveDepth + 1;
+        int tierSize = Math.max(1, libraries / tiers);
+        for (int i = 0; i < libraries; i++) {
+            List<Coordinates> deps = new ArrayList<>();
+            int tier = Math.min(i / tierSize, tiers - 1);
+            if (tier < tiers - 1) {
+                // Consecutive (distinct) libraries of the next tier [start, end), spread by i
+                int start = (tier + 1) * tierSize;
+                int end = tier + 1 == tiers - 1 ? libraries : start + tierSize;
+                int range = end - start;
+                for (int t = 0; t < Math.min(transitiveDependencies, range); t++) {
+                    deps.add(library(start + (i * 7 + t) % range));
+                }
+            }
+            repository.library(library(i), LICENSES[i % LICENSES.length], deps);
+        }
+    }
+
+    private List<Coordinates> writeBoms(FakeLocalRepository repository) throws IOException {
+        List<Coordinates> boms = new ArrayList<>();
+        for (int b = 0; b < bomImports; b++) {
+            List<Coordinates> managed = new ArrayList<>();
+            for (int i = b; i < libraries; i += bomImports) {
+                managed.add(library(i));
+            }
+            Coordinates bom = new Coordinates(LIBRARY_GROUP_ID, "bom-" + b, "1.0.0");
+            repository.bom(bom, managed);
+            boms.add(bom);
+        }
+        return boms;
+    }
+
+    /**
+     * Third-party dependencies of a module: spread over the pool, no duplicates.
+     */
+    private Set<Integer> moduleLibraries(int module) {
+        Set<Integer> indexes = new LinkedHashSet<>();
+        int count = Math.min(dependenciesPerModule, libraries);
+        for (int j = 0; indexes.size() < count; j++) {
+            indexes.add((module * 7 + j * 13) % libraries);
+        }
+        return indexes;
+    }
+
+    private String rootPom(List<String> children, List<Coordinates> boms) {
+        StringBuilder xml = new StringBuilder();
+        xml.append("""
+            <?xml version="1.0" encoding="UTF-8"?>
+            <project xmlns="http://maven.apache.org/POM/4.0.0">
+              <modelVersion>4.0.0</modelVersion>
+              <groupId>%s</groupId>
+              <artifactId>synthetic-root</artifactId>
+              <version>%s</version>
+              <packaging>pom</packaging>
+              <name>Synthetic reactor</name>
+            """.formatted(GROUP_ID, VERSION));
+        xml.append(modules(children));
+        xml.append("  <properties>\n    <java.version>17</java.version>\n");
+        if (boms.isEmpty()) {
+            for (int i = 0; i < libraries; i++) {
+                xml.append("    <lib-").append(i).append(".version>").append(library(i).version())
+                   .append("</lib-").append(i).append(".version>\n");
+            }
+        }
+        xml.append("  </properties>\n");
+        if (!boms.isEmpty()) {
+            xml.append("  <dependencyManagement>\n    <dependencies>\n");
+            for (Coordinates bom : boms) {
+                xml.append("""
+                          <dependency>
+                            <groupId>%s</groupId>
+                            <artifactId>%s</artifactId>
+                            <version>%s</version>
+                            <type>pom</type>
+                            <scope>import</scope>
+                          </dependency>
+                    """.formatted(bom.groupId(), bom.artifactId(), bom.version()));
+            }
+            xml.append("    </dependencies>\n  </dependencyManagement>\n");
+        }
+        xml.append("</project>\n");
+        return xml.toString();
+    }
+
+    private static String layerPom(String artifactId, String parentArtifactId, List<String> children) {
+        return parentHeader(parentArtifactId) + """
+              <artifactId>%s</artifactId>
+              <packaging>pom</packaging>
+            """.formatted(artifactId) + modules(children) + "</project>\n";
+    }
+
+    private String modulePom(int module, String parentArtifactId) {
+        StringBuilder xml = new StringBuilder(parentHeader(parentArtifactId));
+        xml.append("""
+              <artifactId>%s</artifactId>
+              <packaging>jar</packaging>
+              <dependencies>
+            """.formatted(moduleName(module)));
+        if (module > 0 && module % 5 != 0) {
+            xml.append(FakeLocalRepository.dependency(
+                    new Coordinates("${project.groupId}", moduleName(module - 1), "${project.version}"), "    "));
+        }
+        for (int index : moduleLibraries(module)) {
+            String version = bomImports > 0 ? null : "${lib-" + index + ".version}";
+            xml.append(FakeLocalRepository.dependency(library(index).withVersion(version), "    "));
+        }
+        xml.append("  </dependencies>\n");
+        if (module % 3 == 0) {
+            xml.append("""
+                  <build>
+                    <plugins>
+                      <plugin>
+                        <groupId>org.springframework.boot</groupId>
+                        <artifactId>spring-boot-maven-plugin</artifactId>
+                        <version>3.2.0</version>
+                        <executions>
+                          <execution>
+                            <goals>
+                              <goal>repackage</goal>
+                            </goals>
+                          </execution>
+                        </executions>
+                      </plugin>
+                    </plugins>
+                  </build>
+                """);
+        }
+        xml.append("</project>\n");
+        return xml.toString();
+    }
+
+    private static String parentHeader(String parentArtifactId) {
+        return """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <project xmlns="http://maven.apache.org/POM/4.0.0">
+              <modelVersion>4.0.0</modelVersion>
+              <parent>
+                <groupId>%s</groupId>
+                <artifactId>%s</artifactId>
+                <version>%s</version>
+                <relativePath>../pom.xml</relativePath>
+              </parent>
+            """.formatted(GROUP_ID, parentArtifactId, VERSION);
+    }
+
+    private static String modules(List<String> children) {
+        StringBuilder xml = new StringBuilder("  <modules>\n");
+        for (String child : children) {
+            xml.append("    <module>").append(child).append("</module>\n");
+        }
+        return xml.append("  </modules>\n").toString();
+    }
+
+    /**
+     * Generated reactor.
+     *
+     * @param projectRoot directory of the root POM
+     * @param localRepository fake local repository (pass as {@code maven.repo.local})
+     * @param moduleDirs leaf module directories, in reactor order
+     */
+    public record Generated(Path projectRoot, Path localRepository, List<Path> moduleDirs) {}
+}
@@ -0,0 +1,42 @@
+package io.github.tourem.maven.descriptor.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Options controlling how the analyzer walks the reactor.
+ * This is configured by the Maven plugin then passed into the analyzer.
+ *
+ * Defaults keep the historical behaviour (single-threaded walk).
+ * @author tourem
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AnalysisOptions {
+    /** Number of modules analyzed concurrently (1 = serial, default: 1). */
+    @Builder.Default
+    private int parallelism = 1;
+
+    /**
+     * Reuse the analysis of modules whose inputs did not change since the previous build
+     * (fingerprints stored under each module's target/ directory). Disabled by default.
+     */
+    @Builder.Default
+    private boolean incremental = false;
+
+    /**
+     * Record wall time, CPU time, allocated bytes and files read per detector and module,
+     * exposed as the descriptor's generationStats section. Disabled by default.
+     */
+    @Builder.Default
+    private boolean profile = false;
+
+    /** Effective parallelism, never lower than 1. */
+    public int effectiveParallelism() {
+        return Math.max(1, parallelism);
+    }
+}
@@ -1,16 +1,26 @@
 package io.github.tourem.maven.descriptor.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
+import io.github.tourem.maven.descriptor.model.analysis.VersionConflict;
+import io.github.tourem.maven.descriptor.util.CompactDependencyGraph;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Container for dependency information: summary + flat/tree representations.
  * Any of flat/tree can be null depending on chosen format.
+ * The tree may be held as a {@link CompactDependencyGraph}; it is then expanded to
+ * {@link DependencyNode}s when first read (i.e. at serialization time), once.
  * @author tourem
  */
 @Data
@@ -22,5 +32,59 @@ public class DependencyTreeInfo {
     private DependencySummary summary;
     private List<DependencyFlatEntry> flat;
     private List<DependencyNode> tree;
+    /** Artifacts met in several versions while resolving, with the version selected. */
+    private List<VersionConflict> conflicts;
+
+    /** Compact tree, used when {@link #tree} is not set. */
+    @JsonIgnore
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private CompactDependencyGraph graph;
+
+    /** Expansion of {@link #graph}, kept so that every read sees (and edits) the same nodes. */
+    @JsonIgnore
+    @Getter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private final AtomicReference<List<DependencyNode>> expandedGraph = new AtomicReference<>();
+
+    public List<DependencyNode> getTree() {
+        if (tree == null && graph != null) {
+            List<DependencyNode> nodes = expandedGraph.get();
+            if (nodes == null) {
+                expandedGraph.compareAndSet(null, graph.toDependencyNodes());
+                nodes = expandedGraph.get();
+            }
+            return nodes;
+        }
+        return tree;
+    }
+
+    public void setGraph(CompactDependencyGraph graph) {
+        this.graph = graph;
+        expandedGraph.set(null);
+    }
+
+    /**
+     * @return whether a non-empty tree is available, without expanding the compact graph
+     */
+    @JsonIgnore
+    public boolean hasTree() {
+        if (tree == null && graph != null) {
+            return graph.rootCount() > 0;
+        }
+        return tree != null && !tree.isEmpty();
+    }
+
+    /**
+     * @return the tree in compact form (built from {@link #tree} when set explicitly), or null
+     */
+    @JsonIgnore
+    public CompactDependencyGraph compactTree() {
+        if (tree != null) {
+            return CompactDependencyGraph.of(tree);
+        }
+        return graph;
+    }
 }
 
@@ -45,6 +45,17 @@ public class DependencyTreeOptions {
     @Builder.Default
     private boolean includeOptional = false;
 
+    /**
+     * Resolve transitive dependencies from the local repository (default: true); when false,
+     * only direct dependencies are listed (e.g. the caller builds the tree itself).
+     */
+    @Builder.Default
+    private boolean resolveTransitive = true;
+
+    /** Number of dependency descriptors read concurrently while resolving (default: 4). */
+    @Builder.Default
+    private int resolutionParallelism = 4;
+
     /** Utility to normalize scope names to lower-case. */
     public void normalize() {
         if (scopes == null) { scopes = new HashSet<>(); }
@@ -0,0 +1,62 @@
+package io.github.tourem.maven.descriptor.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+
+import java.util.List;
+
+/**
+ * Profiling data collected while generating the descriptor (optional, feature-gated).
+ *
+ * @param totalWallTimeMs wall time of the whole analysis
+ * @param parallelism number of modules analyzed concurrently
+ * @param modulesProfiled number of deployable modules profiled
+ * @param pomCacheHits POM reads served by the shared model cache
+ * @param pomCacheMisses POM reads that parsed a file
+ * @param detectors per-detector totals across all modules, slowest first
+ * @param modules per-module breakdown, in descriptor order
+ * @author tourem
+ */
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record GenerationStats(
+    double totalWallTimeMs,
+    int parallelism,
+    int modulesProfiled,
+    Long pomCacheHits,
+    Long pomCacheMisses,
+    List<DetectorStats> detectors,
+    List<ModuleStats> modules
+) {
+
+    /**
+     * Cost of one detector (or collector).
+     * CPU time and allocated bytes are omitted when the JVM does not support measuring them.
+     * Files read counts the files opened for reading (see {@code FileReadCounter}).
+     * CPU time, allocated bytes and files read only cover the analyzing thread, not helper threads.
+     */
+    @Builder
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record DetectorStats(
+        String detector,
+        int invocations,
+        double wallTimeMs,
+        Double cpuTimeMs,
+        Long allocatedBytes,
+        long filesRead
+    ) {}
+
+    /**
+     * Cost of analyzing one module.
+     */
+    @Builder
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record ModuleStats(
+        String module,
+        double wallTimeMs,
+        Double cpuTimeMs,
+        Long allocatedBytes,
+        long filesRead,
+        List<DetectorStats> detectors
+    ) {}
+}
@@ -0,0 +1,29 @@
+package io.github.tourem.maven.descriptor.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * License of one dependency GAV in the descriptor's top-level licenseCatalog.
+ * Module license details refer to it through {@link LicenseDetail#getRef()}.
+ *
+ * @author tourem
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class LicenseCatalogEntry {
+    /** groupId:artifactId:version */
+    private String id;
+    private String groupId;
+    private String artifactId;
+    private String version;
+    private String license;
+    private String licenseUrl;
+    private Boolean multiLicense;
+}
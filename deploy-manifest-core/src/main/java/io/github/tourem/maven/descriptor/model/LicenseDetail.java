@@ -20,5 +20,6 @@ public class LicenseDetail {
     private String licenseUrl;
     private Boolean multiLicense;
     private Integer depth; // 1 for direct for now
+    private String ref; // licenseCatalog entry id; GAV and license fields are then omitted
 }
 
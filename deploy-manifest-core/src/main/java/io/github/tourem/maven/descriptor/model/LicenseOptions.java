@@ -32,6 +32,18 @@ public class LicenseOptions {
     @Builder.Default
     private boolean includeTransitiveLicenses = true;
 
+    /** Record licenses of released artifacts in the persistent index (~/.m2/deploy-manifest/licenses.idx) */
+    @Builder.Default
+    private boolean persistentIndex = true;
+
+    /** Emit a top-level licenseCatalog; module details then only refer to its entries */
+    @Builder.Default
+    private boolean catalog = false;
+
+    /** Threads fetching transitive dependency POMs concurrently (1 = sequential) */
+    @Builder.Default
+    private int resolutionParallelism = 4;
+
     public static Set<String> defaultIncompatibleLicenses() {
         Set<String> s = new HashSet<>();
         Collections.addAll(s, "GPL-3.0", "AGPL-3.0", "SSPL");
@@ -6,6 +6,8 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.nio.file.Path;
+
 /**
  * Options for collecting Maven plugins information.
  * author: tourem
@@ -39,5 +41,16 @@ public class PluginOptions {
     /** Timeout in milliseconds when checking updates (network). */
     @Builder.Default
     private int updateCheckTimeoutMillis = 2000;
+
+    /** Check updates against the local repository only, without network (Maven offline mode). */
+    @Builder.Default
+    private boolean offline = false;
+
+    /**
+     * Local repository read by offline update checks (the session's, so that a
+     * {@code <localRepository>} from settings.xml is honored); null for {@code maven.repo.local}
+     * or {@code ~/.m2/repository}.
+     */
+    private Path localRepository;
 }
 
@@ -20,6 +20,9 @@ import java.util.List;
  * @param deployableModulesCount Number of deployable modules
  * @param buildInfo Git and CI/CD metadata for traceability
  * @param mavenRepositoryUrl Base URL of the Maven repository (from distributionManagement)
+ * @param generationStats Profiling data of the generation (only when profiling is enabled)
+ * @param licenseCatalog Licenses of all dependency GAVs, referenced by module license details
+ *                       (only when the license catalog is enabled)
  * @author tourem
 
  */
@@ -36,6 +39,8 @@ public record ProjectDescriptor(
     int totalModules,
     int deployableModulesCount,
     BuildInfo buildInfo,
-    String mavenRepositoryUrl
+    String mavenRepositoryUrl,
+    GenerationStats generationStats,
+    List<LicenseCatalogEntry> licenseCatalog
 ) {}
 
@@ -7,6 +7,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.util.List;
+import java.util.Map;
 
 @Data
 @Builder
@@ -17,6 +18,7 @@ public class MultiModuleAnalysis {
     private Integer moduleCount;
     private Integer analyzedModuleCount;
     private List<CommonUnused> commonUnused;
+    private List<CrossModuleConflict> crossModuleConflicts; // libraries resolved in different versions across modules
 
     @Data
     @Builder
@@ -28,5 +30,16 @@ public class MultiModuleAnalysis {
         private String artifactId;
         private List<String> modules; // artifactIds or module paths
     }
-}
 
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class CrossModuleConflict {
+        private String groupId;
+        private String artifactId;
+        private Map<String, List<String>> modulesByVersion; // resolved version -> modules (artifactIds)
+        private VersionConflict.RiskLevel riskLevel;
+    }
+}
@@ -6,6 +6,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.Collection;
 import java.util.List;
 
 @Data
@@ -21,5 +22,26 @@ public class VersionConflict {
     private List<String> versions; // distinct versions found in the graph
     private String selectedVersion; // version chosen by Maven resolution
     private RiskLevel riskLevel;
+
+    /**
+     * Risk of a conflict between the given versions: HIGH when major versions differ,
+     * MEDIUM when minor versions differ, LOW otherwise.
+     */
+    public static RiskLevel riskLevel(Collection<String> versions) {
+        String major = null; String minor = null;
+        boolean diffMajor = false; boolean diffMinor = false;
+        for (String v : versions) {
+            String[] parts = v.split("\\.");
+            String m = parts.length>0?parts[0]:v; String n = parts.length>1?parts[1]:"0";
+            if (major==null) { major=m; minor=n; }
+            else {
+                if (!m.equals(major)) diffMajor = true;
+                if (!n.equals(minor)) diffMinor = true;
+            }
+        }
+        if (diffMajor) return RiskLevel.HIGH;
+        if (diffMinor) return RiskLevel.MEDIUM;
+        return RiskLevel.LOW;
+    }
 }
 
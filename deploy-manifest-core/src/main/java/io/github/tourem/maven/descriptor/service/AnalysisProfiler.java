@@ -0,0 +1,267 @@
+package io.github.tourem.maven.descriptor.service;
+
+import io.github.tourem.maven.descriptor.model.GenerationStats;
+import io.github.tourem.maven.descriptor.util.FileReadCounter;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Records wall time, CPU time, allocated bytes and files read for each detector and module
+ * during project analysis.
+ *
+ * <p>CPU time, allocated bytes and files read come from the counters of the thread analyzing
+ * the module, so modules analyzed in parallel do not skew each other. Work a detector hands off
+ * to other threads (license POM prefetch, dependency resolver threads) is not included: it only
+ * shows up in wall time. When profiling is disabled, timers simply run the measured action.</p>
+ *
+ * @author tourem
+ */
+public class AnalysisProfiler {
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    private final boolean enabled;
+    private final List<ModuleTimer> finished = new ArrayList<>();
+
+    public AnalysisProfiler(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Start profiling a module on the current thread.
+     */
+    public ModuleTimer startModule() {
+        return new ModuleTimer();
+    }
+
+    /**
+     * Build the stats section.
+     *
+     * @param moduleOrder module ids (groupId:artifactId) in descriptor order
+     * @param totalWallNanos wall time of the whole analysis
+     * @param parallelism number of modules analyzed concurrently
+     * @param pomCacheHits POM cache hits during the analysis
+     * @param pomCacheMisses POM cache misses during the analysis
+     */
+    public GenerationStats toStats(List<String> moduleOrder, long totalWallNanos, int parallelism,
+                                   long pomCacheHits, long pomCacheMisses) {
+        List<ModuleTimer> timers;
+        synchronized (finished) {
+            timers = new ArrayList<>(finished);
+        }
+        Map<String, Integer> position = new HashMap<>();
+        for (int i = 0; i < moduleOrder.size(); i++) {
+            position.putIfAbsent(moduleOrder.get(i), i);
+        }
+        timers.sort(Comparator.comparingInt(t -> position.getOrDefault(t.moduleId, Integer.MAX_VALUE)));
+
+        Map<String, Totals> byDetector = new LinkedHashMap<>();
+        List<GenerationStats.ModuleStats> modules = new ArrayList<>();
+        for (ModuleTimer timer : timers) {
+            List<GenerationStats.DetectorStats> detectors = new ArrayList<>();
+            timer.detectors.forEach((name, totals) -> {
+                detectors.add(totals.toDetectorStats(name));
+                byDetector.computeIfAbsent(name, k -> new Totals()).add(totals);
+            });
+            modules.add(GenerationStats.ModuleStats.builder()
+                    .module(timer.moduleId)
+                    .wallTimeMs(millis(timer.total.wallNanos))
+                    .cpuTimeMs(timer.total.cpuNanos >= 0 ? millis(timer.total.cpuNanos) : null)
+                    .allocatedBytes(timer.total.allocatedBytes >= 0 ? timer.total.allocatedBytes : null)
+                    .filesRead(timer.total.filesRead)
+                    .detectors(detectors)
+                    .build());
+        }
+
+        List<GenerationStats.DetectorStats> detectorTotals = new ArrayList<>();
+        byDetector.forEach((name, totals) -> detectorTotals.add(totals.toDetectorStats(name)));
+        detectorTotals.sort(Comparator.comparingDouble(GenerationStats.DetectorStats::wallTimeMs).reversed());
+
+        return GenerationStats.builder()
+                .totalWallTimeMs(millis(totalWallNanos))
+                .parallelism(parallelism)
+                .modulesProfiled(modules.size())
+                .pomCacheHits(pomCacheHits)
+                .pomCacheMisses(pomCacheMisses)
+                .detectors(detectorTotals)
+                .modules(modules)
+                .build();
+    }
+
+    /**
+     * Render the stats as a plain-text table (detector totals, then slowest modules).
+     */
+    public static List<String> formatTable(GenerationStats stats, int maxModules) {
+        List<String> lines = new ArrayList<>();
+        if (stats == null) {
+            return lines;
+        }
+        String header = String.format("%-36s %6s %10s %10s %11s %7s", "Detector", "Calls", "Wall ms", "CPU ms", "Alloc KB", "Files");
+        lines.add(String.format("Descriptor generation profile: %.1f ms, %d modules, parallelism %d, POM cache %d hits / %d misses",
+                stats.totalWallTimeMs(), stats.modulesProfiled(), stats.parallelism(),
+                stats.pomCacheHits() != null ? stats.pomCacheHits() : 0,
+                stats.pomCacheMisses() != null ? stats.pomCacheMisses() : 0));
+        lines.add("CPU, allocations and files cover the analyzing thread only; work on helper threads counts as wall time");
+        lines.add(header);
+        lines.add("-".repeat(header.length()));
+        for (GenerationStats.DetectorStats d : stats.detectors()) {
+            lines.add(String.format("%-36s %6d %10.1f %10s %11s %7d",
+                    truncate(d.detector(), 36), d.invocations(), d.wallTimeMs(),
+                    d.cpuTimeMs() != null ? String.format("%.1f", d.cpuTimeMs()) : "n/a",
+                    d.allocatedBytes() != null ? String.valueOf(d.allocatedBytes() / 1024) : "n/a",
+                    d.filesRead()));
+        }
+
+        List<GenerationStats.ModuleStats> slowest = new ArrayList<>(stats.modules());
+        slowest.sort(Comparator.comparingDouble(GenerationStats.ModuleStats::wallTimeMs).reversed());
+        if (!slowest.isEmpty()) {
+            String moduleHeader = String.format("%-36s %6s %10s %10s %11s %7s", "Module", "", "Wall ms", "CPU ms", "Alloc KB", "Files");
+            lines.add("");
+            lines.add(moduleHeader);
+            lines.add("-".repeat(moduleHeader.length()));
+            for (GenerationStats.ModuleStats m : slowest.subList(0, Math.min(maxModules, slowest.size()))) {
+                lines.add(String.format("%-36s %6s %10.1f %10s %11s %7d",
+                        truncate(m.module(), 36), "", m.wallTimeMs(),
+                        m.cpuTimeMs() != null ? String.format("%.1f", m.cpuTimeMs()) : "n/a",
+                        m.allocatedBytes() != null ? String.valueOf(m.allocatedBytes() / 1024) : "n/a",
+                        m.filesRead()));
+            }
+        }
+        return lines;
+    }
+
+    private static String truncate(String s, int max) {
+        if (s == null) return "";
+        return s.length() <= max ? s : "..." + s.substring(s.length() - (max - 3));
+    }
+
+    private static double millis(long nanos) {
+        return Math.round(nanos / 1_000.0) / 1_000.0;
+    }
+
+    /**
+     * Measures the detectors run for one module. Confined to the thread analyzing the module.
+     */
+    public final class ModuleTimer {
+        private final Sample start;
+        private final Map<String, Totals> detectors = new LinkedHashMap<>();
+        private String moduleId;
+        private Totals total;
+
+        private ModuleTimer() {
+            this.start = enabled ? Sample.now() : null;
+        }
+
+        /**
+         * Run and measure a detector call.
+         */
+        public <T> T measure(String detector, Supplier<T> action) {
+            if (!enabled) {
+                return action.get();
+            }
+            Sample before = Sample.now();
+            try {
+                return action.get();
+            } finally {
+                detectors.computeIfAbsent(detector, k -> new Totals()).add(before, Sample.now());
+            }
+        }
+
+        /**
+         * Run and measure a detector call without result.
+         */
+        public void run(String detector, Runnable action) {
+            measure(detector, () -> {
+                action.run();
+                return null;
+            });
+        }
+
+        /**
+         * Finish profiling the module.
+         *
+         * @param moduleId groupId:artifactId of the module
+         */
+        public void finish(String moduleId) {
+            if (!enabled) {
+                return;
+            }
+            this.moduleId = moduleId;
+            this.total = new Totals();
+            this.total.add(start, Sample.now());
+            synchronized (finished) {
+                finished.add(this);
+            }
+        }
+    }
+
+    /**
+     * Point-in-time reading of the current thread's counters (-1 when unsupported).
+     */
+    private record Sample(long wallNanos, long cpuNanos, long allocatedBytes, long filesRead) {
+        static Sample now() {
+            long cpu = -1;
+            if (THREADS.isCurrentThreadCpuTimeSupported() && THREADS.isThreadCpuTimeEnabled()) {
+                cpu = THREADS.getCurrentThreadCpuTime();
+            }
+            long alloc = -1;
+            if (THREADS instanceof com.sun.management.ThreadMXBean sun
+                    && sun.isThreadAllocatedMemorySupported() && sun.isThreadAllocatedMemoryEnabled()) {
+                alloc = sun.getCurrentThreadAllocatedBytes();
+            }
+            return new Sample(System.nanoTime(), cpu, alloc, FileReadCounter.current());
+        }
+    }
+
+    private static final class Totals {
+        int invocations;
+        long wallNanos;
+        long cpuNanos;
+        long allocatedBytes;
+        long filesRead;
+
+        void add(Sample before, Sample after) {
+            invocations++;
+            wallNanos += after.wallNanos() - before.wallNanos();
+            cpuNanos = accumulate(cpuNanos, before.cpuNanos(), after.cpuNanos());
+            allocatedBytes = accumulate(allocatedBytes, before.allocatedBytes(), after.allocatedBytes());
+            filesRead += after.filesRead() - before.filesRead();
+        }
+
+        void add(Totals other) {
+            invocations += other.invocations;
+            wallNanos += other.wallNanos;
+            cpuNanos = cpuNanos < 0 || other.cpuNanos < 0 ? -1 : cpuNanos + other.cpuNanos;
+            allocatedBytes = allocatedBytes < 0 || other.allocatedBytes < 0 ? -1 : allocatedBytes + other.allocatedBytes;
+            filesRead += other.filesRead;
+        }
+
+        private static long accumulate(long current, long before, long after) {
+            if (current < 0 || before < 0 || after < 0) return -1;
+            return current + (after - before);
+        }
+
+        GenerationStats.DetectorStats toDetectorStats(String name) {
+            return GenerationStats.DetectorStats.builder()
+                    .detector(name)
+                    .invocations(invocations)
+                    .wallTimeMs(millis(wallNanos))
+                    .cpuTimeMs(cpuNanos >= 0 ? millis(cpuNanos) : null)
+                    .allocatedBytes(allocatedBytes >= 0 ? allocatedBytes : null)
+                    .filesRead(filesRead)
+                    .build();
+        }
+    }
+}
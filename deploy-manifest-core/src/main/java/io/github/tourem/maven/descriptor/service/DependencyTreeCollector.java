@@ -1,9 +1,13 @@
 package io.github.tourem.maven.descriptor.service;
 
 import io.github.tourem.maven.descriptor.model.*;
+import io.github.tourem.maven.descriptor.model.analysis.VersionConflict;
+import io.github.tourem.maven.descriptor.util.CompactDependencyGraph;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.maven.model.Dependency;
 import org.apache.maven.model.Model;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.util.graph.transformer.ConflictResolver;
 
 import java.nio.file.Path;
 import java.util.*;
@@ -12,9 +16,11 @@ import java.util.stream.Collectors;
 /**
  * Collects Maven dependency information for a module based on provided options.
  *
- * NOTE: First iteration collects direct dependencies from the POM (no transitive resolution)
- * to avoid adding heavy resolver dependencies. Structure and options are in place to
- * support a full tree in a follow-up iteration.
+ * Transitive dependencies are collected with Maven Resolver from the local repository
+ * (see {@link TransitiveDependencyResolver}), honoring {@link DependencyTreeOptions#getDepth()};
+ * version conflicts met while resolving are reported with the selected version. Direct
+ * dependencies only are listed when transitive collection is disabled or excluded, and
+ * when the local repository does not know the dependency.
  *
  * Only executable modules should request collection from the analyzer layer.
  * @author tourem
@@ -22,6 +28,8 @@ import java.util.stream.Collectors;
 @Slf4j
 public class DependencyTreeCollector {
 
+    private volatile TransitiveDependencyResolver resolver;
+
     public DependencyTreeInfo collect(Model model, Path modulePath, DependencyTreeOptions options) {
         try {
             if (model.getDependencies() == null || model.getDependencies().isEmpty()) {
@@ -48,61 +56,38 @@ public class DependencyTreeCollector {
             final boolean includeOptional = options.isIncludeOptional();
 
             // Filter direct dependencies by scope/optional
-            List<Dependency> direct = model.getDependencies();
-            List<Dependency> filtered = direct.stream()
-                    .filter(d -> includeScope(allowedScopes, d.getScope()))
-                    .filter(d -> includeOptional || !isOptional(d))
-                    .collect(Collectors.toList());
-
-            // Build summary (transitive = 0 in this iteration)
-            Map<String, Integer> scopeCounts = new TreeMap<>();
-            int optionalCount = 0;
-            for (Dependency d : filtered) {
-                String scope = normalizedScope(d.getScope());
-                scopeCounts.put(scope, scopeCounts.getOrDefault(scope, 0) + 1);
-                if (isOptional(d)) optionalCount++;
+            List<Dependency> filtered = filter(model.getDependencies(), allowedScopes, includeOptional);
+
+            // Depth: -1 = unlimited, 0 and 1 = direct only
+            int maxDepth = options.getDepth() < 0 ? -1 : Math.max(1, options.getDepth());
+            boolean transitive = options.isResolveTransitive() && !options.isExcludeTransitive() && maxDepth != 1;
+
+            CompactDependencyGraph.Builder graph = CompactDependencyGraph.builder();
+            List<VersionConflict> conflicts = null;
+            if (transitive && !filtered.isEmpty()) {
+                conflicts = collectTransitive(model, modulePath, filtered, allowedScopes, includeOptional,
+                        maxDepth, options.getResolutionParallelism(), graph);
+            } else {
+                for (Dependency d : filtered) {
+                    graph.root(leaf(graph, d));
+                }
             }
+            CompactDependencyGraph tree = graph.build();
 
-            DependencySummary summary = DependencySummary.builder()
-                    .total(filtered.size())
-                    .direct(filtered.size())
-                    .transitive(0)
-                    .scopes(scopeCounts)
-                    .optional(optionalCount)
-                    .build();
+            DependencySummary summary = tree.summary();
+            summary.setScopes(new TreeMap<>(summary.getScopes()));
 
             List<DependencyFlatEntry> flat = null;
-            List<DependencyNode> tree = null;
-
             if (options.getFormat() == DependencyTreeFormat.FLAT || options.getFormat() == DependencyTreeFormat.BOTH) {
-                flat = filtered.stream().map(d -> DependencyFlatEntry.builder()
-                        .groupId(nullToEmpty(d.getGroupId()))
-                        .artifactId(nullToEmpty(d.getArtifactId()))
-                        .version(nullToEmpty(d.getVersion()))
-                        .scope(normalizedScope(d.getScope()))
-                        .type(nullToEmpty(d.getType()))
-                        .optional(isOptional(d))
-                        .depth(1)
-                        .path(flatPath(d))
-                        .build()).collect(Collectors.toList());
-            }
-
-            if (options.getFormat() == DependencyTreeFormat.TREE || options.getFormat() == DependencyTreeFormat.BOTH) {
-                tree = filtered.stream().map(d -> DependencyNode.builder()
-                        .groupId(nullToEmpty(d.getGroupId()))
-                        .artifactId(nullToEmpty(d.getArtifactId()))
-                        .version(nullToEmpty(d.getVersion()))
-                        .scope(normalizedScope(d.getScope()))
-                        .type(nullToEmpty(d.getType()))
-                        .optional(isOptional(d))
-                        .children(Collections.emptyList())
-                        .build()).collect(Collectors.toList());
+                flat = tree.toFlatEntries();
             }
 
+            boolean withTree = options.getFormat() == DependencyTreeFormat.TREE || options.getFormat() == DependencyTreeFormat.BOTH;
             return DependencyTreeInfo.builder()
                     .summary(summary)
                     .flat(flat)
-                    .tree(tree)
+                    .graph(withTree ? tree : null)
+                    .conflicts(conflicts == null || conflicts.isEmpty() ? null : conflicts)
                     .build();
         } catch (Exception e) {
             log.debug("Dependency tree collection error: {}", e.getMessage(), e);
@@ -110,6 +95,160 @@ public class DependencyTreeCollector {
         }
     }
 
+    /**
+     * Resolve the transitive graph of the retained direct dependencies into {@code graph}
+     * (declared order kept) and return the version conflicts found.
+     */
+    private List<VersionConflict> collectTransitive(Model model, Path modulePath, List<Dependency> direct,
+                                                    Set<String> allowedScopes, boolean includeOptional,
+                                                    int maxDepth, int threads, CompactDependencyGraph.Builder graph) {
+        TransitiveDependencyResolver resolver = resolver();
+
+        // Versions inherited from a parent or set by a property need the effective model
+        List<Dependency> roots = direct;
+        List<Dependency> managed = model.getDependencyManagement() != null
+                ? model.getDependencyManagement().getDependencies() : null;
+        if (direct.stream().anyMatch(d -> !isConcrete(d.getVersion())) && modulePath != null) {
+            Model effective = resolver.effectiveModel(modulePath.resolve("pom.xml"));
+            if (effective != null && effective.getDependencies() != null) {
+                roots = filter(effective.getDependencies(), allowedScopes, includeOptional);
+                managed = effective.getDependencyManagement() != null
+                        ? effective.getDependencyManagement().getDependencies() : null;
+            }
+        }
+
+        Map<String, org.eclipse.aether.graph.DependencyNode> resolved = new HashMap<>();
+        Map<String, TreeSet<String>> versions = new TreeMap<>();
+        Map<String, String> selected = new HashMap<>();
+        List<Dependency> concrete = roots.stream().filter(d -> isConcrete(d.getVersion())).collect(Collectors.toList());
+        if (!concrete.isEmpty()) {
+            try {
+                org.eclipse.aether.graph.DependencyNode root = resolver.collect(concrete, managed, maxDepth, threads);
+                for (org.eclipse.aether.graph.DependencyNode child : root.getChildren()) {
+                    Artifact a = child.getArtifact();
+                    if (a != null) {
+                        resolved.putIfAbsent(a.getGroupId() + ":" + a.getArtifactId(), child);
+                    }
+                }
+                recordVersions(root, versions, selected, Collections.newSetFromMap(new IdentityHashMap<>()));
+            } catch (Exception e) {
+                log.debug("Transitive dependency collection failed, keeping direct dependencies: {}", e.getMessage());
+            }
+        }
+
+        Set<String> path = new HashSet<>();
+        for (Dependency d : roots) {
+            org.eclipse.aether.graph.DependencyNode node = resolved.get(d.getGroupId() + ":" + d.getArtifactId());
+            int id = node != null ? convert(node, graph, allowedScopes, includeOptional, path) : leaf(graph, d);
+            if (id >= 0) {
+                graph.root(id);
+            }
+        }
+
+        List<VersionConflict> conflicts = new ArrayList<>();
+        for (Map.Entry<String, TreeSet<String>> e : versions.entrySet()) {
+            if (e.getValue().size() > 1) {
+                String[] ga = e.getKey().split(":", 2);
+                conflicts.add(VersionConflict.builder()
+                        .groupId(ga[0])
+                        .artifactId(ga[1])
+                        .versions(new ArrayList<>(e.getValue()))
+                        .selectedVersion(selected.get(e.getKey()))
+                        .riskLevel(VersionConflict.riskLevel(e.getValue()))
+                        .build());
+            }
+        }
+        return conflicts;
+    }
+
+    /**
+     * Record every version met per groupId:artifactId, and the version kept by conflict resolution.
+     */
+    private void recordVersions(org.eclipse.aether.graph.DependencyNode node, Map<String, TreeSet<String>> versions,
+                                Map<String, String> selected, Set<org.eclipse.aether.graph.DependencyNode> seen) {
+        if (!seen.add(node)) {
+            return;
+        }
+        Artifact a = node.getArtifact();
+        if (a != null) {
+            String ga = a.getGroupId() + ":" + a.getArtifactId();
+            versions.computeIfAbsent(ga, k -> new TreeSet<>()).add(a.getVersion());
+            if (!isLoser(node)) {
+                selected.put(ga, a.getVersion());
+            }
+        }
+        for (org.eclipse.aether.graph.DependencyNode child : node.getChildren()) {
+            recordVersions(child, versions, selected, seen);
+        }
+    }
+
+    /**
+     * Add a resolved node and its retained descendants to the compact graph.
+     *
+     * @return the node id, or -1 when the node is filtered out
+     */
+    private int convert(org.eclipse.aether.graph.DependencyNode node, CompactDependencyGraph.Builder graph,
+                        Set<String> allowedScopes, boolean includeOptional, Set<String> path) {
+        Artifact a = node.getArtifact();
+        if (a == null || node.getDependency() == null || isLoser(node)) {
+            return -1;
+        }
+        String scope = normalizedScope(node.getDependency().getScope());
+        boolean optional = node.getDependency().isOptional();
+        if (!allowedScopes.contains(scope) || (optional && !includeOptional)) {
+            return -1;
+        }
+        String key = a.getGroupId() + ":" + a.getArtifactId() + ":" + a.getVersion();
+        if (!path.add(key)) {
+            return -1; // cycle
+        }
+        int[] children = new int[node.getChildren().size()];
+        int count = 0;
+        for (org.eclipse.aether.graph.DependencyNode c : node.getChildren()) {
+            int id = convert(c, graph, allowedScopes, includeOptional, path);
+            if (id >= 0) {
+                children[count++] = id;
+            }
+        }
+        path.remove(key);
+        return graph.node(a.getGroupId(), a.getArtifactId(), a.getVersion(), a.getProperty("type", a.getExtension()),
+                scope, optional, Arrays.copyOf(children, count));
+    }
+
+    private int leaf(CompactDependencyGraph.Builder graph, Dependency d) {
+        return graph.node(nullToEmpty(d.getGroupId()), nullToEmpty(d.getArtifactId()), nullToEmpty(d.getVersion()),
+                nullToEmpty(d.getType()), normalizedScope(d.getScope()), isOptional(d));
+    }
+
+    private TransitiveDependencyResolver resolver() {
+        TransitiveDependencyResolver result = resolver;
+        if (result == null) {
+            synchronized (this) {
+                result = resolver;
+                if (result == null) {
+                    result = new TransitiveDependencyResolver(TransitiveDependencyResolver.defaultLocalRepository());
+                    resolver = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    private List<Dependency> filter(List<Dependency> dependencies, Set<String> allowedScopes, boolean includeOptional) {
+        return dependencies.stream()
+                .filter(d -> includeScope(allowedScopes, d.getScope()))
+                .filter(d -> includeOptional || !isOptional(d))
+                .collect(Collectors.toList());
+    }
+
+    private static boolean isLoser(org.eclipse.aether.graph.DependencyNode node) {
+        return node.getData().get(ConflictResolver.NODE_DATA_WINNER) != null;
+    }
+
+    private static boolean isConcrete(String version) {
+        return version != null && !version.isBlank() && !version.contains("${");
+    }
+
     private boolean includeScope(Set<String> allowed, String scope) {
         String s = normalizedScope(scope);
         return allowed.contains(s);
@@ -125,16 +264,4 @@ public class DependencyTreeCollector {
     }
 
     private String nullToEmpty(String v) { return v == null ? "" : v; }
-
-    private String flatPath(Dependency d) {
-        String type = (d.getType() == null || d.getType().isBlank()) ? "jar" : d.getType();
-        String ver = d.getVersion() == null ? "" : d.getVersion();
-        return String.join(":",
-                nullToEmpty(d.getGroupId()),
-                nullToEmpty(d.getArtifactId()),
-                type,
-                ver
-        );
-    }
 }
-
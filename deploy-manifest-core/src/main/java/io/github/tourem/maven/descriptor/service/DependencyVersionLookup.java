@@ -1,20 +1,11 @@
 package io.github.tourem.maven.descriptor.service;
 
+import io.github.tourem.maven.descriptor.util.HttpTransport;
+import io.github.tourem.maven.descriptor.util.MavenMetadataCache;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.maven.model.Model;
 import org.apache.maven.model.Repository;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.NodeList;
-
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import java.io.ByteArrayInputStream;
-import java.net.URI;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
-import java.nio.charset.StandardCharsets;
+
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -23,7 +14,7 @@ import java.util.stream.Collectors;
 
 /**
  * Service to lookup available versions of Maven dependencies from configured repositories.
- * Uses maven-metadata.xml from JFrog/Nexus or other Maven repositories.
+ * Uses maven-metadata.xml from JFrog/Nexus or other Maven repositories, through a {@link MavenMetadataCache}.
  *
  * @author tourem
  */
@@ -35,20 +26,44 @@ public class DependencyVersionLookup {
 
     private final List<String> repositoryUrls;
     private final int timeoutMs;
+    private final MavenMetadataCache metadata;
 
     /**
      * Constructor with Maven Model to extract repository URLs.
      */
     public DependencyVersionLookup(Model model, int timeoutMs) {
+        this(model, timeoutMs, MavenMetadataCache.shared());
+    }
+
+    /**
+     * Constructor with Maven Model to extract repository URLs and metadata cache.
+     */
+    public DependencyVersionLookup(Model model, int timeoutMs, MavenMetadataCache metadata) {
         this.timeoutMs = timeoutMs > 0 ? timeoutMs : DEFAULT_TIMEOUT_MS;
         this.repositoryUrls = extractRepositoryUrls(model);
+        this.metadata = metadata;
     }
 
     /**
      * Constructor with explicit repository URLs.
      */
     public DependencyVersionLookup(List<String> repositoryUrls, int timeoutMs) {
+        this(repositoryUrls, timeoutMs, MavenMetadataCache.shared());
+    }
+
+    /**
+     * Constructor with explicit repository URLs and HTTP transport (metadata cached in memory only).
+     */
+    public DependencyVersionLookup(List<String> repositoryUrls, int timeoutMs, HttpTransport http) {
+        this(repositoryUrls, timeoutMs, MavenMetadataCache.inMemory(http));
+    }
+
+    /**
+     * Constructor with explicit repository URLs and metadata cache.
+     */
+    public DependencyVersionLookup(List<String> repositoryUrls, int timeoutMs, MavenMetadataCache metadata) {
         this.timeoutMs = timeoutMs > 0 ? timeoutMs : DEFAULT_TIMEOUT_MS;
+        this.metadata = metadata;
         this.repositoryUrls = repositoryUrls != null ? new ArrayList<>(repositoryUrls) : new ArrayList<>();
         if (this.repositoryUrls.isEmpty()) {
             this.repositoryUrls.add(MAVEN_CENTRAL);
@@ -92,60 +107,13 @@ public class DependencyVersionLookup {
     /**
      * Fetch all versions from maven-metadata.xml in a repository.
      */
-    private List<String> fetchVersionsFromRepository(String repoUrl, String groupId, String artifactId)
-            throws Exception {
-        String path = groupId.replace('.', '/') + "/" + artifactId + "/maven-metadata.xml";
-        String url = repoUrl.endsWith("/") ? repoUrl + path : repoUrl + "/" + path;
-
-        log.debug("Fetching versions from: {}", url);
-
-        HttpClient client = HttpClient.newBuilder()
-                .connectTimeout(Duration.ofMillis(timeoutMs))
-                .build();
-
-        HttpRequest request = HttpRequest.newBuilder()
-                .uri(URI.create(url))
-                .timeout(Duration.ofMillis(timeoutMs))
-                .header("User-Agent", "deploy-manifest-plugin/2.4.0")
-                .GET()
-                .build();
-
-        HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
-
-        if (response.statusCode() >= 200 && response.statusCode() < 300) {
-            String xml = new String(response.body(), StandardCharsets.UTF_8);
-            return parseVersionsFromMetadata(xml);
-        } else {
-            log.debug("HTTP {} from {}", response.statusCode(), url);
-            return Collections.emptyList();
-        }
-    }
+    private List<String> fetchVersionsFromRepository(String repoUrl, String groupId, String artifactId) {
+        log.debug("Fetching versions of {}:{} from: {}", groupId, artifactId, repoUrl);
 
-    /**
-     * Parse versions from maven-metadata.xml.
-     */
-    private List<String> parseVersionsFromMetadata(String xml) throws Exception {
-        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-        DocumentBuilder builder = factory.newDocumentBuilder();
-        Document doc = builder.parse(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)));
-
-        NodeList versionNodes = doc.getElementsByTagName("version");
-        List<String> versions = new ArrayList<>();
-
-        for (int i = 0; i < versionNodes.getLength(); i++) {
-            Element versionElement = (Element) versionNodes.item(i);
-            String version = versionElement.getTextContent().trim();
-            if (!version.isEmpty()) {
-                versions.add(version);
-            }
-        }
-
-        log.debug("Parsed {} versions from metadata", versions.size());
-        return versions;
+        MavenMetadataCache.Metadata meta = metadata.fetch(repoUrl, groupId, artifactId, Duration.ofMillis(timeoutMs));
+        return meta != null ? meta.versions() : Collections.emptyList();
     }
 
-
-
     /**
      * Filter versions to return only those after currentVersion, sorted descending.
      * Uses semantic version comparison when possible.
@@ -3,16 +3,13 @@ package io.github.tourem.maven.descriptor.service;
 import io.github.tourem.maven.descriptor.constants.MavenConstants;
 import io.github.tourem.maven.descriptor.constants.SpringBootConstants;
 import io.github.tourem.maven.descriptor.util.MavenModelResolver;
+import io.github.tourem.maven.descriptor.util.ModuleResourceIndex;
 import io.github.tourem.maven.descriptor.util.XmlConfigurationExtractor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.maven.model.Dependency;
 import org.apache.maven.model.Model;
 import org.apache.maven.model.Plugin;
-import org.yaml.snakeyaml.Yaml;
 
-import java.io.FileInputStream;
-import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.*;
 
@@ -122,25 +119,31 @@ public class DeploymentMetadataDetector {
      * Detect server port from application configuration files.
      */
     public Integer detectServerPort(Path modulePath) {
-        Path resourcesDir = modulePath.resolve("src/main/resources");
-        if (!Files.exists(resourcesDir)) {
+        return detectServerPort(ModuleResourceIndex.of(modulePath));
+    }
+
+    /**
+     * Detect server port from application configuration files, using the module's shared resource index.
+     */
+    public Integer detectServerPort(ModuleResourceIndex resources) {
+        if (!resources.hasResourcesDir()) {
             return null;
         }
 
         // Try application.properties
-        Integer port = detectPortFromProperties(resourcesDir.resolve("application.properties"));
+        Integer port = detectPortFromProperties(resources, "application.properties");
         if (port != null) {
             return port;
         }
 
         // Try application.yml
-        port = detectPortFromYaml(resourcesDir.resolve("application.yml"));
+        port = detectPortFromYaml(resources, "application.yml");
         if (port != null) {
             return port;
         }
 
         // Try application.yaml
-        port = detectPortFromYaml(resourcesDir.resolve("application.yaml"));
+        port = detectPortFromYaml(resources, "application.yaml");
         if (port != null) {
             return port;
         }
@@ -194,30 +197,36 @@ public class DeploymentMetadataDetector {
      * Returns the configured base path or the default "/actuator" if Actuator is enabled.
      */
     public String detectActuatorBasePath(Path modulePath, Boolean actuatorEnabled) {
+        return detectActuatorBasePath(ModuleResourceIndex.of(modulePath), actuatorEnabled);
+    }
+
+    /**
+     * Detect Actuator base path from application configuration files, using the module's shared resource index.
+     */
+    public String detectActuatorBasePath(ModuleResourceIndex resources, Boolean actuatorEnabled) {
         if (actuatorEnabled == null || !actuatorEnabled) {
             return null;
         }
 
-        Path resourcesDir = modulePath.resolve("src/main/resources");
-        if (!Files.exists(resourcesDir)) {
+        if (!resources.hasResourcesDir()) {
             log.debug("Using default Actuator base path: {}", SpringBootConstants.DEFAULT_ACTUATOR_BASE_PATH);
             return SpringBootConstants.DEFAULT_ACTUATOR_BASE_PATH;
         }
 
         // Try application.properties
-        String basePath = detectActuatorBasePathFromProperties(resourcesDir.resolve("application.properties"));
+        String basePath = detectActuatorBasePathFromProperties(resources, "application.properties");
         if (basePath != null) {
             return basePath;
         }
 
         // Try application.yml
-        basePath = detectActuatorBasePathFromYaml(resourcesDir.resolve("application.yml"));
+        basePath = detectActuatorBasePathFromYaml(resources, "application.yml");
         if (basePath != null) {
             return basePath;
         }
 
         // Try application.yaml
-        basePath = detectActuatorBasePathFromYaml(resourcesDir.resolve("application.yaml"));
+        basePath = detectActuatorBasePathFromYaml(resources, "application.yaml");
         if (basePath != null) {
             return basePath;
         }
@@ -309,111 +318,72 @@ public class DeploymentMetadataDetector {
         return null;
     }
 
-    private Integer detectPortFromProperties(Path propertiesFile) {
-        if (!Files.exists(propertiesFile)) {
+    private Integer detectPortFromProperties(ModuleResourceIndex resources, String fileName) {
+        Properties props = resources.properties(fileName);
+        if (props == null) {
             return null;
         }
 
-        try (var inputStream = new FileInputStream(propertiesFile.toFile())) {
-            Properties props = new Properties();
-            props.load(inputStream);
-
-            String port = props.getProperty("server.port");
-            if (port != null) {
-                log.debug("Found server port in properties: {}", port);
+        String port = props.getProperty("server.port");
+        if (port != null) {
+            log.debug("Found server port in properties: {}", port);
+            try {
                 return Integer.parseInt(port.trim());
+            } catch (NumberFormatException e) {
+                log.warn("Error reading port from properties file {}: {}", fileName, e.getMessage());
             }
-        } catch (IOException | NumberFormatException e) {
-            log.warn("Error reading port from properties file {}: {}", propertiesFile, e.getMessage());
         }
 
         return null;
     }
 
-    @SuppressWarnings("unchecked")
-    private Integer detectPortFromYaml(Path yamlFile) {
-        if (!Files.exists(yamlFile)) {
-            return null;
-        }
-
-        try (var inputStream = new FileInputStream(yamlFile.toFile())) {
-            Yaml yaml = new Yaml();
-            Map<String, Object> data = yaml.load(inputStream);
-
-            if (data != null && data.get("server") instanceof Map<?, ?> serverMap) {
-                @SuppressWarnings("unchecked")
-                Map<String, Object> server = (Map<String, Object>) serverMap;
-                if (server.containsKey("port")) {
-                    Object portObj = server.get("port");
-                    if (portObj instanceof Integer port) {
-                        log.debug("Found server port in YAML: {}", port);
-                        return port;
-                    } else if (portObj instanceof String portStr) {
-                        log.debug("Found server port in YAML: {}", portStr);
-                        return Integer.parseInt(portStr.trim());
-                    }
+    private Integer detectPortFromYaml(ModuleResourceIndex resources, String fileName) {
+        Map<String, Object> data = resources.yaml(fileName);
+
+        if (data != null && data.get("server") instanceof Map<?, ?> server && server.containsKey("port")) {
+            Object portObj = server.get("port");
+            try {
+                if (portObj instanceof Integer port) {
+                    log.debug("Found server port in YAML: {}", port);
+                    return port;
+                } else if (portObj instanceof String portStr) {
+                    log.debug("Found server port in YAML: {}", portStr);
+                    return Integer.parseInt(portStr.trim());
                 }
+            } catch (NumberFormatException e) {
+                log.warn("Error reading port from YAML file {}: {}", fileName, e.getMessage());
             }
-        } catch (IOException | NumberFormatException e) {
-            log.warn("Error reading port from YAML file {}: {}", yamlFile, e.getMessage());
         }
 
         return null;
     }
 
-    private String detectActuatorBasePathFromProperties(Path propertiesFile) {
-        if (!Files.exists(propertiesFile)) {
+    private String detectActuatorBasePathFromProperties(ModuleResourceIndex resources, String fileName) {
+        Properties props = resources.properties(fileName);
+        if (props == null) {
             return null;
         }
 
-        try (var inputStream = new FileInputStream(propertiesFile.toFile())) {
-            Properties props = new Properties();
-            props.load(inputStream);
-
-            String basePath = props.getProperty("management.endpoints.web.base-path");
-            if (basePath != null) {
-                log.debug("Found Actuator base path in properties: {}", basePath);
-                return basePath.trim();
-            }
-        } catch (IOException e) {
-            log.warn("Error reading Actuator base path from properties file {}: {}", propertiesFile, e.getMessage());
+        String basePath = props.getProperty("management.endpoints.web.base-path");
+        if (basePath != null) {
+            log.debug("Found Actuator base path in properties: {}", basePath);
+            return basePath.trim();
         }
 
         return null;
     }
 
-    @SuppressWarnings("unchecked")
-    private String detectActuatorBasePathFromYaml(Path yamlFile) {
-        if (!Files.exists(yamlFile)) {
-            return null;
-        }
+    private String detectActuatorBasePathFromYaml(ModuleResourceIndex resources, String fileName) {
+        Map<String, Object> data = resources.yaml(fileName);
 
-        try (var inputStream = new FileInputStream(yamlFile.toFile())) {
-            Yaml yaml = new Yaml();
-            Map<String, Object> data = yaml.load(inputStream);
-
-            if (data != null && data.get("management") instanceof Map<?, ?> managementMap) {
-                @SuppressWarnings("unchecked")
-                Map<String, Object> management = (Map<String, Object>) managementMap;
-                if (management.get("endpoints") instanceof Map<?, ?> endpointsMap) {
-                    @SuppressWarnings("unchecked")
-                    Map<String, Object> endpoints = (Map<String, Object>) endpointsMap;
-                    if (endpoints.get("web") instanceof Map<?, ?> webMap) {
-                        @SuppressWarnings("unchecked")
-                        Map<String, Object> web = (Map<String, Object>) webMap;
-                        if (web.containsKey("base-path")) {
-                            Object basePathObj = web.get("base-path");
-                            if (basePathObj != null) {
-                                String basePath = basePathObj.toString().trim();
-                                log.debug("Found Actuator base path in YAML: {}", basePath);
-                                return basePath;
-                            }
-                        }
-                    }
-                }
-            }
-        } catch (IOException e) {
-            log.warn("Error reading Actuator base path from YAML file {}: {}", yamlFile, e.getMessage());
+        if (data != null
+                && data.get("management") instanceof Map<?, ?> management
+                && management.get("endpoints") instanceof Map<?, ?> endpoints
+                && endpoints.get("web") instanceof Map<?, ?> web
+                && web.get("base-path") != null) {
+            String basePath = web.get("base-path").toString().trim();
+            log.debug("Found Actuator base path in YAML: {}", basePath);
+            return basePath;
         }
 
         return null;
@@ -1,6 +1,7 @@
 package io.github.tourem.maven.descriptor.service;
 
 import io.github.tourem.maven.descriptor.model.ContainerInfo;
+import io.github.tourem.maven.descriptor.util.FileReadCounter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.maven.model.Model;
 import org.apache.maven.model.Plugin;
@@ -322,6 +323,7 @@ public class DockerImageDetector {
                 try {
                     Path propsPath = modulePath.resolve("src/main/resources/application.properties");
                     if (Files.exists(propsPath)) {
+                        FileReadCounter.increment();
                         List<String> lines = Files.readAllLines(propsPath);
                         for (String line : lines) {
                             String trimmed = line.trim();
@@ -405,6 +407,7 @@ public class DockerImageDetector {
             log.debug("Dockerfile detected at: {}", dockerfilePath);
 
             // Parse Dockerfile to extract basic information
+            FileReadCounter.increment();
             List<String> lines = Files.readAllLines(dockerfilePath);
             String baseImage = null;
             List<String> exposedPorts = new ArrayList<>();
@@ -2,6 +2,7 @@ package io.github.tourem.maven.descriptor.service;
 
 import io.github.tourem.maven.descriptor.model.ExecutableInfo;
 import io.github.tourem.maven.descriptor.model.ExecutableType;
+import io.github.tourem.maven.descriptor.util.ModuleResourceIndex;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.maven.model.Dependency;
 import org.apache.maven.model.Model;
@@ -9,7 +10,6 @@ import org.apache.maven.model.Plugin;
 import org.apache.maven.model.PluginExecution;
 import org.codehaus.plexus.util.xml.Xpp3Dom;
 
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
@@ -41,6 +41,17 @@ public class EnhancedExecutableDetector {
      * @return ExecutableInfo with detection results
      */
     public ExecutableInfo detectExecutable(Model model, Path modulePath) {
+        return detectExecutable(model, ModuleResourceIndex.of(modulePath));
+    }
+
+    /**
+     * Detect if a module generates an executable artifact, using the module's shared resource index.
+     *
+     * @param model Maven model to analyze
+     * @param resources resource index of the module
+     * @return ExecutableInfo with detection results
+     */
+    public ExecutableInfo detectExecutable(Model model, ModuleResourceIndex resources) {
         String packaging = model.getPackaging() != null ? model.getPackaging() : "jar";
 
         log.debug("Detecting executable for module: {} (packaging: {})", model.getArtifactId(), packaging);
@@ -48,9 +59,9 @@ public class EnhancedExecutableDetector {
         // Detect based on packaging type
         switch (packaging.toLowerCase()) {
             case "jar":
-                return detectExecutableJar(model, modulePath);
+                return detectExecutableJar(model, resources);
             case "war":
-                return detectExecutableWar(model, modulePath);
+                return detectExecutableWar(model, resources);
             case "ear":
                 return detectEar(model);
             default:
@@ -62,13 +73,13 @@ public class EnhancedExecutableDetector {
     /**
      * Detect executable JAR artifacts.
      */
-    private ExecutableInfo detectExecutableJar(Model model, Path modulePath) {
+    private ExecutableInfo detectExecutableJar(Model model, ModuleResourceIndex resources) {
         List<Plugin> plugins = getPlugins(model);
 
         // 1. Spring Boot Maven Plugin
         Plugin springBootPlugin = findPlugin(plugins, SPRING_BOOT_GROUP, SPRING_BOOT_PLUGIN);
         if (springBootPlugin != null && hasRepackageGoal(springBootPlugin)) {
-            return buildSpringBootJarInfo(model, springBootPlugin, modulePath);
+            return buildSpringBootJarInfo(model, springBootPlugin, resources);
         }
 
         // 2. Maven Shade Plugin
@@ -106,7 +117,7 @@ public class EnhancedExecutableDetector {
         // 6. Spring Boot application WITHOUT plugin (NEW DETECTION)
         // Check if module has Spring Boot dependencies and could be executable
         if (hasSpringBootDependencies(model)) {
-            return buildSpringBootWithoutPluginInfo(model, modulePath);
+            return buildSpringBootWithoutPluginInfo(model, resources);
         }
 
         // Not executable
@@ -116,13 +127,13 @@ public class EnhancedExecutableDetector {
     /**
      * Detect executable WAR artifacts.
      */
-    private ExecutableInfo detectExecutableWar(Model model, Path modulePath) {
+    private ExecutableInfo detectExecutableWar(Model model, ModuleResourceIndex resources) {
         List<Plugin> plugins = getPlugins(model);
 
         // 1. Spring Boot WAR
         Plugin springBootPlugin = findPlugin(plugins, SPRING_BOOT_GROUP, SPRING_BOOT_PLUGIN);
         if (springBootPlugin != null) {
-            return buildSpringBootWarInfo(model, springBootPlugin, modulePath);
+            return buildSpringBootWarInfo(model, springBootPlugin, resources);
         }
 
         // 2. Jetty Embedded
@@ -142,7 +153,7 @@ public class EnhancedExecutableDetector {
 
         // 4. Spring Boot application WITHOUT plugin but with WAR packaging
         if (hasSpringBootDependencies(model)) {
-            return buildSpringBootWarWithoutPluginInfo(model, modulePath);
+            return buildSpringBootWarWithoutPluginInfo(model, resources);
         }
 
         // Traditional WAR (not executable standalone)
@@ -174,9 +185,9 @@ public class EnhancedExecutableDetector {
     /**
      * Build ExecutableInfo for Spring Boot JAR with plugin.
      */
-    private ExecutableInfo buildSpringBootJarInfo(Model model, Plugin plugin, Path modulePath) {
+    private ExecutableInfo buildSpringBootJarInfo(Model model, Plugin plugin, ModuleResourceIndex resources) {
         String mainClass = extractMainClass(plugin, model);
-        List<String> profiles = detectSpringBootProfiles(modulePath);
+        List<String> profiles = detectSpringBootProfiles(resources);
 
         return ExecutableInfo.builder()
                 .type(ExecutableType.JAR)
@@ -271,8 +282,8 @@ public class EnhancedExecutableDetector {
      * Build ExecutableInfo for Spring Boot application WITHOUT plugin (JAR).
      * This handles the case where a module has Spring Boot dependencies but no spring-boot-maven-plugin.
      */
-    private ExecutableInfo buildSpringBootWithoutPluginInfo(Model model, Path modulePath) {
-        List<String> profiles = detectSpringBootProfiles(modulePath);
+    private ExecutableInfo buildSpringBootWithoutPluginInfo(Model model, ModuleResourceIndex resources) {
+        List<String> profiles = detectSpringBootProfiles(resources);
 
         return ExecutableInfo.builder()
                 .type(ExecutableType.JAR)
@@ -290,9 +301,9 @@ public class EnhancedExecutableDetector {
     /**
      * Build ExecutableInfo for Spring Boot WAR with plugin.
      */
-    private ExecutableInfo buildSpringBootWarInfo(Model model, Plugin plugin, Path modulePath) {
+    private ExecutableInfo buildSpringBootWarInfo(Model model, Plugin plugin, ModuleResourceIndex resources) {
         String mainClass = extractMainClass(plugin, model);
-        List<String> profiles = detectSpringBootProfiles(modulePath);
+        List<String> profiles = detectSpringBootProfiles(resources);
 
         return ExecutableInfo.builder()
                 .type(ExecutableType.WAR)
@@ -311,8 +322,8 @@ public class EnhancedExecutableDetector {
     /**
      * Build ExecutableInfo for Spring Boot WAR WITHOUT plugin.
      */
-    private ExecutableInfo buildSpringBootWarWithoutPluginInfo(Model model, Path modulePath) {
-        List<String> profiles = detectSpringBootProfiles(modulePath);
+    private ExecutableInfo buildSpringBootWarWithoutPluginInfo(Model model, ModuleResourceIndex resources) {
+        List<String> profiles = detectSpringBootProfiles(resources);
 
         return ExecutableInfo.builder()
                 .type(ExecutableType.WAR)
@@ -451,40 +462,25 @@ public class EnhancedExecutableDetector {
     /**
      * Detect Spring Boot profiles from application properties/yaml files.
      */
-    private List<String> detectSpringBootProfiles(Path modulePath) {
+    private List<String> detectSpringBootProfiles(ModuleResourceIndex resources) {
         List<String> profiles = new ArrayList<>();
 
-        try {
-            Path resourcesPath = modulePath.resolve("src/main/resources");
-            if (!Files.exists(resourcesPath)) {
-                return profiles;
+        // Look for application-{profile}.properties or application-{profile}.yml/yaml
+        for (String fileName : resources.getFileNames()) {
+            if (!fileName.startsWith("application-")) {
+                continue;
+            }
+            String extension = fileName.endsWith(".properties") ? ".properties"
+                    : fileName.endsWith(".yml") ? ".yml"
+                    : fileName.endsWith(".yaml") ? ".yaml"
+                    : null;
+            if (extension == null) {
+                continue;
+            }
+            String profile = fileName.substring("application-".length(), fileName.length() - extension.length());
+            if (!profile.isEmpty() && !profiles.contains(profile)) {
+                profiles.add(profile);
             }
-
-            // Look for application-{profile}.properties or application-{profile}.yml/yaml
-            Files.list(resourcesPath)
-                    .filter(Files::isRegularFile)
-                    .forEach(file -> {
-                        String fileName = file.getFileName().toString();
-
-                        // Match application-{profile}.properties
-                        if (fileName.startsWith("application-") && fileName.endsWith(".properties")) {
-                            String profile = fileName.substring("application-".length(), fileName.length() - ".properties".length());
-                            if (!profile.isEmpty() && !profiles.contains(profile)) {
-                                profiles.add(profile);
-                            }
-                        }
-                        // Match application-{profile}.yml or application-{profile}.yaml
-                        else if (fileName.startsWith("application-") &&
-                                (fileName.endsWith(".yml") || fileName.endsWith(".yaml"))) {
-                            String extension = fileName.endsWith(".yml") ? ".yml" : ".yaml";
-                            String profile = fileName.substring("application-".length(), fileName.length() - extension.length());
-                            if (!profile.isEmpty() && !profiles.contains(profile)) {
-                                profiles.add(profile);
-                            }
-                        }
-                    });
-        } catch (Exception e) {
-            log.debug("Error detecting Spring Boot profiles", e);
         }
 
         return profiles;
@@ -1,12 +1,9 @@
 package io.github.tourem.maven.descriptor.service;
 
 import io.github.tourem.maven.descriptor.model.EnvironmentConfig;
+import io.github.tourem.maven.descriptor.util.ModuleResourceIndex;
 import lombok.extern.slf4j.Slf4j;
-import org.yaml.snakeyaml.Yaml;
 
-import java.io.FileInputStream;
-import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.*;
 
@@ -28,22 +25,29 @@ public class EnvironmentConfigDetector {
      * Reads common configuration first, then profile-specific overrides.
      */
     public List<EnvironmentConfig> detectEnvironmentConfigs(Path modulePath, List<String> profiles, Boolean actuatorEnabled) {
+        return detectEnvironmentConfigs(ModuleResourceIndex.of(modulePath), profiles, actuatorEnabled);
+    }
+
+    /**
+     * Detect environment configurations for all profiles, using the module's shared resource index.
+     */
+    public List<EnvironmentConfig> detectEnvironmentConfigs(ModuleResourceIndex resources, List<String> profiles,
+                                                            Boolean actuatorEnabled) {
         if (profiles == null || profiles.isEmpty()) {
             return null;
         }
 
-        Path resourcesDir = modulePath.resolve("src/main/resources");
-        if (!Files.exists(resourcesDir)) {
-            log.debug("No resources directory found at: {}", resourcesDir);
+        if (!resources.hasResourcesDir()) {
+            log.debug("No resources directory found in: {}", resources.getModulePath());
             return null;
         }
 
         // Read common configuration (application.yml/properties)
-        Map<String, Object> commonConfig = readCommonConfiguration(resourcesDir);
+        Map<String, Object> commonConfig = readCommonConfiguration(resources);
 
         List<EnvironmentConfig> configs = new ArrayList<>();
         for (String profile : profiles) {
-            EnvironmentConfig config = detectEnvironmentConfig(resourcesDir, profile, commonConfig, actuatorEnabled);
+            EnvironmentConfig config = detectEnvironmentConfig(resources, profile, commonConfig, actuatorEnabled);
             if (config != null) {
                 configs.add(config);
             }
@@ -55,49 +59,20 @@ public class EnvironmentConfigDetector {
     /**
      * Read common configuration from application.yml/properties.
      */
-    private Map<String, Object> readCommonConfiguration(Path resourcesDir) {
-        Map<String, Object> config = new HashMap<>();
-
-        // Try application.yml
-        Path yamlFile = resourcesDir.resolve("application.yml");
-        if (Files.exists(yamlFile)) {
-            Map<String, Object> yamlConfig = readYamlFile(yamlFile);
-            if (yamlConfig != null) {
-                config.putAll(yamlConfig);
-            }
-        }
-
-        // Try application.yaml
-        Path yamlFile2 = resourcesDir.resolve("application.yaml");
-        if (Files.exists(yamlFile2)) {
-            Map<String, Object> yamlConfig = readYamlFile(yamlFile2);
-            if (yamlConfig != null) {
-                config.putAll(yamlConfig);
-            }
-        }
-
-        // Try application.properties
-        Path propsFile = resourcesDir.resolve("application.properties");
-        if (Files.exists(propsFile)) {
-            Map<String, Object> propsConfig = readPropertiesFile(propsFile);
-            if (propsConfig != null) {
-                config.putAll(propsConfig);
-            }
-        }
-
-        return config;
+    private Map<String, Object> readCommonConfiguration(ModuleResourceIndex resources) {
+        return readConfiguration(resources, "application");
     }
 
     /**
      * Detect configuration for a specific profile.
      */
-    private EnvironmentConfig detectEnvironmentConfig(Path resourcesDir, String profile,
+    private EnvironmentConfig detectEnvironmentConfig(ModuleResourceIndex resources, String profile,
                                                       Map<String, Object> commonConfig, Boolean actuatorEnabled) {
         // Start with common configuration
         Map<String, Object> config = deepCopy(commonConfig);
 
         // Override with profile-specific configuration (deep merge)
-        Map<String, Object> profileConfig = readProfileConfiguration(resourcesDir, profile);
+        Map<String, Object> profileConfig = readProfileConfiguration(resources, profile);
         if (profileConfig != null) {
             deepMerge(config, profileConfig);
         }
@@ -159,74 +134,36 @@ public class EnvironmentConfigDetector {
     /**
      * Read profile-specific configuration.
      */
-    private Map<String, Object> readProfileConfiguration(Path resourcesDir, String profile) {
-        Map<String, Object> config = new HashMap<>();
+    private Map<String, Object> readProfileConfiguration(ModuleResourceIndex resources, String profile) {
+        return readConfiguration(resources, "application-" + profile);
+    }
 
-        // Try application-{profile}.yml
-        Path yamlFile = resourcesDir.resolve("application-" + profile + ".yml");
-        if (Files.exists(yamlFile)) {
-            Map<String, Object> yamlConfig = readYamlFile(yamlFile);
-            if (yamlConfig != null) {
-                config.putAll(yamlConfig);
-            }
-        }
+    /**
+     * Read {baseName}.yml, {baseName}.yaml then {baseName}.properties (later files override earlier ones).
+     * Documents come from the shared index and are copied at the top level, never modified.
+     */
+    private Map<String, Object> readConfiguration(ModuleResourceIndex resources, String baseName) {
+        Map<String, Object> config = new HashMap<>();
 
-        // Try application-{profile}.yaml
-        Path yamlFile2 = resourcesDir.resolve("application-" + profile + ".yaml");
-        if (Files.exists(yamlFile2)) {
-            Map<String, Object> yamlConfig = readYamlFile(yamlFile2);
+        // Try {baseName}.yml and {baseName}.yaml
+        for (String extension : List.of(".yml", ".yaml")) {
+            Map<String, Object> yamlConfig = resources.yaml(baseName + extension);
             if (yamlConfig != null) {
                 config.putAll(yamlConfig);
             }
         }
 
-        // Try application-{profile}.properties
-        Path propsFile = resourcesDir.resolve("application-" + profile + ".properties");
-        if (Files.exists(propsFile)) {
-            Map<String, Object> propsConfig = readPropertiesFile(propsFile);
-            if (propsConfig != null) {
-                config.putAll(propsConfig);
+        // Try {baseName}.properties
+        Properties props = resources.properties(baseName + ".properties");
+        if (props != null) {
+            for (String key : props.stringPropertyNames()) {
+                config.put(key, props.getProperty(key));
             }
         }
 
         return config;
     }
 
-    /**
-     * Read YAML file into a map.
-     */
-    @SuppressWarnings("unchecked")
-    private Map<String, Object> readYamlFile(Path yamlFile) {
-        try (var inputStream = new FileInputStream(yamlFile.toFile())) {
-            Yaml yaml = new Yaml();
-            Object data = yaml.load(inputStream);
-            if (data instanceof Map<?, ?> map) {
-                return (Map<String, Object>) map;
-            }
-        } catch (IOException e) {
-            log.warn("Error reading YAML file {}: {}", yamlFile, e.getMessage());
-        }
-        return null;
-    }
-
-    /**
-     * Read properties file into a map.
-     */
-    private Map<String, Object> readPropertiesFile(Path propsFile) {
-        try (var inputStream = new FileInputStream(propsFile.toFile())) {
-            Properties props = new Properties();
-            props.load(inputStream);
-            Map<String, Object> map = new HashMap<>();
-            for (String key : props.stringPropertyNames()) {
-                map.put(key, props.getProperty(key));
-            }
-            return map;
-        } catch (IOException e) {
-            log.warn("Error reading properties file {}: {}", propsFile, e.getMessage());
-        }
-        return null;
-    }
-
     /**
      * Extract server port from configuration.
      */
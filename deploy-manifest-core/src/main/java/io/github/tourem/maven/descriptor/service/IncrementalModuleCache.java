@@ -0,0 +1,448 @@
+package io.github.tourem.maven.descriptor.service;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.tourem.maven.descriptor.model.BuildMetrics;
+import io.github.tourem.maven.descriptor.model.DeployableModule;
+import io.github.tourem.maven.descriptor.util.FileReadCounter;
+import io.github.tourem.maven.descriptor.util.PomModelCache;
+import io.github.tourem.maven.descriptor.util.PomSummary;
+import io.github.tourem.maven.descriptor.util.ResolvedVersionIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.maven.model.Model;
+import org.apache.maven.model.Plugin;
+import org.apache.maven.model.PluginExecution;
+import org.apache.maven.model.io.xpp3.MavenXpp3Writer;
+import org.codehaus.plexus.util.xml.Xpp3Dom;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * Stores the analysis result of each module next to its build output, together with a
+ * fingerprint of every input the detectors read, so unchanged modules can be reused on the
+ * next build instead of being analyzed again.
+ *
+ * <p>The fingerprint covers:</p>
+ * <ul>
+ *   <li>the analyzer options and the plugin version</li>
+ *   <li>the module pom.xml and every pom.xml between the module and the project root</li>
+ *   <li>the {@code src/main/resources} and {@code src/assembly} trees and the Dockerfile</li>
+ *   <li>test and coverage reports under {@code target/}</li>
+ *   <li>with the module model: parent and imported BOM POMs found outside the project (in the
+ *       local repository, missing ones included) and the assembly descriptors it references</li>
+ *   <li>when known, the versions Maven resolved for the module's dependency graph, and the
+ *       POMs of the SNAPSHOTs among them</li>
+ *   <li>for effective models (reactor mode), the model itself, which also depends on active
+ *       profiles and {@code -D} overrides</li>
+ * </ul>
+ *
+ * <p>Files are fingerprinted by relative path, size and last-modified time. Build metrics are
+ * never cached since they describe the current build.</p>
+ *
+ * @author tourem
+ */
+@Slf4j
+public class IncrementalModuleCache {
+
+    /** Location of the cache file, relative to the module directory. */
+    static final String CACHE_FILE = "target/deploy-manifest/module-cache.json";
+
+    private static final int FORMAT_VERSION = 1;
+
+    private static final List<String> SOURCE_TREES = List.of(
+            "src/main/resources",
+            "src/assembly");
+
+    private static final List<String> SINGLE_FILES = List.of(
+            "Dockerfile",
+            "target/site/jacoco/jacoco.xml");
+
+    private static final List<String> REPORT_TREES = List.of(
+            "target/surefire-reports",
+            "target/failsafe-reports");
+
+    private final String optionsKey;
+    private final boolean effectiveModels;
+    private final ObjectMapper mapper;
+
+    /**
+     * @param optionsKey stable representation of everything besides files that affects the
+     *                   analysis result (collector options, environment snapshots, ...)
+     */
+    public IncrementalModuleCache(String optionsKey) {
+        this(optionsKey, false);
+    }
+
+    /**
+     * @param optionsKey      see {@link #IncrementalModuleCache(String)}
+     * @param effectiveModels whether fingerprinted models are Maven's effective models, which are
+     *                        then hashed as a whole
+     */
+    public IncrementalModuleCache(String optionsKey, boolean effectiveModels) {
+        this.effectiveModels = effectiveModels;
+        String version = IncrementalModuleCache.class.getPackage().getImplementationVersion();
+        this.optionsKey = FORMAT_VERSION + "|" + (version != null ? version : "dev") + "|" + optionsKey;
+        this.mapper = new ObjectMapper()
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .addMixIn(DeployableModule.class, VolatileFieldsMixin.class);
+    }
+
+    /**
+     * Compute the fingerprint of a module's inputs.
+     *
+     * @param modulePath module directory
+     * @param projectRoot project root directory
+     * @return hex-encoded SHA-256 fingerprint
+     */
+    public String fingerprint(Path modulePath, Path projectRoot) {
+        return fingerprint(modulePath, projectRoot, null, null, null);
+    }
+
+    /**
+     * Compute the fingerprint of a module's inputs, including those outside the module tree.
+     *
+     * @param modulePath module directory
+     * @param projectRoot project root directory
+     * @param model module model (parents, BOM imports, assembly plugin), or null
+     * @param localRepository local repository holding external parents and BOMs, or null
+     * @param resolvedVersions versions resolved by Maven for the module, or null
+     * @return hex-encoded SHA-256 fingerprint
+     */
+    public String fingerprint(Path modulePath, Path projectRoot, Model model, Path localRepository,
+                              ResolvedVersionIndex resolvedVersions) {
+        MessageDigest digest = newDigest();
+        update(digest, "options", optionsKey);
+
+        // Module POM and its reactor ancestors (inherited properties, plugin configuration)
+        Path normalizedRoot = projectRoot.toAbsolutePath().normalize();
+        Path dir = modulePath.toAbsolutePath().normalize();
+        while (dir != null && dir.startsWith(normalizedRoot)) {
+            hashContent(digest, dir.resolve("pom.xml"));
+            dir = dir.getParent();
+        }
+
+        for (String tree : SOURCE_TREES) {
+            hashTree(digest, modulePath, modulePath.resolve(tree));
+        }
+        for (String file : SINGLE_FILES) {
+            hashMetadata(digest, modulePath, modulePath.resolve(file));
+        }
+        for (String tree : REPORT_TREES) {
+            hashTree(digest, modulePath, modulePath.resolve(tree));
+        }
+
+        if (model != null) {
+            if (effectiveModels) {
+                hashModel(digest, model);
+            }
+            for (String descriptor : assemblyDescriptors(model)) {
+                hashMetadata(digest, modulePath, modulePath.resolve(descriptor).normalize());
+            }
+            if (localRepository != null) {
+                hashExternalPoms(digest, PomSummary.of(model), modulePath, normalizedRoot, localRepository);
+            }
+        }
+        if (resolvedVersions != null) {
+            for (String gav : resolvedVersions.coordinates()) {
+                update(digest, "resolved", gav);
+                if (gav.endsWith("-SNAPSHOT") && localRepository != null) {
+                    String[] parts = gav.split(":", 3);
+                    hashMetadata(digest, localRepository, repositoryPom(localRepository, parts[0], parts[1], parts[2]));
+                }
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Hash the POMs the module inherits from or imports that live outside the project: the
+     * parent chain and the {@code import}-scoped BOMs of every POM of that chain, followed
+     * transitively. A POM missing from the local repository is hashed as missing, so that
+     * downloading it later invalidates the entry.
+     */
+    private static void hashExternalPoms(MessageDigest digest, PomSummary module, Path modulePath, Path projectRoot,
+                                         Path localRepository) {
+        Deque<LocatedPom> pending = new ArrayDeque<>();
+        Set<String> visited = new HashSet<>();
+        pending.add(new LocatedPom(module, modulePath.resolve("pom.xml")));
+        while (!pending.isEmpty()) {
+            LocatedPom located = pending.poll();
+            PomSummary.Parent parent = located.pom().parent();
+            if (parent != null) {
+                Path reactorPom = reactorParent(parent, located.file(), projectRoot);
+                if (reactorPom != null) {
+                    if (visited.add(reactorPom.toString())) {
+                        hashContent(digest, reactorPom);
+                        enqueue(reactorPom, pending);
+                    }
+                } else {
+                    enqueueExternal(digest, parent.groupId(), parent.artifactId(), parent.version(),
+                            localRepository, pending, visited);
+                }
+            }
+            for (PomSummary.Dependency managed : located.pom().dependencyManagement()) {
+                if ("import".equals(managed.scope()) && "pom".equals(managed.type())) {
+                    enqueueExternal(digest, managed.groupId(), managed.artifactId(), managed.version(),
+                            localRepository, pending, visited);
+                }
+            }
+        }
+    }
+
+    private static void enqueueExternal(MessageDigest digest, String groupId, String artifactId, String version,
+                                        Path localRepository, Deque<LocatedPom> pending, Set<String> visited) {
+        String gav = groupId + ":" + artifactId + ":" + version;
+        if (groupId == null || artifactId == null || version == null || version.contains("${")) {
+            // Version set by a property: the POM defining it is hashed already
+            update(digest, "external", gav);
+            return;
+        }
+        if (!visited.add(gav)) {
+            return;
+        }
+        Path pom = repositoryPom(localRepository, groupId, artifactId, version);
+        if (!Files.isRegularFile(pom)) {
+            update(digest, "missing", gav);
+            return;
+        }
+        hashMetadata(digest, localRepository, pom);
+        enqueue(pom, pending);
+    }
+
+    private static void enqueue(Path pom, Deque<LocatedPom> pending) {
+        try {
+            pending.add(new LocatedPom(PomModelCache.shared().readSummary(pom), pom));
+        } catch (IOException e) {
+            log.debug("Cannot read {} for the module fingerprint: {}", pom, e.getMessage());
+        }
+    }
+
+    /**
+     * Parent POM inside the project (relativePath, {@code ../pom.xml} by default), or null.
+     */
+    private static Path reactorParent(PomSummary.Parent parent, Path childPom, Path projectRoot) {
+        String relativePath = parent.relativePath();
+        if (relativePath == null || relativePath.isBlank() || childPom == null || childPom.getParent() == null) {
+            return null;
+        }
+        Path candidate = childPom.getParent().resolve(relativePath).toAbsolutePath().normalize();
+        if (Files.isDirectory(candidate)) {
+            candidate = candidate.resolve("pom.xml");
+        }
+        if (!candidate.startsWith(projectRoot) || !Files.isRegularFile(candidate)) {
+            return null;
+        }
+        try {
+            PomSummary summary = PomModelCache.shared().readSummary(candidate);
+            boolean matches = Objects.equals(parent.groupId(), summary.effectiveGroupId())
+                    && Objects.equals(parent.artifactId(), summary.artifactId());
+            return matches ? candidate : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static Path repositoryPom(Path localRepository, String groupId, String artifactId, String version) {
+        return localRepository.resolve(groupId.replace('.', '/')).resolve(artifactId).resolve(version)
+                .resolve(artifactId + "-" + version + ".pom");
+    }
+
+    /**
+     * Descriptor paths configured on the maven-assembly-plugin (plugin and executions).
+     */
+    private static List<String> assemblyDescriptors(Model model) {
+        List<String> result = new ArrayList<>();
+        if (model.getBuild() == null || model.getBuild().getPlugins() == null) {
+            return result;
+        }
+        for (Plugin plugin : model.getBuild().getPlugins()) {
+            if (!"maven-assembly-plugin".equals(plugin.getArtifactId())) {
+                continue;
+            }
+            addDescriptors(plugin.getConfiguration(), result);
+            for (PluginExecution execution : plugin.getExecutions()) {
+                addDescriptors(execution.getConfiguration(), result);
+            }
+        }
+        return result;
+    }
+
+    private static void addDescriptors(Object configuration, List<String> result) {
+        if (!(configuration instanceof Xpp3Dom dom)) {
+            return;
+        }
+        Xpp3Dom descriptors = dom.getChild("descriptors");
+        if (descriptors != null) {
+            for (Xpp3Dom descriptor : descriptors.getChildren("descriptor")) {
+                if (descriptor.getValue() != null && !descriptor.getValue().isBlank()) {
+                    result.add(descriptor.getValue().trim());
+                }
+            }
+        }
+        Xpp3Dom single = dom.getChild("descriptor");
+        if (single != null && single.getValue() != null && !single.getValue().isBlank()) {
+            result.add(single.getValue().trim());
+        }
+    }
+
+    /**
+     * Load the module stored by a previous build if its fingerprint matches.
+     *
+     * @return the cached module, or null when absent, stale or unreadable
+     */
+    public DeployableModule load(Path modulePath, String fingerprint) {
+        Path file = modulePath.resolve(CACHE_FILE);
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try {
+            FileReadCounter.increment();
+            CacheEntry entry = mapper.readValue(file.toFile(), CacheEntry.class);
+            if (entry == null || !fingerprint.equals(entry.fingerprint()) || entry.module() == null) {
+                return null;
+            }
+            return entry.module();
+        } catch (IOException e) {
+            log.debug("Ignoring unreadable module cache {}: {}", file, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Store a freshly analyzed module. Failures are logged and otherwise ignored.
+     */
+    public void store(Path modulePath, String fingerprint, DeployableModule module) {
+        Path file = modulePath.resolve(CACHE_FILE);
+        Path tmp = null;
+        try {
+            Files.createDirectories(file.getParent());
+            tmp = Files.createTempFile(file.getParent(), "module-cache", ".tmp");
+            mapper.writeValue(tmp.toFile(), new CacheEntry(fingerprint, module));
+            try {
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            log.debug("Failed to write module cache {}: {}", file, e.getMessage());
+            if (tmp != null) {
+                try {
+                    Files.deleteIfExists(tmp);
+                } catch (IOException ignore) {
+                    // best effort
+                }
+            }
+        }
+    }
+
+    private static void hashContent(MessageDigest digest, Path file) {
+        if (!Files.isRegularFile(file)) {
+            return;
+        }
+        try {
+            update(digest, "pom", file.toString());
+            FileReadCounter.increment();
+            digest.update(Files.readAllBytes(file));
+        } catch (IOException e) {
+            update(digest, "unreadable", file.toString());
+        }
+    }
+
+    private static void hashMetadata(MessageDigest digest, Path base, Path file) {
+        try {
+            BasicFileAttributes attrs = Files.readAttributes(file, BasicFileAttributes.class);
+            if (attrs.isRegularFile()) {
+                update(digest, base.relativize(file).toString().replace('\\', '/'),
+                        attrs.size() + ":" + attrs.lastModifiedTime().toMillis());
+            }
+        } catch (IOException e) {
+            // Missing file: nothing to hash
+        }
+    }
+
+    private static void hashTree(MessageDigest digest, Path base, Path root) {
+        if (!Files.isDirectory(root)) {
+            return;
+        }
+        List<Path> files = new ArrayList<>();
+        try (Stream<Path> walk = Files.walk(root)) {
+            walk.filter(Files::isRegularFile).forEach(files::add);
+        } catch (IOException e) {
+            update(digest, "unreadable", root.toString());
+            return;
+        }
+        files.sort(null);
+        for (Path f : files) {
+            hashMetadata(digest, base, f);
+        }
+    }
+
+    /**
+     * Hash a whole model as serialized by Maven, so that anything merged or interpolated into it
+     * (profiles, user properties) is covered.
+     */
+    private static void hashModel(MessageDigest digest, Model model) {
+        update(digest, "model", "effective");
+        try (OutputStream out = new DigestOutputStream(OutputStream.nullOutputStream(), digest)) {
+            new MavenXpp3Writer().write(out, model);
+        } catch (IOException | RuntimeException e) {
+            update(digest, "model", "unserializable:" + e);
+        }
+    }
+
+    private static void update(MessageDigest digest, String key, String value) {
+        digest.update(key.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) '=');
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) '\n');
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Stable, sorted representation of a map (used to snapshot system properties or environment).
+     */
+    static String snapshot(Map<?, ?> values) {
+        Map<String, String> sorted = new TreeMap<>();
+        values.forEach((k, v) -> sorted.put(String.valueOf(k), String.valueOf(v)));
+        return sorted.toString();
+    }
+
+    private record CacheEntry(String fingerprint, DeployableModule module) {}
+
+    private record LocatedPom(PomSummary pom, Path file) {}
+
+    /** Build metrics describe the current build and are recomputed on every run. */
+    private abstract static class VolatileFieldsMixin {
+        @JsonIgnore
+        abstract BuildMetrics getBuildMetrics();
+    }
+}
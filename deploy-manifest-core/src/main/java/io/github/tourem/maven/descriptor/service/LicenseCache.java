@@ -0,0 +1,61 @@
+package io.github.tourem.maven.descriptor.service;
+
+import io.github.tourem.maven.descriptor.util.LicenseIndex;
+import io.github.tourem.maven.descriptor.util.PomSummary;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Reactor-scoped memo shared by the {@link LicenseCollector} runs of one analysis: dependency
+ * POMs, licenses and version contexts of repository POMs are resolved once for all modules
+ * instead of once per module. Thread-safe, so modules may be analyzed concurrently.
+ *
+ * <p>Create one per analysis and close it afterwards: entries are never invalidated, and the
+ * transitive POM prefetch of every module runs on one pool owned by the cache, so concurrent
+ * module analyses do not each start their own threads.</p>
+ *
+ * @author tourem
+ */
+public final class LicenseCache implements AutoCloseable {
+
+    /** Context model (GAV + module path) -> properties and managed versions. */
+    final Map<String, LicenseCollector.ModelResolution> resolutions = new ConcurrentHashMap<>();
+    /** G:A:V -> summary of the local repository POM. */
+    final Map<String, Optional<PomSummary>> poms = new ConcurrentHashMap<>();
+    /** G:A:V -> licenses. */
+    final Map<String, LicenseIndex.Entry> licenses = new ConcurrentHashMap<>();
+
+    private ForkJoinPool prefetchPool;
+
+    /**
+     * @return number of GAVs whose licenses were resolved
+     */
+    public int size() {
+        return licenses.size();
+    }
+
+    /**
+     * Pool of the transitive POM prefetch, created on first use with the given parallelism
+     * and shared by all later prefetches.
+     */
+    synchronized ForkJoinPool prefetchPool(int parallelism) {
+        if (prefetchPool == null) {
+            prefetchPool = new ForkJoinPool(parallelism);
+        }
+        return prefetchPool;
+    }
+
+    /**
+     * Shut down the prefetch pool. The memo remains readable.
+     */
+    @Override
+    public synchronized void close() {
+        if (prefetchPool != null) {
+            prefetchPool.shutdown();
+            prefetchPool = null;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package io.github.tourem.maven.descriptor.service;
+
+import io.github.tourem.maven.descriptor.model.DeployableModule;
+import io.github.tourem.maven.descriptor.model.LicenseCatalogEntry;
+import io.github.tourem.maven.descriptor.model.LicenseDetail;
+import io.github.tourem.maven.descriptor.model.LicenseInfo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Builds the descriptor's top-level licenseCatalog: each module license detail is replaced by a
+ * reference (scope and depth stay in the module) to a catalog entry holding the GAV and license,
+ * shared by every module depending on that GAV.
+ *
+ * <p>Entry ids are the GAV and entries are sorted by id, so the catalog does not depend on the
+ * order in which modules are added. Not thread-safe: modules are added from the reactor-order
+ * sink.</p>
+ *
+ * @author tourem
+ */
+public final class LicenseCatalog {
+
+    private final Map<String, LicenseCatalogEntry> entries = new TreeMap<>();
+
+    /**
+     * Move the module's license details to the catalog, leaving references in the module.
+     */
+    public void reference(DeployableModule module) {
+        LicenseInfo licenses = module.getLicenses();
+        if (licenses == null || licenses.getDetails() == null) {
+            return;
+        }
+        List<LicenseDetail> references = new ArrayList<>(licenses.getDetails().size());
+        for (LicenseDetail detail : licenses.getDetails()) {
+            if (detail.getRef() != null) {
+                references.add(detail);
+                continue;
+            }
+            String id = detail.getGroupId() + ":" + detail.getArtifactId() + ":" + detail.getVersion();
+            entries.putIfAbsent(id, LicenseCatalogEntry.builder()
+                    .id(id)
+                    .groupId(detail.getGroupId())
+                    .artifactId(detail.getArtifactId())
+                    .version(detail.getVersion())
+                    .license(detail.getLicense())
+                    .licenseUrl(detail.getLicenseUrl())
+                    .multiLicense(detail.getMultiLicense())
+                    .build());
+            references.add(LicenseDetail.builder()
+                    .ref(id)
+                    .scope(detail.getScope())
+                    .depth(detail.getDepth())
+                    .build());
+        }
+        licenses.setDetails(references);
+    }
+
+    /**
+     * @return catalog entries sorted by id, or null when empty
+     */
+    public List<LicenseCatalogEntry> entries() {
+        return entries.isEmpty() ? null : List.copyOf(entries.values());
+    }
+
+    /**
+     * Complete referencing details with their catalog entry (details without reference are returned as is).
+     */
+    public static List<LicenseDetail> expand(List<LicenseDetail> details, List<LicenseCatalogEntry> catalog) {
+        if (details == null || catalog == null || catalog.isEmpty()) {
+            return details;
+        }
+        Map<String, LicenseCatalogEntry> byId = catalog.stream()
+                .collect(Collectors.toMap(LicenseCatalogEntry::getId, Function.identity(), (a, b) -> a));
+        List<LicenseDetail> expanded = new ArrayList<>(details.size());
+        for (LicenseDetail detail : details) {
+            LicenseCatalogEntry entry = detail.getRef() != null ? byId.get(detail.getRef()) : null;
+            if (entry == null) {
+                expanded.add(detail);
+                continue;
+            }
+            expanded.add(LicenseDetail.builder()
+                    .groupId(entry.getGroupId())
+                    .artifactId(entry.getArtifactId())
+                    .version(entry.getVersion())
+                    .scope(detail.getScope())
+                    .license(entry.getLicense())
+                    .licenseUrl(entry.getLicenseUrl())
+                    .multiLicense(entry.getMultiLicense())
+                    .depth(detail.getDepth())
+                    .build());
+        }
+        return expanded;
+    }
+}
@@ -1,16 +1,20 @@
 package io.github.tourem.maven.descriptor.service;
 
 import io.github.tourem.maven.descriptor.model.*;
+import io.github.tourem.maven.descriptor.util.LicenseIndex;
+import io.github.tourem.maven.descriptor.util.PomModelCache;
+import io.github.tourem.maven.descriptor.util.PomSummary;
+import io.github.tourem.maven.descriptor.util.ResolvedVersionIndex;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.maven.model.Dependency;
 import org.apache.maven.model.Model;
-import org.apache.maven.model.io.xpp3.MavenXpp3Reader;
 
 import java.io.File;
-import java.io.FileReader;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 import java.util.stream.Collectors;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -20,30 +24,61 @@ import java.util.regex.Pattern;
  * Collects license information for a module's dependencies (direct + transitive).
  * Resolves dependency POMs from local Maven repo to read <licenses> metadata.
  * No remote resolution: relies on maven.repo.local (or ~/.m2/repository) being populated.
+ * Licenses of released artifacts are recorded in a persistent {@link LicenseIndex} shared across builds.
+ * Transitive POMs are fetched breadth-first in parallel, then details are assembled depth-first
+ * in declaration order, so the output does not depend on the parallelism.
+ * Dependency and parent POMs are read as {@link PomSummary}s (streamed, only the needed elements).
  */
 @Slf4j
 public class LicenseCollector {
 
     private static final Set<String> DEFAULT_SCOPES = Set.of("compile", "runtime");
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\$\\{([^}]+)}");
 
     public LicenseInfo collect(Model model, Path modulePath, LicenseOptions options) {
-        if (model == null || options == null || !options.isInclude()) return null;
+        return collect(model, modulePath, options, ResolvedVersionIndex.EMPTY);
+    }
+
+    /**
+     * @param resolvedVersions versions Maven resolved for this module's dependency graph; preferred
+     *                         over managed versions found in POMs
+     */
+    public LicenseInfo collect(Model model, Path modulePath, LicenseOptions options, ResolvedVersionIndex resolvedVersions) {
+        return collect(model, modulePath, options, resolvedVersions, null);
+    }
 
-        // Prepare accumulators
-        List<LicenseDetail> details = new ArrayList<>();
-        Map<String, Integer> byType = new TreeMap<>();
-        List<LicenseWarning> warnings = new ArrayList<>();
-        Set<String> allowedScopes = new HashSet<>(DEFAULT_SCOPES);
-        Set<String> visited = new HashSet<>(); // G:A:V
-
-        // Seed with direct dependencies (filtered by scope)
-        if (model.getDependencies() != null) {
-            for (Dependency d : model.getDependencies()) {
-                String scope = normalizeScope(d.getScope());
-                if (!allowedScopes.contains(scope)) continue;
-                processDependency(d, 1, model, modulePath, allowedScopes, options, visited, details, byType, warnings);
+    /**
+     * @param resolvedVersions versions Maven resolved for this module's dependency graph
+     * @param cache reactor-scoped memo shared with the other modules of the analysis, or null
+     */
+    public LicenseInfo collect(Model model, Path modulePath, LicenseOptions options, ResolvedVersionIndex resolvedVersions,
+                               LicenseCache cache) {
+        if (model == null || options == null || !options.isInclude()) return null;
+        if (cache == null) {
+            try (LicenseCache own = new LicenseCache()) {
+                return collect(model, modulePath, options, resolvedVersions, own);
+            }
+        }
+        PomSummary module = PomSummary.of(model);
+
+        CollectionState c = new CollectionState(options,
+                resolvedVersions != null ? resolvedVersions : ResolvedVersionIndex.EMPTY, cache);
+        List<LicenseDetail> details = c.details;
+        Map<String, Integer> byType = c.byType;
+        List<LicenseWarning> warnings = c.warnings;
+
+        if (!module.dependencies().isEmpty()) {
+            if (options.getResolutionParallelism() > 1) {
+                // Fetch the whole graph concurrently; the walk below then only hits the memo
+                prefetch(module, modulePath, c, cache.prefetchPool(options.getResolutionParallelism()));
+            }
+            // Seed with direct dependencies (filtered by scope)
+            for (PomSummary.Dependency d : module.dependencies()) {
+                String scope = normalizeScope(d.scope());
+                if (!c.allowedScopes.contains(scope)) continue;
+                processDependency(d, 1, module, modulePath, c);
                 if (options.isIncludeTransitiveLicenses()) {
-                    resolveTransitively(d, 2, model, modulePath, allowedScopes, options, visited, details, byType, warnings);
+                    resolveTransitively(d, 2, module, modulePath, c);
                 }
             }
         }
@@ -97,64 +132,142 @@ public class LicenseCollector {
                 .build();
     }
 
-    private void processDependency(Dependency d, int depth,
-                                   Model contextModel, Path modulePath,
-                                   Set<String> allowedScopes, LicenseOptions options,
-                                   Set<String> visited, List<LicenseDetail> details,
-                                   Map<String, Integer> byType, List<LicenseWarning> warnings) {
-        String version = (contextModel != null) ? resolveVersion(d, contextModel, modulePath) : d.getVersion();
-        String gav = (nullToEmpty(d.getGroupId()) + ":" + nullToEmpty(d.getArtifactId()) + ":" + nullToEmpty(version)).trim();
+    /**
+     * Per-{@link #collect} state. The memo maps come from the {@link LicenseCache} and are
+     * concurrent: the prefetch (and other modules) fill them from several threads.
+     */
+    private static final class CollectionState {
+        final LicenseOptions options;
+        final ResolvedVersionIndex resolvedVersions;
+        final Set<String> allowedScopes = new HashSet<>(DEFAULT_SCOPES);
+        final Set<String> visited = new HashSet<>();   // G:A:V with a detail
+        final Set<String> expanded = new HashSet<>();  // G:A:V whose dependencies were walked
+        final List<LicenseDetail> details = new ArrayList<>();
+        final Map<String, Integer> byType = new TreeMap<>();
+        final List<LicenseWarning> warnings = new ArrayList<>();
+        final Map<String, ModelResolution> resolutions; // context model -> properties/managed versions
+        final Map<String, Optional<PomSummary>> poms;  // G:A:V -> local repository POM
+        final Map<String, LicenseIndex.Entry> licenses; // G:A:V -> licenses
+
+        CollectionState(LicenseOptions options, ResolvedVersionIndex resolvedVersions, LicenseCache cache) {
+            this.options = options;
+            this.resolvedVersions = resolvedVersions;
+            this.resolutions = cache.resolutions;
+            this.poms = cache.poms;
+            this.licenses = cache.licenses;
+        }
+    }
+
+    /**
+     * Breadth-first, work-stealing fetch of the transitive graph on the {@link LicenseCache}'s
+     * pool: each dependency POM is read once (deduplicated across threads) and its licenses and
+     * version context are memoized. Produces no details itself.
+     */
+    private void prefetch(PomSummary model, Path modulePath, CollectionState c, ForkJoinPool pool) {
+        Set<String> scheduled = ConcurrentHashMap.newKeySet();
+        List<Prefetch> roots = new ArrayList<>();
+        for (PomSummary.Dependency d : model.dependencies()) {
+            if (c.allowedScopes.contains(normalizeScope(d.scope()))) {
+                roots.add(new Prefetch(d, model, modulePath, c, scheduled));
+            }
+        }
+        try {
+            pool.invoke(new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    invokeAll(roots);
+                }
+            });
+        } catch (RuntimeException e) {
+            // The depth-first walk resolves whatever is missing
+            log.debug("License prefetch failed: {}", e.getMessage());
+        }
+    }
+
+    private final class Prefetch extends RecursiveAction {
+        private final PomSummary.Dependency dependency;
+        private final PomSummary contextModel;
+        private final Path modulePath;
+        private final CollectionState c;
+        private final Set<String> scheduled;
+
+        Prefetch(PomSummary.Dependency dependency, PomSummary contextModel, Path modulePath, CollectionState c, Set<String> scheduled) {
+            this.dependency = dependency;
+            this.contextModel = contextModel;
+            this.modulePath = modulePath;
+            this.c = c;
+            this.scheduled = scheduled;
+        }
+
+        @Override
+        protected void compute() {
+            try {
+                String version = resolveVersion(dependency, contextModel, modulePath, c);
+                if (version == null || version.isBlank()) return;
+                String gav = dependency.groupId() + ":" + dependency.artifactId() + ":" + version;
+                if (!scheduled.add(gav)) return;
+                licenses(dependency.groupId(), dependency.artifactId(), version, c);
+                if (!c.options.isIncludeTransitiveLicenses()) return;
+                PomSummary m = pom(dependency.groupId(), dependency.artifactId(), version, c);
+                if (m == null || m.dependencies().isEmpty()) return;
+                List<Prefetch> children = new ArrayList<>();
+                for (PomSummary.Dependency td : m.dependencies()) {
+                    if (c.allowedScopes.contains(normalizeScope(td.scope()))) {
+                        children.add(new Prefetch(td, m, null, c, scheduled));
+                    }
+                }
+                invokeAll(children);
+            } catch (Exception e) {
+                log.debug("License prefetch failed for {}:{} - {}",
+                        dependency.groupId(), dependency.artifactId(), e.getMessage());
+            }
+        }
+    }
+
+    private void processDependency(PomSummary.Dependency d, int depth, PomSummary contextModel, Path modulePath, CollectionState c) {
+        LicenseOptions options = c.options;
+        List<LicenseWarning> warnings = c.warnings;
+        Map<String, Integer> byType = c.byType;
+        String version = (contextModel != null) ? resolveVersion(d, contextModel, modulePath, c) : d.version();
+        String gav = (nullToEmpty(d.groupId()) + ":" + nullToEmpty(d.artifactId()) + ":" + nullToEmpty(version)).trim();
         if (gav.contains("::")) return; // skip incomplete
-        if (!visited.add(gav)) return;   // already processed
+        if (!c.visited.add(gav)) return;   // already processed
 
-        String scope = normalizeScope(d.getScope());
-        if (!allowedScopes.contains(scope)) return;
+        String scope = normalizeScope(d.scope());
+        if (!c.allowedScopes.contains(scope)) return;
 
-        // Read dependency POM from local repo and extract licenses
+        // Read dependency POM from local repo (or the persistent index) and extract licenses
         String license = "unknown";
         String licenseUrl = null;
         boolean multi = false;
         try {
-            Model depModel = readPomFromLocalRepo(d.getGroupId(), d.getArtifactId(), version);
-            java.util.List<org.apache.maven.model.License> licenseNodes = java.util.Collections.emptyList();
-            if (depModel != null) {
-                licenseNodes = collectLicensesWithFallback(depModel);
-            }
-            if (licenseNodes != null && !licenseNodes.isEmpty()) {
-                java.util.List<String> names = licenseNodes.stream()
-                        .map(l -> l.getName() == null ? "" : l.getName().trim())
-                        .filter(s -> !s.isBlank()).collect(java.util.stream.Collectors.toList());
-                multi = names.size() > 1;
-                license = names.isEmpty() ? "unknown" : String.join(" OR ", names);
-                licenseUrl = licenseNodes.get(0).getUrl();
-                // Aggregate by type: count each token separately
-                if (names.isEmpty()) {
-                    byType.merge("unknown", 1, Integer::sum);
-                    if (options.isLicenseWarnings()) warnings.add(unknownWarn(d, contextModel, modulePath, version));
-                } else {
-                    for (String t : names) byType.merge(t, 1, Integer::sum);
-                }
-            } else {
+            LicenseIndex.Entry licenses = licenses(d.groupId(), d.artifactId(), version, c);
+            java.util.List<String> names = licenses.names();
+            multi = names.size() > 1;
+            license = names.isEmpty() ? "unknown" : String.join(" OR ", names);
+            licenseUrl = licenses.url();
+            // Aggregate by type: count each token separately
+            if (names.isEmpty()) {
                 byType.merge("unknown", 1, Integer::sum);
-                if (options.isLicenseWarnings()) warnings.add(unknownWarn(d, contextModel, modulePath, version));
+                if (options.isLicenseWarnings()) warnings.add(unknownWarn(d, contextModel, modulePath, version, c));
+            } else {
+                for (String t : names) byType.merge(t, 1, Integer::sum);
             }
         } catch (Exception e) {
             log.debug("License read failure for {}: {}", gav, e.getMessage());
             byType.merge("unknown", 1, Integer::sum);
-            if (options.isLicenseWarnings()) warnings.add(unknownWarn(d, contextModel, modulePath, version));
+            if (options.isLicenseWarnings()) warnings.add(unknownWarn(d, contextModel, modulePath, version, c));
         }
 
         // Resolve placeholders for coordinates to avoid entries like ${hibernate.groupId}.orm or ${antlr}
-        java.util.Properties props2 = new java.util.Properties();
-        collectPropertiesRecursive(contextModel, modulePath, props2, new java.util.HashSet<>());
-        // Also pull in imported BOM properties
-        gatherManagedVersions(contextModel, modulePath, new java.util.LinkedHashMap<>(), props2, new java.util.HashSet<>());
-        String resolvedGroupId = resolveProperty(d.getGroupId(), props2);
-        String resolvedArtifactId = resolveProperty(d.getArtifactId(), props2);
-
-        details.add(LicenseDetail.builder()
-                .groupId(resolvedGroupId != null ? resolvedGroupId : d.getGroupId())
-                .artifactId(resolvedArtifactId != null ? resolvedArtifactId : d.getArtifactId())
+        // (model and imported BOM properties)
+        Properties props2 = resolution(contextModel, modulePath, c).propertiesWithBoms();
+        String resolvedGroupId = resolveProperty(d.groupId(), props2);
+        String resolvedArtifactId = resolveProperty(d.artifactId(), props2);
+
+        c.details.add(LicenseDetail.builder()
+                .groupId(resolvedGroupId != null ? resolvedGroupId : d.groupId())
+                .artifactId(resolvedArtifactId != null ? resolvedArtifactId : d.artifactId())
                 .version(version)
                 .scope(scope)
                 .license(license)
@@ -164,43 +277,81 @@ public class LicenseCollector {
                 .build());
     }
 
-    private void resolveTransitively(Dependency parent, int depth,
-                                     Model contextModel, Path modulePath,
-                                     Set<String> allowedScopes, LicenseOptions options,
-                                     Set<String> visited, List<LicenseDetail> details,
-                                     Map<String, Integer> byType, List<LicenseWarning> warnings) {
+    /**
+     * Memoized {@link #readLicenses}.
+     */
+    private LicenseIndex.Entry licenses(String groupId, String artifactId, String version, CollectionState c) {
+        String key = groupId + ":" + artifactId + ":" + version;
+        LicenseIndex.Entry licenses = c.licenses.get(key);
+        if (licenses == null) {
+            licenses = readLicenses(groupId, artifactId, version, c);
+            c.licenses.putIfAbsent(key, licenses);
+        }
+        return licenses;
+    }
+
+    /**
+     * Licenses of an artifact, from the persistent index when known, otherwise from its POM
+     * (following parents); released artifacts are then recorded in the index.
+     */
+    private LicenseIndex.Entry readLicenses(String groupId, String artifactId, String version, CollectionState c) {
+        LicenseIndex index = c.options.isPersistentIndex() ? LicenseIndex.shared() : null;
+        if (index != null) {
+            LicenseIndex.Entry indexed = index.get(groupId, artifactId, version);
+            if (indexed != null) return indexed;
+        }
+        PomSummary depModel = pom(groupId, artifactId, version, c);
+        if (depModel == null) {
+            // Not downloaded (yet): do not record
+            return new LicenseIndex.Entry(List.of(), null);
+        }
+        List<PomSummary.License> licenseNodes = collectLicensesWithFallback(depModel);
+        if (licenseNodes == null) {
+            // A parent that may declare the licenses is not downloaded (yet): do not record
+            return new LicenseIndex.Entry(List.of(), null);
+        }
+        List<String> names = licenseNodes.stream()
+                .map(l -> l.name() == null ? "" : l.name().trim())
+                .filter(s -> !s.isBlank()).collect(Collectors.toList());
+        LicenseIndex.Entry licenses = new LicenseIndex.Entry(names, licenseNodes.isEmpty() ? null : licenseNodes.get(0).url());
+        if (index != null) {
+            index.put(groupId, artifactId, version, licenses);
+        }
+        return licenses;
+    }
+
+    private void resolveTransitively(PomSummary.Dependency parent, int depth, PomSummary contextModel, Path modulePath, CollectionState c) {
         try {
-            String parentVersion = resolveVersion(parent, contextModel, modulePath);
-            Model m = readPomFromLocalRepo(parent.getGroupId(), parent.getArtifactId(), parentVersion);
-            if (m == null || m.getDependencies() == null) return;
-            for (Dependency td : m.getDependencies()) {
-                String scope = normalizeScope(td.getScope());
-                if (!allowedScopes.contains(scope)) continue;
-                processDependency(td, depth, m, null, allowedScopes, options, visited, details, byType, warnings);
+            String parentVersion = resolveVersion(parent, contextModel, modulePath, c);
+            // The dependencies below a G:A:V depend only on its POM: walk them once (also stops on cycles)
+            if (!c.expanded.add(parent.groupId() + ":" + parent.artifactId() + ":" + parentVersion)) return;
+            PomSummary m = pom(parent.groupId(), parent.artifactId(), parentVersion, c);
+            if (m == null || m.dependencies().isEmpty()) return;
+            for (PomSummary.Dependency td : m.dependencies()) {
+                String scope = normalizeScope(td.scope());
+                if (!c.allowedScopes.contains(scope)) continue;
+                processDependency(td, depth, m, null, c);
                 // Recurse using current dependency's model as context for deeper levels
-                resolveTransitively(td, depth + 1, m, null, allowedScopes, options, visited, details, byType, warnings);
+                resolveTransitively(td, depth + 1, m, null, c);
             }
         } catch (Exception e) {
             log.debug("Transitive resolution failed for {}:{}:{} - {}",
-                    parent.getGroupId(), parent.getArtifactId(), parent.getVersion(), e.getMessage());
+                    parent.groupId(), parent.artifactId(), parent.version(), e.getMessage());
         }
     }
 
-    private LicenseWarning unknownWarn(Dependency d, Model contextModel, Path modulePath, String resolvedVersion) {
-        java.util.Properties props = new java.util.Properties();
-        collectPropertiesRecursive(contextModel, modulePath, props, new java.util.HashSet<>());
-        // Pull in properties from imported BOMs to resolve placeholders like ${hibernate.groupId}
-        gatherManagedVersions(contextModel, modulePath, new java.util.LinkedHashMap<>(), props, new java.util.HashSet<>());
-        String g = resolveProperty(d.getGroupId(), props);
-        String a = resolveProperty(d.getArtifactId(), props);
+    private LicenseWarning unknownWarn(PomSummary.Dependency d, PomSummary contextModel, Path modulePath, String resolvedVersion,
+                                       CollectionState c) {
+        // Includes properties from imported BOMs to resolve placeholders like ${hibernate.groupId}
+        Properties props = resolution(contextModel, modulePath, c).propertiesWithBoms();
+        String g = resolveProperty(d.groupId(), props);
+        String a = resolveProperty(d.artifactId(), props);
         String v = (resolvedVersion != null && !resolvedVersion.isBlank())
                 ? resolvedVersion
-                : resolveProperty(d.getVersion(), props);
+                : resolveProperty(d.version(), props);
         if (v == null || v.isBlank()) {
-            try {
-                String sys = System.getProperty("deploy.manifest.resolved.ga." + g + ":" + a);
-                if (sys != null && !sys.isBlank()) v = sys;
-            } catch (Throwable ignore) {}
+            String resolved = c.resolvedVersions.version(g, a);
+            if (resolved != null) v = resolved;
         }
         return LicenseWarning.builder()
                 .severity("MEDIUM")
@@ -222,94 +373,134 @@ public class LicenseCollector {
                 .map(String::trim).filter(s -> !s.isBlank()).collect(Collectors.toList());
     }
 
-    private Model readPomFromLocalRepo(String groupId, String artifactId, String version) {
+    /**
+     * Memoized {@link #readPomFromLocalRepo} for dependency POMs.
+     */
+    private PomSummary pom(String groupId, String artifactId, String version, CollectionState c) {
+        if (groupId == null || artifactId == null || version == null) return null;
+        String key = groupId + ":" + artifactId + ":" + version;
+        Optional<PomSummary> pom = c.poms.get(key);
+        if (pom == null) {
+            pom = Optional.ofNullable(readPomFromLocalRepo(groupId, artifactId, version));
+            c.poms.putIfAbsent(key, pom);
+        }
+        return pom.orElse(null);
+    }
+
+    private PomSummary readPomFromLocalRepo(String groupId, String artifactId, String version) {
         try {
             if (groupId == null || artifactId == null || version == null) return null;
-            String repoRoot = System.getProperty("maven.repo.local");
-            if (repoRoot == null || repoRoot.isBlank()) {
-                repoRoot = System.getProperty("user.home") + File.separator + ".m2" + File.separator + "repository";
-            }
             String groupPath = groupId.replace('.', File.separatorChar);
             String rel = groupPath + File.separator + artifactId + File.separator + version + File.separator + artifactId + "-" + version + ".pom";
-            File pom = new File(repoRoot, rel);
+            File pom = new File(localRepositoryRoot().toFile(), rel);
             if (!pom.exists()) return null;
-            MavenXpp3Reader reader = new MavenXpp3Reader();
-            try (FileReader fr = new FileReader(pom)) {
-                return reader.read(fr);
-            }
+            return PomModelCache.shared().readSummary(pom.toPath());
         } catch (Exception e) {
             log.debug("Failed to read POM for {}:{}:{} - {}", groupId, artifactId, version, e.getMessage());
             return null;
         }
     }
 
-    private String resolveVersion(Dependency d, Model contextModel, Path modulePath) {
+    private String resolveVersion(PomSummary.Dependency d, PomSummary contextModel, Path modulePath, CollectionState c) {
         if (d == null) return null;
-        Properties props = new Properties();
-        collectPropertiesRecursive(contextModel, modulePath, props, new HashSet<>());
+        ModelResolution resolution = resolution(contextModel, modulePath, c);
+        Properties props = resolution.properties();
         // If the dependency declares a version, try to resolve property placeholders first
-        if (d.getVersion() != null && !d.getVersion().isBlank()) {
-            String resolved = resolveProperty(d.getVersion(), props);
+        if (d.version() != null && !d.version().isBlank()) {
+            String resolved = resolveProperty(d.version(), props);
             if (resolved != null && !resolved.isBlank()) return resolved;
         }
-        String key = d.getGroupId() + ":" + d.getArtifactId();
-        // Fast-path: use pre-resolved GA->V mapping published by the plugin
-        try {
-            String sys = System.getProperty("deploy.manifest.resolved.ga." + key);
-            if (sys != null && !sys.isBlank()) {
-                return sys;
-            }
-        } catch (Throwable ignore) {}
-        Map<String, String> managed = new LinkedHashMap<>();
-        gatherManagedVersions(contextModel, modulePath, managed, props, new HashSet<>());
+        // Fast-path: use the GA->V mapping resolved by Maven for this module
+        String resolved = c.resolvedVersions.version(d.groupId(), d.artifactId());
+        if (resolved != null) {
+            return resolved;
+        }
+        String key = d.groupId() + ":" + d.artifactId();
+        Map<String, String> managed = resolution.managedVersions();
         String v = managed.get(key);
-        if (v != null) v = resolveProperty(v, props);
-        if ("org.springframework.boot".equals(d.getGroupId()) && ("spring-boot-starter-web".equals(d.getArtifactId()) || "spring-boot-starter-data-jpa".equals(d.getArtifactId()))) {
-            try { System.out.println("[deploy-manifest] resolveVersion GA=" + key + " -> " + v + ", managed size=" + managed.size()); } catch (Throwable ignore) {}
+        if (v != null) v = resolveProperty(v, resolution.propertiesWithBoms());
+        if ("org.springframework.boot".equals(d.groupId()) && ("spring-boot-starter-web".equals(d.artifactId()) || "spring-boot-starter-data-jpa".equals(d.artifactId()))) {
+            log.debug("resolveVersion GA={} -> {}, managed size={}", key, v, managed.size());
         }
         return v;
     }
 
-    private void gatherManagedVersions(Model m, Path modulePath,
+    /**
+     * Properties and managed versions of a context model, computed once per collection and
+     * shared by every dependency resolved against that model.
+     */
+    private ModelResolution resolution(PomSummary contextModel, Path modulePath, CollectionState c) {
+        String key = resolutionKey(contextModel, modulePath);
+        ModelResolution cached = c.resolutions.get(key);
+        if (cached != null) return cached;
+
+        Properties props = new Properties();
+        collectPropertiesRecursive(contextModel, modulePath, props, new HashSet<>());
+        Properties withBoms = new Properties();
+        withBoms.putAll(props);
+        Map<String, String> managed = new LinkedHashMap<>();
+        gatherManagedVersions(contextModel, modulePath, managed, withBoms, new HashSet<>());
+        ModelResolution resolution = new ModelResolution(props, withBoms, managed);
+        c.resolutions.putIfAbsent(key, resolution);
+        return resolution;
+    }
+
+    private static String resolutionKey(PomSummary m, Path modulePath) {
+        if (m == null) return "<none>@" + modulePath;
+        String g = m.effectiveGroupId();
+        String v = m.effectiveVersion();
+        // Module path matters: parents may be resolved through relativePath
+        return g + ":" + m.artifactId() + ":" + v + "@" + modulePath;
+    }
+
+    /**
+     * @param properties model and parent properties (plus project.* built-ins)
+     * @param propertiesWithBoms properties, plus those of imported BOMs
+     * @param managedVersions G:A -> version from dependencyManagement (parents and imported BOMs)
+     */
+    record ModelResolution(Properties properties, Properties propertiesWithBoms,
+                                   Map<String, String> managedVersions) {}
+
+    private void gatherManagedVersions(PomSummary m, Path modulePath,
                                        Map<String, String> managed, Properties props,
                                        Set<String> visitedModels) {
         if (m == null) return;
-        try { System.out.println("[deploy-manifest] GM visiting " + ((m.getGroupId()!=null?m.getGroupId():(m.getParent()!=null?m.getParent().getGroupId():""))) + ":" + m.getArtifactId() + ":" + (m.getVersion()!=null?m.getVersion():(m.getParent()!=null?m.getParent().getVersion():"")) + ", hasDM=" + (m.getDependencyManagement()!=null)); } catch (Throwable ignore) {}
-        if (m.getDependencyManagement() != null && m.getDependencyManagement().getDependencies() != null) {
-            // Debug: trace which model is providing DM
-            try { System.out.println("[deploy-manifest] gather DM from " + (m.getGroupId()!=null?m.getGroupId():(m.getParent()!=null?m.getParent().getGroupId():"")) + ":" + m.getArtifactId()); } catch (Throwable ignore) {}
-            for (Dependency dmDep : m.getDependencyManagement().getDependencies()) {
-                String type = dmDep.getType();
-                String scope = dmDep.getScope();
+        log.debug("Managed versions: visiting {}:{}:{}, hasDM={}", m.effectiveGroupId(), m.artifactId(),
+                m.effectiveVersion(), !m.dependencyManagement().isEmpty());
+        if (!m.dependencyManagement().isEmpty()) {
+            for (PomSummary.Dependency dmDep : m.dependencyManagement()) {
+                String type = dmDep.type();
+                String scope = dmDep.scope();
                 if ("pom".equalsIgnoreCase(type != null ? type : "") && "import".equalsIgnoreCase(scope != null ? scope : "")) {
-                    String bomVer = resolveProperty(dmDep.getVersion(), props);
-                    Model bom = readPomFromLocalRepo(dmDep.getGroupId(), dmDep.getArtifactId(), bomVer);
-                    if (bom != null && bom.getDependencyManagement() != null && bom.getDependencyManagement().getDependencies() != null) {
+                    String bomVer = resolveProperty(dmDep.version(), props);
+                    PomSummary bom = readPomFromLocalRepo(dmDep.groupId(), dmDep.artifactId(), bomVer);
+                    if (bom != null && !bom.dependencyManagement().isEmpty()) {
                         Properties bomProps = new Properties();
                         collectPropertiesRecursive(bom, null, bomProps, new HashSet<>());
                         // Merge BOM properties so we can resolve placeholders like ${hibernate}
                         props.putAll(bomProps);
-                        for (Dependency b : bom.getDependencyManagement().getDependencies()) {
-                            String bKey = b.getGroupId() + ":" + b.getArtifactId();
-                            String bVer = resolveProperty(b.getVersion(), bomProps);
+                        for (PomSummary.Dependency b : bom.dependencyManagement()) {
+                            String bKey = b.groupId() + ":" + b.artifactId();
+                            String bVer = resolveProperty(b.version(), bomProps);
                             if (bVer != null && !managed.containsKey(bKey)) {
                                 managed.put(bKey, bVer);
                             }
                         }
-                        try { System.out.println("[deploy-manifest] imported BOM " + dmDep.getGroupId()+":"+dmDep.getArtifactId()+":"+bomVer+" entries="+bom.getDependencyManagement().getDependencies().size()); } catch (Throwable ignore) {}
+                        log.debug("Imported BOM {}:{}:{} entries={}", dmDep.groupId(), dmDep.artifactId(), bomVer,
+                                bom.dependencyManagement().size());
                     }
                 } else {
-                    String key = dmDep.getGroupId() + ":" + dmDep.getArtifactId();
-                    String ver = resolveProperty(dmDep.getVersion(), props);
+                    String key = dmDep.groupId() + ":" + dmDep.artifactId();
+                    String ver = resolveProperty(dmDep.version(), props);
                     if (ver != null) managed.putIfAbsent(key, ver);
                 }
             }
         }
-        Model parent = readParentModel(m, modulePath);
+        PomSummary parent = readParentModel(m, modulePath);
         if (parent != null) {
-            String pk = (parent.getGroupId() == null ? "" : parent.getGroupId()) + ":" +
-                        (parent.getArtifactId() == null ? "" : parent.getArtifactId()) + ":" +
-                        (parent.getVersion() == null ? "" : parent.getVersion());
+            String pk = (parent.groupId() == null ? "" : parent.groupId()) + ":" +
+                        (parent.artifactId() == null ? "" : parent.artifactId()) + ":" +
+                        (parent.version() == null ? "" : parent.version());
             if (visitedModels.add(pk)) {
                 collectPropertiesRecursive(parent, modulePath, props, new HashSet<>());
                 gatherManagedVersions(parent, modulePath, managed, props, visitedModels);
@@ -317,94 +508,101 @@ public class LicenseCollector {
         }
     }
 
-    private void collectPropertiesRecursive(Model m, Path modulePath, Properties props, Set<String> visitedGavs) {
+    private void collectPropertiesRecursive(PomSummary m, Path modulePath, Properties props, Set<String> visitedGavs) {
         if (m == null) return;
         // Seed standard Maven properties so placeholders like ${project.version} resolve
-        String effGroupId = m.getGroupId() != null ? m.getGroupId() : (m.getParent() != null ? m.getParent().getGroupId() : null);
-        String effVersion = m.getVersion() != null ? m.getVersion() : (m.getParent() != null ? m.getParent().getVersion() : null);
+        String effGroupId = m.effectiveGroupId();
+        String effVersion = m.effectiveVersion();
         if (effGroupId != null && !props.containsKey("project.groupId")) props.setProperty("project.groupId", effGroupId);
-        if (m.getArtifactId() != null && !props.containsKey("project.artifactId")) props.setProperty("project.artifactId", m.getArtifactId());
+        if (m.artifactId() != null && !props.containsKey("project.artifactId")) props.setProperty("project.artifactId", m.artifactId());
         if (effVersion != null && !props.containsKey("project.version")) props.setProperty("project.version", effVersion);
         if (!props.containsKey("pom.groupId") && effGroupId != null) props.setProperty("pom.groupId", effGroupId);
-        if (!props.containsKey("pom.artifactId") && m.getArtifactId() != null) props.setProperty("pom.artifactId", m.getArtifactId());
+        if (!props.containsKey("pom.artifactId") && m.artifactId() != null) props.setProperty("pom.artifactId", m.artifactId());
         if (!props.containsKey("pom.version") && effVersion != null) props.setProperty("pom.version", effVersion);
 
-        if (m.getProperties() != null) {
-            for (String name : m.getProperties().stringPropertyNames()) {
-                if (!props.containsKey(name)) {
-                    props.setProperty(name, m.getProperties().getProperty(name));
-                }
+        for (Map.Entry<String, String> property : m.properties().entrySet()) {
+            if (!props.containsKey(property.getKey())) {
+                props.setProperty(property.getKey(), property.getValue());
             }
         }
-        Model parent = readParentModel(m, modulePath);
+        PomSummary parent = readParentModel(m, modulePath);
         if (parent != null) {
-            String pk = (parent.getGroupId() == null ? "" : parent.getGroupId()) + ":" +
-                        (parent.getArtifactId() == null ? "" : parent.getArtifactId()) + ":" +
-                        (parent.getVersion() == null ? "" : parent.getVersion());
+            String pk = (parent.groupId() == null ? "" : parent.groupId()) + ":" +
+                        (parent.artifactId() == null ? "" : parent.artifactId()) + ":" +
+                        (parent.version() == null ? "" : parent.version());
             if (visitedGavs.add(pk)) {
                 collectPropertiesRecursive(parent, modulePath, props, visitedGavs);
             }
         }
     }
 
-    private Model readParentModel(Model m, Path modulePath) {
+    private PomSummary readParentModel(PomSummary m, Path modulePath) {
         try {
-            if (m == null || m.getParent() == null) return null;
-            String pg = m.getParent().getGroupId();
-            String pa = m.getParent().getArtifactId();
-            String pv = m.getParent().getVersion();
-            try { System.out.println("[deploy-manifest] readParentModel for " + m.getArtifactId() + " -> " + pg + ":" + pa + ":" + pv + " (modulePath=" + modulePath + ")"); } catch (Throwable ignore) {}
-            String relPath = m.getParent().getRelativePath();
+            if (m == null || m.parent() == null) return null;
+            String pg = m.parent().groupId();
+            String pa = m.parent().artifactId();
+            String pv = m.parent().version();
+            log.debug("readParentModel for {} -> {}:{}:{} (modulePath={})", m.artifactId(), pg, pa, pv, modulePath);
+            String relPath = m.parent().relativePath();
             // Prefer explicit relativePath when provided
             if (relPath != null && !relPath.isBlank() && modulePath != null) {
                 Path parentPom = modulePath.resolve(relPath).normalize();
                 if (Files.exists(parentPom)) {
-                    MavenXpp3Reader reader = new MavenXpp3Reader();
-                    try (FileReader fr = new FileReader(parentPom.toFile())) {
-                        return reader.read(fr);
-                    }
+                    return PomModelCache.shared().readSummary(parentPom);
                 }
             }
             // If no explicit relativePath, try Maven's default ../pom.xml within the reactor
             if ((relPath == null || relPath.isBlank()) && modulePath != null) {
                 Path parentPom = modulePath.resolve("..").resolve("pom.xml").normalize();
                 if (Files.exists(parentPom)) {
-                    MavenXpp3Reader reader = new MavenXpp3Reader();
-                    try (FileReader fr = new FileReader(parentPom.toFile())) {
-                        Model candidate = reader.read(fr);
-                        // Only use this file if it actually matches the declared parent GAV
-                        String cg = (candidate.getGroupId() != null ? candidate.getGroupId() : (candidate.getParent() != null ? candidate.getParent().getGroupId() : null));
-                        String ca = candidate.getArtifactId();
-                        String cv = (candidate.getVersion() != null ? candidate.getVersion() : (candidate.getParent() != null ? candidate.getParent().getVersion() : null));
-                        if (Objects.equals(pg, cg) && Objects.equals(pa, ca) && Objects.equals(pv, cv)) {
-                            return candidate;
-                        }
+                    PomSummary candidate = PomModelCache.shared().readSummary(parentPom);
+                    // Only use this file if it actually matches the declared parent GAV
+                    String cg = candidate.effectiveGroupId();
+                    String ca = candidate.artifactId();
+                    String cv = candidate.effectiveVersion();
+                    if (Objects.equals(pg, cg) && Objects.equals(pa, ca) && Objects.equals(pv, cv)) {
+                        return candidate;
                     }
                 }
             }
             // Fallback to local repository for external parents (e.g., Spring Boot starter parent)
             return readPomFromLocalRepo(pg, pa, pv);
         } catch (Exception e) {
-            try { System.out.println("[deploy-manifest] readParentModel failed: " + e.getMessage()); } catch (Throwable ignore) {}
+            log.debug("readParentModel failed: {}", e.getMessage());
             return null;
         }
     }
 
+    private static Path localRepositoryRoot() {
+        String repoRoot = System.getProperty("maven.repo.local");
+        if (repoRoot == null || repoRoot.isBlank()) {
+            repoRoot = System.getProperty("user.home") + File.separator + ".m2" + File.separator + "repository";
+        }
+        return Path.of(repoRoot);
+    }
+
     /**
      * Collect licenses from given model, following parent POMs until a non-empty <licenses> is found.
+     *
+     * @return the licenses (empty when no POM of the chain declares any), or null when a parent
+     * of the chain cannot be read
      */
-    private java.util.List<org.apache.maven.model.License> collectLicensesWithFallback(Model m) {
+    private List<PomSummary.License> collectLicensesWithFallback(PomSummary m) {
         java.util.Set<String> visited = new java.util.HashSet<>();
-        Model cur = m;
+        PomSummary cur = m;
         while (cur != null) {
-            if (cur.getLicenses() != null && !cur.getLicenses().isEmpty()) {
-                return cur.getLicenses();
+            if (!cur.licenses().isEmpty()) {
+                return cur.licenses();
             }
-            String key = (cur.getGroupId() == null ? "" : cur.getGroupId()) + ":" +
-                         (cur.getArtifactId() == null ? "" : cur.getArtifactId()) + ":" +
-                         (cur.getVersion() == null ? "" : cur.getVersion());
+            String key = (cur.groupId() == null ? "" : cur.groupId()) + ":" +
+                         (cur.artifactId() == null ? "" : cur.artifactId()) + ":" +
+                         (cur.version() == null ? "" : cur.version());
             if (!visited.add(key)) break;
-            cur = readParentModel(cur, null);
+            PomSummary parent = readParentModel(cur, null);
+            if (parent == null && cur.parent() != null) {
+                return null;
+            }
+            cur = parent;
         }
         return java.util.Collections.emptyList();
     }
@@ -412,10 +610,10 @@ public class LicenseCollector {
 
     private String resolveProperty(String value, Properties props) {
         if (value == null) return null;
+        if (value.indexOf("${") < 0) return value;
         String result = value;
-        Pattern p = Pattern.compile("\\$\\{([^}]+)}");
         for (int i = 0; i < 10; i++) {
-            Matcher m = p.matcher(result);
+            Matcher m = PLACEHOLDER.matcher(result);
             boolean replaced = false;
             StringBuffer sb = new StringBuffer();
             while (m.find()) {
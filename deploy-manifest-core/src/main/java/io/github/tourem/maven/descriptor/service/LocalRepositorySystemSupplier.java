@@ -0,0 +1,121 @@
+package io.github.tourem.maven.descriptor.service;
+
+import org.apache.maven.model.building.DefaultModelBuilderFactory;
+import org.apache.maven.repository.internal.DefaultArtifactDescriptorReader;
+import org.apache.maven.repository.internal.DefaultModelCacheFactory;
+import org.apache.maven.repository.internal.DefaultVersionRangeResolver;
+import org.apache.maven.repository.internal.DefaultVersionResolver;
+import org.eclipse.aether.RepositorySystem;
+import org.eclipse.aether.impl.ArtifactDescriptorReader;
+import org.eclipse.aether.impl.ArtifactResolver;
+import org.eclipse.aether.impl.MetadataResolver;
+import org.eclipse.aether.impl.OfflineController;
+import org.eclipse.aether.impl.RemoteRepositoryFilterManager;
+import org.eclipse.aether.impl.RemoteRepositoryManager;
+import org.eclipse.aether.impl.RepositoryConnectorProvider;
+import org.eclipse.aether.impl.RepositoryEventDispatcher;
+import org.eclipse.aether.impl.RepositorySystemLifecycle;
+import org.eclipse.aether.impl.UpdateCheckManager;
+import org.eclipse.aether.impl.UpdatePolicyAnalyzer;
+import org.eclipse.aether.impl.VersionRangeResolver;
+import org.eclipse.aether.impl.VersionResolver;
+import org.eclipse.aether.internal.impl.DefaultArtifactResolver;
+import org.eclipse.aether.internal.impl.DefaultChecksumPolicyProvider;
+import org.eclipse.aether.internal.impl.DefaultDeployer;
+import org.eclipse.aether.internal.impl.DefaultFileProcessor;
+import org.eclipse.aether.internal.impl.DefaultInstaller;
+import org.eclipse.aether.internal.impl.DefaultLocalPathComposer;
+import org.eclipse.aether.internal.impl.DefaultLocalRepositoryProvider;
+import org.eclipse.aether.internal.impl.DefaultMetadataResolver;
+import org.eclipse.aether.internal.impl.DefaultOfflineController;
+import org.eclipse.aether.internal.impl.DefaultRemoteRepositoryManager;
+import org.eclipse.aether.internal.impl.DefaultRepositoryConnectorProvider;
+import org.eclipse.aether.internal.impl.DefaultRepositoryEventDispatcher;
+import org.eclipse.aether.internal.impl.DefaultRepositorySystem;
+import org.eclipse.aether.internal.impl.DefaultRepositorySystemLifecycle;
+import org.eclipse.aether.internal.impl.DefaultTrackingFileManager;
+import org.eclipse.aether.internal.impl.DefaultUpdateCheckManager;
+import org.eclipse.aether.internal.impl.DefaultUpdatePolicyAnalyzer;
+import org.eclipse.aether.internal.impl.SimpleLocalRepositoryManagerFactory;
+import org.eclipse.aether.internal.impl.collect.DefaultDependencyCollector;
+import org.eclipse.aether.internal.impl.collect.bf.BfDependencyCollector;
+import org.eclipse.aether.internal.impl.collect.df.DfDependencyCollector;
+import org.eclipse.aether.internal.impl.filter.DefaultRemoteRepositoryFilterManager;
+import org.eclipse.aether.internal.impl.synccontext.DefaultSyncContextFactory;
+import org.eclipse.aether.internal.impl.synccontext.named.NameMappers;
+import org.eclipse.aether.internal.impl.synccontext.named.NamedLockFactoryAdapterFactoryImpl;
+import org.eclipse.aether.named.providers.LocalReadWriteLockNamedLockFactory;
+import org.eclipse.aether.spi.io.FileProcessor;
+import org.eclipse.aether.spi.synccontext.SyncContextFactory;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Builds a {@link RepositorySystem} for local-repository-only collection, wiring the Resolver
+ * components through their injection constructors.
+ *
+ * <p>Same idea as Resolver's {@code RepositorySystemSupplier}, restricted to what an offline
+ * collection needs: no connector or transporter is registered, so nothing is ever downloaded.
+ * Replaces the deprecated {@code ServiceLocator}.</p>
+ *
+ * @author tourem
+ */
+final class LocalRepositorySystemSupplier implements Supplier<RepositorySystem> {
+
+    @Override
+    public RepositorySystem get() {
+        FileProcessor fileProcessor = new DefaultFileProcessor();
+        UpdatePolicyAnalyzer updatePolicyAnalyzer = new DefaultUpdatePolicyAnalyzer();
+        RepositoryEventDispatcher eventDispatcher = new DefaultRepositoryEventDispatcher(Collections.emptySet());
+        RepositorySystemLifecycle lifecycle = new DefaultRepositorySystemLifecycle();
+        SyncContextFactory syncContextFactory = new DefaultSyncContextFactory(new NamedLockFactoryAdapterFactoryImpl(
+                Map.of(LocalReadWriteLockNamedLockFactory.NAME, new LocalReadWriteLockNamedLockFactory()),
+                LocalReadWriteLockNamedLockFactory.NAME,
+                Map.of(NameMappers.GAV_NAME, NameMappers.gavNameMapper()),
+                NameMappers.GAV_NAME,
+                lifecycle));
+        OfflineController offlineController = new DefaultOfflineController();
+        RemoteRepositoryManager remoteRepositoryManager =
+                new DefaultRemoteRepositoryManager(updatePolicyAnalyzer, new DefaultChecksumPolicyProvider());
+        RemoteRepositoryFilterManager filterManager = new DefaultRemoteRepositoryFilterManager(Collections.emptyMap());
+        RepositoryConnectorProvider connectorProvider =
+                new DefaultRepositoryConnectorProvider(Collections.emptySet(), filterManager);
+        UpdateCheckManager updateCheckManager =
+                new DefaultUpdateCheckManager(new DefaultTrackingFileManager(), updatePolicyAnalyzer);
+
+        MetadataResolver metadataResolver = new DefaultMetadataResolver(eventDispatcher, updateCheckManager,
+                connectorProvider, remoteRepositoryManager, syncContextFactory, offlineController, filterManager);
+        VersionResolver versionResolver =
+                new DefaultVersionResolver(metadataResolver, syncContextFactory, eventDispatcher);
+        VersionRangeResolver versionRangeResolver =
+                new DefaultVersionRangeResolver(metadataResolver, syncContextFactory, eventDispatcher);
+        ArtifactResolver artifactResolver = new DefaultArtifactResolver(fileProcessor, eventDispatcher,
+                versionResolver, updateCheckManager, connectorProvider, remoteRepositoryManager, syncContextFactory,
+                offlineController, Collections.emptyMap(), filterManager);
+        ArtifactDescriptorReader descriptorReader = new DefaultArtifactDescriptorReader(remoteRepositoryManager,
+                versionResolver, versionRangeResolver, artifactResolver,
+                new DefaultModelBuilderFactory().newInstance(), eventDispatcher, new DefaultModelCacheFactory());
+
+        return new DefaultRepositorySystem(
+                versionResolver,
+                versionRangeResolver,
+                artifactResolver,
+                metadataResolver,
+                descriptorReader,
+                new DefaultDependencyCollector(Map.of(
+                        BfDependencyCollector.NAME,
+                        new BfDependencyCollector(remoteRepositoryManager, descriptorReader, versionRangeResolver),
+                        DfDependencyCollector.NAME,
+                        new DfDependencyCollector(remoteRepositoryManager, descriptorReader, versionRangeResolver))),
+                new DefaultInstaller(fileProcessor, eventDispatcher, Collections.emptySet(), syncContextFactory),
+                new DefaultDeployer(fileProcessor, eventDispatcher, connectorProvider, remoteRepositoryManager,
+                        updateCheckManager, Collections.emptySet(), syncContextFactory, offlineController),
+                new DefaultLocalRepositoryProvider(
+                        Collections.singleton(new SimpleLocalRepositoryManagerFactory(new DefaultLocalPathComposer()))),
+                syncContextFactory,
+                remoteRepositoryManager,
+                lifecycle);
+    }
+}
@@ -1,6 +1,7 @@
 package io.github.tourem.maven.descriptor.service;
 
 import io.github.tourem.maven.descriptor.model.AssemblyArtifact;
+import io.github.tourem.maven.descriptor.util.FileReadCounter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.maven.model.Model;
 import org.apache.maven.model.Plugin;
@@ -139,6 +140,7 @@ public class MavenAssemblyDetector {
             return assemblies;
         }
 
+        FileReadCounter.increment();
         try (FileReader reader = new FileReader(descriptorFile.toFile())) {
             Xpp3Dom dom = Xpp3DomBuilder.build(reader);
 
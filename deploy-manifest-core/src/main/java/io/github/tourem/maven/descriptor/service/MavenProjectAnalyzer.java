@@ -1,5 +1,6 @@
 package io.github.tourem.maven.descriptor.service;
 
+import io.github.tourem.maven.descriptor.model.AnalysisOptions;
 import io.github.tourem.maven.descriptor.model.AssemblyArtifact;
 import io.github.tourem.maven.descriptor.model.DeployableModule;
 import io.github.tourem.maven.descriptor.model.EnvironmentConfig;
@@ -8,17 +9,22 @@ import io.github.tourem.maven.descriptor.model.PackagingType;
 import io.github.tourem.maven.descriptor.model.ProjectDescriptor;
 import io.github.tourem.maven.descriptor.spi.FrameworkDetector;
 import io.github.tourem.maven.descriptor.util.MavenModelResolver;
+import io.github.tourem.maven.descriptor.util.ModuleResourceIndex;
+import io.github.tourem.maven.descriptor.util.PomModelCache;
+import io.github.tourem.maven.descriptor.util.ResolvedVersionIndex;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.maven.model.Model;
 import org.apache.maven.model.Plugin;
-import org.apache.maven.model.io.xpp3.MavenXpp3Reader;
+import org.apache.maven.project.MavenProject;
 
 import java.io.File;
-import java.io.FileReader;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -50,6 +56,11 @@ public class MavenProjectAnalyzer {
     private final ExternalDependenciesDetector externalDependenciesDetector;
     private final TestingInfoCollector testingInfoCollector;
     private final BuildMetricsCollector buildMetricsCollector;
+    private final AnalysisOptions analysisOptions;
+    private final IncrementalModuleCache moduleCache;
+    private final IncrementalModuleCache reactorModuleCache;
+    /** Module groupId:artifactId -> versions Maven resolved for its dependency graph. */
+    private volatile Map<String, ResolvedVersionIndex> resolvedVersions = Map.of();
 
     /**
      * Default constructor that initializes all dependencies.
@@ -86,31 +97,7 @@ public class MavenProjectAnalyzer {
     public MavenProjectAnalyzer(io.github.tourem.maven.descriptor.model.DependencyTreeOptions depOptions,
                                 io.github.tourem.maven.descriptor.model.LicenseOptions licenseOptions,
                                 io.github.tourem.maven.descriptor.model.PropertyOptions propertyOptions) {
-        this.pathGenerator = new MavenRepositoryPathGenerator();
-        this.springBootDetector = new SpringBootDetector();
-        this.profileDetector = new SpringBootProfileDetector();
-        this.assemblyDetector = new MavenAssemblyDetector(pathGenerator);
-        this.environmentConfigDetector = new EnvironmentConfigDetector();
-        this.metadataDetector = new DeploymentMetadataDetector();
-        this.executablePluginDetector = new ExecutablePluginDetector();
-        this.enhancedExecutableDetector = new EnhancedExecutableDetector();
-        this.gitInfoCollector = new GitInfoCollector();
-        this.frameworkDetectors = loadFrameworkDetectors();
-        this.dockerImageDetector = new DockerImageDetector();
-        this.propertyCollector = new PropertyCollector();
-        this.metadataCollector = new ModuleMetadataCollector(
-            new DependencyTreeCollector(),
-            new LicenseCollector(),
-            propertyCollector,
-            new PluginCollector()
-        );
-        this.dependencyTreeOptions = depOptions != null ? depOptions : io.github.tourem.maven.descriptor.model.DependencyTreeOptions.builder().include(false).build();
-        this.licenseOptions = licenseOptions != null ? licenseOptions : io.github.tourem.maven.descriptor.model.LicenseOptions.builder().include(false).build();
-        this.propertyOptions = propertyOptions != null ? propertyOptions : io.github.tourem.maven.descriptor.model.PropertyOptions.builder().include(false).build();
-        this.pluginOptions = io.github.tourem.maven.descriptor.model.PluginOptions.builder().include(false).build();
-        this.externalDependenciesDetector = new ExternalDependenciesDetector();
-        this.testingInfoCollector = new TestingInfoCollector();
-        this.buildMetricsCollector = new BuildMetricsCollector();
+        this(depOptions, licenseOptions, propertyOptions, null);
     }
 
     /**
@@ -120,6 +107,17 @@ public class MavenProjectAnalyzer {
                                 io.github.tourem.maven.descriptor.model.LicenseOptions licenseOptions,
                                 io.github.tourem.maven.descriptor.model.PropertyOptions propertyOptions,
                                 io.github.tourem.maven.descriptor.model.PluginOptions pluginOptions) {
+        this(depOptions, licenseOptions, propertyOptions, pluginOptions, null);
+    }
+
+    /**
+     * Constructor allowing all collection options plus analysis (parallelism) options to be provided by the plugin.
+     */
+    public MavenProjectAnalyzer(io.github.tourem.maven.descriptor.model.DependencyTreeOptions depOptions,
+                                io.github.tourem.maven.descriptor.model.LicenseOptions licenseOptions,
+                                io.github.tourem.maven.descriptor.model.PropertyOptions propertyOptions,
+                                io.github.tourem.maven.descriptor.model.PluginOptions pluginOptions,
+                                AnalysisOptions analysisOptions) {
         this.pathGenerator = new MavenRepositoryPathGenerator();
         this.springBootDetector = new SpringBootDetector();
         this.profileDetector = new SpringBootProfileDetector();
@@ -142,9 +140,58 @@ public class MavenProjectAnalyzer {
         this.licenseOptions = licenseOptions != null ? licenseOptions : io.github.tourem.maven.descriptor.model.LicenseOptions.builder().include(false).build();
         this.propertyOptions = propertyOptions != null ? propertyOptions : io.github.tourem.maven.descriptor.model.PropertyOptions.builder().include(false).build();
         this.pluginOptions = pluginOptions != null ? pluginOptions : io.github.tourem.maven.descriptor.model.PluginOptions.builder().include(false).build();
+        this.analysisOptions = analysisOptions != null ? analysisOptions : AnalysisOptions.builder().build();
         this.externalDependenciesDetector = new ExternalDependenciesDetector();
         this.testingInfoCollector = new TestingInfoCollector();
         this.buildMetricsCollector = new BuildMetricsCollector();
+        this.moduleCache = this.analysisOptions.isIncremental()
+                ? new IncrementalModuleCache(incrementalOptionsKey())
+                : null;
+        // Effective models can yield different results than raw POMs, and depend on profiles and
+        // -D overrides: keep separate fingerprints that hash the effective model itself
+        this.reactorModuleCache = this.analysisOptions.isIncremental()
+                ? new IncrementalModuleCache(incrementalOptionsKey() + "|reactor", true)
+                : null;
+    }
+
+    /**
+     * Versions resolved by Maven for each module's dependency graph, keyed by module
+     * groupId:artifactId. Used by license collection in preference to versions found in POMs.
+     */
+    public void setResolvedVersions(Map<String, ResolvedVersionIndex> resolvedVersionsByModule) {
+        this.resolvedVersions = resolvedVersionsByModule != null ? Map.copyOf(resolvedVersionsByModule) : Map.of();
+    }
+
+    /**
+     * Everything besides module files that influences a module's analysis result.
+     * Snapshots of system properties and environment are included when they are collected.
+     */
+    private String incrementalOptionsKey() {
+        StringBuilder key = new StringBuilder()
+                .append(dependencyTreeOptions).append('|')
+                .append(licenseOptions).append('|')
+                .append(propertyOptions).append('|')
+                .append(pluginOptions);
+        if (propertyOptions.isInclude() && propertyOptions.isIncludeSystemProperties()) {
+            key.append("|sys=").append(IncrementalModuleCache.snapshot(System.getProperties()));
+        }
+        if (propertyOptions.isInclude() && propertyOptions.isIncludeEnvironmentVariables()) {
+            key.append("|env=").append(IncrementalModuleCache.snapshot(System.getenv()));
+        }
+        return key.toString();
+    }
+
+    /**
+     * Whether the analysis reads inputs the module fingerprint cannot enumerate: a dependency
+     * graph resolved here from the local repository, or licenses of dependencies whose
+     * versions Maven did not resolve for the module. Such modules bypass the incremental cache.
+     */
+    private boolean readsUnfingerprintedInputs(ResolvedVersionIndex moduleVersions) {
+        int depth = dependencyTreeOptions.getDepth();
+        boolean localGraph = dependencyTreeOptions.isInclude() && dependencyTreeOptions.isResolveTransitive()
+                && !dependencyTreeOptions.isExcludeTransitive() && depth != 0 && depth != 1;
+        boolean unresolvedLicenses = licenseOptions.isInclude() && (moduleVersions == null || moduleVersions.isEmpty());
+        return localGraph || unresolvedLicenses;
     }
 
     /**
@@ -174,6 +221,20 @@ public class MavenProjectAnalyzer {
      * @return ProjectDescriptor containing all deployable modules
      */
     public ProjectDescriptor analyzeProject(Path projectRootPath) {
+        return analyzeProject(projectRootPath, null);
+    }
+
+    /**
+     * Analyze a Maven project, handing each deployable module to a listener as soon as it is
+     * analyzed instead of keeping it in the descriptor.
+     *
+     * @param projectRootPath Root directory of the Maven project
+     * @param listener receives the header and each module in reactor order; when null, modules
+     *                 are collected into the returned descriptor
+     * @return ProjectDescriptor with counters and build info; deployableModules is null when a
+     *         listener is given
+     */
+    public ProjectDescriptor analyzeProject(Path projectRootPath, ModuleListener listener) {
         log.info("Analyzing Maven project at: {}", projectRootPath);
 
         if (!Files.exists(projectRootPath) || !Files.isDirectory(projectRootPath)) {
@@ -186,111 +247,309 @@ public class MavenProjectAnalyzer {
         }
 
         try {
+            long startNanos = System.nanoTime();
+            PomModelCache.Stats pomStatsBefore = PomModelCache.shared().stats();
             Model rootModel = parsePom(rootPom);
-            List<DeployableModule> deployableModules = new ArrayList<>();
-            int totalModules = 0;
-
-            // Analyze root project
-            totalModules++;
-            DeployableModule rootModule = analyzeModule(rootModel, projectRootPath, projectRootPath, null);
-            if (rootModule != null) {
-                deployableModules.add(rootModule);
+
+            // Discover root + sub-modules in depth-first reactor order
+            List<ModuleTask> tasks = new ArrayList<>();
+            tasks.add(new ModuleTask(rootModel, projectRootPath, null));
+            discoverNestedModules(rootModel, projectRootPath, rootModel, tasks);
+
+            return analyzeTasks(projectRootPath, rootModel, tasks, moduleCache, listener, startNanos, pomStatsBefore);
+
+        } catch (Exception e) {
+            log.error("Error analyzing project: {}", e.getMessage(), e);
+            throw new RuntimeException("Failed to analyze Maven project", e);
+        }
+    }
+
+    /**
+     * Analyze a Maven project from the projects Maven already built for the reactor.
+     * No POM is read from disk and no module discovery happens: each module's effective model
+     * (inherited properties, managed versions and plugins already resolved) is analyzed as is.
+     *
+     * @param projectRootPath Root directory of the Maven project
+     * @param projects reactor projects (typically {@code MavenSession.getAllProjects()});
+     *                 projects outside projectRootPath are ignored
+     * @return ProjectDescriptor containing all deployable modules
+     */
+    public ProjectDescriptor analyzeReactor(Path projectRootPath, List<MavenProject> projects) {
+        return analyzeReactor(projectRootPath, projects, null);
+    }
+
+    /**
+     * Analyze the reactor's projects, handing each deployable module to a listener
+     * (see {@link #analyzeProject(Path, ModuleListener)}).
+     *
+     * @param projectRootPath Root directory of the Maven project
+     * @param projects reactor projects; one of them must be located at projectRootPath
+     * @param listener receives the header and each module in reactor order, or null
+     * @return ProjectDescriptor with counters and build info
+     */
+    public ProjectDescriptor analyzeReactor(Path projectRootPath, List<MavenProject> projects,
+                                            ModuleListener listener) {
+        log.info("Analyzing Maven reactor at: {} ({} projects)", projectRootPath, projects.size());
+
+        // Index reactor projects by directory
+        Map<Path, MavenProject> byDirectory = new LinkedHashMap<>();
+        for (MavenProject project : projects) {
+            if (project.getBasedir() != null) {
+                byDirectory.putIfAbsent(normalize(project.getBasedir().toPath()), project);
             }
+        }
+        MavenProject rootProject = byDirectory.get(normalize(projectRootPath));
+        if (rootProject == null) {
+            throw new IllegalArgumentException("No reactor project found at: " + projectRootPath);
+        }
 
-            // Analyze sub-modules
-            if (rootModel.getModules() != null && !rootModel.getModules().isEmpty()) {
-                for (String moduleName : rootModel.getModules()) {
-                    Path modulePath = projectRootPath.resolve(moduleName);
-                    File modulePom = modulePath.resolve("pom.xml").toFile();
-
-                    if (modulePom.exists()) {
-                        totalModules++;
-                        Model moduleModel = parsePom(modulePom);
-                        DeployableModule module = analyzeModule(moduleModel, modulePath, projectRootPath, rootModel);
-                        if (module != null) {
-                            deployableModules.add(module);
-                        }
-
-                        // Recursively analyze nested modules
-                        totalModules += analyzeNestedModules(moduleModel, modulePath, projectRootPath, deployableModules, rootModel);
-                    }
+        try {
+            long startNanos = System.nanoTime();
+            PomModelCache.Stats pomStatsBefore = PomModelCache.shared().stats();
+            Model rootModel = rootProject.getModel();
+
+            // Same depth-first order as the disk walk, following <modules> of the effective models
+            List<ModuleTask> tasks = new ArrayList<>();
+            Set<Path> visited = new HashSet<>();
+            visited.add(normalize(projectRootPath));
+            tasks.add(new ModuleTask(rootModel, projectRootPath, null));
+            discoverReactorModules(rootModel, projectRootPath, rootModel, byDirectory, visited, tasks);
+
+            // Reactor projects not reachable through <modules> (e.g. added with -f/-pl tricks)
+            Path normalizedRoot = normalize(projectRootPath);
+            byDirectory.forEach((dir, project) -> {
+                if (dir.startsWith(normalizedRoot) && visited.add(dir)) {
+                    tasks.add(new ModuleTask(project.getModel(), projectRootPath.resolve(normalizedRoot.relativize(dir)), rootModel));
                 }
-            }
+            });
+
+            return analyzeTasks(projectRootPath, rootModel, tasks, reactorModuleCache, listener, startNanos, pomStatsBefore);
+
+        } catch (Exception e) {
+            log.error("Error analyzing project: {}", e.getMessage(), e);
+            throw new RuntimeException("Failed to analyze Maven project", e);
+        }
+    }
 
-            // Collect build info
-            io.github.tourem.maven.descriptor.model.BuildInfo buildInfo = 
-                collectBuildInfo(rootModel, projectRootPath);
-
-            // Extract Maven repository URL from distributionManagement
-            String mavenRepositoryUrl = extractMavenRepositoryUrl(rootModel);
-
-            // Enrich modules with repository URLs
-            if (mavenRepositoryUrl != null) {
-                deployableModules.forEach(module -> {
-                    if (module.getRepositoryPath() != null) {
-                        module.setRepositoryUrl(mavenRepositoryUrl + "/" + module.getRepositoryPath());
-                    }
-                    if (module.getAssemblyArtifacts() != null) {
-                        List<AssemblyArtifact> enrichedAssemblies = module.getAssemblyArtifacts().stream()
-                            .map(assembly -> AssemblyArtifact.builder()
-                                .assemblyId(assembly.assemblyId())
-                                .format(assembly.format())
-                                .repositoryPath(assembly.repositoryPath())
-                                .repositoryUrl(mavenRepositoryUrl + "/" + assembly.repositoryPath())
-                                .build())
-                            .collect(Collectors.toList());
-                        module.setAssemblyArtifacts(enrichedAssemblies);
-                    }
-                });
+    /**
+     * Recursively collect reactor modules in depth-first order, looking projects up by directory.
+     */
+    private void discoverReactorModules(Model parentModel, Path parentPath, Model rootModel,
+                                        Map<Path, MavenProject> byDirectory, Set<Path> visited,
+                                        List<ModuleTask> tasks) {
+        if (parentModel.getModules() == null) {
+            return;
+        }
+        for (String moduleName : parentModel.getModules()) {
+            Path modulePath = parentPath.resolve(moduleName);
+            Path key = normalize(modulePath);
+            MavenProject project = byDirectory.get(key);
+            if (project == null || !visited.add(key)) {
+                continue;
             }
+            tasks.add(new ModuleTask(project.getModel(), modulePath, rootModel));
+            discoverReactorModules(project.getModel(), modulePath, rootModel, byDirectory, visited, tasks);
+        }
+    }
 
-            return ProjectDescriptor.builder()
+    private static Path normalize(Path path) {
+        return path.toAbsolutePath().normalize();
+    }
+
+    /**
+     * Analyze discovered modules and assemble the descriptor.
+     */
+    private ProjectDescriptor analyzeTasks(Path projectRootPath, Model rootModel, List<ModuleTask> tasks,
+                                           IncrementalModuleCache cache, ModuleListener listener,
+                                           long startNanos, PomModelCache.Stats pomStatsBefore) throws Exception {
+        AnalysisProfiler profiler = new AnalysisProfiler(analysisOptions.isProfile());
+        LocalDateTime generatedAt = LocalDateTime.now();
+        int totalModules = tasks.size();
+
+        // Extract Maven repository URL from distributionManagement
+        String mavenRepositoryUrl = extractMavenRepositoryUrl(rootModel);
+
+        if (listener != null) {
+            listener.onHeader(ProjectDescriptor.builder()
                     .projectGroupId(MavenModelResolver.resolveGroupId(rootModel))
                     .projectArtifactId(rootModel.getArtifactId())
                     .projectVersion(MavenModelResolver.resolveVersion(rootModel))
                     .projectName(rootModel.getName())
                     .projectDescription(rootModel.getDescription())
-                    .generatedAt(LocalDateTime.now())
-                    .deployableModules(deployableModules)
-                    .totalModules(totalModules)
-                    .deployableModulesCount(deployableModules.size())
-                    .buildInfo(buildInfo)
-                    .mavenRepositoryUrl(mavenRepositoryUrl)
-                    .build();
+                    .generatedAt(generatedAt)
+                    .build());
+        }
 
-        } catch (Exception e) {
-            log.error("Error analyzing project: {}", e.getMessage(), e);
-            throw new RuntimeException("Failed to analyze Maven project", e);
+        // Licenses of dependencies shared by several modules are resolved once per analysis,
+        // and all modules prefetch on the cache's single pool
+        LicenseCache licenseCache = licenseOptions.isInclude() ? new LicenseCache() : null;
+        LicenseCatalog licenseCatalog = licenseOptions.isInclude() && licenseOptions.isCatalog() ? new LicenseCatalog() : null;
+
+        // Analyze modules (serially or concurrently), keeping discovery order
+        List<DeployableModule> deployableModules = listener == null ? new ArrayList<>() : null;
+        List<String> moduleOrder = new ArrayList<>();
+        try {
+            analyzeModules(tasks, projectRootPath, profiler, cache, licenseCache, module -> {
+                // Enrich modules with repository URLs
+                enrichRepositoryUrls(module, mavenRepositoryUrl);
+                if (licenseCatalog != null) {
+                    licenseCatalog.reference(module);
+                }
+                moduleOrder.add(module.getGroupId() + ":" + module.getArtifactId());
+                if (listener != null) {
+                    listener.onModule(module);
+                } else {
+                    deployableModules.add(module);
+                }
+            });
+        } finally {
+            if (licenseCache != null) {
+                licenseCache.close();
+            }
+        }
+
+        // Collect build info
+        io.github.tourem.maven.descriptor.model.BuildInfo buildInfo =
+            collectBuildInfo(rootModel, projectRootPath);
+
+        PomModelCache.Stats pomStats = PomModelCache.shared().stats();
+        log.debug("POM model cache: {}", pomStats);
+
+        io.github.tourem.maven.descriptor.model.GenerationStats generationStats = null;
+        if (profiler.isEnabled()) {
+            generationStats = profiler.toStats(moduleOrder, System.nanoTime() - startNanos,
+                    Math.min(analysisOptions.effectiveParallelism(), totalModules),
+                    pomStats.hits() - pomStatsBefore.hits(),
+                    pomStats.misses() - pomStatsBefore.misses());
         }
+
+        return ProjectDescriptor.builder()
+                .projectGroupId(MavenModelResolver.resolveGroupId(rootModel))
+                .projectArtifactId(rootModel.getArtifactId())
+                .projectVersion(MavenModelResolver.resolveVersion(rootModel))
+                .projectName(rootModel.getName())
+                .projectDescription(rootModel.getDescription())
+                .generatedAt(generatedAt)
+                .deployableModules(deployableModules)
+                .totalModules(totalModules)
+                .deployableModulesCount(moduleOrder.size())
+                .buildInfo(buildInfo)
+                .mavenRepositoryUrl(mavenRepositoryUrl)
+                .generationStats(generationStats)
+                .licenseCatalog(licenseCatalog != null ? licenseCatalog.entries() : null)
+                .build();
     }
 
     /**
-     * Recursively analyze nested modules.
+     * Recursively discover nested modules, appending them in depth-first order.
      */
-    private int analyzeNestedModules(Model parentModel, Path parentPath, Path projectRoot,
-                                     List<DeployableModule> deployableModules, Model rootModel) throws Exception {
-        int count = 0;
-
+    private void discoverNestedModules(Model parentModel, Path parentPath, Model rootModel,
+                                       List<ModuleTask> tasks) throws Exception {
         if (parentModel.getModules() != null && !parentModel.getModules().isEmpty()) {
             for (String moduleName : parentModel.getModules()) {
                 Path modulePath = parentPath.resolve(moduleName);
                 File modulePom = modulePath.resolve("pom.xml").toFile();
 
                 if (modulePom.exists()) {
-                    count++;
                     Model moduleModel = parsePom(modulePom);
-                    DeployableModule module = analyzeModule(moduleModel, modulePath, projectRoot, rootModel);
-                    if (module != null) {
-                        deployableModules.add(module);
-                    }
+                    tasks.add(new ModuleTask(moduleModel, modulePath, rootModel));
 
                     // Continue recursion
-                    count += analyzeNestedModules(moduleModel, modulePath, projectRoot, deployableModules, rootModel);
+                    discoverNestedModules(moduleModel, modulePath, rootModel, tasks);
                 }
             }
         }
+    }
 
-        return count;
+    /**
+     * Analyze the discovered modules and hand the deployable ones to the sink in discovery order.
+     * When parallelism is greater than 1, modules are analyzed concurrently on a bounded
+     * fork-join pool; results are still consumed by index so the output is deterministic, and
+     * each result is released as soon as the sink has consumed it. At most twice the parallelism
+     * is submitted ahead of the sink, so completed modules waiting for a slow predecessor do not
+     * pile up with the reactor size.
+     */
+    private void analyzeModules(List<ModuleTask> tasks, Path projectRoot, AnalysisProfiler profiler,
+                                IncrementalModuleCache cache, LicenseCache licenseCache, ModuleSink sink) throws Exception {
+        int parallelism = Math.min(analysisOptions.effectiveParallelism(), tasks.size());
+
+        if (parallelism <= 1) {
+            for (ModuleTask task : tasks) {
+                DeployableModule module = analyzeModule(task.model(), task.path(), projectRoot, task.parentModel(), profiler, cache, licenseCache);
+                if (module != null) {
+                    sink.accept(module);
+                }
+            }
+            return;
+        }
+
+        log.info("Analyzing {} modules with parallelism {}", tasks.size(), parallelism);
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            int window = parallelism * 2;
+            java.util.ArrayDeque<Future<DeployableModule>> inFlight = new java.util.ArrayDeque<>(window);
+            int next = 0;
+            while (next < tasks.size() || !inFlight.isEmpty()) {
+                while (next < tasks.size() && inFlight.size() < window) {
+                    ModuleTask task = tasks.get(next++);
+                    inFlight.add(pool.submit(() -> analyzeModule(task.model(), task.path(), projectRoot, task.parentModel(), profiler, cache, licenseCache)));
+                }
+                DeployableModule module = getResult(inFlight.poll());
+                if (module != null) {
+                    sink.accept(module);
+                }
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Prefix repository paths of a module and its assemblies with the repository URL.
+     */
+    private void enrichRepositoryUrls(DeployableModule module, String mavenRepositoryUrl) {
+        if (mavenRepositoryUrl == null) {
+            return;
+        }
+        if (module.getRepositoryPath() != null) {
+            module.setRepositoryUrl(mavenRepositoryUrl + "/" + module.getRepositoryPath());
+        }
+        if (module.getAssemblyArtifacts() != null) {
+            List<AssemblyArtifact> enrichedAssemblies = module.getAssemblyArtifacts().stream()
+                .map(assembly -> AssemblyArtifact.builder()
+                    .assemblyId(assembly.assemblyId())
+                    .format(assembly.format())
+                    .repositoryPath(assembly.repositoryPath())
+                    .repositoryUrl(mavenRepositoryUrl + "/" + assembly.repositoryPath())
+                    .build())
+                .collect(Collectors.toList());
+            module.setAssemblyArtifacts(enrichedAssemblies);
+        }
+    }
+
+    private static DeployableModule getResult(Future<DeployableModule> future) throws Exception {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception ex) {
+                throw ex;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * A module discovered during the reactor walk, waiting to be analyzed.
+     */
+    private record ModuleTask(Model model, Path path, Model parentModel) {}
+
+    /**
+     * Consumer of analyzed deployable modules.
+     */
+    @FunctionalInterface
+    private interface ModuleSink {
+        void accept(DeployableModule module) throws Exception;
     }
 
     /**
@@ -300,8 +559,13 @@ public class MavenProjectAnalyzer {
      * @param modulePath the path to the module
      * @param projectRoot the root path of the project
      * @param parentModel the parent Maven model (can be null for root module)
+     * @param profiler records the cost of each detector (no-op unless profiling is enabled)
+     * @param moduleCache incremental cache, or null when incremental mode is off
+     * @param licenseCache license memo shared by the modules of this analysis, or null
      */
-    private DeployableModule analyzeModule(Model model, Path modulePath, Path projectRoot, Model parentModel) {
+    private DeployableModule analyzeModule(Model model, Path modulePath, Path projectRoot, Model parentModel,
+                                           AnalysisProfiler profiler, IncrementalModuleCache moduleCache,
+                                           LicenseCache licenseCache) {
         String packaging = model.getPackaging() != null ? model.getPackaging() : "jar";
         PackagingType packagingType = PackagingType.fromString(packaging);
 
@@ -313,12 +577,33 @@ public class MavenProjectAnalyzer {
             return null;
         }
 
+        AnalysisProfiler.ModuleTimer timer = profiler.startModule();
         String groupId = MavenModelResolver.resolveGroupId(model);
         String artifactId = model.getArtifactId();
         String version = MavenModelResolver.resolveVersion(model);
 
+        // Incremental mode: reuse the previous result when no input changed
+        String fingerprint = null;
+        ResolvedVersionIndex moduleVersions = resolvedVersions.get(groupId + ":" + artifactId);
+        if (moduleCache != null && !readsUnfingerprintedInputs(moduleVersions)) {
+            fingerprint = timer.measure("IncrementalModuleCache", () -> moduleCache.fingerprint(modulePath, projectRoot,
+                    model, TransitiveDependencyResolver.defaultLocalRepository(), moduleVersions));
+            String moduleFingerprint = fingerprint;
+            DeployableModule cached = timer.measure("IncrementalModuleCache", () -> moduleCache.load(modulePath, moduleFingerprint));
+            if (cached != null) {
+                log.debug("Module {} unchanged, reusing cached analysis", model.getArtifactId());
+                cached.setBuildMetrics(timer.measure("BuildMetricsCollector",
+                        () -> buildMetricsCollector.collect(model, modulePath, java.time.LocalDateTime.now())));
+                timer.finish(groupId + ":" + artifactId);
+                return cached;
+            }
+        }
+
+        // Single listing of src/main/resources, shared by the configuration-reading detectors
+        ModuleResourceIndex resources = timer.measure("ModuleResourceIndex", () -> ModuleResourceIndex.of(modulePath));
+
         // Detect Spring Boot executable
-        boolean isSpringBoot = springBootDetector.isSpringBootExecutable(model);
+        boolean isSpringBoot = timer.measure("SpringBootDetector", () -> springBootDetector.isSpringBootExecutable(model));
         String finalName = determineFinalName(model, artifactId, version, isSpringBoot);
         String classifier = determineClassifier(model, isSpringBoot);
 
@@ -335,72 +620,76 @@ public class MavenProjectAnalyzer {
         // Detect Spring Boot profiles (only for Spring Boot executables)
         List<String> profiles = null;
         if (isSpringBoot) {
-            profiles = profileDetector.detectProfiles(modulePath, model, projectRoot);
+            profiles = timer.measure("SpringBootProfileDetector", () -> profileDetector.detectProfiles(resources, model, projectRoot));
             if (profiles.isEmpty()) {
                 profiles = null; // Don't include empty list in JSON
             }
         }
 
         // Detect assembly artifacts
-        List<AssemblyArtifact> assemblyArtifacts = assemblyDetector.detectAssemblies(
-                modulePath, model, groupId, artifactId, version);
+        List<AssemblyArtifact> assemblyArtifacts = timer.measure("MavenAssemblyDetector",
+                () -> assemblyDetector.detectAssemblies(modulePath, model, groupId, artifactId, version));
         if (assemblyArtifacts.isEmpty()) {
             assemblyArtifacts = null; // Don't include empty list in JSON
         }
 
         // Detect deployment metadata
-        String javaVersion = metadataDetector.detectJavaVersion(model, parentModel);
-        String mainClass = isSpringBoot ? metadataDetector.detectMainClass(model) : null;
-        Boolean actuatorEnabled = isSpringBoot ? metadataDetector.detectActuatorEnabled(model) : null;
+        String javaVersion = timer.measure("DeploymentMetadataDetector", () -> metadataDetector.detectJavaVersion(model, parentModel));
+        String mainClass = isSpringBoot ? timer.measure("DeploymentMetadataDetector", () -> metadataDetector.detectMainClass(model)) : null;
+        Boolean actuatorEnabled = isSpringBoot ? timer.measure("DeploymentMetadataDetector", () -> metadataDetector.detectActuatorEnabled(model)) : null;
 
         // Detect environment-specific configurations
         List<EnvironmentConfig> environments = null;
         if (isSpringBoot && profiles != null && !profiles.isEmpty()) {
-            environments = environmentConfigDetector.detectEnvironmentConfigs(modulePath, profiles, actuatorEnabled);
+            List<String> detectedProfiles = profiles;
+            environments = timer.measure("EnvironmentConfigDetector",
+                    () -> environmentConfigDetector.detectEnvironmentConfigs(resources, detectedProfiles, actuatorEnabled));
             if (environments != null && environments.isEmpty()) {
                 environments = null;
             }
         }
 
-        List<String> localDeps = metadataDetector.detectLocalDependencies(model,
-                MavenModelResolver.resolveGroupId(model));
+        List<String> localDeps = timer.measure("DeploymentMetadataDetector",
+                () -> metadataDetector.detectLocalDependencies(model, MavenModelResolver.resolveGroupId(model)));
         if (localDeps != null && localDeps.isEmpty()) {
             localDeps = null;
         }
 
         // Detect executable plugins
-        List<String> buildPlugins = executablePluginDetector.detectExecutablePlugins(model);
+        List<String> buildPlugins = timer.measure("ExecutablePluginDetector", () -> executablePluginDetector.detectExecutablePlugins(model));
         if (buildPlugins.isEmpty()) {
             buildPlugins = null; // Don't include empty list in JSON
         }
 
         // Enhanced executable detection (NEW)
-        ExecutableInfo executableInfo = enhancedExecutableDetector.detectExecutable(model, modulePath);
+        ExecutableInfo executableInfo = timer.measure("EnhancedExecutableDetector", () -> enhancedExecutableDetector.detectExecutable(model, resources));
         // Only include if executable or has important information
         if (!executableInfo.isExecutable() && executableInfo.getType() == null) {
             executableInfo = null;
         }
 
         // Container image detection (maintained plugins only)
-        var containerInfo = dockerImageDetector.detect(model, modulePath);
+        var containerInfo = timer.measure("DockerImageDetector", () -> dockerImageDetector.detect(model, modulePath));
 
         // Collect optional metadata using centralized collector
-        io.github.tourem.maven.descriptor.model.DependencyTreeInfo dependencyTreeInfo = 
-            metadataCollector.collectDependencyTree(model, modulePath, dependencyTreeOptions, groupId, artifactId);
-        io.github.tourem.maven.descriptor.model.LicenseInfo licenseInfo = 
-            metadataCollector.collectLicenses(model, modulePath, licenseOptions, groupId, artifactId);
-        io.github.tourem.maven.descriptor.model.BuildProperties propertyInfo = 
-            metadataCollector.collectProperties(model, modulePath, propertyOptions, groupId, artifactId);
-        io.github.tourem.maven.descriptor.model.PluginInfo pluginInfo = 
-            metadataCollector.collectPlugins(model, modulePath, pluginOptions, groupId, artifactId);
+        io.github.tourem.maven.descriptor.model.DependencyTreeInfo dependencyTreeInfo = timer.measure("DependencyTreeCollector",
+            () -> metadataCollector.collectDependencyTree(model, modulePath, dependencyTreeOptions, groupId, artifactId));
+        io.github.tourem.maven.descriptor.model.LicenseInfo licenseInfo = timer.measure("LicenseCollector",
+            () -> metadataCollector.collectLicenses(model, modulePath, licenseOptions,
+                    resolvedVersions.getOrDefault(groupId + ":" + artifactId, ResolvedVersionIndex.EMPTY), licenseCache,
+                    groupId, artifactId));
+        io.github.tourem.maven.descriptor.model.BuildProperties propertyInfo = timer.measure("PropertyCollector",
+            () -> metadataCollector.collectProperties(model, modulePath, propertyOptions, groupId, artifactId));
+        io.github.tourem.maven.descriptor.model.PluginInfo pluginInfo = timer.measure("PluginCollector",
+            () -> metadataCollector.collectPlugins(model, modulePath, pluginOptions, groupId, artifactId));
 
         // Collect new metadata: external dependencies, testing info, and build metrics
-        io.github.tourem.maven.descriptor.model.ExternalDependencies externalDeps = 
-            externalDependenciesDetector.detect(model, modulePath);
-        io.github.tourem.maven.descriptor.model.TestingInfo testingInfo = 
-            testingInfoCollector.collect(model, modulePath);
-        io.github.tourem.maven.descriptor.model.BuildMetrics buildMetrics = 
-            buildMetricsCollector.collect(model, modulePath, java.time.LocalDateTime.now());
+        io.github.tourem.maven.descriptor.model.ExternalDependencies externalDeps = timer.measure("ExternalDependenciesDetector",
+            () -> externalDependenciesDetector.detect(model, modulePath));
+        io.github.tourem.maven.descriptor.model.TestingInfo testingInfo = timer.measure("TestingInfoCollector",
+            () -> testingInfoCollector.collect(model, modulePath));
+        io.github.tourem.maven.descriptor.model.BuildMetrics buildMetrics = timer.measure("BuildMetricsCollector",
+            () -> buildMetricsCollector.collect(model, modulePath, java.time.LocalDateTime.now()));
 
         DeployableModule.DeployableModuleBuilder builder = DeployableModule.builder()
                 .groupId(groupId)
@@ -430,24 +719,29 @@ public class MavenProjectAnalyzer {
 
         // Apply framework detectors via SPI
         for (FrameworkDetector detector : frameworkDetectors) {
-            if (detector.isApplicable(model, modulePath)) {
-                log.debug("Applying {} detector to module {}",
-                         detector.getFrameworkName(), artifactId);
-                detector.enrichModule(builder, model, modulePath, projectRoot);
-            }
+            timer.run("FrameworkDetector:" + detector.getFrameworkName(), () -> {
+                if (detector.isApplicable(model, modulePath)) {
+                    log.debug("Applying {} detector to module {}",
+                             detector.getFrameworkName(), artifactId);
+                    detector.enrichModule(builder, model, resources, projectRoot);
+                }
+            });
         }
 
-        return builder.build();
+        DeployableModule module = builder.build();
+        if (moduleCache != null && fingerprint != null) {
+            String moduleFingerprint = fingerprint;
+            timer.run("IncrementalModuleCache", () -> moduleCache.store(modulePath, moduleFingerprint, module));
+        }
+        timer.finish(groupId + ":" + artifactId);
+        return module;
     }
 
     /**
      * Parse a POM file into a Maven Model.
      */
     private Model parsePom(File pomFile) throws Exception {
-        MavenXpp3Reader reader = new MavenXpp3Reader();
-        try (FileReader fileReader = new FileReader(pomFile)) {
-            return reader.read(fileReader);
-        }
+        return PomModelCache.shared().read(pomFile.toPath());
     }
 
     /**
@@ -0,0 +1,29 @@
+package io.github.tourem.maven.descriptor.service;
+
+import io.github.tourem.maven.descriptor.model.DeployableModule;
+import io.github.tourem.maven.descriptor.model.ProjectDescriptor;
+
+import java.io.IOException;
+
+/**
+ * Receives the descriptor header and each deployable module as soon as it is analyzed,
+ * so callers can stream the descriptor instead of keeping every module in memory.
+ *
+ * <p>Modules are delivered in reactor order, from the calling thread, even when modules are
+ * analyzed in parallel.</p>
+ *
+ * @author tourem
+ */
+public interface ModuleListener {
+
+    /**
+     * Called once, before any module, with the project coordinates and generation timestamp.
+     * Module lists, counters and build info are not set yet.
+     */
+    void onHeader(ProjectDescriptor header) throws IOException;
+
+    /**
+     * Called for each deployable module, in reactor order.
+     */
+    void onModule(DeployableModule module) throws IOException;
+}
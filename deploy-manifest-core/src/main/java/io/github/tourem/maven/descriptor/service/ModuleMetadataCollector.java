@@ -1,6 +1,7 @@
 package io.github.tourem.maven.descriptor.service;
 
 import io.github.tourem.maven.descriptor.model.*;
+import io.github.tourem.maven.descriptor.util.ResolvedVersionIndex;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.maven.model.Model;
 
@@ -63,13 +64,28 @@ public class ModuleMetadataCollector {
             LicenseOptions options,
             String groupId,
             String artifactId) {
+        return collectLicenses(model, modulePath, options, ResolvedVersionIndex.EMPTY, null, groupId, artifactId);
+    }
+
+    /**
+     * Collect license information if enabled, using the versions Maven resolved for the module
+     * and the reactor-scoped license cache (may be null).
+     */
+    public LicenseInfo collectLicenses(
+            Model model,
+            Path modulePath,
+            LicenseOptions options,
+            ResolvedVersionIndex resolvedVersions,
+            LicenseCache licenseCache,
+            String groupId,
+            String artifactId) {
         
         if (options == null || !options.isInclude()) {
             return null;
         }
 
         try {
-            return licenseCollector.collect(model, modulePath, options);
+            return licenseCollector.collect(model, modulePath, options, resolvedVersions, licenseCache);
         } catch (Exception e) {
             log.debug("License collection failed for {}:{} - {}", 
                      groupId, artifactId, e.getMessage());
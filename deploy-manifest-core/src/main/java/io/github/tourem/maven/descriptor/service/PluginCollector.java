@@ -1,6 +1,9 @@
 package io.github.tourem.maven.descriptor.service;
 
 import io.github.tourem.maven.descriptor.model.*;
+import io.github.tourem.maven.descriptor.util.HttpTransport;
+import io.github.tourem.maven.descriptor.util.LocalRepositoryMetadata;
+import io.github.tourem.maven.descriptor.util.MavenMetadataCache;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.maven.model.Build;
 import org.apache.maven.model.Model;
@@ -8,11 +11,6 @@ import org.apache.maven.model.Plugin;
 import org.apache.maven.model.PluginExecution;
 import org.codehaus.plexus.util.xml.Xpp3Dom;
 
-import java.net.URI;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.time.Duration;
 import java.util.*;
@@ -25,6 +23,20 @@ import java.util.stream.Collectors;
 @Slf4j
 public class PluginCollector {
 
+    private final MavenMetadataCache metadata;
+
+    public PluginCollector() {
+        this(MavenMetadataCache.shared());
+    }
+
+    public PluginCollector(HttpTransport http) {
+        this(MavenMetadataCache.inMemory(http));
+    }
+
+    public PluginCollector(MavenMetadataCache metadata) {
+        this.metadata = metadata;
+    }
+
     public PluginInfo collect(Model model, Path modulePath, PluginOptions options) {
         if (model == null) return null;
         Build build = model.getBuild();
@@ -121,7 +133,7 @@ public class PluginCollector {
             // Optional: check updates
             if (options != null && options.isCheckPluginUpdates() && g != null && a != null && v != null) {
                 try {
-                    String latest = fetchLatestReleaseVersion(g, a, options.getUpdateCheckTimeoutMillis());
+                    String latest = fetchLatestReleaseVersion(g, a, options);
                     if (latest != null && !latest.equals(v)) {
                         int behind = nullSafeCompareOrdinal(v, latest) ? 1 : 1; // best-effort
                         builder.outdated(PluginOutdatedInfo.builder().current(v).latest(latest).behind(behind).build());
@@ -222,34 +234,21 @@ public class PluginCollector {
         }
     }
 
-    private String fetchLatestReleaseVersion(String groupId, String artifactId, int timeoutMillis) throws Exception {
-        String path = groupId.replace('.', '/') + "/" + artifactId + "/maven-metadata.xml";
-        String url = "https://repo1.maven.org/maven2/" + path;
-        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofMillis(timeoutMillis)).build();
-        HttpRequest request = HttpRequest.newBuilder()
-                .uri(URI.create(url))
-                .timeout(Duration.ofMillis(timeoutMillis))
-                .header("User-Agent", "deploy-manifest-plugin/1.0")
-                .GET()
-                .build();
-        HttpResponse<byte[]> resp = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
-        if (resp.statusCode() >= 200 && resp.statusCode() < 300) {
-            String xml = new String(resp.body(), StandardCharsets.UTF_8);
-            // very small parser: try <release> first, fallback to <latest>
-            String release = extractTag(xml, "release");
-            if (release == null || release.isBlank()) release = extractTag(xml, "latest");
-            return (release == null || release.isBlank()) ? null : release.trim();
-        }
-        return null;
+    private String fetchLatestReleaseVersion(String groupId, String artifactId, PluginOptions options) {
+        // offline builds only know what the local repository holds
+        MavenMetadataCache.Metadata meta = options.isOffline()
+                ? localRepository(options).read(groupId, artifactId)
+                : metadata.fetch("https://repo1.maven.org/maven2", groupId, artifactId,
+                        Duration.ofMillis(options.getUpdateCheckTimeoutMillis()));
+        if (meta == null) return null;
+        // try <release> first, fallback to <latest>
+        return meta.release() != null ? meta.release() : meta.latest();
     }
 
-    private String extractTag(String xml, String tag) {
-        String start = "<" + tag + ">";
-        String end = "</" + tag + ">";
-        int i = xml.indexOf(start);
-        int j = xml.indexOf(end);
-        if (i >= 0 && j > i) return xml.substring(i + start.length(), j);
-        return null;
+    private static LocalRepositoryMetadata localRepository(PluginOptions options) {
+        return options.getLocalRepository() != null
+                ? new LocalRepositoryMetadata(options.getLocalRepository())
+                : LocalRepositoryMetadata.forCurrentBuild();
     }
 
     // very naive comparator: return true if likely behind
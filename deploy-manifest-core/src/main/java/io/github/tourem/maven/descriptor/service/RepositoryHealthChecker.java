@@ -1,6 +1,10 @@
 package io.github.tourem.maven.descriptor.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.github.tourem.maven.descriptor.model.analysis.RepositoryHealth;
+import io.github.tourem.maven.descriptor.util.HttpTransport;
+import io.github.tourem.maven.descriptor.util.MavenMetadataCache;
 import lombok.extern.slf4j.Slf4j;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
@@ -9,8 +13,7 @@ import org.w3c.dom.NodeList;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import java.io.ByteArrayInputStream;
-import java.net.URI;
-import java.net.http.HttpClient;
+import java.io.IOException;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
@@ -21,12 +24,23 @@ import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Service to check the health of dependency repositories.
  * Analyzes Maven Central metadata and GitHub repository information.
  *
+ * <p>GitHub information comes from the REST API (three calls per repository), unless it was
+ * fetched beforehand with {@link #prefetchGitHubInfo(Collection)}, which queries the GraphQL
+ * API for up to {@value #GRAPHQL_BATCH_SIZE} repositories per request (requires a token).
+ * Repositories the batch could not cover fall back to REST.</p>
+ *
  * @author tourem
  */
 @Slf4j
@@ -35,6 +49,11 @@ public class RepositoryHealthChecker {
     private static final int DEFAULT_TIMEOUT_MS = 5000;
     private static final String MAVEN_CENTRAL = "https://repo1.maven.org/maven2";
     private static final String GITHUB_API = "https://api.github.com";
+    static final int GRAPHQL_BATCH_SIZE = 50;
+    private static final ObjectMapper JSON = new ObjectMapper();
+    private static final String GRAPHQL_FIELDS = "fragment health on Repository { stargazerCount forkCount isArchived "
+            + "licenseInfo { spdxId } issues(states: OPEN) { totalCount } pullRequests(states: OPEN) { totalCount } "
+            + "defaultBranchRef { target { ... on Commit { committedDate } } } }";
 
     // Thresholds for health assessment
     private static final long DAYS_WARNING_THRESHOLD = 730;  // 2 years
@@ -44,10 +63,38 @@ public class RepositoryHealthChecker {
 
     private final int timeoutMs;
     private final String githubToken; // Optional GitHub token for higher rate limits
+    private final HttpTransport http;
+    private final MavenMetadataCache metadata;
+    private final String githubApi;
+    private final boolean githubGraphql;
+    private final Map<String, Optional<String>> scmUrls = new ConcurrentHashMap<>();
+    private final Map<String, Optional<Integer>> contributorCounts = new ConcurrentHashMap<>();
+    private final Map<String, Optional<GitHubInfo>> githubInfos = new ConcurrentHashMap<>();
 
-    public RepositoryHealthChecker(int timeoutMs, String githubToken) {
+    /**
+     * @param githubApi     GitHub API base URL (REST under it, GraphQL at {@code /graphql})
+     * @param githubGraphql allow {@link #prefetchGitHubInfo(Collection)} to use the GraphQL API
+     */
+    public RepositoryHealthChecker(int timeoutMs, String githubToken, MavenMetadataCache metadata,
+                                   String githubApi, boolean githubGraphql) {
         this.timeoutMs = timeoutMs > 0 ? timeoutMs : DEFAULT_TIMEOUT_MS;
         this.githubToken = githubToken;
+        this.http = metadata.transport();
+        this.metadata = metadata;
+        this.githubApi = githubApi != null && !githubApi.isBlank() ? githubApi.replaceAll("/+$", "") : GITHUB_API;
+        this.githubGraphql = githubGraphql;
+    }
+
+    public RepositoryHealthChecker(int timeoutMs, String githubToken, MavenMetadataCache metadata) {
+        this(timeoutMs, githubToken, metadata, GITHUB_API, true);
+    }
+
+    public RepositoryHealthChecker(int timeoutMs, String githubToken, HttpTransport http) {
+        this(timeoutMs, githubToken, MavenMetadataCache.inMemory(http));
+    }
+
+    public RepositoryHealthChecker(int timeoutMs, String githubToken) {
+        this(timeoutMs, githubToken, MavenMetadataCache.shared());
     }
 
     public RepositoryHealthChecker(int timeoutMs) {
@@ -92,8 +139,8 @@ public class RepositoryHealthChecker {
                     }
                 }
 
-                // Try to get POM to find SCM URL
-                String scmUrl = fetchScmUrl(groupId, artifactId, mavenMeta.latestVersion);
+                // Try to get POM to find SCM URL (network only, skipped offline)
+                String scmUrl = scmUrl(groupId, artifactId, mavenMeta.latestVersion);
                 if (scmUrl != null) {
                     // Clean up URL before storing
                     String cleanedUrl = scmUrl.replaceAll("github\\.com:", "github.com/");
@@ -201,66 +248,18 @@ public class RepositoryHealthChecker {
     }
 
     private MavenMetadata fetchMavenMetadata(String groupId, String artifactId) {
-        try {
-            String path = groupId.replace('.', '/') + "/" + artifactId + "/maven-metadata.xml";
-            String url = MAVEN_CENTRAL + "/" + path;
-
-            HttpClient client = HttpClient.newBuilder()
-                    .connectTimeout(Duration.ofMillis(timeoutMs))
-                    .build();
-
-            HttpRequest request = HttpRequest.newBuilder()
-                    .uri(URI.create(url))
-                    .timeout(Duration.ofMillis(timeoutMs))
-                    .header("User-Agent", "deploy-manifest-plugin/2.5.0")
-                    .GET()
-                    .build();
-
-            HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
-
-            if (response.statusCode() >= 200 && response.statusCode() < 300) {
-                return parseMavenMetadata(response.body());
-            }
-        } catch (Exception e) {
-            log.debug("Failed to fetch Maven metadata for {}:{}: {}", groupId, artifactId, e.getMessage());
+        MavenMetadataCache.Metadata parsed = metadata.fetch(MAVEN_CENTRAL, groupId, artifactId, Duration.ofMillis(timeoutMs));
+        if (parsed == null) {
+            return null;
         }
-        return null;
-    }
-
-    private MavenMetadata parseMavenMetadata(byte[] xmlBytes) throws Exception {
-        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-        factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
-        factory.setFeature("http://xml.org/sax/features/external-general-entities", false);
-        factory.setFeature("http://xml.org/sax/features/external-parameter-entities", false);
-
-        DocumentBuilder docBuilder = factory.newDocumentBuilder();
-        Document doc = docBuilder.parse(new ByteArrayInputStream(xmlBytes));
 
         MavenMetadata meta = new MavenMetadata();
-
-        // Get latest version
-        NodeList latestNodes = doc.getElementsByTagName("latest");
-        if (latestNodes.getLength() > 0) {
-            meta.latestVersion = latestNodes.item(0).getTextContent().trim();
-        } else {
-            // Fallback to release
-            NodeList releaseNodes = doc.getElementsByTagName("release");
-            if (releaseNodes.getLength() > 0) {
-                meta.latestVersion = releaseNodes.item(0).getTextContent().trim();
-            }
+        // Latest version, falling back to release
+        meta.latestVersion = parsed.latest() != null ? parsed.latest() : parsed.release();
+        meta.totalVersions = parsed.versions().size();
+        if (parsed.lastUpdated() != null) {
+            meta.lastReleaseDate = parseLastUpdated(parsed.lastUpdated());
         }
-
-        // Get all versions
-        NodeList versionNodes = doc.getElementsByTagName("version");
-        meta.totalVersions = versionNodes.getLength();
-
-        // Get lastUpdated timestamp
-        NodeList lastUpdatedNodes = doc.getElementsByTagName("lastUpdated");
-        if (lastUpdatedNodes.getLength() > 0) {
-            String lastUpdated = lastUpdatedNodes.item(0).getTextContent().trim();
-            meta.lastReleaseDate = parseLastUpdated(lastUpdated);
-        }
-
         return meta;
     }
 
@@ -279,6 +278,121 @@ public class RepositoryHealthChecker {
     }
 
 
+    /**
+     * SCM URL declared by the POM of the latest version of a dependency, or {@code null}.
+     * Resolved once per dependency; {@link #checkHealth} reuses the result.
+     */
+    public String repositoryUrl(String groupId, String artifactId) {
+        if (groupId == null || artifactId == null || metadata.isOffline()) {
+            return null;
+        }
+        MavenMetadata mavenMeta = fetchMavenMetadata(groupId, artifactId);
+        return mavenMeta != null ? scmUrl(groupId, artifactId, mavenMeta.latestVersion) : null;
+    }
+
+    private String scmUrl(String groupId, String artifactId, String version) {
+        if (metadata.isOffline()) {
+            return null;
+        }
+        String key = groupId + ":" + artifactId + ":" + version;
+        Optional<String> cached = scmUrls.get(key);
+        if (cached == null) {
+            cached = Optional.ofNullable(fetchScmUrl(groupId, artifactId, version));
+            scmUrls.put(key, cached);
+        }
+        return cached.orElse(null);
+    }
+
+    /**
+     * Fetch the GitHub information of repositories with batched GraphQL queries, so that
+     * {@link #checkHealth} does not need the REST API for them. No-op without a token, when
+     * GraphQL is disabled, or offline; repositories left out by a failed batch use REST.
+     *
+     * @param repositoryUrls repository URLs (non-GitHub URLs and nulls are ignored)
+     */
+    public void prefetchGitHubInfo(Collection<String> repositoryUrls) {
+        if (!githubGraphql || githubToken == null || githubToken.isEmpty() || metadata.isOffline()) {
+            return;
+        }
+        Set<String> pending = new LinkedHashSet<>();
+        for (String url : repositoryUrls) {
+            String ownerRepo = url != null ? extractGitHubOwnerRepo(url) : null;
+            if (ownerRepo != null && !githubInfos.containsKey(ownerRepo)) {
+                pending.add(ownerRepo);
+            }
+        }
+        List<String> ownerRepos = new ArrayList<>(pending);
+        for (int from = 0; from < ownerRepos.size(); from += GRAPHQL_BATCH_SIZE) {
+            List<String> batch = ownerRepos.subList(from, Math.min(from + GRAPHQL_BATCH_SIZE, ownerRepos.size()));
+            try {
+                fetchGitHubInfoBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.debug("GitHub GraphQL batch of {} repositories failed, falling back to REST: {}",
+                        batch.size(), e.getMessage());
+            }
+        }
+    }
+
+    private void fetchGitHubInfoBatch(List<String> ownerRepos) throws Exception {
+        StringBuilder query = new StringBuilder("query {");
+        for (int i = 0; i < ownerRepos.size(); i++) {
+            String[] parts = ownerRepos.get(i).split("/", 2);
+            query.append(" r").append(i).append(": repository(owner: ").append(JSON.writeValueAsString(parts[0]))
+                    .append(", name: ").append(JSON.writeValueAsString(parts[1])).append(") { ...health }");
+        }
+        query.append(" } ").append(GRAPHQL_FIELDS);
+
+        HttpRequest request = http.post(githubApi + "/graphql", Duration.ofMillis(timeoutMs),
+                        JSON.writeValueAsString(Map.of("query", query.toString())))
+                .header("Authorization", "bearer " + githubToken)
+                .build();
+        HttpResponse<String> response = http.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() < 200 || response.statusCode() >= 300) {
+            throw new IOException("HTTP " + response.statusCode());
+        }
+
+        JsonNode data = JSON.readTree(response.body()).path("data");
+        if (!data.isObject()) {
+            throw new IOException("no data in response");
+        }
+        for (int i = 0; i < ownerRepos.size(); i++) {
+            JsonNode repo = data.path("r" + i);
+            // null: the repository does not exist or is not visible; REST would not do better
+            githubInfos.put(ownerRepos.get(i), Optional.ofNullable(repo.isObject() ? parseGraphqlRepository(repo) : null));
+        }
+    }
+
+    /**
+     * GitHub information of one repository of a GraphQL response. GraphQL has no contributor
+     * count: it is left to the REST count of {@link #fetchGitHubInfo}.
+     */
+    private static GitHubInfo parseGraphqlRepository(JsonNode repo) {
+        GitHubInfo info = new GitHubInfo();
+        info.starCount = intOrNull(repo.path("stargazerCount"));
+        info.forkCount = intOrNull(repo.path("forkCount"));
+        // REST open_issues_count includes open pull requests; GraphQL counts them separately
+        Integer issues = intOrNull(repo.path("issues").path("totalCount"));
+        Integer pullRequests = intOrNull(repo.path("pullRequests").path("totalCount"));
+        info.openIssueCount = issues == null ? null : issues + (pullRequests == null ? 0 : pullRequests);
+        info.archived = repo.path("isArchived").isBoolean() ? repo.path("isArchived").asBoolean() : null;
+        String license = repo.path("licenseInfo").path("spdxId").textValue();
+        if (license != null && !license.equals("null")) {
+            info.license = license;
+        }
+        String committed = repo.path("defaultBranchRef").path("target").path("committedDate").textValue();
+        if (committed != null) {
+            info.lastCommitDate = Instant.parse(committed);
+        }
+        return info;
+    }
+
+    private static Integer intOrNull(JsonNode node) {
+        return node.isNumber() ? node.intValue() : null;
+    }
+
     private String fetchScmUrl(String groupId, String artifactId, String version) {
         if (version == null) {
             return null;
@@ -288,18 +402,9 @@ public class RepositoryHealthChecker {
             String path = groupId.replace('.', '/') + "/" + artifactId + "/" + version + "/" + artifactId + "-" + version + ".pom";
             String url = MAVEN_CENTRAL + "/" + path;
 
-            HttpClient client = HttpClient.newBuilder()
-                    .connectTimeout(Duration.ofMillis(timeoutMs))
-                    .build();
+            HttpRequest request = http.get(url, Duration.ofMillis(timeoutMs)).build();
 
-            HttpRequest request = HttpRequest.newBuilder()
-                    .uri(URI.create(url))
-                    .timeout(Duration.ofMillis(timeoutMs))
-                    .header("User-Agent", "deploy-manifest-plugin/2.5.0")
-                    .GET()
-                    .build();
-
-            HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            HttpResponse<byte[]> response = http.send(request, HttpResponse.BodyHandlers.ofByteArray());
 
             if (response.statusCode() >= 200 && response.statusCode() < 300) {
                 return parseScmUrl(response.body());
@@ -337,7 +442,7 @@ public class RepositoryHealthChecker {
         return null;
     }
 
-    private GitHubInfo fetchGitHubInfo(String repoUrl) {
+    GitHubInfo fetchGitHubInfo(String repoUrl) {
         try {
             // Extract owner/repo from URL
             // Examples: https://github.com/owner/repo or git@github.com:owner/repo
@@ -345,25 +450,32 @@ public class RepositoryHealthChecker {
             if (ownerRepo == null) {
                 return null;
             }
+            Optional<GitHubInfo> prefetched = githubInfos.get(ownerRepo);
+            if (prefetched != null) {
+                GitHubInfo shared = prefetched.orElse(null);
+                if (shared == null) {
+                    return null;
+                }
+                // Same count as without a token, so the bus-factor verdict does not depend on it
+                Optional<Integer> contributors = contributorCounts.get(ownerRepo);
+                if (contributors == null) {
+                    contributors = Optional.ofNullable(fetchContributorCount(ownerRepo));
+                    contributorCounts.put(ownerRepo, contributors);
+                }
+                return shared.withContributorCount(contributors.orElse(null));
+            }
 
-            String apiUrl = GITHUB_API + "/repos/" + ownerRepo;
-
-            HttpClient client = HttpClient.newBuilder()
-                    .connectTimeout(Duration.ofMillis(timeoutMs))
-                    .build();
+            String apiUrl = githubApi + "/repos/" + ownerRepo;
 
-            HttpRequest.Builder requestBuilder = HttpRequest.newBuilder()
-                    .uri(URI.create(apiUrl))
-                    .timeout(Duration.ofMillis(timeoutMs))
-                    .header("User-Agent", "deploy-manifest-plugin/2.5.0")
+            HttpRequest.Builder requestBuilder = http.get(apiUrl, Duration.ofMillis(timeoutMs))
                     .header("Accept", "application/vnd.github.v3+json");
 
             if (githubToken != null && !githubToken.isEmpty()) {
                 requestBuilder.header("Authorization", "token " + githubToken);
             }
 
-            HttpRequest request = requestBuilder.GET().build();
-            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            HttpRequest request = requestBuilder.build();
+            HttpResponse<String> response = http.send(request, HttpResponse.BodyHandlers.ofString());
 
             if (response.statusCode() >= 200 && response.statusCode() < 300) {
                 return parseGitHubResponse(response.body(), ownerRepo);
@@ -431,24 +543,17 @@ public class RepositoryHealthChecker {
 
     private Integer fetchContributorCount(String ownerRepo) {
         try {
-            String apiUrl = GITHUB_API + "/repos/" + ownerRepo + "/contributors?per_page=1&anon=true";
+            String apiUrl = githubApi + "/repos/" + ownerRepo + "/contributors?per_page=1&anon=true";
 
-            HttpClient client = HttpClient.newBuilder()
-                    .connectTimeout(Duration.ofMillis(timeoutMs))
-                    .build();
-
-            HttpRequest.Builder requestBuilder = HttpRequest.newBuilder()
-                    .uri(URI.create(apiUrl))
-                    .timeout(Duration.ofMillis(timeoutMs))
-                    .header("User-Agent", "deploy-manifest-plugin/2.5.0")
+            HttpRequest.Builder requestBuilder = http.get(apiUrl, Duration.ofMillis(timeoutMs))
                     .header("Accept", "application/vnd.github.v3+json");
 
             if (githubToken != null && !githubToken.isEmpty()) {
                 requestBuilder.header("Authorization", "token " + githubToken);
             }
 
-            HttpRequest request = requestBuilder.GET().build();
-            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            HttpRequest request = requestBuilder.build();
+            HttpResponse<String> response = http.send(request, HttpResponse.BodyHandlers.ofString());
 
             if (response.statusCode() >= 200 && response.statusCode() < 300) {
                 // GitHub returns Link header with total count
@@ -475,24 +580,17 @@ public class RepositoryHealthChecker {
 
     private Instant fetchLastCommitDate(String ownerRepo) {
         try {
-            String apiUrl = GITHUB_API + "/repos/" + ownerRepo + "/commits?per_page=1";
-
-            HttpClient client = HttpClient.newBuilder()
-                    .connectTimeout(Duration.ofMillis(timeoutMs))
-                    .build();
+            String apiUrl = githubApi + "/repos/" + ownerRepo + "/commits?per_page=1";
 
-            HttpRequest.Builder requestBuilder = HttpRequest.newBuilder()
-                    .uri(URI.create(apiUrl))
-                    .timeout(Duration.ofMillis(timeoutMs))
-                    .header("User-Agent", "deploy-manifest-plugin/2.5.0")
+            HttpRequest.Builder requestBuilder = http.get(apiUrl, Duration.ofMillis(timeoutMs))
                     .header("Accept", "application/vnd.github.v3+json");
 
             if (githubToken != null && !githubToken.isEmpty()) {
                 requestBuilder.header("Authorization", "token " + githubToken);
             }
 
-            HttpRequest request = requestBuilder.GET().build();
-            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            HttpRequest request = requestBuilder.build();
+            HttpResponse<String> response = http.send(request, HttpResponse.BodyHandlers.ofString());
 
             if (response.statusCode() >= 200 && response.statusCode() < 300) {
                 String dateStr = extractJsonString(response.body(), "commit", "committer", "date");
@@ -569,7 +667,7 @@ public class RepositoryHealthChecker {
         Instant lastReleaseDate;
     }
 
-    private static class GitHubInfo {
+    static class GitHubInfo {
         Integer contributorCount;
         Integer starCount;
         Integer forkCount;
@@ -577,6 +675,19 @@ public class RepositoryHealthChecker {
         Boolean archived;
         String license;
         Instant lastCommitDate;
+
+        /** Copy with the given contributor count; prefetched instances are shared across threads. */
+        GitHubInfo withContributorCount(Integer count) {
+            GitHubInfo copy = new GitHubInfo();
+            copy.contributorCount = count;
+            copy.starCount = starCount;
+            copy.forkCount = forkCount;
+            copy.openIssueCount = openIssueCount;
+            copy.archived = archived;
+            copy.license = license;
+            copy.lastCommitDate = lastCommitDate;
+            return copy;
+        }
     }
 }
 
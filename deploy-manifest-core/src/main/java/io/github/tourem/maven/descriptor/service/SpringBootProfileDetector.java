@@ -1,5 +1,6 @@
 package io.github.tourem.maven.descriptor.service;
 
+import io.github.tourem.maven.descriptor.util.ModuleResourceIndex;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.maven.model.Dependency;
 import org.apache.maven.model.Model;
@@ -36,10 +37,22 @@ public class SpringBootProfileDetector {
      * @return List of detected profile names (sorted, unique)
      */
     public List<String> detectProfiles(Path modulePath, Model model, Path projectRootPath) {
+        return detectProfiles(ModuleResourceIndex.of(modulePath), model, projectRootPath);
+    }
+
+    /**
+     * Detect all Spring Boot profiles for a module, using its shared resource index.
+     *
+     * @param resources resource index of the module
+     * @param model Maven model of the module
+     * @param projectRootPath Root path of the Maven project
+     * @return List of detected profile names (sorted, unique)
+     */
+    public List<String> detectProfiles(ModuleResourceIndex resources, Model model, Path projectRootPath) {
         Set<String> profiles = new HashSet<>();
 
         // 1. Detect profiles in the module itself
-        profiles.addAll(detectProfilesInModule(modulePath));
+        profiles.addAll(detectProfilesInModule(resources));
 
         // 2. Detect profiles in dependencies (only local modules)
         if (model.getDependencies() != null) {
@@ -52,7 +65,7 @@ public class SpringBootProfileDetector {
         Collections.sort(sortedProfiles);
 
         log.debug("Detected {} profiles for module {}: {}",
-            sortedProfiles.size(), modulePath.getFileName(), sortedProfiles);
+            sortedProfiles.size(), resources.getModulePath().getFileName(), sortedProfiles);
 
         return sortedProfiles;
     }
@@ -60,28 +73,21 @@ public class SpringBootProfileDetector {
     /**
      * Detect profiles in a specific module's resources directory.
      */
-    private Set<String> detectProfilesInModule(Path modulePath) {
+    private Set<String> detectProfilesInModule(ModuleResourceIndex resources) {
         Set<String> profiles = new HashSet<>();
 
-        Path resourcesPath = modulePath.resolve("src/main/resources");
-        if (!Files.exists(resourcesPath) || !Files.isDirectory(resourcesPath)) {
-            log.debug("No resources directory found at: {}", resourcesPath);
+        if (!resources.hasResourcesDir()) {
+            log.debug("No resources directory found in: {}", resources.getModulePath());
             return profiles;
         }
 
-        try (Stream<Path> files = Files.walk(resourcesPath, 1)) {
-            files.filter(Files::isRegularFile)
-                .forEach(file -> {
-                    String fileName = file.getFileName().toString();
-                    Matcher matcher = PROFILE_PATTERN.matcher(fileName);
-                    if (matcher.matches()) {
-                        String profile = matcher.group(1);
-                        profiles.add(profile);
-                        log.debug("Found profile '{}' in file: {}", profile, fileName);
-                    }
-                });
-        } catch (IOException e) {
-            log.warn("Error scanning resources directory {}: {}", resourcesPath, e.getMessage());
+        for (String fileName : resources.getFileNames()) {
+            Matcher matcher = PROFILE_PATTERN.matcher(fileName);
+            if (matcher.matches()) {
+                String profile = matcher.group(1);
+                profiles.add(profile);
+                log.debug("Found profile '{}' in file: {}", profile, fileName);
+            }
         }
 
         return profiles;
@@ -108,7 +114,7 @@ public class SpringBootProfileDetector {
                 Path pomFile = possiblePath.resolve("pom.xml");
                 if (Files.exists(pomFile)) {
                     log.debug("Found local dependency module: {}", artifactId);
-                    profiles.addAll(detectProfilesInModule(possiblePath));
+                    profiles.addAll(detectProfilesInModule(ModuleResourceIndex.of(possiblePath)));
                     break;
                 }
             }
@@ -1,6 +1,7 @@
 package io.github.tourem.maven.descriptor.service;
 
 import io.github.tourem.maven.descriptor.model.TestingInfo;
+import io.github.tourem.maven.descriptor.util.FileReadCounter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.maven.model.Model;
 import org.apache.maven.model.Plugin;
@@ -61,6 +62,7 @@ public class TestingInfoCollector {
         try {
             DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
             DocumentBuilder builder = factory.newDocumentBuilder();
+            FileReadCounter.increment();
             Document doc = builder.parse(jacocoXml.toFile());
             
             Element report = doc.getDocumentElement();
@@ -162,6 +164,7 @@ public class TestingInfoCollector {
             
             for (Path xmlFile : xmlFiles) {
                 try {
+                    FileReadCounter.increment();
                     Document doc = builder.parse(xmlFile.toFile());
                     Element testsuite = doc.getDocumentElement();
                     
@@ -0,0 +1,240 @@
+package io.github.tourem.maven.descriptor.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.maven.model.Model;
+import org.apache.maven.model.building.DefaultModelBuilderFactory;
+import org.apache.maven.model.building.DefaultModelBuildingRequest;
+import org.apache.maven.model.building.FileModelSource;
+import org.apache.maven.model.building.ModelBuilder;
+import org.apache.maven.model.building.ModelBuildingRequest;
+import org.apache.maven.model.building.ModelSource2;
+import org.apache.maven.model.resolution.ModelResolver;
+import org.apache.maven.model.resolution.UnresolvableModelException;
+import org.apache.maven.repository.internal.MavenRepositorySystemUtils;
+import org.eclipse.aether.DefaultRepositoryCache;
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.eclipse.aether.RepositorySystem;
+import org.eclipse.aether.artifact.ArtifactType;
+import org.eclipse.aether.artifact.ArtifactTypeRegistry;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.collection.CollectRequest;
+import org.eclipse.aether.collection.CollectResult;
+import org.eclipse.aether.collection.DependencyCollectionContext;
+import org.eclipse.aether.collection.DependencyCollectionException;
+import org.eclipse.aether.collection.DependencySelector;
+import org.eclipse.aether.graph.Dependency;
+import org.eclipse.aether.graph.DependencyNode;
+import org.eclipse.aether.graph.Exclusion;
+import org.eclipse.aether.internal.impl.DefaultLocalPathComposer;
+import org.eclipse.aether.internal.impl.SimpleLocalRepositoryManagerFactory;
+import org.eclipse.aether.repository.LocalRepository;
+import org.eclipse.aether.util.graph.transformer.ConflictResolver;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Collects the transitive dependency graph of a module with Maven Resolver, from the local
+ * repository only (offline, no remote repositories): POMs missing locally contribute no
+ * dependencies instead of failing the collection.
+ *
+ * <p>Uses Maven's own session defaults (scope, optional and exclusion selectors, dependency
+ * management, nearest-wins conflict resolution) with the breadth-first collector, which reads
+ * artifact descriptors in parallel. Conflict resolution runs in verbose mode: losing nodes stay
+ * in the graph as leaves carrying {@link ConflictResolver#NODE_DATA_WINNER}.</p>
+ *
+ * <p>One instance is meant to be shared by all the modules of an analysis: descriptors are
+ * cached across calls. Thread-safe.</p>
+ *
+ * @author tourem
+ */
+@Slf4j
+final class TransitiveDependencyResolver {
+
+    private static volatile RepositorySystem system;
+
+    private final Path localRepository;
+    private final DefaultRepositoryCache cache = new DefaultRepositoryCache();
+
+    TransitiveDependencyResolver(Path localRepository) {
+        this.localRepository = localRepository;
+    }
+
+    /**
+     * Local repository of the current build ({@code maven.repo.local} or {@code ~/.m2/repository}).
+     */
+    static Path defaultLocalRepository() {
+        String repoRoot = System.getProperty("maven.repo.local");
+        if (repoRoot == null || repoRoot.isBlank()) {
+            repoRoot = System.getProperty("user.home") + File.separator + ".m2" + File.separator + "repository";
+        }
+        return Path.of(repoRoot);
+    }
+
+    /**
+     * Collect the graph below the given direct dependencies.
+     *
+     * @param dependencies direct dependencies (concrete versions)
+     * @param managed dependencyManagement of the module, applied to transitive dependencies
+     * @param maxDepth deepest level kept (1 = direct only), or -1 for unlimited
+     * @param threads number of descriptors read concurrently
+     * @return root node (without artifact) whose children are the direct dependencies
+     */
+    DependencyNode collect(List<org.apache.maven.model.Dependency> dependencies,
+                           List<org.apache.maven.model.Dependency> managed, int maxDepth, int threads) throws Exception {
+        DefaultRepositorySystemSession session = newSession(maxDepth, Math.max(1, threads));
+        ArtifactTypeRegistry types = session.getArtifactTypeRegistry();
+        CollectRequest request = new CollectRequest();
+        for (org.apache.maven.model.Dependency d : dependencies) {
+            request.addDependency(toDependency(d, types));
+        }
+        if (managed != null) {
+            for (org.apache.maven.model.Dependency d : managed) {
+                if (d.getVersion() != null && !d.getVersion().contains("${")) {
+                    request.addManagedDependency(toDependency(d, types));
+                }
+            }
+        }
+        try {
+            CollectResult result = repositorySystem().collectDependencies(session, request);
+            return result.getRoot();
+        } catch (DependencyCollectionException e) {
+            // Keep what could be collected (e.g. an unresolvable version range somewhere below)
+            log.debug("Partial dependency collection: {}", e.getMessage());
+            if (e.getResult() != null && e.getResult().getRoot() != null) {
+                return e.getResult().getRoot();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Effective model of a module POM (parents and BOM imports resolved from the local
+     * repository or the file system), or null when it cannot be built.
+     */
+    Model effectiveModel(Path pomFile) {
+        try {
+            DefaultModelBuildingRequest request = new DefaultModelBuildingRequest();
+            request.setPomFile(pomFile.toFile());
+            request.setModelResolver(new LocalModelResolver(localRepository));
+            request.setValidationLevel(ModelBuildingRequest.VALIDATION_LEVEL_MINIMAL);
+            request.setProcessPlugins(false);
+            request.setTwoPhaseBuilding(false);
+            request.setSystemProperties(System.getProperties());
+            ModelBuilder builder = new DefaultModelBuilderFactory().newInstance();
+            return builder.build(request).getEffectiveModel();
+        } catch (Exception e) {
+            log.debug("Cannot build effective model of {}: {}", pomFile, e.getMessage());
+            return null;
+        }
+    }
+
+    private DefaultRepositorySystemSession newSession(int maxDepth, int threads) throws Exception {
+        DefaultRepositorySystemSession session = MavenRepositorySystemUtils.newSession();
+        session.setOffline(true);
+        session.setCache(cache);
+        session.setSystemProperties(System.getProperties());
+        session.setConfigProperty(ConflictResolver.CONFIG_PROP_VERBOSE, true);
+        session.setConfigProperty("aether.dependencyCollector.impl", "bf");
+        session.setConfigProperty("aether.dependencyCollector.bf.threads", threads);
+        if (maxDepth >= 0) {
+            // The root context is derived once before the direct dependencies are selected
+            session.setDependencySelector(new DepthLimit(session.getDependencySelector(), maxDepth + 1));
+        }
+        // Simple layout: files are usable whatever repository they were downloaded from
+        session.setLocalRepositoryManager(new SimpleLocalRepositoryManagerFactory(new DefaultLocalPathComposer())
+                .newInstance(session, new LocalRepository(localRepository.toFile())));
+        return session;
+    }
+
+    private static RepositorySystem repositorySystem() {
+        RepositorySystem result = system;
+        if (result == null) {
+            synchronized (TransitiveDependencyResolver.class) {
+                result = system;
+                if (result == null) {
+                    result = new LocalRepositorySystemSupplier().get();
+                    system = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    private static Dependency toDependency(org.apache.maven.model.Dependency d, ArtifactTypeRegistry types) {
+        String type = d.getType() == null || d.getType().isBlank() ? "jar" : d.getType();
+        ArtifactType artifactType = types.get(type);
+        String extension = artifactType != null ? artifactType.getExtension() : type;
+        String classifier = d.getClassifier() != null && !d.getClassifier().isBlank()
+                ? d.getClassifier()
+                : (artifactType != null ? artifactType.getClassifier() : "");
+        DefaultArtifact artifact = new DefaultArtifact(d.getGroupId(), d.getArtifactId(), classifier, extension,
+                d.getVersion(), artifactType);
+        List<Exclusion> exclusions = new ArrayList<>();
+        if (d.getExclusions() != null) {
+            for (org.apache.maven.model.Exclusion e : d.getExclusions()) {
+                exclusions.add(new Exclusion(e.getGroupId(), e.getArtifactId(), "*", "*"));
+            }
+        }
+        return new Dependency(artifact, d.getScope(), d.isOptional(), exclusions);
+    }
+
+    /**
+     * Limits the depth of the collected graph; wraps the session's selector.
+     */
+    private record DepthLimit(DependencySelector delegate, int remaining) implements DependencySelector {
+        @Override
+        public boolean selectDependency(Dependency dependency) {
+            return remaining > 0 && (delegate == null || delegate.selectDependency(dependency));
+        }
+
+        @Override
+        public DependencySelector deriveChildSelector(DependencyCollectionContext context) {
+            return new DepthLimit(delegate != null ? delegate.deriveChildSelector(context) : null, remaining - 1);
+        }
+    }
+
+    /**
+     * Resolves parent and import POMs from the local repository only.
+     */
+    private record LocalModelResolver(Path localRepository) implements ModelResolver {
+        @Override
+        public ModelSource2 resolveModel(String groupId, String artifactId, String version)
+                throws UnresolvableModelException {
+            Path pom = localRepository.resolve(groupId.replace('.', File.separatorChar))
+                    .resolve(artifactId).resolve(version).resolve(artifactId + "-" + version + ".pom");
+            if (!Files.isRegularFile(pom)) {
+                throw new UnresolvableModelException("Not in the local repository: " + pom, groupId, artifactId, version);
+            }
+            return new FileModelSource(pom.toFile());
+        }
+
+        @Override
+        public ModelSource2 resolveModel(org.apache.maven.model.Parent parent) throws UnresolvableModelException {
+            return resolveModel(parent.getGroupId(), parent.getArtifactId(), parent.getVersion());
+        }
+
+        @Override
+        public ModelSource2 resolveModel(org.apache.maven.model.Dependency dependency) throws UnresolvableModelException {
+            return resolveModel(dependency.getGroupId(), dependency.getArtifactId(), dependency.getVersion());
+        }
+
+        @Override
+        public void addRepository(org.apache.maven.model.Repository repository) {
+            // Local repository only
+        }
+
+        @Override
+        public void addRepository(org.apache.maven.model.Repository repository, boolean replace) {
+            // Local repository only
+        }
+
+        @Override
+        public ModelResolver newCopy() {
+            return this;
+        }
+    }
+}
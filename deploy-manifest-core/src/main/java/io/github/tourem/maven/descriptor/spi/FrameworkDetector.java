@@ -1,6 +1,7 @@
 package io.github.tourem.maven.descriptor.spi;
 
 import io.github.tourem.maven.descriptor.model.DeployableModule;
+import io.github.tourem.maven.descriptor.util.ModuleResourceIndex;
 import org.apache.maven.model.Model;
 
 import java.nio.file.Path;
@@ -72,6 +73,24 @@ public interface FrameworkDetector {
                      Path modulePath,
                      Path projectRoot);
 
+    /**
+     * Enrich the deployable module, reading configuration files through the module's shared
+     * resource index instead of scanning {@code src/main/resources} again.
+     * The analyzer calls this method; the default delegates to
+     * {@link #enrichModule(DeployableModule.DeployableModuleBuilder, Model, Path, Path)}.
+     *
+     * @param builder Builder for the deployable module
+     * @param model Maven model of the module
+     * @param resources Resource index of the module (gives access to the module path)
+     * @param projectRoot Path to the project root directory
+     */
+    default void enrichModule(DeployableModule.DeployableModuleBuilder builder,
+                              Model model,
+                              ModuleResourceIndex resources,
+                              Path projectRoot) {
+        enrichModule(builder, model, resources.getModulePath(), projectRoot);
+    }
+
     /**
      * Get the priority of this detector.
      * Higher priority detectors are executed first.
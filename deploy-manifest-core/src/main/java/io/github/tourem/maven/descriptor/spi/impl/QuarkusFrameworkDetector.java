@@ -2,18 +2,15 @@ package io.github.tourem.maven.descriptor.spi.impl;
 
 import io.github.tourem.maven.descriptor.model.DeployableModule;
 import io.github.tourem.maven.descriptor.spi.FrameworkDetector;
+import io.github.tourem.maven.descriptor.util.ModuleResourceIndex;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.maven.model.Dependency;
 import org.apache.maven.model.Model;
 import org.apache.maven.model.Plugin;
 
-import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Properties;
-import java.util.stream.Stream;
 
 /**
  * Framework detector for Quarkus applications.
@@ -57,6 +54,14 @@ public class QuarkusFrameworkDetector implements FrameworkDetector {
                             Model model,
                             Path modulePath,
                             Path projectRoot) {
+        enrichModule(builder, model, ModuleResourceIndex.of(modulePath), projectRoot);
+    }
+
+    @Override
+    public void enrichModule(DeployableModule.DeployableModuleBuilder builder,
+                            Model model,
+                            ModuleResourceIndex resources,
+                            Path projectRoot) {
         log.debug("Enriching module with Quarkus metadata: {}", model.getArtifactId());
 
         // Detect Quarkus version
@@ -66,7 +71,7 @@ public class QuarkusFrameworkDetector implements FrameworkDetector {
         boolean isNative = isNativeBuild(model);
 
         // Detect Quarkus profiles
-        List<String> profiles = detectQuarkusProfiles(modulePath);
+        List<String> profiles = detectQuarkusProfiles(resources);
 
         // Add Quarkus-specific build plugins
         List<String> existingPlugins = builder.build().getBuildPlugins();
@@ -114,22 +119,14 @@ public class QuarkusFrameworkDetector implements FrameworkDetector {
     /**
      * Detect Quarkus profiles from application.properties.
      */
-    private List<String> detectQuarkusProfiles(Path modulePath) {
+    private List<String> detectQuarkusProfiles(ModuleResourceIndex resources) {
         List<String> profiles = new ArrayList<>();
 
         // Check src/main/resources for application-{profile}.properties
-        Path resourcesDir = modulePath.resolve("src/main/resources");
-        if (Files.exists(resourcesDir)) {
-            try (Stream<Path> files = Files.list(resourcesDir)) {
-                files.filter(f -> f.getFileName().toString().matches("application-.*\\.properties"))
-                     .forEach(f -> {
-                         String fileName = f.getFileName().toString();
-                         String profile = fileName.substring("application-".length(),
-                                                            fileName.length() - ".properties".length());
-                         profiles.add(profile);
-                     });
-            } catch (IOException e) {
-                log.warn("Failed to scan Quarkus profiles: {}", e.getMessage());
+        for (String fileName : resources.getFileNames()) {
+            if (fileName.matches("application-.*\\.properties")) {
+                profiles.add(fileName.substring("application-".length(),
+                                                fileName.length() - ".properties".length()));
             }
         }
 
@@ -4,6 +4,7 @@ import io.github.tourem.maven.descriptor.model.DeployableModule;
 import io.github.tourem.maven.descriptor.model.EnvironmentConfig;
 import io.github.tourem.maven.descriptor.service.*;
 import io.github.tourem.maven.descriptor.spi.FrameworkDetector;
+import io.github.tourem.maven.descriptor.util.ModuleResourceIndex;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.maven.model.Model;
 
@@ -45,6 +46,14 @@ public class SpringBootFrameworkDetector implements FrameworkDetector {
                             Model model,
                             Path modulePath,
                             Path projectRoot) {
+        enrichModule(builder, model, ModuleResourceIndex.of(modulePath), projectRoot);
+    }
+
+    @Override
+    public void enrichModule(DeployableModule.DeployableModuleBuilder builder,
+                            Model model,
+                            ModuleResourceIndex resources,
+                            Path projectRoot) {
         log.debug("Enriching module with Spring Boot metadata: {}", model.getArtifactId());
 
         // Mark as Spring Boot executable
@@ -57,13 +66,13 @@ public class SpringBootFrameworkDetector implements FrameworkDetector {
         }
 
         // Detect profiles
-        List<String> profiles = profileDetector.detectProfiles(modulePath, model, projectRoot);
+        List<String> profiles = profileDetector.detectProfiles(resources, model, projectRoot);
 
         // Detect environment configurations
         if (profiles != null && !profiles.isEmpty()) {
             Boolean actuatorEnabled = metadataDetector.detectActuatorEnabled(model);
             List<EnvironmentConfig> environments = environmentConfigDetector.detectEnvironmentConfigs(
-                modulePath, profiles, actuatorEnabled);
+                resources, profiles, actuatorEnabled);
             if (environments != null && !environments.isEmpty()) {
                 builder.environments(environments);
             }
@@ -0,0 +1,94 @@
+package io.github.tourem.maven.descriptor.util;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Runs one blocking task per item (typically network lookups) on a bounded number of threads,
+ * under a single deadline for the whole batch.
+ *
+ * <p>Results come back in input order, so callers write them back to their items on their own
+ * thread, deterministically. A task that fails, or that has not completed when the deadline
+ * expires (it is then interrupted), yields {@code null}.</p>
+ *
+ * @author tourem
+ */
+@Slf4j
+public final class BoundedParallel {
+
+    private BoundedParallel() {
+    }
+
+    /**
+     * Apply {@code task} to every item.
+     *
+     * @param items       items to process
+     * @param task        task applied to each item; may return {@code null}
+     * @param concurrency maximum number of tasks running at the same time (1 runs sequentially)
+     * @param deadline    time allowed for the whole batch; {@code null} or non-positive for none
+     * @param name        thread name prefix, also used in log messages
+     * @return one result per item, in input order
+     */
+    public static <T, R> List<R> map(List<T> items, Function<? super T, ? extends R> task,
+                                     int concurrency, Duration deadline, String name) {
+        if (items == null || items.isEmpty()) {
+            return Collections.emptyList();
+        }
+        boolean bounded = deadline != null && !deadline.isZero() && !deadline.isNegative();
+        int threads = Math.max(1, Math.min(concurrency, items.size()));
+
+        AtomicInteger count = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, name + "-" + count.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        try {
+            List<Callable<R>> tasks = new ArrayList<>(items.size());
+            for (T item : items) {
+                tasks.add(() -> task.apply(item));
+            }
+            List<Future<R>> futures = bounded
+                    ? pool.invokeAll(tasks, deadline.toMillis(), TimeUnit.MILLISECONDS)
+                    : pool.invokeAll(tasks);
+
+            List<R> results = new ArrayList<>(futures.size());
+            int expired = 0;
+            for (Future<R> future : futures) {
+                try {
+                    results.add(future.get());
+                } catch (CancellationException e) {
+                    expired++;
+                    results.add(null);
+                } catch (ExecutionException e) {
+                    log.debug("{} task failed: {}", name, e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
+                    results.add(null);
+                }
+            }
+            if (expired > 0) {
+                log.warn("{}: {} of {} tasks did not complete within {} ms", name, expired, items.size(), deadline.toMillis());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            List<R> none = new ArrayList<>(items.size());
+            items.forEach(i -> none.add(null));
+            return none;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,382 @@
+package io.github.tourem.maven.descriptor.util;
+
+import io.github.tourem.maven.descriptor.model.DependencyFlatEntry;
+import io.github.tourem.maven.descriptor.model.DependencyNode;
+import io.github.tourem.maven.descriptor.model.DependencySummary;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable, compact dependency tree of a module.
+ *
+ * <p>Artifacts (groupId, artifactId, version, type) are stored once in a table of interned
+ * strings and referenced by index; nodes are int-indexed and their children kept in shared
+ * adjacency arrays. Identical subtrees (same artifact, scope, optional flag and children) are
+ * stored once, so the structure is a DAG whose expansion is the tree. Nodes are numbered
+ * children first: a child always has a smaller id than its parent, which lets per-subtree
+ * values be computed in one ascending pass.</p>
+ *
+ * <p>{@link #toDependencyNodes()} expands it to the public JSON shape.</p>
+ *
+ * @author tourem
+ */
+public final class CompactDependencyGraph {
+
+    /** Graph without nodes. */
+    public static final CompactDependencyGraph EMPTY = builder().build();
+
+    private final String[] groupIds;
+    private final String[] artifactIds;
+    private final String[] versions;
+    private final String[] types;
+    private final String[] scopes;
+    private final int[] nodeArtifacts;
+    private final int[] nodeScopes;
+    private final boolean[] nodeOptional;
+    private final int[] childOffsets;
+    private final int[] children;
+    private final int[] roots;
+
+    private CompactDependencyGraph(Builder b) {
+        int artifactCount = b.artifacts.size();
+        this.groupIds = new String[artifactCount];
+        this.artifactIds = new String[artifactCount];
+        this.versions = new String[artifactCount];
+        this.types = new String[artifactCount];
+        for (int i = 0; i < artifactCount; i++) {
+            String[] artifact = b.artifacts.get(i);
+            groupIds[i] = artifact[0];
+            artifactIds[i] = artifact[1];
+            versions[i] = artifact[2];
+            types[i] = artifact[3];
+        }
+        this.scopes = b.scopes.toArray(new String[0]);
+        this.nodeArtifacts = Arrays.copyOf(b.nodeArtifacts, b.nodeCount);
+        this.nodeScopes = Arrays.copyOf(b.nodeScopes, b.nodeCount);
+        this.nodeOptional = Arrays.copyOf(b.nodeOptional, b.nodeCount);
+        this.childOffsets = Arrays.copyOf(b.childOffsets, b.nodeCount + 1);
+        this.children = Arrays.copyOf(b.children, b.childCount);
+        this.roots = Arrays.copyOf(b.roots, b.rootCount);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Compact form of a public tree (shared subtrees are detected).
+     */
+    public static CompactDependencyGraph of(List<DependencyNode> tree) {
+        Builder builder = builder();
+        if (tree != null) {
+            for (DependencyNode n : tree) {
+                if (n != null) {
+                    builder.root(add(builder, n));
+                }
+            }
+        }
+        return builder.build();
+    }
+
+    private static int add(Builder builder, DependencyNode n) {
+        int[] ids = new int[n.getChildren() == null ? 0 : n.getChildren().size()];
+        int count = 0;
+        if (n.getChildren() != null) {
+            for (DependencyNode c : n.getChildren()) {
+                if (c != null) {
+                    ids[count++] = add(builder, c);
+                }
+            }
+        }
+        return builder.node(n.getGroupId(), n.getArtifactId(), n.getVersion(), n.getType(), n.getScope(),
+                n.isOptional(), Arrays.copyOf(ids, count));
+    }
+
+    /** @return number of distinct nodes (shared subtrees counted once) */
+    public int nodeCount() {
+        return nodeArtifacts.length;
+    }
+
+    /** @return number of distinct artifacts */
+    public int artifactCount() {
+        return groupIds.length;
+    }
+
+    /** @return number of top-level (direct) nodes */
+    public int rootCount() {
+        return roots.length;
+    }
+
+    public int root(int index) {
+        return roots[index];
+    }
+
+    public String groupId(int node) {
+        return groupIds[nodeArtifacts[node]];
+    }
+
+    public String artifactId(int node) {
+        return artifactIds[nodeArtifacts[node]];
+    }
+
+    public String version(int node) {
+        return versions[nodeArtifacts[node]];
+    }
+
+    public String type(int node) {
+        return types[nodeArtifacts[node]];
+    }
+
+    public String scope(int node) {
+        return scopes[nodeScopes[node]];
+    }
+
+    public boolean optional(int node) {
+        return nodeOptional[node];
+    }
+
+    public int childCount(int node) {
+        return childOffsets[node + 1] - childOffsets[node];
+    }
+
+    public int child(int node, int index) {
+        return children[childOffsets[node] + index];
+    }
+
+    /**
+     * Counters of the expanded tree (every occurrence of a shared subtree counts), computed
+     * once per distinct node.
+     */
+    public DependencySummary summary() {
+        int nodeCount = nodeCount();
+        int[] size = new int[nodeCount];
+        int[] optionalCount = new int[nodeCount];
+        int[][] scopeCounts = new int[nodeCount][scopes.length];
+        for (int n = 0; n < nodeCount; n++) {
+            size[n] = 1;
+            optionalCount[n] = nodeOptional[n] ? 1 : 0;
+            scopeCounts[n][nodeScopes[n]]++;
+            for (int i = childOffsets[n]; i < childOffsets[n + 1]; i++) {
+                int c = children[i];
+                size[n] += size[c];
+                optionalCount[n] += optionalCount[c];
+                for (int s = 0; s < scopes.length; s++) {
+                    scopeCounts[n][s] += scopeCounts[c][s];
+                }
+            }
+        }
+        int total = 0;
+        int optional = 0;
+        int[] byScope = new int[scopes.length];
+        for (int r : roots) {
+            total += size[r];
+            optional += optionalCount[r];
+            for (int s = 0; s < scopes.length; s++) {
+                byScope[s] += scopeCounts[r][s];
+            }
+        }
+        Map<String, Integer> scopeMap = new HashMap<>();
+        for (int s = 0; s < scopes.length; s++) {
+            if (byScope[s] > 0) {
+                scopeMap.put(scopes[s] == null ? "" : scopes[s], byScope[s]);
+            }
+        }
+        return DependencySummary.builder()
+                .total(total)
+                .direct(roots.length)
+                .transitive(Math.max(0, total - roots.length))
+                .optional(optional)
+                .scopes(scopeMap)
+                .build();
+    }
+
+    /**
+     * Expand to the public tree shape; nodes without children get {@code null} children.
+     */
+    public List<DependencyNode> toDependencyNodes() {
+        List<DependencyNode> result = new ArrayList<>(roots.length);
+        for (int r : roots) {
+            result.add(toDependencyNode(r));
+        }
+        return result;
+    }
+
+    private DependencyNode toDependencyNode(int node) {
+        List<DependencyNode> nodeChildren = null;
+        int count = childCount(node);
+        if (count > 0) {
+            nodeChildren = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                nodeChildren.add(toDependencyNode(child(node, i)));
+            }
+        }
+        return DependencyNode.builder()
+                .groupId(groupId(node))
+                .artifactId(artifactId(node))
+                .version(version(node))
+                .scope(scope(node))
+                .type(type(node))
+                .optional(optional(node))
+                .children(nodeChildren)
+                .build();
+    }
+
+    /**
+     * Expand to the flat shape: every occurrence in depth-first order, with its depth (1 for
+     * direct dependencies) and the path from the root module.
+     */
+    public List<DependencyFlatEntry> toFlatEntries() {
+        List<DependencyFlatEntry> result = new ArrayList<>();
+        for (int r : roots) {
+            flatten(r, 1, null, result);
+        }
+        return result;
+    }
+
+    private void flatten(int node, int depth, String parentPath, List<DependencyFlatEntry> out) {
+        String type = type(node) == null || type(node).isBlank() ? "jar" : type(node);
+        String self = String.join(":", groupId(node), artifactId(node), type, version(node));
+        String path = parentPath == null ? self : parentPath + " -> " + self;
+        out.add(DependencyFlatEntry.builder()
+                .groupId(groupId(node))
+                .artifactId(artifactId(node))
+                .version(version(node))
+                .scope(scope(node))
+                .type(type(node))
+                .optional(optional(node))
+                .depth(depth)
+                .path(path)
+                .build());
+        for (int i = 0; i < childCount(node); i++) {
+            flatten(child(node, i), depth + 1, path, out);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "CompactDependencyGraph[roots=" + roots.length + ", nodes=" + nodeCount()
+                + ", artifacts=" + artifactCount() + "]";
+    }
+
+    /**
+     * Builds a graph bottom-up: children are added before their parent.
+     */
+    public static final class Builder {
+        private final List<String[]> artifacts = new ArrayList<>();
+        private final Map<List<String>, Integer> artifactIndex = new HashMap<>();
+        private final List<String> scopes = new ArrayList<>();
+        private final Map<NodeKey, Integer> nodeIndex = new HashMap<>();
+        private int[] nodeArtifacts = new int[16];
+        private int[] nodeScopes = new int[16];
+        private boolean[] nodeOptional = new boolean[16];
+        private int[] childOffsets = new int[17];
+        private int[] children = new int[16];
+        private int[] roots = new int[8];
+        private int nodeCount;
+        private int childCount;
+        private int rootCount;
+
+        private Builder() {
+        }
+
+        /**
+         * Add a node (or return the identical one already added).
+         *
+         * @param nodeChildren ids returned by earlier calls, in order
+         * @return the node id
+         */
+        public int node(String groupId, String artifactId, String version, String type, String scope,
+                        boolean optional, int... nodeChildren) {
+            int artifact = artifact(groupId, artifactId, version, type);
+            int scopeIndex = scope(scope);
+            NodeKey key = new NodeKey(artifact, scopeIndex, optional, nodeChildren.clone());
+            Integer existing = nodeIndex.get(key);
+            if (existing != null) {
+                return existing;
+            }
+            for (int c : nodeChildren) {
+                if (c < 0 || c >= nodeCount) {
+                    throw new IllegalArgumentException("Unknown child node " + c);
+                }
+            }
+            int id = nodeCount++;
+            if (id == nodeArtifacts.length) {
+                int capacity = id * 2;
+                nodeArtifacts = Arrays.copyOf(nodeArtifacts, capacity);
+                nodeScopes = Arrays.copyOf(nodeScopes, capacity);
+                nodeOptional = Arrays.copyOf(nodeOptional, capacity);
+                childOffsets = Arrays.copyOf(childOffsets, capacity + 1);
+            }
+            if (childCount + nodeChildren.length > children.length) {
+                children = Arrays.copyOf(children, Math.max(children.length * 2, childCount + nodeChildren.length));
+            }
+            nodeArtifacts[id] = artifact;
+            nodeScopes[id] = scopeIndex;
+            nodeOptional[id] = optional;
+            System.arraycopy(nodeChildren, 0, children, childCount, nodeChildren.length);
+            childCount += nodeChildren.length;
+            childOffsets[id + 1] = childCount;
+            nodeIndex.put(key, id);
+            return id;
+        }
+
+        /**
+         * Append a top-level node.
+         */
+        public Builder root(int node) {
+            if (node < 0 || node >= nodeCount) {
+                throw new IllegalArgumentException("Unknown node " + node);
+            }
+            if (rootCount == roots.length) {
+                roots = Arrays.copyOf(roots, rootCount * 2);
+            }
+            roots[rootCount++] = node;
+            return this;
+        }
+
+        public CompactDependencyGraph build() {
+            return new CompactDependencyGraph(this);
+        }
+
+        private int artifact(String groupId, String artifactId, String version, String type) {
+            List<String> key = Arrays.asList(groupId, artifactId, version, type);
+            Integer index = artifactIndex.get(key);
+            if (index == null) {
+                index = artifacts.size();
+                artifacts.add(new String[]{intern(groupId), intern(artifactId), intern(version), intern(type)});
+                artifactIndex.put(key, index);
+            }
+            return index;
+        }
+
+        private int scope(String scope) {
+            int index = scopes.indexOf(scope);
+            if (index < 0) {
+                index = scopes.size();
+                scopes.add(intern(scope));
+            }
+            return index;
+        }
+
+        private static String intern(String value) {
+            return value == null ? null : value.intern();
+        }
+    }
+
+    private record NodeKey(int artifact, int scope, boolean optional, int[] children) {
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof NodeKey k && artifact == k.artifact && scope == k.scope
+                    && optional == k.optional && Arrays.equals(children, k.children);
+        }
+
+        @Override
+        public int hashCode() {
+            return ((artifact * 31 + scope) * 31 + (optional ? 1 : 0)) * 31 + Arrays.hashCode(children);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package io.github.tourem.maven.descriptor.util;
+
+/**
+ * Per-thread count of files opened for reading during analysis: POMs, module resources,
+ * assembly descriptors, Dockerfiles, the license index, metadata and module cache entries.
+ * Used by the analysis profiler to attribute file I/O to detectors. Reads made inside
+ * third-party libraries (JGit) are not seen.
+ *
+ * @author tourem
+ */
+public final class FileReadCounter {
+
+    private static final ThreadLocal<long[]> COUNT = ThreadLocal.withInitial(() -> new long[1]);
+
+    private FileReadCounter() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Record one file read on the current thread.
+     */
+    public static void increment() {
+        COUNT.get()[0]++;
+    }
+
+    /**
+     * Number of files read so far on the current thread.
+     */
+    public static long current() {
+        return COUNT.get()[0];
+    }
+}
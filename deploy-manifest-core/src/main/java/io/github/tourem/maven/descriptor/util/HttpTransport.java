@@ -0,0 +1,140 @@
+package io.github.tourem.maven.descriptor.util;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * HTTP client shared by the network enrichments (repository metadata, POMs, GitHub API).
+ *
+ * <p>One {@link HttpClient} keeps connections alive across lookups and negotiates HTTP/2, so
+ * concurrent requests to the same host are multiplexed instead of each paying a TLS handshake.
+ * The number of requests in flight per host is bounded, and every request carries the same
+ * User-Agent.</p>
+ *
+ * <p>{@link #shared()} lives as long as the JVM (daemon threads); instances created for a
+ * narrower scope must be {@link #close() closed}. Thread-safe.</p>
+ *
+ * @author tourem
+ */
+public final class HttpTransport implements AutoCloseable {
+
+    /** Default bound on requests in flight to one host. */
+    public static final int DEFAULT_MAX_REQUESTS_PER_HOST = 8;
+
+    /** Default connect timeout. */
+    public static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(10);
+
+    /** User-Agent sent with every request. */
+    public static final String USER_AGENT = "deploy-manifest-plugin/" + version();
+
+    private static volatile HttpTransport shared;
+
+    private final ExecutorService executor;
+    private final HttpClient client;
+    private final int maxRequestsPerHost;
+    private final Map<String, Semaphore> hostPermits = new ConcurrentHashMap<>();
+
+    public HttpTransport(int maxRequestsPerHost, Duration connectTimeout) {
+        this.maxRequestsPerHost = Math.max(1, maxRequestsPerHost);
+        AtomicInteger threads = new AtomicInteger();
+        this.executor = Executors.newCachedThreadPool(r -> {
+            Thread t = new Thread(r, "deploy-manifest-http-" + threads.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .connectTimeout(connectTimeout != null ? connectTimeout : DEFAULT_CONNECT_TIMEOUT)
+                .executor(executor)
+                .build();
+    }
+
+    /**
+     * Transport of the current JVM, created on first use.
+     */
+    public static HttpTransport shared() {
+        HttpTransport result = shared;
+        if (result == null) {
+            synchronized (HttpTransport.class) {
+                result = shared;
+                if (result == null) {
+                    result = new HttpTransport(DEFAULT_MAX_REQUESTS_PER_HOST, DEFAULT_CONNECT_TIMEOUT);
+                    shared = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * GET request builder with the common headers.
+     *
+     * @param timeout time allowed until the response headers are received
+     */
+    public HttpRequest.Builder get(String url, Duration timeout) {
+        return HttpRequest.newBuilder()
+                .uri(URI.create(url))
+                .timeout(timeout)
+                .header("User-Agent", USER_AGENT)
+                .GET();
+    }
+
+    /**
+     * POST request builder with the common headers and a JSON body.
+     *
+     * @param timeout time allowed until the response headers are received
+     */
+    public HttpRequest.Builder post(String url, Duration timeout, String json) {
+        return HttpRequest.newBuilder()
+                .uri(URI.create(url))
+                .timeout(timeout)
+                .header("User-Agent", USER_AGENT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json));
+    }
+
+    /**
+     * Send a request, waiting for a free slot when the host already has the maximum number of
+     * requests in flight.
+     */
+    public <T> HttpResponse<T> send(HttpRequest request, HttpResponse.BodyHandler<T> handler)
+            throws IOException, InterruptedException {
+        Semaphore permits = hostPermits.computeIfAbsent(hostKey(request.uri()), k -> new Semaphore(maxRequestsPerHost));
+        permits.acquire();
+        try {
+            return client.send(request, handler);
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Release the worker threads; connections are closed once idle. No-op for {@link #shared()}.
+     */
+    @Override
+    public void close() {
+        if (this != shared) {
+            executor.shutdownNow();
+        }
+    }
+
+    private static String hostKey(URI uri) {
+        return uri.getScheme() + "://" + uri.getHost() + ":" + uri.getPort();
+    }
+
+    private static String version() {
+        String version = HttpTransport.class.getPackage().getImplementationVersion();
+        return version != null ? version : "dev";
+    }
+}
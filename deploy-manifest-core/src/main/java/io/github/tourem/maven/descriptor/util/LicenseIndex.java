@@ -0,0 +1,331 @@
+package io.github.tourem.maven.descriptor.util;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+
+/**
+ * Persistent GAV -> license index shared by all builds of the user (by default
+ * {@code ~/.m2/deploy-manifest/licenses.idx}, next to the metadata cache).
+ *
+ * <p>License metadata of a released artifact never changes, so once resolved (including the
+ * parent POM walk) it is recorded here and later builds skip reading the POMs. SNAPSHOT and
+ * unresolved coordinates are never recorded.</p>
+ *
+ * <p>The file is an append-only log of checksummed records, loaded into an in-memory map; a
+ * lookup miss reads only the bytes appended since the last load, so entries written by
+ * concurrent builds become visible without reloading. The tail is read into a heap buffer
+ * rather than mapped: a live mapping would make the truncation below fail on Windows. Writers append under an
+ * exclusive {@link FileLock} (and a JVM-wide monitor), and a record left incomplete by a crashed
+ * writer is ignored by readers and truncated by the next writer.</p>
+ *
+ * @author tourem
+ */
+@Slf4j
+public final class LicenseIndex {
+
+    /** System property overriding the index file location. */
+    public static final String INDEX_FILE_PROPERTY = "deploy.manifest.licenseIndex.file";
+
+    static final String FILE_NAME = "licenses.idx";
+
+    private static final int FILE_MAGIC = 0x444D4C49; // "DMLI"
+    private static final int FORMAT_VERSION = 1;
+    static final int HEADER_SIZE = 8;
+    private static final int RECORD_MAGIC = 0x4C524543; // "LREC"
+    private static final int MAX_PAYLOAD = 64 * 1024;
+
+    private static final Map<Path, LicenseIndex> OPEN = new ConcurrentHashMap<>();
+    private static final Map<Path, Object> JVM_LOCKS = new ConcurrentHashMap<>();
+
+    private final Path file;
+    private final Object jvmLock;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    /** End of the last valid record loaded from the file. Guarded by this. */
+    private long loadedUpTo = HEADER_SIZE;
+    /** File size when it was last read or written, -1 before; the file only changes by growing or repair. */
+    private volatile long observedSize = -1;
+    /** Set when the file is not an index we can read; the index then stays in memory only. */
+    private volatile boolean unusable;
+
+    LicenseIndex(Path file) {
+        this.file = file.toAbsolutePath().normalize();
+        this.jvmLock = JVM_LOCKS.computeIfAbsent(this.file, k -> new Object());
+    }
+
+    /**
+     * Index shared by every collector of the JVM: {@code ~/.m2/deploy-manifest/licenses.idx},
+     * unless {@value #INDEX_FILE_PROPERTY} is set.
+     */
+    public static LicenseIndex shared() {
+        String override = System.getProperty(INDEX_FILE_PROPERTY);
+        Path indexFile = override != null && !override.isBlank()
+                ? Path.of(override)
+                : MavenMetadataCache.defaultDirectory().resolveSibling(FILE_NAME);
+        return OPEN.computeIfAbsent(indexFile.toAbsolutePath().normalize(), LicenseIndex::new);
+    }
+
+    /**
+     * Whether license data for these coordinates is immutable and may be recorded.
+     */
+    public static boolean isCacheable(String groupId, String artifactId, String version) {
+        return isConcrete(groupId) && isConcrete(artifactId) && isConcrete(version)
+                && !version.endsWith("-SNAPSHOT") && !"LATEST".equals(version) && !"RELEASE".equals(version);
+    }
+
+    private static boolean isConcrete(String s) {
+        return s != null && !s.isBlank() && !s.contains("${");
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * @return the recorded licenses, or null when the GAV is not in the index
+     */
+    public Entry get(String groupId, String artifactId, String version) {
+        if (!isCacheable(groupId, artifactId, version)) {
+            return null;
+        }
+        String key = key(groupId, artifactId, version);
+        Entry entry = entries.get(key);
+        if (entry == null && changedSinceLastRead()) {
+            // Pick up records appended by other builds since the last load
+            refresh();
+            entry = entries.get(key);
+        }
+        return entry;
+    }
+
+    /**
+     * Record the licenses of a released GAV. Ignored for SNAPSHOT or unresolved coordinates.
+     */
+    public void put(String groupId, String artifactId, String version, Entry entry) {
+        if (entry == null || !isCacheable(groupId, artifactId, version)) {
+            return;
+        }
+        String key = key(groupId, artifactId, version);
+        if (entries.putIfAbsent(key, entry) != null || unusable) {
+            return;
+        }
+        byte[] record;
+        try {
+            record = encode(key, entry);
+        } catch (IOException e) {
+            return;
+        }
+        if (record.length - 12 > MAX_PAYLOAD) {
+            return;
+        }
+        synchronized (jvmLock) {
+            synchronized (this) {
+                append(record);
+            }
+        }
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private void append(byte[] record) {
+        try {
+            Files.createDirectories(file.getParent());
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE);
+                 FileLock ignored = channel.lock()) {
+                FileReadCounter.increment();
+                long size = channel.size();
+                if (size < HEADER_SIZE) {
+                    // New (or never completely initialized) file
+                    channel.truncate(0);
+                    ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).putInt(FILE_MAGIC).putInt(FORMAT_VERSION);
+                    header.flip();
+                    writeFully(channel, header, 0);
+                    loadedUpTo = HEADER_SIZE;
+                    size = HEADER_SIZE;
+                } else if (!load(channel, size)) {
+                    return;
+                }
+                if (loadedUpTo < size) {
+                    // Incomplete record from a crashed writer: drop it before appending
+                    channel.truncate(loadedUpTo);
+                }
+                writeFully(channel, ByteBuffer.wrap(record), loadedUpTo);
+                loadedUpTo += record.length;
+                observedSize = loadedUpTo;
+            }
+        } catch (IOException | OverlappingFileLockException e) {
+            log.debug("Could not update license index {}: {}", file, e.getMessage());
+        }
+    }
+
+    /**
+     * Cheap check (no open, no lock) run before a refresh, so misses on an unchanged file cost
+     * one stat rather than an open under the monitor.
+     */
+    private boolean changedSinceLastRead() {
+        if (unusable) {
+            return false;
+        }
+        try {
+            return Files.size(file) != observedSize;
+        } catch (IOException e) {
+            // Missing (nothing recorded yet) or unreadable
+            return false;
+        }
+    }
+
+    private void refresh() {
+        if (unusable) {
+            return;
+        }
+        synchronized (this) {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                FileReadCounter.increment();
+                long size = channel.size();
+                if (size > loadedUpTo) {
+                    load(channel, size);
+                }
+                observedSize = size;
+            } catch (java.nio.file.NoSuchFileException e) {
+                // Nothing recorded yet
+            } catch (IOException e) {
+                log.debug("Could not read license index {}: {}", file, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Load records in [loadedUpTo, size), stopping at the first incomplete or corrupt record.
+     *
+     * @return false when the file is not a readable index
+     */
+    private boolean load(FileChannel channel, long size) throws IOException {
+        if (loadedUpTo == HEADER_SIZE) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            if (channel.read(header, 0) < HEADER_SIZE) {
+                return true;
+            }
+            header.flip();
+            if (header.getInt() != FILE_MAGIC || header.getInt() != FORMAT_VERSION) {
+                log.warn("Ignoring license index {}: unknown format", file);
+                unusable = true;
+                return false;
+            }
+        }
+        long tail = size - loadedUpTo;
+        if (tail > Integer.MAX_VALUE) {
+            log.warn("Ignoring license index {}: too large", file);
+            unusable = true;
+            return false;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate((int) tail);
+        for (long position = loadedUpTo; buffer.hasRemaining(); ) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                break;
+            }
+            position += read;
+        }
+        buffer.flip();
+        CRC32 crc = new CRC32();
+        while (buffer.remaining() >= 12) {
+            int start = buffer.position();
+            int magic = buffer.getInt();
+            int length = buffer.getInt();
+            if (magic != RECORD_MAGIC || length < 0 || length > MAX_PAYLOAD || buffer.remaining() < length + 4) {
+                buffer.position(start);
+                break;
+            }
+            byte[] payload = new byte[length];
+            buffer.get(payload);
+            int checksum = buffer.getInt();
+            crc.reset();
+            crc.update(payload);
+            if ((int) crc.getValue() != checksum) {
+                buffer.position(start);
+                break;
+            }
+            decode(payload);
+        }
+        loadedUpTo += buffer.position();
+        return true;
+    }
+
+    private void decode(byte[] payload) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+        String key = in.readUTF();
+        int count = in.readUnsignedShort();
+        List<String> names = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            names.add(in.readUTF());
+        }
+        String url = in.readBoolean() ? in.readUTF() : null;
+        entries.putIfAbsent(key, new Entry(List.copyOf(names), url));
+    }
+
+    private static byte[] encode(String key, Entry entry) throws IOException {
+        ByteArrayOutputStream payloadBytes = new ByteArrayOutputStream(128);
+        DataOutputStream out = new DataOutputStream(payloadBytes);
+        out.writeUTF(key);
+        out.writeShort(entry.names().size());
+        for (String name : entry.names()) {
+            out.writeUTF(name);
+        }
+        out.writeBoolean(entry.url() != null);
+        if (entry.url() != null) {
+            out.writeUTF(entry.url());
+        }
+        out.flush();
+        byte[] payload = payloadBytes.toByteArray();
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        return ByteBuffer.allocate(12 + payload.length)
+                .putInt(RECORD_MAGIC)
+                .putInt(payload.length)
+                .put(payload)
+                .putInt((int) crc.getValue())
+                .array();
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    private static String key(String groupId, String artifactId, String version) {
+        return groupId + ":" + artifactId + ":" + version;
+    }
+
+    /**
+     * Resolved licenses of an artifact (after following parent POMs).
+     *
+     * @param names license names, empty when the POM declares none
+     * @param url URL of the first license, or null
+     */
+    public record Entry(List<String> names, String url) {
+
+        public Entry {
+            names = names == null ? List.of() : List.copyOf(names);
+        }
+    }
+}
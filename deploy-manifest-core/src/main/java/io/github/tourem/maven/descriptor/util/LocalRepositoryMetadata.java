@@ -0,0 +1,110 @@
+package io.github.tourem.maven.descriptor.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.maven.artifact.versioning.ComparableVersion;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Version metadata of an artifact as far as the local repository knows it, for builds that
+ * cannot reach a remote repository.
+ *
+ * <p>Merges the {@code maven-metadata-<repositoryId>.xml} files Maven leaves next to the version
+ * directories with the version directories themselves (those holding a POM). The result has
+ * the same shape as a remote {@code maven-metadata.xml}, but only covers versions that were
+ * downloaded or installed at some point.</p>
+ *
+ * @author tourem
+ */
+@Slf4j
+public final class LocalRepositoryMetadata {
+
+    private static final Comparator<String> VERSION_ORDER = Comparator.comparing(ComparableVersion::new);
+
+    private final Path localRepository;
+
+    public LocalRepositoryMetadata(Path localRepository) {
+        this.localRepository = localRepository;
+    }
+
+    /**
+     * Local repository of the current build ({@code maven.repo.local} or {@code ~/.m2/repository}).
+     */
+    public static LocalRepositoryMetadata forCurrentBuild() {
+        String repoRoot = System.getProperty("maven.repo.local");
+        return new LocalRepositoryMetadata(repoRoot != null && !repoRoot.isBlank()
+                ? Paths.get(repoRoot)
+                : Paths.get(System.getProperty("user.home"), ".m2", "repository"));
+    }
+
+    /**
+     * Metadata of {@code groupId:artifactId}.
+     *
+     * @return versions in ascending order with latest, release and lastUpdated, or {@code null}
+     * when the local repository has no version of the artifact
+     */
+    public MavenMetadataCache.Metadata read(String groupId, String artifactId) {
+        Path dir = localRepository.resolve(groupId.replace('.', '/')).resolve(artifactId);
+        if (!Files.isDirectory(dir)) {
+            return null;
+        }
+
+        Set<String> versions = new LinkedHashSet<>();
+        String latest = null;
+        String release = null;
+        String lastUpdated = null;
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(dir)) {
+            for (Path entry : entries) {
+                String name = entry.getFileName().toString();
+                if (Files.isDirectory(entry)) {
+                    if (Files.isRegularFile(entry.resolve(artifactId + "-" + name + ".pom"))) {
+                        versions.add(name);
+                    }
+                } else if (name.startsWith("maven-metadata-") && name.endsWith(".xml")) {
+                    try {
+                        FileReadCounter.increment();
+                        MavenMetadataCache.Metadata meta = MavenMetadataCache.parse(Files.readAllBytes(entry));
+                        versions.addAll(meta.versions());
+                        latest = max(latest, meta.latest());
+                        release = max(release, meta.release());
+                        lastUpdated = max(lastUpdated, meta.lastUpdated());
+                    } catch (Exception e) {
+                        log.debug("Ignoring unreadable metadata {}: {}", entry, e.getMessage());
+                    }
+                }
+            }
+        } catch (IOException e) {
+            log.debug("Failed to list {}: {}", dir, e.getMessage());
+            return null;
+        }
+        if (versions.isEmpty()) {
+            return null;
+        }
+
+        List<String> sorted = new ArrayList<>(versions);
+        sorted.sort(VERSION_ORDER);
+        for (String version : sorted) {
+            latest = max(latest, version);
+            if (!version.endsWith("-SNAPSHOT")) {
+                release = max(release, version);
+            }
+        }
+        return new MavenMetadataCache.Metadata(List.copyOf(sorted), latest, release, lastUpdated);
+    }
+
+    private static String max(String current, String candidate) {
+        if (candidate == null) {
+            return current;
+        }
+        return current == null || VERSION_ORDER.compare(candidate, current) > 0 ? candidate : current;
+    }
+}
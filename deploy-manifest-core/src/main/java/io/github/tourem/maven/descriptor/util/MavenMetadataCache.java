@@ -0,0 +1,383 @@
+package io.github.tourem.maven.descriptor.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Cache of parsed {@code maven-metadata.xml} files (version lists, latest/release, lastUpdated),
+ * keyed by URL, kept in memory and optionally on disk so that it survives across builds.
+ *
+ * <p>An entry younger than the TTL is served without any request. An older entry is revalidated
+ * with {@code If-None-Match}/{@code If-Modified-Since}; a {@code 304} only refreshes its age. A
+ * {@code 404} is cached too, so repositories that do not host an artifact are not asked again
+ * until the TTL expires. When offline, entries are served whatever their age and nothing is
+ * fetched; artifacts without an entry are looked up in the {@link LocalRepositoryMetadata local
+ * repository}. When a request fails, the stale entry (if any) is returned.</p>
+ *
+ * <p>Concurrent callers asking for the same URL wait for the single request in flight. A
+ * build-scoped instance ({@code memoize}) also keeps that result, a miss or a failure included,
+ * and serves it to later callers without going back to the network, whatever the TTL; it must
+ * not outlive the build. Other instances, such as {@link #shared()}, apply the TTL and
+ * revalidation on every call.</p>
+ *
+ * <p>Disk entries are small properties files written atomically, so concurrent builds may share
+ * a directory. Thread-safe.</p>
+ *
+ * @author tourem
+ */
+@Slf4j
+public final class MavenMetadataCache {
+
+    /** System property overriding the directory of the shared cache ("none" keeps it in memory). */
+    public static final String DIRECTORY_PROPERTY = "deploy.manifest.metadataCache.dir";
+
+    /** System property overriding the TTL of the shared cache, in minutes. */
+    public static final String TTL_PROPERTY = "deploy.manifest.metadataCache.ttlMinutes";
+
+    /** Default time during which an entry is served without revalidation. */
+    public static final Duration DEFAULT_TTL = Duration.ofMinutes(60);
+
+    private static volatile MavenMetadataCache shared;
+
+    private final HttpTransport http;
+    private final Path directory;
+    private final long ttlMillis;
+    private final boolean offline;
+    private final LocalRepositoryMetadata local;
+    private final boolean memoize;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<Metadata>> resolved = new ConcurrentHashMap<>();
+
+    /**
+     * @param http      transport used for fetches and revalidations
+     * @param directory directory of the disk entries; {@code null} keeps entries in memory only
+     * @param ttl       time during which an entry is served without revalidation
+     * @param offline   serve cached entries only, never fetch
+     */
+    public MavenMetadataCache(HttpTransport http, Path directory, Duration ttl, boolean offline) {
+        this(http, directory, ttl, offline, LocalRepositoryMetadata.forCurrentBuild());
+    }
+
+    /**
+     * @param local metadata of the local repository, used when offline for artifacts without entry
+     */
+    public MavenMetadataCache(HttpTransport http, Path directory, Duration ttl, boolean offline,
+                              LocalRepositoryMetadata local) {
+        this(http, directory, ttl, offline, local, false);
+    }
+
+    /**
+     * @param memoize keep the result of each URL for the life of the instance (one build)
+     */
+    public MavenMetadataCache(HttpTransport http, Path directory, Duration ttl, boolean offline,
+                              LocalRepositoryMetadata local, boolean memoize) {
+        this.http = http;
+        this.directory = directory;
+        this.ttlMillis = ttl != null && !ttl.isNegative() ? ttl.toMillis() : 0L;
+        this.offline = offline;
+        this.local = local;
+        this.memoize = memoize;
+    }
+
+    /**
+     * Memory-only cache that revalidates every entry; behaves like plain fetches, minus the
+     * download of unchanged files.
+     */
+    public static MavenMetadataCache inMemory(HttpTransport http) {
+        return new MavenMetadataCache(http, null, Duration.ZERO, false);
+    }
+
+    /**
+     * Cache of the current JVM, stored under {@link #defaultDirectory()} unless overridden by
+     * {@value #DIRECTORY_PROPERTY}, with the TTL of {@value #TTL_PROPERTY}.
+     */
+    public static MavenMetadataCache shared() {
+        MavenMetadataCache result = shared;
+        if (result == null) {
+            synchronized (MavenMetadataCache.class) {
+                result = shared;
+                if (result == null) {
+                    String dir = System.getProperty(DIRECTORY_PROPERTY);
+                    Path directory = dir == null || dir.isBlank() ? defaultDirectory()
+                            : "none".equalsIgnoreCase(dir) ? null : Paths.get(dir);
+                    Duration ttl = Duration.ofMinutes(Long.getLong(TTL_PROPERTY, DEFAULT_TTL.toMinutes()));
+                    result = new MavenMetadataCache(HttpTransport.shared(), directory, ttl, false);
+                    shared = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * {@code ~/.m2/deploy-manifest/metadata}.
+     */
+    public static Path defaultDirectory() {
+        return Paths.get(System.getProperty("user.home"), ".m2", "deploy-manifest", "metadata");
+    }
+
+    /**
+     * Transport used by this cache, for callers that fetch other resources from the same hosts.
+     */
+    public HttpTransport transport() {
+        return http;
+    }
+
+    /**
+     * Whether this cache never fetches.
+     */
+    public boolean isOffline() {
+        return offline;
+    }
+
+    /**
+     * Metadata of {@code groupId:artifactId} in the repository at {@code repositoryUrl}; when
+     * offline and not cached, the metadata of the local repository.
+     *
+     * @param timeout time allowed for a fetch or revalidation
+     * @return the parsed metadata, or {@code null} when none is known
+     */
+    public Metadata fetch(String repositoryUrl, String groupId, String artifactId, Duration timeout) {
+        String path = groupId.replace('.', '/') + "/" + artifactId + "/maven-metadata.xml";
+        String url = repositoryUrl.endsWith("/") ? repositoryUrl + path : repositoryUrl + "/" + path;
+        Metadata metadata = fetch(url, timeout);
+        if (metadata == null && offline && local != null) {
+            return local.read(groupId, artifactId);
+        }
+        return metadata;
+    }
+
+    /**
+     * Metadata at {@code url}.
+     *
+     * @param timeout time allowed for a fetch or revalidation
+     * @return the parsed metadata, or {@code null} when the repository has none (or cannot be
+     * reached and nothing is cached)
+     */
+    public Metadata fetch(String url, Duration timeout) {
+        CompletableFuture<Metadata> pending = new CompletableFuture<>();
+        CompletableFuture<Metadata> existing = resolved.putIfAbsent(url, pending);
+        if (existing == null) {
+            Metadata metadata = null;
+            try {
+                metadata = resolve(url, timeout);
+            } finally {
+                pending.complete(metadata);
+                // An interrupted lookup (deadline cancel) is not an answer: do not pin it for the build
+                if (!memoize || Thread.currentThread().isInterrupted()) {
+                    resolved.remove(url, pending);
+                }
+            }
+            return metadata;
+        }
+        try {
+            return existing.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            log.debug("Failed to fetch {}: {}", url, e.getMessage());
+        }
+        return null;
+    }
+
+    private Metadata resolve(String url, Duration timeout) {
+        Entry cached = entries.computeIfAbsent(url, this::load);
+        if (cached != Entry.NONE && (offline || System.currentTimeMillis() - cached.fetchedAt() < ttlMillis)) {
+            return cached.metadata();
+        }
+        if (offline) {
+            log.debug("Offline, no cached metadata for {}", url);
+            return null;
+        }
+
+        try {
+            HttpRequest.Builder request = http.get(url, timeout);
+            if (cached != Entry.NONE && cached.metadata() != null) {
+                if (cached.etag() != null) {
+                    request.header("If-None-Match", cached.etag());
+                }
+                if (cached.lastModified() != null) {
+                    request.header("If-Modified-Since", cached.lastModified());
+                }
+            }
+            HttpResponse<byte[]> response = http.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+            int status = response.statusCode();
+
+            Entry fresh;
+            if (status == 304 && cached != Entry.NONE) {
+                fresh = new Entry(cached.metadata(), cached.etag(), cached.lastModified(), System.currentTimeMillis());
+            } else if (status >= 200 && status < 300) {
+                fresh = new Entry(parse(response.body()),
+                        response.headers().firstValue("ETag").orElse(null),
+                        response.headers().firstValue("Last-Modified").orElse(null),
+                        System.currentTimeMillis());
+            } else if (status == 404) {
+                fresh = new Entry(null, null, null, System.currentTimeMillis());
+            } else {
+                log.debug("HTTP {} from {}", status, url);
+                return cached != Entry.NONE ? cached.metadata() : null;
+            }
+            entries.put(url, fresh);
+            store(url, fresh);
+            return fresh.metadata();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.debug("Failed to fetch {}: {}", url, e.getMessage());
+        }
+        return cached != Entry.NONE ? cached.metadata() : null;
+    }
+
+    /**
+     * Parse a {@code maven-metadata.xml} document.
+     */
+    public static Metadata parse(byte[] xml) throws Exception {
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+        factory.setFeature("http://xml.org/sax/features/external-general-entities", false);
+        factory.setFeature("http://xml.org/sax/features/external-parameter-entities", false);
+        Document doc = factory.newDocumentBuilder().parse(new ByteArrayInputStream(xml));
+
+        NodeList versioning = doc.getElementsByTagName("versions");
+        NodeList versionNodes = versioning.getLength() > 0
+                ? ((Element) versioning.item(0)).getElementsByTagName("version")
+                : doc.getElementsByTagName("version");
+        List<String> versions = new ArrayList<>(versionNodes.getLength());
+        for (int i = 0; i < versionNodes.getLength(); i++) {
+            String version = versionNodes.item(i).getTextContent().trim();
+            if (!version.isEmpty()) {
+                versions.add(version);
+            }
+        }
+        return new Metadata(Collections.unmodifiableList(versions),
+                text(doc, "latest"), text(doc, "release"), text(doc, "lastUpdated"));
+    }
+
+    private static String text(Document doc, String tag) {
+        NodeList nodes = doc.getElementsByTagName(tag);
+        if (nodes.getLength() == 0) {
+            return null;
+        }
+        String value = nodes.item(0).getTextContent().trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private Entry load(String url) {
+        if (directory == null) {
+            return Entry.NONE;
+        }
+        Path file = directory.resolve(fileName(url));
+        if (!Files.isRegularFile(file)) {
+            return Entry.NONE;
+        }
+        Properties props = new Properties();
+        FileReadCounter.increment();
+        try (InputStream in = Files.newInputStream(file)) {
+            props.load(in);
+        } catch (IOException e) {
+            log.debug("Ignoring unreadable cache entry {}: {}", file, e.getMessage());
+            return Entry.NONE;
+        }
+        if (!url.equals(props.getProperty("url"))) {
+            return Entry.NONE;
+        }
+        Metadata metadata = null;
+        if (Boolean.parseBoolean(props.getProperty("found"))) {
+            String versions = props.getProperty("versions", "");
+            metadata = new Metadata(versions.isEmpty() ? List.of() : List.of(versions.split(",")),
+                    props.getProperty("latest"), props.getProperty("release"), props.getProperty("lastUpdated"));
+        }
+        long fetchedAt = Long.parseLong(props.getProperty("fetchedAt", "0"));
+        return new Entry(metadata, props.getProperty("etag"), props.getProperty("lastModified"), fetchedAt);
+    }
+
+    private void store(String url, Entry entry) {
+        if (directory == null) {
+            return;
+        }
+        Properties props = new Properties();
+        props.setProperty("url", url);
+        props.setProperty("fetchedAt", Long.toString(entry.fetchedAt()));
+        props.setProperty("found", Boolean.toString(entry.metadata() != null));
+        setIfPresent(props, "etag", entry.etag());
+        setIfPresent(props, "lastModified", entry.lastModified());
+        if (entry.metadata() != null) {
+            props.setProperty("versions", String.join(",", entry.metadata().versions()));
+            setIfPresent(props, "latest", entry.metadata().latest());
+            setIfPresent(props, "release", entry.metadata().release());
+            setIfPresent(props, "lastUpdated", entry.metadata().lastUpdated());
+        }
+        try {
+            Files.createDirectories(directory);
+            Path tmp = Files.createTempFile(directory, "entry", ".tmp");
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                props.store(out, null);
+            }
+            Files.move(tmp, directory.resolve(fileName(url)),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.debug("Failed to store cache entry for {}: {}", url, e.getMessage());
+        }
+    }
+
+    private static void setIfPresent(Properties props, String key, String value) {
+        if (value != null) {
+            props.setProperty(key, value);
+        }
+    }
+
+    private static String fileName(String url) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(url.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(Arrays.copyOf(digest, 16)) + ".properties";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Parsed content of a {@code maven-metadata.xml}.
+     *
+     * @param versions    versions in document order
+     * @param latest      {@code <latest>}, may be {@code null}
+     * @param release     {@code <release>}, may be {@code null}
+     * @param lastUpdated {@code <lastUpdated>} (yyyyMMddHHmmss), may be {@code null}
+     */
+    public record Metadata(List<String> versions, String latest, String release, String lastUpdated) {
+    }
+
+    /**
+     * Cached result; {@code metadata} is {@code null} for a 404.
+     */
+    private record Entry(Metadata metadata, String etag, String lastModified, long fetchedAt) {
+        static final Entry NONE = new Entry(null, null, null, 0L);
+    }
+}
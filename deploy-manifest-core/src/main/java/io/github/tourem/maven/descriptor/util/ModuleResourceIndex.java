@@ -0,0 +1,144 @@
+package io.github.tourem.maven.descriptor.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.error.YAMLException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.stream.Stream;
+
+/**
+ * Index of a module's {@code src/main/resources} directory, built with a single directory
+ * listing and shared by the detectors that read application configuration (profiles,
+ * environments, server port, Actuator path, Quarkus profiles).
+ *
+ * <p>YAML and properties documents are parsed on first access and memoized. Returned documents
+ * are shared between detectors and must not be modified. An index is confined to the thread
+ * analyzing its module.</p>
+ *
+ * @author tourem
+ */
+@Slf4j
+public final class ModuleResourceIndex {
+
+    /** Resources directory, relative to the module directory. */
+    public static final String RESOURCES_DIR = "src/main/resources";
+
+    private final Path modulePath;
+    private final Path resourcesDir;
+    private final List<String> fileNames;
+    private final Map<String, Optional<Map<String, Object>>> yamlDocuments = new HashMap<>();
+    private final Map<String, Optional<Properties>> propertiesDocuments = new HashMap<>();
+
+    private ModuleResourceIndex(Path modulePath, Path resourcesDir, List<String> fileNames) {
+        this.modulePath = modulePath;
+        this.resourcesDir = resourcesDir;
+        this.fileNames = fileNames;
+    }
+
+    /**
+     * List the module's resources directory (top level only).
+     *
+     * @param modulePath module directory
+     * @return the index (empty when the module has no resources directory)
+     */
+    public static ModuleResourceIndex of(Path modulePath) {
+        Path resourcesDir = modulePath.resolve(RESOURCES_DIR);
+        if (!Files.isDirectory(resourcesDir)) {
+            return new ModuleResourceIndex(modulePath, null, List.of());
+        }
+        List<String> names = new ArrayList<>();
+        try (Stream<Path> files = Files.list(resourcesDir)) {
+            files.filter(Files::isRegularFile)
+                 .forEach(f -> names.add(f.getFileName().toString()));
+        } catch (IOException e) {
+            log.warn("Error scanning resources directory {}: {}", resourcesDir, e.getMessage());
+        }
+        Collections.sort(names);
+        return new ModuleResourceIndex(modulePath, resourcesDir, Collections.unmodifiableList(names));
+    }
+
+    public Path getModulePath() {
+        return modulePath;
+    }
+
+    /**
+     * @return the resources directory, or null when the module has none
+     */
+    public Path getResourcesDir() {
+        return resourcesDir;
+    }
+
+    public boolean hasResourcesDir() {
+        return resourcesDir != null;
+    }
+
+    /**
+     * @return names of the regular files directly under the resources directory, sorted
+     */
+    public List<String> getFileNames() {
+        return fileNames;
+    }
+
+    public boolean contains(String fileName) {
+        return Collections.binarySearch(fileNames, fileName) >= 0;
+    }
+
+    /**
+     * Parsed YAML document (top-level mapping).
+     *
+     * @return the document, or null when the file is absent, unreadable or not a mapping
+     */
+    @SuppressWarnings("unchecked")
+    public Map<String, Object> yaml(String fileName) {
+        return yamlDocuments.computeIfAbsent(fileName, name -> {
+            if (!contains(name)) {
+                return Optional.empty();
+            }
+            Path file = resourcesDir.resolve(name);
+            FileReadCounter.increment();
+            try (InputStream in = Files.newInputStream(file)) {
+                Object data = new Yaml().load(in);
+                if (data instanceof Map<?, ?> map) {
+                    return Optional.of((Map<String, Object>) map);
+                }
+            } catch (IOException | YAMLException e) {
+                log.warn("Error reading YAML file {}: {}", file, e.getMessage());
+            }
+            return Optional.empty();
+        }).orElse(null);
+    }
+
+    /**
+     * Parsed properties document.
+     *
+     * @return the properties, or null when the file is absent or unreadable
+     */
+    public Properties properties(String fileName) {
+        return propertiesDocuments.computeIfAbsent(fileName, name -> {
+            if (!contains(name)) {
+                return Optional.empty();
+            }
+            Path file = resourcesDir.resolve(name);
+            FileReadCounter.increment();
+            try (InputStream in = Files.newInputStream(file)) {
+                Properties props = new Properties();
+                props.load(in);
+                return Optional.of(props);
+            } catch (IOException | IllegalArgumentException e) {
+                log.warn("Error reading properties file {}: {}", file, e.getMessage());
+            }
+            return Optional.empty();
+        }).orElse(null);
+    }
+}
@@ -0,0 +1,198 @@
+package io.github.tourem.maven.descriptor.util;
+
+import org.apache.maven.model.Model;
+import org.apache.maven.model.io.xpp3.MavenXpp3Reader;
+import org.codehaus.plexus.util.xml.pull.XmlPullParserException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded cache of parsed POM {@link Model}s (and {@link PomSummary}s) shared by all core services.
+ *
+ * <p>Entries are keyed by the canonical (real) path of the POM and validated against the
+ * file's last-modified time and size, so an edited POM is parsed again. The least recently
+ * used entries are evicted once {@code maxEntries} is reached.</p>
+ *
+ * <p>Returned models are shared between callers and must be treated as read-only.</p>
+ *
+ * @author tourem
+ */
+public final class PomModelCache {
+
+    /** System property overriding the size of the shared cache. */
+    public static final String MAX_ENTRIES_PROPERTY = "deploy.manifest.pomCache.maxEntries";
+
+    static final int DEFAULT_MAX_ENTRIES = 4096;
+
+    private static final String SUMMARY_PREFIX = "summary:";
+
+    private static final PomModelCache SHARED = new PomModelCache(
+            Integer.getInteger(MAX_ENTRIES_PROPERTY, DEFAULT_MAX_ENTRIES));
+
+    private final int maxEntries;
+    private final Map<String, Entry> entries;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public PomModelCache(int maxEntries) {
+        this.maxEntries = Math.max(1, maxEntries);
+        this.entries = new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() > PomModelCache.this.maxEntries) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Cache shared by every service in this class loader (i.e. for the whole build).
+     */
+    public static PomModelCache shared() {
+        return SHARED;
+    }
+
+    /**
+     * Read a POM, returning the cached model when the file has not changed since it was parsed.
+     *
+     * @param pomFile path to a pom.xml (or a .pom file in the local repository)
+     * @return the parsed model
+     */
+    public Model read(Path pomFile) throws IOException, XmlPullParserException {
+        Path realPath = pomFile.toRealPath();
+        BasicFileAttributes attrs = Files.readAttributes(realPath, BasicFileAttributes.class);
+        long mtime = attrs.lastModifiedTime().toMillis();
+        long size = attrs.size();
+        String key = realPath.toString();
+
+        Model cached = (Model) lookup(key, mtime, size);
+        if (cached != null) {
+            return cached;
+        }
+
+        // Parse outside the lock so concurrent module analysis is not serialized on I/O
+        misses.incrementAndGet();
+        FileReadCounter.increment();
+        Model model;
+        try (InputStream in = Files.newInputStream(realPath)) {
+            // Stream variant honours the encoding declared in the XML prolog
+            model = new MavenXpp3Reader().read(in);
+        }
+        store(key, mtime, size, model);
+        return model;
+    }
+
+    /**
+     * Read the {@link PomSummary} of a POM with the streaming {@link PomSummaryReader}. Summaries
+     * share the bounds and statistics of models; when the model of the file is already cached it
+     * is summarized instead of reading the file again.
+     *
+     * @param pomFile path to a pom.xml (or a .pom file in the local repository)
+     * @return the summary
+     */
+    public PomSummary readSummary(Path pomFile) throws IOException {
+        Path realPath = pomFile.toRealPath();
+        BasicFileAttributes attrs = Files.readAttributes(realPath, BasicFileAttributes.class);
+        long mtime = attrs.lastModifiedTime().toMillis();
+        long size = attrs.size();
+        String key = SUMMARY_PREFIX + realPath;
+
+        PomSummary cached = (PomSummary) lookup(key, mtime, size);
+        if (cached != null) {
+            return cached;
+        }
+        Model model = (Model) lookup(realPath.toString(), mtime, size);
+        if (model != null) {
+            PomSummary summary = PomSummary.of(model);
+            store(key, mtime, size, summary);
+            return summary;
+        }
+
+        misses.incrementAndGet();
+        FileReadCounter.increment();
+        PomSummary summary;
+        try (InputStream in = Files.newInputStream(realPath)) {
+            summary = PomSummaryReader.read(in);
+        } catch (IOException e) {
+            // Fall back to the full reader, which reports the actual problem if it fails too
+            try {
+                summary = PomSummary.of(read(realPath));
+            } catch (XmlPullParserException xe) {
+                throw new IOException(xe.getMessage(), xe);
+            }
+        }
+        store(key, mtime, size, summary);
+        return summary;
+    }
+
+    private Object lookup(String key, long mtime, long size) {
+        synchronized (entries) {
+            Entry cached = entries.get(key);
+            if (cached != null && cached.mtime == mtime && cached.size == size) {
+                hits.incrementAndGet();
+                return cached.value;
+            }
+        }
+        return null;
+    }
+
+    private void store(String key, long mtime, long size, Object value) {
+        synchronized (entries) {
+            entries.put(key, new Entry(mtime, size, value));
+        }
+    }
+
+    /**
+     * Current cache statistics.
+     */
+    public Stats stats() {
+        int size;
+        synchronized (entries) {
+            size = entries.size();
+        }
+        return new Stats(hits.get(), misses.get(), evictions.get(), size, maxEntries);
+    }
+
+    /**
+     * Drop all entries and reset counters.
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+        hits.set(0);
+        misses.set(0);
+        evictions.set(0);
+    }
+
+    /** @param value a {@link Model} or a {@link PomSummary} (summary keys are prefixed) */
+    private record Entry(long mtime, long size, Object value) {}
+
+    /**
+     * Snapshot of cache counters.
+     *
+     * @param hits number of reads served from the cache
+     * @param misses number of reads that parsed the POM
+     * @param evictions number of entries evicted to stay within bounds
+     * @param size current number of cached models
+     * @param maxEntries maximum number of cached models
+     */
+    public record Stats(long hits, long misses, long evictions, int size, int maxEntries) {
+        @Override
+        public String toString() {
+            return "hits=" + hits + ", misses=" + misses + ", evictions=" + evictions
+                    + ", size=" + size + "/" + maxEntries;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package io.github.tourem.maven.descriptor.util;
+
+import org.apache.maven.model.Model;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The parts of a POM needed to resolve dependency coordinates, versions and licenses:
+ * coordinates, parent, properties, licenses, dependencyManagement and dependencies. Everything
+ * else (build, plugins, profiles, developers, ...) is left out.
+ *
+ * <p>Read from third-party POMs by {@link PomSummaryReader} (through
+ * {@link PomModelCache#readSummary}), or derived from an already parsed {@link Model}.</p>
+ *
+ * @param groupId declared groupId, or null when inherited
+ * @param artifactId artifactId
+ * @param version declared version, or null when inherited
+ * @param parent parent reference, or null
+ * @param properties declared properties (not inherited ones)
+ * @param licenses declared licenses, in order
+ * @param dependencyManagement managed dependencies (including BOM imports)
+ * @param dependencies declared dependencies
+ * @author tourem
+ */
+public record PomSummary(String groupId, String artifactId, String version, Parent parent,
+                         Map<String, String> properties, List<License> licenses,
+                         List<Dependency> dependencyManagement, List<Dependency> dependencies) {
+
+    /** Maven's default parent location. */
+    public static final String DEFAULT_RELATIVE_PATH = "../pom.xml";
+
+    public PomSummary {
+        properties = properties == null ? Map.of() : Map.copyOf(properties);
+        licenses = licenses == null ? List.of() : List.copyOf(licenses);
+        dependencyManagement = dependencyManagement == null ? List.of() : List.copyOf(dependencyManagement);
+        dependencies = dependencies == null ? List.of() : List.copyOf(dependencies);
+    }
+
+    /**
+     * @return groupId, inherited from the parent when not declared
+     */
+    public String effectiveGroupId() {
+        return groupId != null ? groupId : (parent != null ? parent.groupId() : null);
+    }
+
+    /**
+     * @return version, inherited from the parent when not declared
+     */
+    public String effectiveVersion() {
+        return version != null ? version : (parent != null ? parent.version() : null);
+    }
+
+    /**
+     * Summary of a parsed (raw or effective) model.
+     */
+    public static PomSummary of(Model model) {
+        Parent parent = null;
+        if (model.getParent() != null) {
+            org.apache.maven.model.Parent p = model.getParent();
+            parent = new Parent(p.getGroupId(), p.getArtifactId(), p.getVersion(), p.getRelativePath());
+        }
+        Map<String, String> properties = new LinkedHashMap<>();
+        if (model.getProperties() != null) {
+            for (String name : model.getProperties().stringPropertyNames()) {
+                properties.put(name, model.getProperties().getProperty(name));
+            }
+        }
+        List<License> licenses = new ArrayList<>();
+        if (model.getLicenses() != null) {
+            for (org.apache.maven.model.License l : model.getLicenses()) {
+                licenses.add(new License(l.getName(), l.getUrl()));
+            }
+        }
+        List<Dependency> managed = model.getDependencyManagement() != null
+                ? dependencies(model.getDependencyManagement().getDependencies())
+                : List.of();
+        return new PomSummary(model.getGroupId(), model.getArtifactId(), model.getVersion(), parent,
+                properties, licenses, managed, dependencies(model.getDependencies()));
+    }
+
+    private static List<Dependency> dependencies(List<org.apache.maven.model.Dependency> dependencies) {
+        if (dependencies == null || dependencies.isEmpty()) {
+            return List.of();
+        }
+        List<Dependency> result = new ArrayList<>(dependencies.size());
+        for (org.apache.maven.model.Dependency d : dependencies) {
+            result.add(new Dependency(d.getGroupId(), d.getArtifactId(), d.getVersion(), d.getType(), d.getScope()));
+        }
+        return result;
+    }
+
+    /**
+     * @param relativePath declared relativePath, {@value #DEFAULT_RELATIVE_PATH} when absent
+     *                     (empty when explicitly disabled)
+     */
+    public record Parent(String groupId, String artifactId, String version, String relativePath) {}
+
+    public record License(String name, String url) {}
+
+    /**
+     * Dependency or managed dependency (values as declared, placeholders unresolved).
+     */
+    public record Dependency(String groupId, String artifactId, String version, String type, String scope) {}
+}
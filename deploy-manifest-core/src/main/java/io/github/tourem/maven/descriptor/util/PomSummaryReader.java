@@ -0,0 +1,226 @@
+package io.github.tourem.maven.descriptor.util;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Streaming (StAX) extractor producing a {@link PomSummary}.
+ *
+ * <p>Only the top-level coordinates, parent, properties, licenses, dependencyManagement and
+ * dependencies are materialized; every other subtree (build and plugin configurations,
+ * profiles, developers, ...) is skipped without creating strings, and reading stops as soon as
+ * all the needed sections and coordinates have been seen. Values are trimmed like
+ * {@code MavenXpp3Reader} does.</p>
+ *
+ * <p>DTDs and external entities are disabled.</p>
+ *
+ * @author tourem
+ */
+public final class PomSummaryReader {
+
+    private static final int PARENT = 1;
+    private static final int PROPERTIES = 1 << 1;
+    private static final int LICENSES = 1 << 2;
+    private static final int DEPENDENCY_MANAGEMENT = 1 << 3;
+    private static final int DEPENDENCIES = 1 << 4;
+    private static final int ALL = PARENT | PROPERTIES | LICENSES | DEPENDENCY_MANAGEMENT | DEPENDENCIES;
+
+    /** Factories are not guaranteed to be thread-safe. */
+    private static final ThreadLocal<XMLInputFactory> FACTORY = ThreadLocal.withInitial(() -> {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return factory;
+    });
+
+    private PomSummaryReader() {
+    }
+
+    /**
+     * Read a POM; the encoding declared in the XML prolog is honoured.
+     *
+     * @throws IOException when the stream is not a readable POM
+     */
+    public static PomSummary read(InputStream in) throws IOException {
+        XMLStreamReader xml = null;
+        try {
+            xml = FACTORY.get().createXMLStreamReader(in);
+            return readProject(xml);
+        } catch (XMLStreamException | RuntimeException e) {
+            throw new IOException("Unreadable POM: " + e.getMessage(), e);
+        } finally {
+            if (xml != null) {
+                try {
+                    xml.close();
+                } catch (XMLStreamException ignore) {
+                    // Nothing to release
+                }
+            }
+        }
+    }
+
+    private static PomSummary readProject(XMLStreamReader xml) throws XMLStreamException {
+        if (xml.nextTag() != XMLStreamConstants.START_ELEMENT || !"project".equals(xml.getLocalName())) {
+            throw new XMLStreamException("Root element is not <project>");
+        }
+        String groupId = null;
+        String artifactId = null;
+        String version = null;
+        PomSummary.Parent parent = null;
+        Map<String, String> properties = null;
+        List<PomSummary.License> licenses = null;
+        List<PomSummary.Dependency> managed = null;
+        List<PomSummary.Dependency> dependencies = null;
+        int seen = 0;
+
+        // Children of <project> come in any order: stop early only once nothing is left to read,
+        // since a groupId or version declared further down overrides the parent's
+        while ((seen != ALL || groupId == null || artifactId == null || version == null)
+                && xml.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            switch (xml.getLocalName()) {
+                case "groupId" -> groupId = text(xml);
+                case "artifactId" -> artifactId = text(xml);
+                case "version" -> version = text(xml);
+                case "parent" -> {
+                    parent = readParent(xml);
+                    seen |= PARENT;
+                }
+                case "properties" -> {
+                    properties = readProperties(xml);
+                    seen |= PROPERTIES;
+                }
+                case "licenses" -> {
+                    licenses = readLicenses(xml);
+                    seen |= LICENSES;
+                }
+                case "dependencyManagement" -> {
+                    managed = readDependencyManagement(xml);
+                    seen |= DEPENDENCY_MANAGEMENT;
+                }
+                case "dependencies" -> {
+                    dependencies = readDependencies(xml);
+                    seen |= DEPENDENCIES;
+                }
+                default -> skip(xml);
+            }
+        }
+        return new PomSummary(groupId, artifactId, version, parent, properties, licenses, managed, dependencies);
+    }
+
+    private static PomSummary.Parent readParent(XMLStreamReader xml) throws XMLStreamException {
+        String groupId = null;
+        String artifactId = null;
+        String version = null;
+        String relativePath = PomSummary.DEFAULT_RELATIVE_PATH;
+        while (xml.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            switch (xml.getLocalName()) {
+                case "groupId" -> groupId = text(xml);
+                case "artifactId" -> artifactId = text(xml);
+                case "version" -> version = text(xml);
+                case "relativePath" -> relativePath = text(xml);
+                default -> skip(xml);
+            }
+        }
+        return new PomSummary.Parent(groupId, artifactId, version, relativePath);
+    }
+
+    private static Map<String, String> readProperties(XMLStreamReader xml) throws XMLStreamException {
+        Map<String, String> properties = new LinkedHashMap<>();
+        while (xml.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            String name = xml.getLocalName();
+            properties.put(name, text(xml));
+        }
+        return properties;
+    }
+
+    private static List<PomSummary.License> readLicenses(XMLStreamReader xml) throws XMLStreamException {
+        List<PomSummary.License> licenses = new ArrayList<>(1);
+        while (xml.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            if (!"license".equals(xml.getLocalName())) {
+                skip(xml);
+                continue;
+            }
+            String name = null;
+            String url = null;
+            while (xml.nextTag() == XMLStreamConstants.START_ELEMENT) {
+                switch (xml.getLocalName()) {
+                    case "name" -> name = text(xml);
+                    case "url" -> url = text(xml);
+                    default -> skip(xml);
+                }
+            }
+            licenses.add(new PomSummary.License(name, url));
+        }
+        return licenses;
+    }
+
+    private static List<PomSummary.Dependency> readDependencyManagement(XMLStreamReader xml) throws XMLStreamException {
+        List<PomSummary.Dependency> managed = List.of();
+        while (xml.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            if ("dependencies".equals(xml.getLocalName())) {
+                managed = readDependencies(xml);
+            } else {
+                skip(xml);
+            }
+        }
+        return managed;
+    }
+
+    private static List<PomSummary.Dependency> readDependencies(XMLStreamReader xml) throws XMLStreamException {
+        List<PomSummary.Dependency> dependencies = new ArrayList<>();
+        while (xml.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            if (!"dependency".equals(xml.getLocalName())) {
+                skip(xml);
+                continue;
+            }
+            String groupId = null;
+            String artifactId = null;
+            String version = null;
+            String type = null;
+            String scope = null;
+            while (xml.nextTag() == XMLStreamConstants.START_ELEMENT) {
+                switch (xml.getLocalName()) {
+                    case "groupId" -> groupId = text(xml);
+                    case "artifactId" -> artifactId = text(xml);
+                    case "version" -> version = text(xml);
+                    case "type" -> type = text(xml);
+                    case "scope" -> scope = text(xml);
+                    default -> skip(xml); // exclusions, classifier, optional, ...
+                }
+            }
+            dependencies.add(new PomSummary.Dependency(groupId, artifactId, version, type, scope));
+        }
+        return dependencies;
+    }
+
+    /**
+     * Trimmed text of a simple element; the reader is left on its end tag.
+     */
+    private static String text(XMLStreamReader xml) throws XMLStreamException {
+        return xml.getElementText().trim();
+    }
+
+    /**
+     * Skip the current element and its subtree; the reader is left on its end tag.
+     */
+    private static void skip(XMLStreamReader xml) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            int event = xml.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+}
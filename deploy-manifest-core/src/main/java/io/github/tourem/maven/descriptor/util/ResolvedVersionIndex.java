@@ -0,0 +1,140 @@
+package io.github.tourem.maven.descriptor.util;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Immutable groupId:artifactId -> version mapping of a module's resolved dependency graph, as
+ * computed by Maven. The plugin builds one per module and hands it to the analyzer so that
+ * license collection uses the versions Maven actually selected.
+ *
+ * <p>Backed by an open-addressing table (linear probing, load factor at most 0.5) of interned
+ * groupIds and artifactIds: {@link #version(String, String)} compares the two parts separately
+ * and never builds a "G:A" key, so lookups do not allocate.</p>
+ *
+ * @author tourem
+ */
+public final class ResolvedVersionIndex {
+
+    /** Index without entries. */
+    public static final ResolvedVersionIndex EMPTY = new Builder().build();
+
+    private final String[] groupIds;
+    private final String[] artifactIds;
+    private final String[] versions;
+    private final int[] hashes;
+    private final int mask;
+    private final int size;
+
+    private ResolvedVersionIndex(List<String[]> entries) {
+        int capacity = 2;
+        while (capacity < entries.size() * 2) {
+            capacity <<= 1;
+        }
+        this.groupIds = new String[capacity];
+        this.artifactIds = new String[capacity];
+        this.versions = new String[capacity];
+        this.hashes = new int[capacity];
+        this.mask = capacity - 1;
+        this.size = entries.size();
+        for (String[] e : entries) {
+            int h = hash(e[0], e[1]);
+            int i = h & mask;
+            while (groupIds[i] != null) {
+                i = (i + 1) & mask;
+            }
+            groupIds[i] = e[0];
+            artifactIds[i] = e[1];
+            versions[i] = e[2];
+            hashes[i] = h;
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return the resolved version, or null when the GA is not part of the graph
+     */
+    public String version(String groupId, String artifactId) {
+        if (size == 0 || groupId == null || artifactId == null) {
+            return null;
+        }
+        int h = hash(groupId, artifactId);
+        for (int i = h & mask; ; i = (i + 1) & mask) {
+            String g = groupIds[i];
+            if (g == null) {
+                return null;
+            }
+            if (hashes[i] == h && (g == groupId || g.equals(groupId))) {
+                String a = artifactIds[i];
+                if (a == artifactId || a.equals(artifactId)) {
+                    return versions[i];
+                }
+            }
+        }
+    }
+
+    /**
+     * @return every entry as {@code groupId:artifactId:version}, sorted
+     */
+    public List<String> coordinates() {
+        List<String> result = new ArrayList<>(size);
+        for (int i = 0; i < groupIds.length; i++) {
+            if (groupIds[i] != null) {
+                result.add(groupIds[i] + ":" + artifactIds[i] + ":" + versions[i]);
+            }
+        }
+        result.sort(null);
+        return result;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private static int hash(String groupId, String artifactId) {
+        int h = groupId.hashCode() * 31 + artifactId.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    @Override
+    public String toString() {
+        return "ResolvedVersionIndex[size=" + size + "]";
+    }
+
+    /**
+     * Collects entries; the first version recorded for a GA wins.
+     */
+    public static final class Builder {
+        private final List<String[]> entries = new ArrayList<>();
+        private final Set<List<String>> keys = new HashSet<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Record a version; ignored when a part is missing or the GA is already recorded.
+         */
+        public Builder put(String groupId, String artifactId, String version) {
+            if (groupId == null || artifactId == null || version == null || version.isBlank()) {
+                return this;
+            }
+            if (keys.add(List.of(groupId, artifactId))) {
+                entries.add(new String[]{groupId.intern(), artifactId.intern(), version});
+            }
+            return this;
+        }
+
+        public ResolvedVersionIndex build() {
+            return new ResolvedVersionIndex(entries);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package io.github.tourem.maven.descriptor.service;
+
+import io.github.tourem.maven.descriptor.model.AnalysisOptions;
+import io.github.tourem.maven.descriptor.model.GenerationStats;
+import io.github.tourem.maven.descriptor.model.ProjectDescriptor;
+import io.github.tourem.maven.descriptor.util.FileReadCounter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for per-detector profiling of the analysis.
+ */
+class AnalysisProfilerTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldAggregateDetectorsAcrossModules() {
+        AnalysisProfiler profiler = new AnalysisProfiler(true);
+
+        AnalysisProfiler.ModuleTimer b = profiler.startModule();
+        b.run("Slow", () -> sleep(20));
+        b.finish("g:b");
+
+        AnalysisProfiler.ModuleTimer a = profiler.startModule();
+        String result = a.measure("Fast", () -> "ok");
+        a.run("Slow", () -> {
+            FileReadCounter.increment();
+            FileReadCounter.increment();
+        });
+        a.finish("g:a");
+
+        GenerationStats stats = profiler.toStats(List.of("g:a", "g:b"), 50_000_000L, 2, 3, 4);
+
+        assertThat(result).isEqualTo("ok");
+        assertThat(stats.totalWallTimeMs()).isEqualTo(50.0);
+        assertThat(stats.modulesProfiled()).isEqualTo(2);
+        assertThat(stats.pomCacheHits()).isEqualTo(3L);
+        assertThat(stats.pomCacheMisses()).isEqualTo(4L);
+        assertThat(stats.modules()).extracting(GenerationStats.ModuleStats::module).containsExactly("g:a", "g:b");
+        assertThat(stats.modules().get(0).filesRead()).isEqualTo(2);
+
+        // Slowest detector first, invocations summed across modules
+        GenerationStats.DetectorStats slow = stats.detectors().get(0);
+        assertThat(slow.detector()).isEqualTo("Slow");
+        assertThat(slow.invocations()).isEqualTo(2);
+        assertThat(slow.wallTimeMs()).isGreaterThanOrEqualTo(20.0);
+        assertThat(slow.filesRead()).isEqualTo(2);
+        assertThat(stats.detectors()).extracting(GenerationStats.DetectorStats::detector).containsExactly("Slow", "Fast");
+
+        assertThat(AnalysisProfiler.formatTable(stats, 10))
+                .anyMatch(line -> line.startsWith("Slow"))
+                .anyMatch(line -> line.startsWith("g:b"));
+    }
+
+    @Test
+    void shouldRecordNothingWhenDisabled() {
+        AnalysisProfiler profiler = new AnalysisProfiler(false);
+        AnalysisProfiler.ModuleTimer timer = profiler.startModule();
+        assertThat(timer.measure("Any", () -> 42)).isEqualTo(42);
+        timer.finish("g:a");
+
+        assertThat(profiler.toStats(List.of("g:a"), 0, 1, 0, 0).modules()).isEmpty();
+    }
+
+    @Test
+    void shouldExposeGenerationStatsOnlyWhenProfiling() throws IOException {
+        Path module = tempDir.resolve("demo");
+        Files.createDirectories(module);
+        Files.writeString(module.resolve("pom.xml"), """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <project xmlns="http://maven.apache.org/POM/4.0.0">
+                <modelVersion>4.0.0</modelVersion>
+                <groupId>com.example</groupId>
+                <artifactId>demo</artifactId>
+                <version>1.0.0</version>
+            </project>
+            """);
+
+        ProjectDescriptor plain = new MavenProjectAnalyzer().analyzeProject(module);
+        assertThat(plain.generationStats()).isNull();
+
+        AnalysisOptions profiling = AnalysisOptions.builder().profile(true).build();
+        ProjectDescriptor profiled = new MavenProjectAnalyzer(null, null, null, null, profiling).analyzeProject(module);
+        GenerationStats stats = profiled.generationStats();
+
+        assertThat(stats).isNotNull();
+        assertThat(stats.modules()).extracting(GenerationStats.ModuleStats::module).containsExactly("com.example:demo");
+        assertThat(stats.detectors()).extracting(GenerationStats.DetectorStats::detector)
+                .contains("SpringBootDetector", "DockerImageDetector", "LicenseCollector", "TestingInfoCollector");
+        assertThat(stats.detectors()).allMatch(d -> d.invocations() > 0);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package io.github.tourem.maven.descriptor.service;
+
+import io.github.tourem.maven.descriptor.model.AnalysisOptions;
+import io.github.tourem.maven.descriptor.model.DeployableModule;
+import io.github.tourem.maven.descriptor.model.ProjectDescriptor;
+import io.github.tourem.maven.descriptor.util.PomModelCache;
+import io.github.tourem.maven.descriptor.util.ResolvedVersionIndex;
+import org.apache.maven.model.Model;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for incremental (fingerprint based) module analysis.
+ */
+class IncrementalModuleCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldRoundTripAnalyzedModuleExceptBuildMetrics() throws IOException {
+        Path module = createSpringBootModule();
+        ProjectDescriptor descriptor = new MavenProjectAnalyzer().analyzeProject(module);
+        DeployableModule analyzed = descriptor.deployableModules().get(0);
+
+        IncrementalModuleCache cache = new IncrementalModuleCache("opts");
+        String fingerprint = cache.fingerprint(module, module);
+        cache.store(module, fingerprint, analyzed);
+        DeployableModule loaded = cache.load(module, fingerprint);
+
+        assertThat(loaded).isNotNull();
+        assertThat(loaded.getBuildMetrics()).isNull();
+        loaded.setBuildMetrics(analyzed.getBuildMetrics());
+        assertThat(loaded).isEqualTo(analyzed);
+    }
+
+    @Test
+    void shouldChangeFingerprintWhenInputsChange() throws IOException {
+        Path module = createSpringBootModule();
+        IncrementalModuleCache cache = new IncrementalModuleCache("opts");
+        String initial = cache.fingerprint(module, module);
+
+        assertThat(cache.fingerprint(module, module)).isEqualTo(initial);
+        assertThat(new IncrementalModuleCache("other-opts").fingerprint(module, module)).isNotEqualTo(initial);
+
+        Path yml = module.resolve("src/main/resources/application-prod.yml");
+        Files.writeString(yml, "server:\n  port: 9090\n");
+        String withProfile = cache.fingerprint(module, module);
+        assertThat(withProfile).isNotEqualTo(initial);
+
+        Files.writeString(yml, "server:\n  port: 9091\n");
+        Files.setLastModifiedTime(yml, FileTime.fromMillis(Files.getLastModifiedTime(yml).toMillis() + 5_000));
+        assertThat(cache.fingerprint(module, module)).isNotEqualTo(withProfile);
+
+        Files.writeString(module.resolve("Dockerfile"), "FROM eclipse-temurin:17\n");
+        assertThat(cache.fingerprint(module, module)).isNotEqualTo(withProfile);
+    }
+
+    @Test
+    void shouldReuseCachedModuleWhenNothingChanged() throws IOException {
+        Path module = createSpringBootModule();
+        AnalysisOptions incremental = AnalysisOptions.builder().incremental(true).build();
+
+        ProjectDescriptor first = new MavenProjectAnalyzer(null, null, null, null, incremental).analyzeProject(module);
+        assertThat(module.resolve(IncrementalModuleCache.CACHE_FILE)).exists();
+
+        // Tamper with the cached entry: a reused module exposes the tampered value
+        Path cacheFile = module.resolve(IncrementalModuleCache.CACHE_FILE);
+        Files.writeString(cacheFile, Files.readString(cacheFile).replace("\"finalName\":\"demo-1.0.0\"", "\"finalName\":\"from-cache\""));
+        ProjectDescriptor second = new MavenProjectAnalyzer(null, null, null, null, incremental).analyzeProject(module);
+
+        assertThat(first.deployableModules().get(0).getFinalName()).isEqualTo("demo-1.0.0");
+        assertThat(second.deployableModules().get(0).getFinalName()).isEqualTo("from-cache");
+        assertThat(second.deployableModules().get(0).getBuildMetrics()).isNotNull();
+
+        // Changing the POM invalidates the entry
+        Path pom = module.resolve("pom.xml");
+        Files.writeString(pom, Files.readString(pom).replace("<name>Demo</name>", "<name>Demo 2</name>"));
+        ProjectDescriptor third = new MavenProjectAnalyzer(null, null, null, null, incremental).analyzeProject(module);
+        assertThat(third.deployableModules().get(0).getFinalName()).isEqualTo("demo-1.0.0");
+    }
+
+    @Test
+    void shouldFingerprintEffectiveModelsAsAWhole() throws Exception {
+        Path module = createSpringBootModule();
+        Model defaults = PomModelCache.shared().read(module.resolve("pom.xml")).clone();
+        // Same pom.xml, built with -Pprod: a profile property merged into the effective model
+        Model prod = defaults.clone();
+        prod.addProperty("server.port", "9090");
+
+        IncrementalModuleCache reactor = new IncrementalModuleCache("opts", true);
+        IncrementalModuleCache raw = new IncrementalModuleCache("opts");
+
+        assertThat(reactor.fingerprint(module, module, prod, null, null))
+                .isNotEqualTo(reactor.fingerprint(module, module, defaults, null, null));
+        assertThat(reactor.fingerprint(module, module, defaults.clone(), null, null))
+                .isEqualTo(reactor.fingerprint(module, module, defaults, null, null));
+        assertThat(raw.fingerprint(module, module, prod, null, null))
+                .isEqualTo(raw.fingerprint(module, module, defaults, null, null));
+    }
+
+    @Test
+    void shouldFingerprintInputsOutsideTheModule() throws Exception {
+        Path repo = Files.createDirectories(tempDir.resolve("repository"));
+        Path module = Files.createDirectories(tempDir.resolve("app"));
+        Files.writeString(module.resolve("pom.xml"), """
+            <project xmlns="http://maven.apache.org/POM/4.0.0">
+                <modelVersion>4.0.0</modelVersion>
+                <parent>
+                    <groupId>org.acme</groupId>
+                    <artifactId>parent</artifactId>
+                    <version>1.0</version>
+                </parent>
+                <artifactId>app</artifactId>
+                <build>
+                    <plugins>
+                        <plugin>
+                            <artifactId>maven-assembly-plugin</artifactId>
+                            <configuration>
+                                <descriptors><descriptor>../packaging/dist.xml</descriptor></descriptors>
+                            </configuration>
+                        </plugin>
+                    </plugins>
+                </build>
+            </project>
+            """);
+        Model model = PomModelCache.shared().read(module.resolve("pom.xml"));
+        IncrementalModuleCache cache = new IncrementalModuleCache("opts");
+        ResolvedVersionIndex versions = ResolvedVersionIndex.builder().put("org.acme", "lib", "1.0").build();
+        String initial = cache.fingerprint(module, module, model, repo, versions);
+
+        // Parent downloaded, importing a BOM that is not
+        writeRepoPom(repo, "parent", """
+            <dependencyManagement><dependencies><dependency>
+                <groupId>org.acme</groupId><artifactId>bom</artifactId><version>2.0</version>
+                <type>pom</type><scope>import</scope>
+            </dependency></dependencies></dependencyManagement>
+            """);
+        String withParent = cache.fingerprint(module, module, model, repo, versions);
+        assertThat(withParent).isNotEqualTo(initial);
+
+        Path bom = writeRepoPom(repo, "bom", "");
+        String withBom = cache.fingerprint(module, module, model, repo, versions);
+        assertThat(withBom).isNotEqualTo(withParent);
+
+        Files.setLastModifiedTime(bom, FileTime.fromMillis(Files.getLastModifiedTime(bom).toMillis() + 5_000));
+        String bomChanged = cache.fingerprint(module, module, model, repo, versions);
+        assertThat(bomChanged).isNotEqualTo(withBom);
+
+        Path descriptor = Files.createDirectories(tempDir.resolve("packaging")).resolve("dist.xml");
+        Files.writeString(descriptor, "<assembly><id>dist</id></assembly>");
+        String withDescriptor = cache.fingerprint(module, module, model, repo, versions);
+        assertThat(withDescriptor).isNotEqualTo(bomChanged);
+
+        assertThat(cache.fingerprint(module, module, model, repo,
+                ResolvedVersionIndex.builder().put("org.acme", "lib", "1.1").build())).isNotEqualTo(withDescriptor);
+        assertThat(cache.fingerprint(module, module, model, repo, versions)).isEqualTo(withDescriptor);
+    }
+
+    private static Path writeRepoPom(Path repo, String artifactId, String body) throws IOException {
+        Path dir = Files.createDirectories(repo.resolve("org/acme").resolve(artifactId));
+        String version = "bom".equals(artifactId) ? "2.0" : "1.0";
+        Path versionDir = Files.createDirectories(dir.resolve(version));
+        return Files.writeString(versionDir.resolve(artifactId + "-" + version + ".pom"), """
+            <project xmlns="http://maven.apache.org/POM/4.0.0">
+                <modelVersion>4.0.0</modelVersion>
+                <groupId>org.acme</groupId>
+                <artifactId>%s</artifactId>
+                <version>%s</version>
+                <packaging>pom</packaging>
+                %s
+            </project>
+            """.formatted(artifactId, version, body));
+    }
+
+    private Path createSpringBootModule() throws IOException {
+        Path module = tempDir.resolve("demo");
+        Files.createDirectories(module.resolve("src/main/resources"));
+        Files.writeString(module.resolve("pom.xml"), """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <project xmlns="http://maven.apache.org/POM/4.0.0">
+                <modelVersion>4.0.0</modelVersion>
+                <groupId>com.example</groupId>
+                <artifactId>demo</artifactId>
+                <version>1.0.0</version>
+                <name>Demo</name>
+                <properties>
+                    <java.version>17</java.version>
+                </properties>
+                <dependencies>
+                    <dependency>
+                        <groupId>org.springframework.boot</groupId>
+                        <artifactId>spring-boot-starter-web</artifactId>
+                        <version>3.2.0</version>
+                    </dependency>
+                </dependencies>
+                <build>
+                    <plugins>
+                        <plugin>
+                            <groupId>org.springframework.boot</groupId>
+                            <artifactId>spring-boot-maven-plugin</artifactId>
+                            <version>3.2.0</version>
+                        </plugin>
+                    </plugins>
+                </build>
+            </project>
+            """);
+        Files.writeString(module.resolve("src/main/resources/application.yml"), "server:\n  port: 8081\n");
+        Files.writeString(module.resolve("src/main/resources/application-dev.yml"), "server:\n  port: 8082\n");
+        return module;
+    }
+}
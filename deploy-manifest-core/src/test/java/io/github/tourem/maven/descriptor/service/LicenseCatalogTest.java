@@ -0,0 +1,135 @@
+package io.github.tourem.maven.descriptor.service;
+
+import io.github.tourem.maven.descriptor.model.DependencyTreeOptions;
+import io.github.tourem.maven.descriptor.model.DeployableModule;
+import io.github.tourem.maven.descriptor.model.LicenseCatalogEntry;
+import io.github.tourem.maven.descriptor.model.LicenseDetail;
+import io.github.tourem.maven.descriptor.model.LicenseOptions;
+import io.github.tourem.maven.descriptor.model.ProjectDescriptor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link LicenseCatalog} and the analyzer's licenseCatalog output.
+ */
+class LicenseCatalogTest {
+
+    @TempDir
+    Path tempDir;
+
+    private String previousRepo;
+    private Path repo;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        repo = Files.createDirectories(tempDir.resolve("m2repo"));
+        previousRepo = System.getProperty("maven.repo.local");
+        System.setProperty("maven.repo.local", repo.toString());
+    }
+
+    @AfterEach
+    void cleanup() {
+        if (previousRepo != null) {
+            System.setProperty("maven.repo.local", previousRepo);
+        } else {
+            System.clearProperty("maven.repo.local");
+        }
+    }
+
+    @Test
+    void shouldShareOneCatalogEntryPerDependencyAcrossModules() throws Exception {
+        writeRepoPom("org.acme", "shared", "1.0", "<licenses><license><name>Apache-2.0</name>"
+                + "<url>https://www.apache.org/licenses/LICENSE-2.0</url></license></licenses>"
+                + "<dependencies>" + dependency("org.acme", "deep", "2.0") + "</dependencies>");
+        writeRepoPom("org.acme", "deep", "2.0", "<licenses><license><name>MIT</name></license></licenses>");
+        writeRepoPom("org.acme", "only-b", "1.0", "");
+        Path root = Files.createDirectories(tempDir.resolve("project"));
+        Files.writeString(root.resolve("pom.xml"), """
+                <project xmlns="http://maven.apache.org/POM/4.0.0">
+                  <modelVersion>4.0.0</modelVersion>
+                  <groupId>com.example</groupId>
+                  <artifactId>root</artifactId>
+                  <version>1.0.0</version>
+                  <packaging>pom</packaging>
+                  <modules><module>a</module><module>b</module></modules>
+                </project>
+                """);
+        writeModule(root, "a", dependency("org.acme", "shared", "1.0"));
+        writeModule(root, "b", dependency("org.acme", "only-b", "1.0") + dependency("org.acme", "shared", "1.0"));
+
+        ProjectDescriptor plain = analyze(root, false);
+        ProjectDescriptor catalog = analyze(root, true);
+
+        assertThat(plain.licenseCatalog()).isNull();
+        assertThat(catalog.licenseCatalog()).extracting(LicenseCatalogEntry::getId)
+                .containsExactly("org.acme:deep:2.0", "org.acme:only-b:1.0", "org.acme:shared:1.0");
+        assertThat(catalog.licenseCatalog().get(2).getLicenseUrl()).isEqualTo("https://www.apache.org/licenses/LICENSE-2.0");
+
+        DeployableModule b = catalog.deployableModules().get(1);
+        assertThat(b.getLicenses().getDetails())
+                .extracting(LicenseDetail::getRef, LicenseDetail::getDepth, LicenseDetail::getLicense)
+                .containsExactly(
+                        org.assertj.core.groups.Tuple.tuple("org.acme:only-b:1.0", 1, null),
+                        org.assertj.core.groups.Tuple.tuple("org.acme:shared:1.0", 1, null),
+                        org.assertj.core.groups.Tuple.tuple("org.acme:deep:2.0", 2, null));
+        // Summaries are computed before details are moved to the catalog
+        assertThat(b.getLicenses().getSummary()).isEqualTo(plain.deployableModules().get(1).getLicenses().getSummary());
+        for (int i = 0; i < 2; i++) {
+            assertThat(LicenseCatalog.expand(catalog.deployableModules().get(i).getLicenses().getDetails(), catalog.licenseCatalog()))
+                    .containsExactlyElementsOf(plain.deployableModules().get(i).getLicenses().getDetails());
+        }
+    }
+
+    @Test
+    void shouldLeaveDetailsUnchangedWithoutCatalog() {
+        List<LicenseDetail> details = List.of(LicenseDetail.builder().groupId("g").artifactId("a").version("1").build());
+
+        assertThat(LicenseCatalog.expand(details, null)).isSameAs(details);
+        assertThat(new LicenseCatalog().entries()).isNull();
+    }
+
+    private ProjectDescriptor analyze(Path root, boolean catalog) {
+        return new MavenProjectAnalyzer(DependencyTreeOptions.builder().include(false).build(),
+                LicenseOptions.builder().include(true).persistentIndex(false).catalog(catalog).build())
+                .analyzeProject(root);
+    }
+
+    private static void writeModule(Path root, String name, String dependencies) throws IOException {
+        Path dir = Files.createDirectories(root.resolve(name));
+        Files.writeString(dir.resolve("pom.xml"), """
+                <project xmlns="http://maven.apache.org/POM/4.0.0">
+                  <modelVersion>4.0.0</modelVersion>
+                  <parent><groupId>com.example</groupId><artifactId>root</artifactId><version>1.0.0</version></parent>
+                  <artifactId>%s</artifactId>
+                  <dependencies>%s</dependencies>
+                </project>
+                """.formatted(name, dependencies));
+    }
+
+    private static String dependency(String groupId, String artifactId, String version) {
+        return "<dependency><groupId>" + groupId + "</groupId><artifactId>" + artifactId
+                + "</artifactId><version>" + version + "</version></dependency>";
+    }
+
+    private void writeRepoPom(String groupId, String artifactId, String version, String body) throws IOException {
+        Path dir = Files.createDirectories(repo.resolve(groupId.replace('.', '/')).resolve(artifactId).resolve(version));
+        Files.writeString(dir.resolve(artifactId + "-" + version + ".pom"), """
+                <project xmlns="http://maven.apache.org/POM/4.0.0">
+                  <modelVersion>4.0.0</modelVersion>
+                  <groupId>%s</groupId>
+                  <artifactId>%s</artifactId>
+                  <version>%s</version>
+                  %s
+                </project>
+                """.formatted(groupId, artifactId, version, body));
+    }
+}
@@ -0,0 +1,335 @@
+package io.github.tourem.maven.descriptor.service;
+
+import io.github.tourem.maven.descriptor.model.LicenseDetail;
+import io.github.tourem.maven.descriptor.model.LicenseInfo;
+import io.github.tourem.maven.descriptor.model.LicenseOptions;
+import io.github.tourem.maven.descriptor.util.LicenseIndex;
+import io.github.tourem.maven.descriptor.util.PomModelCache;
+import io.github.tourem.maven.descriptor.util.ResolvedVersionIndex;
+import org.apache.maven.model.Model;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link LicenseCollector}.
+ */
+class LicenseCollectorTest {
+
+    private static final int DEPENDENCIES = 40;
+
+    @TempDir
+    Path tempDir;
+
+    private String previousRepo;
+    private String previousIndex;
+    private Path repo;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        repo = Files.createDirectories(tempDir.resolve("m2repo"));
+        previousRepo = System.getProperty("maven.repo.local");
+        System.setProperty("maven.repo.local", repo.toString());
+        previousIndex = System.getProperty(LicenseIndex.INDEX_FILE_PROPERTY);
+        System.setProperty(LicenseIndex.INDEX_FILE_PROPERTY, tempDir.resolve("deploy-manifest/licenses.idx").toString());
+    }
+
+    @AfterEach
+    void cleanup() {
+        restore("maven.repo.local", previousRepo);
+        restore(LicenseIndex.INDEX_FILE_PROPERTY, previousIndex);
+    }
+
+    private static void restore(String name, String value) {
+        if (value != null) {
+            System.setProperty(name, value);
+        } else {
+            System.clearProperty(name);
+        }
+    }
+
+    @Test
+    void shouldResolveBomManagedVersionsWithPomReadsLinearInDependencyCount() throws Exception {
+        // BOM managing lib-i with versions from its own properties
+        StringBuilder managed = new StringBuilder();
+        StringBuilder bomProps = new StringBuilder();
+        for (int i = 0; i < DEPENDENCIES; i++) {
+            bomProps.append("<lib").append(i).append(".version>2.").append(i).append("</lib").append(i).append(".version>");
+            managed.append("""
+                    <dependency><groupId>org.acme</groupId><artifactId>lib-%d</artifactId><version>${lib%d.version}</version></dependency>
+                    """.formatted(i, i));
+            writeRepoPom("org.acme", "lib-" + i, "2." + i,
+                    "<licenses><license><name>Apache-2.0</name></license></licenses>");
+        }
+        writeRepoPom("org.acme", "acme-bom", "1.0", "<packaging>pom</packaging><properties>" + bomProps
+                + "</properties><dependencyManagement><dependencies>" + managed + "</dependencies></dependencyManagement>");
+
+        // Reactor: root (imports the BOM) -> app (declares unversioned dependencies)
+        Path root = Files.createDirectories(tempDir.resolve("project"));
+        Files.writeString(root.resolve("pom.xml"), """
+                <project xmlns="http://maven.apache.org/POM/4.0.0">
+                  <modelVersion>4.0.0</modelVersion>
+                  <groupId>com.example</groupId>
+                  <artifactId>root</artifactId>
+                  <version>1.0.0</version>
+                  <packaging>pom</packaging>
+                  <dependencyManagement>
+                    <dependencies>
+                      <dependency>
+                        <groupId>org.acme</groupId><artifactId>acme-bom</artifactId><version>1.0</version>
+                        <type>pom</type><scope>import</scope>
+                      </dependency>
+                    </dependencies>
+                  </dependencyManagement>
+                </project>
+                """);
+        Path app = Files.createDirectories(root.resolve("app"));
+        StringBuilder deps = new StringBuilder();
+        for (int i = 0; i < DEPENDENCIES; i++) {
+            deps.append("<dependency><groupId>org.acme</groupId><artifactId>lib-").append(i).append("</artifactId></dependency>");
+        }
+        Files.writeString(app.resolve("pom.xml"), """
+                <project xmlns="http://maven.apache.org/POM/4.0.0">
+                  <modelVersion>4.0.0</modelVersion>
+                  <parent><groupId>com.example</groupId><artifactId>root</artifactId><version>1.0.0</version></parent>
+                  <artifactId>app</artifactId>
+                  <dependencies>%s</dependencies>
+                </project>
+                """.formatted(deps));
+        Model model = PomModelCache.shared().read(app.resolve("pom.xml"));
+
+        PomModelCache.Stats before = PomModelCache.shared().stats();
+        LicenseInfo info = new LicenseCollector().collect(model, app, LicenseOptions.builder()
+                .include(true)
+                .includeTransitiveLicenses(true)
+                .build());
+        PomModelCache.Stats after = PomModelCache.shared().stats();
+
+        assertThat(info.getSummary().getTotal()).isEqualTo(DEPENDENCIES);
+        assertThat(info.getSummary().getIdentified()).isEqualTo(DEPENDENCIES);
+        assertThat(info.getDetails()).extracting(LicenseDetail::getVersion).contains("2.0", "2.39");
+        // One read per dependency POM (plus its transitive lookup), a constant number for the
+        // parent chain and the BOM: no re-import per dependency
+        long reads = (after.hits() + after.misses()) - (before.hits() + before.misses());
+        assertThat(reads).isLessThanOrEqualTo(2L * DEPENDENCIES + 10);
+    }
+
+    @Test
+    void shouldReuseIndexedLicensesOfReleasedArtifactsOnly() throws Exception {
+        Path release = writeRepoPom("org.acme", "released", "1.0", "<licenses><license><name>MIT</name></license></licenses>");
+        Path snapshot = writeRepoPom("org.acme", "snap", "1.0-SNAPSHOT", "<licenses><license><name>MIT</name></license></licenses>");
+        Path app = Files.createDirectories(tempDir.resolve("app"));
+        Files.writeString(app.resolve("pom.xml"), """
+                <project xmlns="http://maven.apache.org/POM/4.0.0">
+                  <modelVersion>4.0.0</modelVersion>
+                  <groupId>com.example</groupId>
+                  <artifactId>app</artifactId>
+                  <version>1.0.0</version>
+                  <dependencies>
+                    <dependency><groupId>org.acme</groupId><artifactId>released</artifactId><version>1.0</version></dependency>
+                    <dependency><groupId>org.acme</groupId><artifactId>snap</artifactId><version>1.0-SNAPSHOT</version></dependency>
+                  </dependencies>
+                </project>
+                """);
+        Model model = PomModelCache.shared().read(app.resolve("pom.xml"));
+        LicenseOptions options = LicenseOptions.builder().include(true).build();
+        assertThat(new LicenseCollector().collect(model, app, options).getSummary().getIdentified()).isEqualTo(2);
+        assertThat(tempDir.resolve("deploy-manifest/licenses.idx")).exists();
+
+        // A later build no longer needs the released POM
+        Files.delete(release);
+        Files.delete(snapshot);
+        LicenseInfo info = new LicenseCollector().collect(model, app, options);
+
+        assertThat(info.getDetails())
+                .extracting(LicenseDetail::getArtifactId, LicenseDetail::getLicense)
+                .containsExactly(org.assertj.core.groups.Tuple.tuple("released", "MIT"),
+                        org.assertj.core.groups.Tuple.tuple("snap", "unknown"));
+    }
+
+    @Test
+    void shouldNotIndexLicensesWhileAParentIsMissing() throws Exception {
+        writeRepoPom("org.acme", "child", "1.0",
+                "<parent><groupId>org.acme</groupId><artifactId>parent</artifactId><version>1.0</version></parent>");
+        Model model = writeApp("app", repoDependency("child", "1.0"));
+        LicenseOptions options = LicenseOptions.builder().include(true).build();
+        assertThat(new LicenseCollector().collect(model, tempDir.resolve("app"), options).getDetails())
+                .extracting(LicenseDetail::getLicense).containsExactly("unknown");
+
+        // The parent is downloaded by a later build
+        writeRepoPom("org.acme", "parent", "1.0", "<licenses><license><name>MIT</name></license></licenses>");
+        LicenseInfo info = new LicenseCollector().collect(model, tempDir.resolve("app"), options);
+
+        assertThat(info.getDetails()).extracting(LicenseDetail::getLicense).containsExactly("MIT");
+    }
+
+    @Test
+    void shouldCollectTheSameDetailsInParallelAsSequentially() throws Exception {
+        // 4 tiers of 30 libraries, each depending on 3 libraries of the next tier (many shared paths)
+        int tiers = 4;
+        int perTier = 30;
+        for (int t = 0; t < tiers; t++) {
+            for (int i = 0; i < perTier; i++) {
+                StringBuilder body = new StringBuilder();
+                if (i % 4 != 3) {
+                    body.append("<licenses><license><name>").append(i % 2 == 0 ? "Apache-2.0" : "MIT")
+                            .append("</name></license></licenses>");
+                }
+                body.append("<dependencies>");
+                if (t + 1 < tiers) {
+                    for (int k = 0; k < 3; k++) {
+                        body.append(repoDependency("tier" + (t + 1) + "-" + ((i * 7 + k) % perTier), "1.0"));
+                    }
+                } else if (i == 0) {
+                    // Cycle back to the top tier
+                    body.append(repoDependency("tier0-0", "1.0"));
+                }
+                body.append(repoDependency("test-only", "1.0").replace("</dependency>", "<scope>test</scope></dependency>"));
+                body.append("</dependencies>");
+                writeRepoPom("org.acme", "tier" + t + "-" + i, "1.0", body.toString());
+            }
+        }
+        StringBuilder deps = new StringBuilder();
+        for (int i = 0; i < perTier; i += 3) {
+            deps.append(repoDependency("tier0-" + i, "1.0"));
+        }
+        Path app = Files.createDirectories(tempDir.resolve("app"));
+        Files.writeString(app.resolve("pom.xml"), """
+                <project xmlns="http://maven.apache.org/POM/4.0.0">
+                  <modelVersion>4.0.0</modelVersion>
+                  <groupId>com.example</groupId>
+                  <artifactId>app</artifactId>
+                  <version>1.0.0</version>
+                  <dependencies>%s</dependencies>
+                </project>
+                """.formatted(deps));
+        Model model = PomModelCache.shared().read(app.resolve("pom.xml"));
+        LicenseOptions.LicenseOptionsBuilder options = LicenseOptions.builder()
+                .include(true)
+                .licenseWarnings(true)
+                .persistentIndex(false);
+
+        LicenseInfo sequential = new LicenseCollector().collect(model, app, options.resolutionParallelism(1).build());
+        LicenseInfo parallel = new LicenseCollector().collect(model, app, options.resolutionParallelism(8).build());
+
+        assertThat(sequential.getSummary().getTotal()).isGreaterThan(3 * perTier);
+        assertThat(parallel.getDetails()).containsExactlyElementsOf(sequential.getDetails());
+        assertThat(parallel.getWarnings()).containsExactlyElementsOf(sequential.getWarnings());
+        assertThat(parallel.getSummary()).isEqualTo(sequential.getSummary());
+        assertThat(sequential.getDetails().get(0).getArtifactId()).isEqualTo("tier0-0");
+        assertThat(sequential.getDetails().get(1).getArtifactId()).isEqualTo("tier1-0");
+        assertThat(sequential.getDetails().get(1).getDepth()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldPreferVersionsResolvedByMavenForTheModule() throws Exception {
+        writeRepoPom("org.acme", "managed", "3.0", "<licenses><license><name>MIT</name></license></licenses>");
+        Path app = Files.createDirectories(tempDir.resolve("app"));
+        Files.writeString(app.resolve("pom.xml"), """
+                <project xmlns="http://maven.apache.org/POM/4.0.0">
+                  <modelVersion>4.0.0</modelVersion>
+                  <groupId>com.example</groupId>
+                  <artifactId>app</artifactId>
+                  <version>1.0.0</version>
+                  <dependencies>
+                    <dependency><groupId>org.acme</groupId><artifactId>managed</artifactId></dependency>
+                  </dependencies>
+                </project>
+                """);
+        Model model = PomModelCache.shared().read(app.resolve("pom.xml"));
+        LicenseOptions options = LicenseOptions.builder().include(true).persistentIndex(false).build();
+        ResolvedVersionIndex versions = ResolvedVersionIndex.builder().put("org.acme", "managed", "3.0").build();
+
+        LicenseInfo withoutIndex = new LicenseCollector().collect(model, app, options);
+        LicenseInfo info = new LicenseCollector().collect(model, app, options, versions);
+
+        assertThat(withoutIndex.getDetails()).extracting(LicenseDetail::getVersion, LicenseDetail::getLicense)
+                .containsExactly(org.assertj.core.groups.Tuple.tuple(null, "unknown"));
+        assertThat(info.getDetails()).extracting(LicenseDetail::getVersion, LicenseDetail::getLicense)
+                .containsExactly(org.assertj.core.groups.Tuple.tuple("3.0", "MIT"));
+        assertThat(System.getProperties().stringPropertyNames())
+                .noneMatch(name -> name.startsWith("deploy.manifest.resolved."));
+    }
+
+    @Test
+    void shouldResolveDependenciesSharedByModulesOnceWithReactorCache() throws Exception {
+        writeRepoPom("org.acme", "shared", "1.0", "<licenses><license><name>MIT</name></license></licenses><dependencies>"
+                + repoDependency("deep", "1.0") + "</dependencies>");
+        writeRepoPom("org.acme", "deep", "1.0", "<licenses><license><name>MIT</name></license></licenses>");
+        Model first = writeApp("first", repoDependency("shared", "1.0"));
+        Model second = writeApp("second", repoDependency("shared", "1.0"));
+        LicenseOptions options = LicenseOptions.builder().include(true).persistentIndex(false).build();
+        LicenseCache cache = new LicenseCache();
+        LicenseCollector collector = new LicenseCollector();
+
+        LicenseInfo firstInfo = collector.collect(first, tempDir.resolve("first"), options, ResolvedVersionIndex.EMPTY, cache);
+        PomModelCache.Stats before = PomModelCache.shared().stats();
+        LicenseInfo secondInfo = collector.collect(second, tempDir.resolve("second"), options, ResolvedVersionIndex.EMPTY, cache);
+        PomModelCache.Stats after = PomModelCache.shared().stats();
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(secondInfo.getDetails()).containsExactlyElementsOf(firstInfo.getDetails());
+        assertThat((after.hits() + after.misses()) - (before.hits() + before.misses())).isZero();
+    }
+
+    @Test
+    void shouldPrefetchAllModulesOnTheCachePool() throws Exception {
+        writeRepoPom("org.acme", "lib", "1.0", "<licenses><license><name>MIT</name></license></licenses>");
+        Model first = writeApp("first", repoDependency("lib", "1.0"));
+        Model second = writeApp("second", repoDependency("lib", "1.0"));
+        LicenseOptions options = LicenseOptions.builder().include(true).persistentIndex(false).resolutionParallelism(3).build();
+        LicenseCollector collector = new LicenseCollector();
+
+        ForkJoinPool pool;
+        try (LicenseCache cache = new LicenseCache()) {
+            collector.collect(first, tempDir.resolve("first"), options, ResolvedVersionIndex.EMPTY, cache);
+            pool = cache.prefetchPool(8);
+            collector.collect(second, tempDir.resolve("second"), options, ResolvedVersionIndex.EMPTY, cache);
+
+            // Sized once by the first prefetch, then reused by every module
+            assertThat(pool.getParallelism()).isEqualTo(3);
+            assertThat(cache.prefetchPool(8)).isSameAs(pool);
+        }
+        assertThat(pool.isShutdown()).isTrue();
+    }
+
+    private Model writeApp(String artifactId, String dependencies) throws Exception {
+        Path app = Files.createDirectories(tempDir.resolve(artifactId));
+        Files.writeString(app.resolve("pom.xml"), """
+                <project xmlns="http://maven.apache.org/POM/4.0.0">
+                  <modelVersion>4.0.0</modelVersion>
+                  <groupId>com.example</groupId>
+                  <artifactId>%s</artifactId>
+                  <version>1.0.0</version>
+                  <dependencies>%s</dependencies>
+                </project>
+                """.formatted(artifactId, dependencies));
+        return PomModelCache.shared().read(app.resolve("pom.xml"));
+    }
+
+    private static String repoDependency(String artifactId, String version) {
+        return "<dependency><groupId>org.acme</groupId><artifactId>" + artifactId + "</artifactId><version>"
+                + version + "</version></dependency>";
+    }
+
+    private Path writeRepoPom(String groupId, String artifactId, String version, String body) throws IOException {
+        Path dir = Files.createDirectories(repo.resolve(groupId.replace('.', '/')).resolve(artifactId).resolve(version));
+        return Files.writeString(dir.resolve(artifactId + "-" + version + ".pom"), """
+                <project xmlns="http://maven.apache.org/POM/4.0.0">
+                  <modelVersion>4.0.0</modelVersion>
+                  <groupId>%s</groupId>
+                  <artifactId>%s</artifactId>
+                  <version>%s</version>
+                  %s
+                </project>
+                """.formatted(groupId, artifactId, version, body));
+    }
+}
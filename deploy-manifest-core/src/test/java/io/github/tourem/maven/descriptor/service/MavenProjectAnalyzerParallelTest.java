@@ -0,0 +1,125 @@
+package io.github.tourem.maven.descriptor.service;
+
+import io.github.tourem.maven.descriptor.model.AnalysisOptions;
+import io.github.tourem.maven.descriptor.model.DeployableModule;
+import io.github.tourem.maven.descriptor.model.ProjectDescriptor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the parallel module analysis mode of {@link MavenProjectAnalyzer}.
+ */
+class MavenProjectAnalyzerParallelTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldKeepSerialModuleOrderWhenAnalyzingInParallel() throws IOException {
+        Path projectDir = createNestedReactor();
+
+        ProjectDescriptor serial = new MavenProjectAnalyzer(null, null, null, null,
+                AnalysisOptions.builder().parallelism(1).build()).analyzeProject(projectDir);
+        ProjectDescriptor parallel = new MavenProjectAnalyzer(null, null, null, null,
+                AnalysisOptions.builder().parallelism(4).build()).analyzeProject(projectDir);
+
+        assertThat(artifactIds(parallel)).containsExactlyElementsOf(artifactIds(serial));
+        assertThat(artifactIds(serial)).containsExactly(
+                "app-0", "lib-0-a", "lib-0-b", "app-1", "lib-1-a", "lib-1-b", "app-2", "lib-2-a", "lib-2-b");
+        assertThat(parallel.totalModules()).isEqualTo(serial.totalModules()).isEqualTo(13);
+        assertThat(parallel.deployableModulesCount()).isEqualTo(9);
+    }
+
+    @Test
+    void shouldTreatNonPositiveParallelismAsSerial() throws IOException {
+        Path projectDir = createNestedReactor();
+
+        ProjectDescriptor descriptor = new MavenProjectAnalyzer(null, null, null, null,
+                AnalysisOptions.builder().parallelism(0).build()).analyzeProject(projectDir);
+
+        assertThat(descriptor.deployableModulesCount()).isEqualTo(9);
+    }
+
+    @Test
+    void shouldStreamModulesToListenerInReactorOrder() throws IOException {
+        Path projectDir = createNestedReactor();
+        List<String> events = new ArrayList<>();
+
+        ProjectDescriptor streamed = new MavenProjectAnalyzer(null, null, null, null,
+                AnalysisOptions.builder().parallelism(4).build()).analyzeProject(projectDir, new ModuleListener() {
+                    @Override
+                    public void onHeader(ProjectDescriptor header) {
+                        assertThat(header.deployableModules()).isNull();
+                        events.add("header:" + header.projectArtifactId());
+                    }
+
+                    @Override
+                    public void onModule(DeployableModule module) {
+                        events.add(module.getArtifactId());
+                    }
+                });
+
+        assertThat(events).containsExactly("header:root",
+                "app-0", "lib-0-a", "lib-0-b", "app-1", "lib-1-a", "lib-1-b", "app-2", "lib-2-a", "lib-2-b");
+        assertThat(streamed.deployableModules()).isNull();
+        assertThat(streamed.deployableModulesCount()).isEqualTo(9);
+        assertThat(streamed.totalModules()).isEqualTo(13);
+    }
+
+    private static List<String> artifactIds(ProjectDescriptor descriptor) {
+        return descriptor.deployableModules().stream().map(DeployableModule::getArtifactId).toList();
+    }
+
+    /**
+     * root (pom) -> group-i (pom) -> app-i (jar) -> lib-i-a, lib-i-b (jar)
+     */
+    private Path createNestedReactor() throws IOException {
+        Path root = tempDir.resolve("reactor");
+        Files.createDirectories(root);
+        Files.writeString(root.resolve("pom.xml"), pom("root", "pom", "group-0", "group-1", "group-2"));
+        for (int i = 0; i < 3; i++) {
+            Path group = root.resolve("group-" + i);
+            Files.createDirectories(group);
+            Files.writeString(group.resolve("pom.xml"), pom("group-" + i, "pom", "app-" + i));
+            Path app = group.resolve("app-" + i);
+            Files.createDirectories(app);
+            Files.writeString(app.resolve("pom.xml"), pom("app-" + i, "jar", "lib-" + i + "-a", "lib-" + i + "-b"));
+            for (String suffix : List.of("a", "b")) {
+                Path lib = app.resolve("lib-" + i + "-" + suffix);
+                Files.createDirectories(lib);
+                Files.writeString(lib.resolve("pom.xml"), pom("lib-" + i + "-" + suffix, "jar"));
+            }
+        }
+        return root;
+    }
+
+    private static String pom(String artifactId, String packaging, String... modules) {
+        StringBuilder mods = new StringBuilder();
+        if (modules.length > 0) {
+            mods.append("<modules>");
+            for (String m : modules) {
+                mods.append("<module>").append(m).append("</module>");
+            }
+            mods.append("</modules>");
+        }
+        return """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <project xmlns="http://maven.apache.org/POM/4.0.0">
+                <modelVersion>4.0.0</modelVersion>
+                <groupId>com.example</groupId>
+                <artifactId>%s</artifactId>
+                <version>1.0.0</version>
+                <packaging>%s</packaging>
+                %s
+            </project>
+            """.formatted(artifactId, packaging, mods);
+    }
+}
@@ -0,0 +1,116 @@
+package io.github.tourem.maven.descriptor.service;
+
+import io.github.tourem.maven.descriptor.model.AnalysisOptions;
+import io.github.tourem.maven.descriptor.model.DeployableModule;
+import io.github.tourem.maven.descriptor.model.ProjectDescriptor;
+import io.github.tourem.maven.descriptor.util.PomModelCache;
+import org.apache.maven.model.Model;
+import org.apache.maven.project.MavenProject;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link MavenProjectAnalyzer#analyzeReactor(Path, List)}.
+ */
+class MavenProjectAnalyzerReactorTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldAnalyzeEffectiveModelsWithoutReadingPoms() throws IOException {
+        Path root = tempDir.resolve("reactor");
+        MavenProject rootProject = project(root, "root", "pom", null, "services");
+        MavenProject services = project(root.resolve("services"), "services", "pom", rootProject, "api", "worker");
+        MavenProject api = project(root.resolve("services/api"), "api", "jar", services);
+        MavenProject worker = project(root.resolve("services/worker"), "worker", "jar", services);
+        // No pom.xml exists on disk: everything must come from the reactor models
+        assertThat(root.resolve("pom.xml")).doesNotExist();
+
+        long missesBefore = PomModelCache.shared().stats().misses();
+        ProjectDescriptor descriptor = new MavenProjectAnalyzer()
+                .analyzeReactor(root, List.of(worker, api, services, rootProject));
+
+        assertThat(PomModelCache.shared().stats().misses()).isEqualTo(missesBefore);
+        assertThat(descriptor.projectArtifactId()).isEqualTo("root");
+        assertThat(descriptor.totalModules()).isEqualTo(4);
+        assertThat(descriptor.deployableModules())
+                .extracting(DeployableModule::getArtifactId)
+                .containsExactly("api", "worker");
+        DeployableModule apiModule = descriptor.deployableModules().get(0);
+        // Inherited coordinates come straight from the effective model
+        assertThat(apiModule.getGroupId()).isEqualTo("com.example");
+        assertThat(apiModule.getVersion()).isEqualTo("2.1.0");
+        assertThat(apiModule.getModulePath()).isEqualTo("services/api");
+    }
+
+    @Test
+    void shouldMatchDiskOrderAndStreamModules() throws IOException {
+        Path root = tempDir.resolve("ordered");
+        MavenProject rootProject = project(root, "root", "pom", null, "b-app", "a-app");
+        MavenProject bApp = project(root.resolve("b-app"), "b-app", "jar", rootProject);
+        MavenProject aApp = project(root.resolve("a-app"), "a-app", "jar", rootProject);
+        MavenProject outside = project(tempDir.resolve("elsewhere"), "elsewhere", "jar", null);
+        List<String> events = new ArrayList<>();
+
+        ProjectDescriptor descriptor = new MavenProjectAnalyzer(null, null, null, null,
+                AnalysisOptions.builder().parallelism(2).build())
+                .analyzeReactor(root, List.of(aApp, outside, rootProject, bApp), new ModuleListener() {
+                    @Override
+                    public void onHeader(ProjectDescriptor header) {
+                        events.add("header:" + header.projectArtifactId());
+                    }
+
+                    @Override
+                    public void onModule(DeployableModule module) {
+                        events.add(module.getArtifactId());
+                    }
+                });
+
+        assertThat(events).containsExactly("header:root", "b-app", "a-app");
+        assertThat(descriptor.totalModules()).isEqualTo(3);
+        assertThat(descriptor.deployableModulesCount()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldRejectReactorWithoutRootProject() throws IOException {
+        MavenProject module = project(tempDir.resolve("root/app"), "app", "jar", null);
+
+        assertThatThrownBy(() -> new MavenProjectAnalyzer().analyzeReactor(tempDir.resolve("root"), List.of(module)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("No reactor project found");
+    }
+
+    /**
+     * Build an in-memory reactor project whose model looks like an effective model:
+     * coordinates are set even though they would be inherited in the raw POM.
+     */
+    private static MavenProject project(Path dir, String artifactId, String packaging, MavenProject parent,
+                                        String... modules) throws IOException {
+        Files.createDirectories(dir);
+        Model model = new Model();
+        model.setModelVersion("4.0.0");
+        model.setGroupId("com.example");
+        model.setArtifactId(artifactId);
+        model.setVersion("2.1.0");
+        model.setPackaging(packaging);
+        for (String module : modules) {
+            model.addModule(module);
+        }
+        MavenProject project = new MavenProject(model);
+        project.setFile(dir.resolve("pom.xml").toFile());
+        if (parent != null) {
+            project.setParent(parent);
+        }
+        return project;
+    }
+}
@@ -0,0 +1,48 @@
+package io.github.tourem.maven.descriptor.service;
+
+import io.github.tourem.maven.descriptor.model.PluginInfo;
+import io.github.tourem.maven.descriptor.model.PluginOptions;
+import org.apache.maven.model.Build;
+import org.apache.maven.model.Model;
+import org.apache.maven.model.Plugin;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link PluginCollector}.
+ */
+class PluginCollectorTest {
+
+    @TempDir
+    Path repo;
+
+    @Test
+    void shouldCheckUpdatesAgainstTheGivenLocalRepositoryWhenOffline() throws IOException {
+        Path version = Files.createDirectories(repo.resolve("org/apache/maven/plugins/maven-jar-plugin/3.4.1"));
+        Files.writeString(version.resolve("maven-jar-plugin-3.4.1.pom"), "<project/>");
+        Plugin plugin = new Plugin();
+        plugin.setGroupId("org.apache.maven.plugins");
+        plugin.setArtifactId("maven-jar-plugin");
+        plugin.setVersion("3.3.0");
+        Model model = new Model();
+        model.setBuild(new Build());
+        model.getBuild().addPlugin(plugin);
+        PluginOptions options = PluginOptions.builder()
+                .include(true)
+                .checkPluginUpdates(true)
+                .offline(true)
+                .localRepository(repo)
+                .build();
+
+        PluginInfo info = new PluginCollector().collect(model, repo, options);
+
+        assertThat(info.getList()).singleElement()
+                .satisfies(d -> assertThat(d.getOutdated().getLatest()).isEqualTo("3.4.1"));
+    }
+}
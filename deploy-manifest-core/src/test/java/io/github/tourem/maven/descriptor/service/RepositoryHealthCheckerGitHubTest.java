@@ -0,0 +1,161 @@
+package io.github.tourem.maven.descriptor.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.github.tourem.maven.descriptor.util.HttpTransport;
+import io.github.tourem.maven.descriptor.util.MavenMetadataCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the GitHub lookups of {@link RepositoryHealthChecker}, against a local stand-in of
+ * the GitHub API.
+ */
+class RepositoryHealthCheckerGitHubTest {
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+    private static final Pattern ALIAS = Pattern.compile("(r\\d+): repository\\(owner: \"([^\"]+)\", name: \"([^\"]+)\"\\)");
+
+    private HttpServer server;
+    private HttpTransport http;
+    private String api;
+    private volatile boolean graphqlDown;
+    private volatile String authorization;
+    private final List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+    private final AtomicInteger restCalls = new AtomicInteger();
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/graphql", this::graphql);
+        server.createContext("/repos/", exchange -> {
+            restCalls.incrementAndGet();
+            String path = exchange.getRequestURI().getPath();
+            if (path.endsWith("/commits")) {
+                respond(exchange, 200, "[{\"commit\":{\"committer\":{\"date\":\"2024-05-06T07:08:09Z\"}}}]");
+            } else if (path.endsWith("/contributors")) {
+                respond(exchange, 200, "[{\"login\":\"a\"},{\"login\":\"b\"}]");
+            } else {
+                respond(exchange, 200, "{\"stargazers_count\":7,\"forks_count\":1,\"open_issues_count\":0,\"archived\":true}");
+            }
+        });
+        server.start();
+        api = "http://127.0.0.1:" + server.getAddress().getPort();
+        http = new HttpTransport(4, Duration.ofSeconds(2));
+    }
+
+    @AfterEach
+    void stopServer() {
+        http.close();
+        server.stop(0);
+    }
+
+    @Test
+    void shouldFetchRepositoriesInBatchesOfFifty() {
+        RepositoryHealthChecker checker = checker("token");
+        List<String> urls = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            urls.add("https://github.com/acme/repo" + i);
+        }
+        urls.add("https://github.com/acme/repo0.git");
+        urls.add("https://gitlab.com/acme/elsewhere");
+        urls.add(null);
+
+        checker.prefetchGitHubInfo(urls);
+        RepositoryHealthChecker.GitHubInfo info = checker.fetchGitHubInfo("git@github.com:acme/repo42.git");
+
+        assertThat(batchSizes).containsExactly(50, 10);
+        assertThat(authorization).isEqualTo("bearer token");
+        assertThat(info.starCount).isEqualTo(42);
+        assertThat(info.forkCount).isEqualTo(3);
+        // Open pull requests count as issues, like REST open_issues_count
+        assertThat(info.openIssueCount).isEqualTo(8);
+        // GraphQL has no contributor count: the REST one is used, like without a token
+        assertThat(info.contributorCount).isEqualTo(2);
+        assertThat(info.archived).isFalse();
+        assertThat(info.license).isEqualTo("Apache-2.0");
+        assertThat(info.lastCommitDate).isEqualTo(Instant.parse("2024-01-02T03:04:05Z"));
+        assertThat(restCalls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldFallBackToRestWhenGraphqlIsUnavailable() {
+        graphqlDown = true;
+        RepositoryHealthChecker checker = checker("token");
+
+        checker.prefetchGitHubInfo(List.of("https://github.com/acme/lib"));
+        RepositoryHealthChecker.GitHubInfo info = checker.fetchGitHubInfo("https://github.com/acme/lib");
+
+        assertThat(batchSizes).containsExactly(1);
+        assertThat(info.starCount).isEqualTo(7);
+        assertThat(info.archived).isTrue();
+        assertThat(info.contributorCount).isEqualTo(2);
+        assertThat(restCalls.get()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldNotUseGraphqlWithoutToken() {
+        RepositoryHealthChecker checker = checker(null);
+
+        checker.prefetchGitHubInfo(List.of("https://github.com/acme/lib"));
+
+        assertThat(checker.fetchGitHubInfo("https://github.com/acme/lib").starCount).isEqualTo(7);
+        assertThat(batchSizes).isEmpty();
+    }
+
+    private RepositoryHealthChecker checker(String token) {
+        return new RepositoryHealthChecker(2000, token, MavenMetadataCache.inMemory(http), api, true);
+    }
+
+    private void graphql(HttpExchange exchange) throws IOException {
+        String query = JSON.readTree(exchange.getRequestBody()).path("query").asText();
+        Matcher m = ALIAS.matcher(query);
+        StringBuilder data = new StringBuilder();
+        int count = 0;
+        while (m.find()) {
+            int n = m.group(3).startsWith("repo") ? Integer.parseInt(m.group(3).substring("repo".length())) : 0;
+            if (count++ > 0) {
+                data.append(',');
+            }
+            data.append('"').append(m.group(1)).append("\":{\"stargazerCount\":").append(n)
+                    .append(",\"forkCount\":3,\"isArchived\":false,\"licenseInfo\":{\"spdxId\":\"Apache-2.0\"},")
+                    .append("\"issues\":{\"totalCount\":5},")
+                    .append("\"pullRequests\":{\"totalCount\":3},")
+                    .append("\"defaultBranchRef\":{\"target\":{\"committedDate\":\"2024-01-02T03:04:05Z\"}}}");
+        }
+        batchSizes.add(count);
+        authorization = exchange.getRequestHeaders().getFirst("Authorization");
+        if (graphqlDown) {
+            respond(exchange, 502, "bad gateway");
+            return;
+        }
+        JsonNode body = JSON.readTree("{\"data\":{" + data + "}}");
+        respond(exchange, 200, JSON.writeValueAsString(body));
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
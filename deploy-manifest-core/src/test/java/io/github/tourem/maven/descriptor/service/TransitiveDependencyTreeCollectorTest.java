@@ -0,0 +1,179 @@
+package io.github.tourem.maven.descriptor.service;
+
+import io.github.tourem.maven.descriptor.model.DependencyFlatEntry;
+import io.github.tourem.maven.descriptor.model.DependencyNode;
+import io.github.tourem.maven.descriptor.model.DependencyTreeFormat;
+import io.github.tourem.maven.descriptor.model.DependencyTreeInfo;
+import io.github.tourem.maven.descriptor.model.DependencyTreeOptions;
+import io.github.tourem.maven.descriptor.model.analysis.VersionConflict;
+import org.apache.maven.model.Dependency;
+import org.apache.maven.model.Model;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Tests for transitive collection in {@link DependencyTreeCollector}, against a local repository
+ * built in a temporary directory.
+ */
+class TransitiveDependencyTreeCollectorTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path repo;
+    private String previousRepo;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        repo = Files.createDirectories(tempDir.resolve("m2repo"));
+        previousRepo = System.getProperty("maven.repo.local");
+        System.setProperty("maven.repo.local", repo.toString());
+
+        // web -> core -> util:1.0 ; web -> log -> util:2.0 (optional: opt)
+        pom("org.acme", "web", "1.0", dep("org.acme", "core", "1.0"), dep("org.acme", "log", "1.0"));
+        pom("org.acme", "core", "1.0", dep("org.acme", "util", "1.0"));
+        pom("org.acme", "log", "1.0", "<dependency><groupId>org.acme</groupId><artifactId>util</artifactId>"
+                + "<version>2.0</version></dependency>"
+                + "<dependency><groupId>org.acme</groupId><artifactId>opt</artifactId><version>1.0</version>"
+                + "<optional>true</optional></dependency>"
+                + "<dependency><groupId>org.acme</groupId><artifactId>testkit</artifactId><version>1.0</version>"
+                + "<scope>test</scope></dependency>");
+        pom("org.acme", "util", "1.0");
+        pom("org.acme", "util", "2.0");
+        pom("org.acme", "opt", "1.0");
+    }
+
+    @AfterEach
+    void cleanup() {
+        if (previousRepo != null) {
+            System.setProperty("maven.repo.local", previousRepo);
+        } else {
+            System.clearProperty("maven.repo.local");
+        }
+    }
+
+    @Test
+    void shouldCollectTransitiveDependenciesWithNearestWins() {
+        DependencyTreeInfo info = new DependencyTreeCollector().collect(module(), tempDir, options(-1));
+
+        assertThat(info).isNotNull();
+        assertThat(info.getTree()).extracting(DependencyNode::getArtifactId).containsExactly("web");
+        DependencyNode web = info.getTree().get(0);
+        assertThat(web.getChildren()).extracting(DependencyNode::getArtifactId).containsExactly("core", "log");
+        // util:1.0 is nearer (declared first at the same depth): the 2.0 occurrence is omitted
+        assertThat(web.getChildren().get(0).getChildren())
+                .extracting(DependencyNode::getArtifactId, DependencyNode::getVersion)
+                .containsExactly(tuple("util", "1.0"));
+        assertThat(web.getChildren().get(1).getChildren()).isNull();
+
+        assertThat(info.getSummary().getTotal()).isEqualTo(4);
+        assertThat(info.getSummary().getDirect()).isEqualTo(1);
+        assertThat(info.getSummary().getTransitive()).isEqualTo(3);
+        assertThat(info.getFlat()).extracting(DependencyFlatEntry::getDepth).containsExactly(1, 2, 3, 2);
+        assertThat(info.getFlat().get(2).getPath())
+                .isEqualTo("org.acme:web:jar:1.0 -> org.acme:core:jar:1.0 -> org.acme:util:jar:1.0");
+    }
+
+    @Test
+    void shouldReportVersionConflictsWithSelectedVersion() {
+        DependencyTreeInfo info = new DependencyTreeCollector().collect(module(), tempDir, options(-1));
+
+        assertThat(info.getConflicts()).singleElement().satisfies(c -> {
+            assertThat(c.getArtifactId()).isEqualTo("util");
+            assertThat(c.getVersions()).containsExactly("1.0", "2.0");
+            assertThat(c.getSelectedVersion()).isEqualTo("1.0");
+            assertThat(c.getRiskLevel()).isEqualTo(VersionConflict.RiskLevel.HIGH);
+        });
+    }
+
+    @Test
+    void shouldHonorDepthLimit() {
+        DependencyTreeInfo info = new DependencyTreeCollector().collect(module(), tempDir, options(2));
+
+        assertThat(info.getFlat()).extracting(DependencyFlatEntry::getArtifactId).containsExactly("web", "core", "log");
+        assertThat(info.getSummary().getTotal()).isEqualTo(3);
+        assertThat(info.getConflicts()).isNull();
+    }
+
+    @Test
+    void shouldListDirectDependenciesOnlyWhenTransitiveIsExcluded() {
+        DependencyTreeOptions options = options(-1);
+        options.setExcludeTransitive(true);
+
+        DependencyTreeInfo info = new DependencyTreeCollector().collect(module(), tempDir, options);
+
+        assertThat(info.getFlat()).extracting(DependencyFlatEntry::getArtifactId).containsExactly("web");
+        assertThat(info.getSummary().getTransitive()).isZero();
+    }
+
+    @Test
+    void shouldResolveVersionsFromTheEffectiveModel() throws IOException {
+        Files.writeString(tempDir.resolve("pom.xml"), """
+                <project>
+                  <modelVersion>4.0.0</modelVersion>
+                  <groupId>org.acme</groupId>
+                  <artifactId>app</artifactId>
+                  <version>1</version>
+                  <properties><web.version>1.0</web.version></properties>
+                  <dependencies>
+                    <dependency><groupId>org.acme</groupId><artifactId>web</artifactId><version>${web.version}</version></dependency>
+                  </dependencies>
+                </project>
+                """);
+        Model model = new Model();
+        model.setDependencies(List.of(dependency("org.acme", "web", "${web.version}")));
+
+        DependencyTreeInfo info = new DependencyTreeCollector().collect(model, tempDir, options(-1));
+
+        assertThat(info.getTree()).singleElement().satisfies(web -> {
+            assertThat(web.getVersion()).isEqualTo("1.0");
+            assertThat(web.getChildren()).hasSize(2);
+        });
+    }
+
+    private static Model module() {
+        Model model = new Model();
+        model.setDependencies(List.of(dependency("org.acme", "web", "1.0")));
+        return model;
+    }
+
+    private static DependencyTreeOptions options(int depth) {
+        return DependencyTreeOptions.builder()
+                .include(true)
+                .depth(depth)
+                .scopes(new java.util.HashSet<>(Set.of("compile", "runtime")))
+                .format(DependencyTreeFormat.BOTH)
+                .build();
+    }
+
+    private static Dependency dependency(String groupId, String artifactId, String version) {
+        Dependency d = new Dependency();
+        d.setGroupId(groupId);
+        d.setArtifactId(artifactId);
+        d.setVersion(version);
+        return d;
+    }
+
+    private static String dep(String groupId, String artifactId, String version) {
+        return "<dependency><groupId>" + groupId + "</groupId><artifactId>" + artifactId
+                + "</artifactId><version>" + version + "</version></dependency>";
+    }
+
+    private void pom(String groupId, String artifactId, String version, String... dependencies) throws IOException {
+        Path dir = Files.createDirectories(repo.resolve(groupId.replace('.', '/')).resolve(artifactId).resolve(version));
+        Files.writeString(dir.resolve(artifactId + "-" + version + ".pom"), "<project><modelVersion>4.0.0</modelVersion>"
+                + "<groupId>" + groupId + "</groupId><artifactId>" + artifactId + "</artifactId><version>" + version
+                + "</version><dependencies>" + String.join("", dependencies) + "</dependencies></project>");
+    }
+}
@@ -0,0 +1,55 @@
+package io.github.tourem.maven.descriptor.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link BoundedParallel}.
+ */
+class BoundedParallelTest {
+
+    @Test
+    void shouldReturnResultsInInputOrderWithinTheConcurrencyLimit() {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+
+        List<String> results = BoundedParallel.map(List.of(5, 4, 3, 2, 1, 0), i -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            sleep(i * 10L);
+            inFlight.decrementAndGet();
+            if (i == 3) {
+                throw new IllegalStateException("boom");
+            }
+            return "r" + i;
+        }, 3, Duration.ofSeconds(10), "test");
+
+        assertThat(results).containsExactly("r5", "r4", null, "r2", "r1", "r0");
+        assertThat(maxInFlight.get()).isBetween(1, 3);
+    }
+
+    @Test
+    void shouldGiveUpOnTasksStillRunningAtTheDeadline() {
+        long start = System.nanoTime();
+
+        List<String> results = BoundedParallel.map(List.of(0L, 5_000L, 0L), millis -> {
+            sleep(millis);
+            return "done";
+        }, 4, Duration.ofMillis(300), "test");
+
+        assertThat(results).containsExactly("done", null, "done");
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(3));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package io.github.tourem.maven.descriptor.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.tourem.maven.descriptor.model.DependencyFlatEntry;
+import io.github.tourem.maven.descriptor.model.DependencyNode;
+import io.github.tourem.maven.descriptor.model.DependencySummary;
+import io.github.tourem.maven.descriptor.model.DependencyTreeInfo;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link CompactDependencyGraph}.
+ */
+class CompactDependencyGraphTest {
+
+    @Test
+    void shouldStoreRepeatedSubtreesOnce() {
+        CompactDependencyGraph.Builder builder = CompactDependencyGraph.builder();
+        int slf4j = builder.node("org.slf4j", "slf4j-api", "2.0.9", "jar", "compile", false);
+        int logback = builder.node("ch.qos.logback", "logback-classic", "1.4.14", "jar", "runtime", false, slf4j);
+        int again = builder.node("ch.qos.logback", "logback-classic", "1.4.14", "jar", "runtime", false,
+                builder.node("org.slf4j", "slf4j-api", "2.0.9", "jar", "compile", false));
+        int web = builder.node("org.acme", "web", "1.0", "jar", "compile", false, logback);
+        CompactDependencyGraph graph = builder.root(web).root(again).build();
+
+        assertThat(again).isEqualTo(logback);
+        assertThat(graph.nodeCount()).isEqualTo(3);
+        assertThat(graph.artifactCount()).isEqualTo(3);
+        assertThat(graph.rootCount()).isEqualTo(2);
+        assertThat(graph.artifactId(graph.child(graph.root(0), 0))).isEqualTo("logback-classic");
+    }
+
+    @Test
+    void shouldCountEveryOccurrenceOfSharedSubtrees() {
+        CompactDependencyGraph graph = CompactDependencyGraph.of(sampleTree());
+
+        DependencySummary summary = graph.summary();
+
+        assertThat(summary.getTotal()).isEqualTo(6);
+        assertThat(summary.getDirect()).isEqualTo(2);
+        assertThat(summary.getTransitive()).isEqualTo(4);
+        assertThat(summary.getOptional()).isEqualTo(2);
+        assertThat(summary.getScopes()).containsEntry("compile", 4).containsEntry("runtime", 2);
+    }
+
+    @Test
+    void shouldExpandToTheSamePublicTree() {
+        List<DependencyNode> tree = sampleTree();
+
+        assertThat(CompactDependencyGraph.of(tree).toDependencyNodes()).isEqualTo(tree);
+    }
+
+    @Test
+    void shouldFlattenEveryOccurrenceWithDepthAndPath() {
+        List<DependencyFlatEntry> flat = CompactDependencyGraph.of(sampleTree()).toFlatEntries();
+
+        assertThat(flat).extracting(DependencyFlatEntry::getArtifactId)
+                .containsExactly("web", "logback", "slf4j", "batch", "logback", "slf4j");
+        assertThat(flat.get(2).getDepth()).isEqualTo(3);
+        assertThat(flat.get(2).getPath())
+                .isEqualTo("org.acme:web:jar:1.0 -> org.acme:logback:jar:1.0 -> org.acme:slf4j:jar:1.0");
+        assertThat(flat.get(3).getPath()).isEqualTo("org.acme:batch:jar:1.0");
+    }
+
+    @Test
+    void shouldSerializeCompactTreeLikeExplicitTree() throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+        DependencyTreeInfo explicit = DependencyTreeInfo.builder().tree(sampleTree()).build();
+        DependencyTreeInfo compact = DependencyTreeInfo.builder().graph(CompactDependencyGraph.of(sampleTree())).build();
+
+        assertThat(compact.hasTree()).isTrue();
+        assertThat(mapper.writeValueAsString(compact)).isEqualTo(mapper.writeValueAsString(explicit));
+        assertThat(DependencyTreeInfo.builder().graph(CompactDependencyGraph.EMPTY).build().hasTree()).isFalse();
+    }
+
+    @Test
+    void shouldExpandCompactTreeOnceAndKeepEdits() {
+        DependencyTreeInfo info = DependencyTreeInfo.builder().graph(CompactDependencyGraph.of(sampleTree())).build();
+
+        List<DependencyNode> tree = info.getTree();
+        tree.get(0).setVersion("2.0");
+
+        assertThat(info.getTree()).isSameAs(tree);
+        assertThat(info.getTree().get(0).getVersion()).isEqualTo("2.0");
+        info.setGraph(CompactDependencyGraph.of(sampleTree()));
+        assertThat(info.getTree()).isNotSameAs(tree).isEqualTo(sampleTree());
+    }
+
+    private static List<DependencyNode> sampleTree() {
+        return List.of(
+                node("web", "compile", false, node("logback", "runtime", false, node("slf4j", "compile", true))),
+                node("batch", "compile", false, node("logback", "runtime", false, node("slf4j", "compile", true))));
+    }
+
+    private static DependencyNode node(String artifactId, String scope, boolean optional, DependencyNode... children) {
+        return DependencyNode.builder()
+                .groupId("org.acme")
+                .artifactId(artifactId)
+                .version("1.0")
+                .scope(scope)
+                .type("jar")
+                .optional(optional)
+                .children(children.length == 0 ? null : List.of(children))
+                .build();
+    }
+}
@@ -0,0 +1,102 @@
+package io.github.tourem.maven.descriptor.util;
+
+import com.sun.net.httpserver.HttpServer;
+import io.github.tourem.maven.descriptor.service.DependencyVersionLookup;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link HttpTransport}, against a local HTTP server.
+ */
+class HttpTransportTest {
+
+    private HttpServer server;
+    private String baseUrl;
+    private final AtomicReference<String> userAgent = new AtomicReference<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/slow", exchange -> {
+            int current = inFlight.incrementAndGet();
+            maxInFlight.accumulateAndGet(current, Math::max);
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            inFlight.decrementAndGet();
+            respond(exchange, "ok");
+        });
+        server.createContext("/org/acme/lib/maven-metadata.xml", exchange -> {
+            userAgent.set(exchange.getRequestHeaders().getFirst("User-Agent"));
+            respond(exchange, "<metadata><versioning><versions><version>1.0</version><version>1.1</version>"
+                    + "<version>2.0</version></versions></versioning></metadata>");
+        });
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    void shouldBoundRequestsInFlightPerHost() throws Exception {
+        ExecutorService callers = Executors.newFixedThreadPool(6);
+        try (HttpTransport http = new HttpTransport(2, Duration.ofSeconds(2))) {
+            List<Future<HttpResponse<String>>> responses = new ArrayList<>();
+            for (int i = 0; i < 6; i++) {
+                responses.add(callers.submit(() -> http.send(http.get(baseUrl + "/slow", Duration.ofSeconds(5)).build(),
+                        HttpResponse.BodyHandlers.ofString())));
+            }
+            for (Future<HttpResponse<String>> response : responses) {
+                assertThat(response.get().body()).isEqualTo("ok");
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+
+        assertThat(maxInFlight.get()).isBetween(1, 2);
+    }
+
+    @Test
+    void shouldServeVersionLookupsWithTheCommonUserAgent() {
+        try (HttpTransport http = new HttpTransport(4, Duration.ofSeconds(2))) {
+            DependencyVersionLookup lookup = new DependencyVersionLookup(List.of(baseUrl), 2000, http);
+
+            assertThat(lookup.lookupAvailableVersions("org.acme", "lib", "1.0", 3)).containsExactly("2.0", "1.1");
+        }
+
+        assertThat(userAgent.get()).isEqualTo(HttpTransport.USER_AGENT).startsWith("deploy-manifest-plugin/");
+    }
+
+    private static void respond(com.sun.net.httpserver.HttpExchange exchange, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
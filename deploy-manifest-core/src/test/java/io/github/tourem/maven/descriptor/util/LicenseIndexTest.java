@@ -0,0 +1,150 @@
+package io.github.tourem.maven.descriptor.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link LicenseIndex}.
+ */
+class LicenseIndexTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldPersistEntriesAcrossInstances() {
+        Path file = tempDir.resolve("licenses.idx");
+        LicenseIndex writer = new LicenseIndex(file);
+        writer.put("org.acme", "lib", "1.0", new LicenseIndex.Entry(List.of("Apache-2.0", "MIT"), "https://apache.org"));
+        writer.put("org.acme", "nolicense", "1.0", new LicenseIndex.Entry(List.of(), null));
+
+        LicenseIndex reader = new LicenseIndex(file);
+
+        assertThat(reader.get("org.acme", "lib", "1.0"))
+                .isEqualTo(new LicenseIndex.Entry(List.of("Apache-2.0", "MIT"), "https://apache.org"));
+        assertThat(reader.get("org.acme", "nolicense", "1.0").names()).isEmpty();
+        assertThat(reader.get("org.acme", "lib", "2.0")).isNull();
+    }
+
+    @Test
+    void shouldSeeEntriesAppendedByAnotherWriterAfterLoading() {
+        Path file = tempDir.resolve("licenses.idx");
+        LicenseIndex first = new LicenseIndex(file);
+        LicenseIndex second = new LicenseIndex(file);
+        first.put("org.acme", "a", "1.0", new LicenseIndex.Entry(List.of("MIT"), null));
+        assertThat(second.get("org.acme", "a", "1.0")).isNotNull();
+
+        second.put("org.acme", "b", "1.0", new LicenseIndex.Entry(List.of("EPL-2.0"), null));
+
+        assertThat(first.get("org.acme", "b", "1.0").names()).containsExactly("EPL-2.0");
+    }
+
+    @Test
+    void shouldOnlyReopenTheFileWhenItChanged() {
+        Path file = tempDir.resolve("licenses.idx");
+        LicenseIndex writer = new LicenseIndex(file);
+        LicenseIndex reader = new LicenseIndex(file);
+        writer.put("org.acme", "a", "1.0", new LicenseIndex.Entry(List.of("MIT"), null));
+        reader.get("org.acme", "missing", "1.0");
+
+        long opened = FileReadCounter.current();
+        for (int i = 0; i < 10; i++) {
+            assertThat(reader.get("org.acme", "missing" + i, "1.0")).isNull();
+        }
+        assertThat(FileReadCounter.current()).isEqualTo(opened);
+
+        writer.put("org.acme", "b", "1.0", new LicenseIndex.Entry(List.of("EPL-2.0"), null));
+        assertThat(reader.get("org.acme", "b", "1.0")).isNotNull();
+    }
+
+    @Test
+    void shouldNotRecordSnapshotsOrUnresolvedVersions() {
+        Path file = tempDir.resolve("licenses.idx");
+        LicenseIndex index = new LicenseIndex(file);
+        index.put("org.acme", "lib", "1.0-SNAPSHOT", new LicenseIndex.Entry(List.of("MIT"), null));
+        index.put("org.acme", "lib", "${lib.version}", new LicenseIndex.Entry(List.of("MIT"), null));
+
+        assertThat(index.get("org.acme", "lib", "1.0-SNAPSHOT")).isNull();
+        assertThat(file).doesNotExist();
+    }
+
+    @Test
+    void shouldIgnoreAndRepairIncompleteTrailingRecord() throws Exception {
+        Path file = tempDir.resolve("licenses.idx");
+        new LicenseIndex(file).put("org.acme", "a", "1.0", new LicenseIndex.Entry(List.of("MIT"), null));
+        long validSize = Files.size(file);
+        new LicenseIndex(file).put("org.acme", "b", "1.0", new LicenseIndex.Entry(List.of("MIT"), null));
+        // Simulate a writer that crashed halfway through the second record
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(validSize + 5);
+        }
+
+        LicenseIndex index = new LicenseIndex(file);
+        assertThat(index.get("org.acme", "a", "1.0")).isNotNull();
+        assertThat(index.get("org.acme", "b", "1.0")).isNull();
+
+        index.put("org.acme", "c", "1.0", new LicenseIndex.Entry(List.of("BSD-3-Clause"), null));
+        LicenseIndex reloaded = new LicenseIndex(file);
+        assertThat(reloaded.get("org.acme", "a", "1.0")).isNotNull();
+        assertThat(reloaded.get("org.acme", "c", "1.0").names()).containsExactly("BSD-3-Clause");
+    }
+
+    @Test
+    void shouldKeepEveryEntryWithConcurrentWriters() throws Exception {
+        Path file = tempDir.resolve("licenses.idx");
+        List<LicenseIndex> writers = List.of(new LicenseIndex(file), new LicenseIndex(file), new LicenseIndex(file));
+        ExecutorService pool = Executors.newFixedThreadPool(6);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 6; t++) {
+                LicenseIndex writer = writers.get(t % writers.size());
+                int thread = t;
+                futures.add(pool.submit(() -> {
+                    for (int i = 0; i < 50; i++) {
+                        writer.put("org.acme", "lib-" + thread + "-" + i, "1.0",
+                                new LicenseIndex.Entry(List.of("MIT"), null));
+                    }
+                }));
+            }
+            for (Future<?> f : futures) {
+                f.get();
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        LicenseIndex reader = new LicenseIndex(file);
+        for (int t = 0; t < 6; t++) {
+            for (int i = 0; i < 50; i++) {
+                assertThat(reader.get("org.acme", "lib-" + t + "-" + i, "1.0")).isNotNull();
+            }
+        }
+        assertThat(reader.size()).isEqualTo(300);
+    }
+
+    @Test
+    void shouldStoreSharedIndexUnderTheDeployManifestDirectory() {
+        String previous = System.getProperty(LicenseIndex.INDEX_FILE_PROPERTY);
+        System.clearProperty(LicenseIndex.INDEX_FILE_PROPERTY);
+        try {
+            assertThat(LicenseIndex.shared().getFile()).isEqualTo(Path.of(System.getProperty("user.home"),
+                    ".m2", "deploy-manifest", "licenses.idx").toAbsolutePath().normalize());
+        } finally {
+            if (previous != null) {
+                System.setProperty(LicenseIndex.INDEX_FILE_PROPERTY, previous);
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package io.github.tourem.maven.descriptor.util;
+
+import io.github.tourem.maven.descriptor.service.DependencyVersionLookup;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link LocalRepositoryMetadata}.
+ */
+class LocalRepositoryMetadataTest {
+
+    @TempDir
+    Path repo;
+
+    @BeforeEach
+    void populateRepository() throws IOException {
+        Path lib = Files.createDirectories(repo.resolve("org/acme/lib"));
+        Files.writeString(lib.resolve("maven-metadata-central.xml"), "<metadata><versioning><release>1.1</release>"
+                + "<versions><version>1.0</version><version>1.1</version></versions>"
+                + "<lastUpdated>20240102030405</lastUpdated></versioning></metadata>");
+        for (String version : List.of("1.5", "2.0-SNAPSHOT")) {
+            Path dir = Files.createDirectories(lib.resolve(version));
+            Files.writeString(dir.resolve("lib-" + version + ".pom"), "<project/>");
+        }
+        Files.createDirectories(lib.resolve("3.0"));
+    }
+
+    @Test
+    void shouldMergeMetadataFilesWithInstalledVersions() {
+        MavenMetadataCache.Metadata meta = new LocalRepositoryMetadata(repo).read("org.acme", "lib");
+
+        assertThat(meta.versions()).containsExactly("1.0", "1.1", "1.5", "2.0-SNAPSHOT");
+        assertThat(meta.latest()).isEqualTo("2.0-SNAPSHOT");
+        assertThat(meta.release()).isEqualTo("1.5");
+        assertThat(meta.lastUpdated()).isEqualTo("20240102030405");
+        assertThat(new LocalRepositoryMetadata(repo).read("org.acme", "unknown")).isNull();
+    }
+
+    @Test
+    void shouldCountMetadataFilesRead() {
+        long before = FileReadCounter.current();
+
+        new LocalRepositoryMetadata(repo).read("org.acme", "lib");
+
+        assertThat(FileReadCounter.current() - before).isEqualTo(1);
+    }
+
+    @Test
+    void shouldLookupVersionsFromTheLocalRepositoryWhenOffline() {
+        MavenMetadataCache offline = new MavenMetadataCache(HttpTransport.shared(), null, Duration.ZERO, true,
+                new LocalRepositoryMetadata(repo));
+        // nothing listens on port 9: any network access would fail the lookup
+        DependencyVersionLookup lookup = new DependencyVersionLookup(List.of("http://127.0.0.1:9"), 1000, offline);
+
+        assertThat(lookup.lookupAvailableVersions("org.acme", "lib", "1.0", 3)).containsExactly("1.5", "1.1");
+    }
+}
@@ -0,0 +1,198 @@
+package io.github.tourem.maven.descriptor.util;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link MavenMetadataCache}, against a local HTTP server.
+ */
+class MavenMetadataCacheTest {
+
+    private static final String METADATA = "<metadata><groupId>org.acme</groupId><artifactId>lib</artifactId>"
+            + "<versioning><latest>2.0</latest><release>2.0</release><versions><version>1.0</version>"
+            + "<version>2.0</version></versions><lastUpdated>20240102030405</lastUpdated></versioning></metadata>";
+
+    @TempDir
+    Path cacheDir;
+
+    private HttpServer server;
+    private String url;
+    private String missingUrl;
+    private String slowUrl;
+    private final AtomicInteger downloads = new AtomicInteger();
+    private final AtomicInteger requests = new AtomicInteger();
+    private final List<String> ifNoneMatch = Collections.synchronizedList(new ArrayList<>());
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/org/acme/lib/maven-metadata.xml", exchange -> {
+            requests.incrementAndGet();
+            String etag = exchange.getRequestHeaders().getFirst("If-None-Match");
+            ifNoneMatch.add(String.valueOf(etag));
+            if ("\"v1\"".equals(etag)) {
+                exchange.sendResponseHeaders(304, -1);
+                exchange.close();
+                return;
+            }
+            downloads.incrementAndGet();
+            exchange.getResponseHeaders().add("ETag", "\"v1\"");
+            respond(exchange, 200, METADATA);
+        });
+        server.createContext("/org/acme/slow/maven-metadata.xml", exchange -> {
+            requests.incrementAndGet();
+            try {
+                Thread.sleep(200);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            respond(exchange, 200, METADATA);
+        });
+        server.createContext("/org/acme/missing/maven-metadata.xml", exchange -> {
+            requests.incrementAndGet();
+            respond(exchange, 404, "not found");
+        });
+        server.start();
+        String base = "http://127.0.0.1:" + server.getAddress().getPort();
+        url = base + "/org/acme/lib/maven-metadata.xml";
+        missingUrl = base + "/org/acme/missing/maven-metadata.xml";
+        slowUrl = base + "/org/acme/slow/maven-metadata.xml";
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    void shouldServeParsedMetadataFromDiskWithinTheTtl() {
+        try (HttpTransport http = new HttpTransport(4, Duration.ofSeconds(2))) {
+            MavenMetadataCache.Metadata first = new MavenMetadataCache(http, cacheDir, Duration.ofHours(1), false)
+                    .fetch(url, Duration.ofSeconds(2));
+            MavenMetadataCache.Metadata second = new MavenMetadataCache(http, cacheDir, Duration.ofHours(1), false)
+                    .fetch(url, Duration.ofSeconds(2));
+
+            assertThat(first).isEqualTo(new MavenMetadataCache.Metadata(List.of("1.0", "2.0"), "2.0", "2.0", "20240102030405"));
+            assertThat(second).isEqualTo(first);
+        }
+
+        assertThat(requests.get()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRevalidateExpiredEntriesWithTheirEtag() {
+        try (HttpTransport http = new HttpTransport(4, Duration.ofSeconds(2))) {
+            new MavenMetadataCache(http, cacheDir, Duration.ZERO, false).fetch(url, Duration.ofSeconds(2));
+            MavenMetadataCache.Metadata revalidated = new MavenMetadataCache(http, cacheDir, Duration.ZERO, false)
+                    .fetch(url, Duration.ofSeconds(2));
+
+            assertThat(revalidated.versions()).containsExactly("1.0", "2.0");
+        }
+
+        assertThat(ifNoneMatch).containsExactly("null", "\"v1\"");
+        assertThat(downloads.get()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldServeStaleEntriesWithoutRequestsWhenOffline() {
+        try (HttpTransport http = new HttpTransport(4, Duration.ofSeconds(2))) {
+            new MavenMetadataCache(http, cacheDir, Duration.ZERO, false).fetch(url, Duration.ofSeconds(2));
+            MavenMetadataCache offline = new MavenMetadataCache(http, cacheDir, Duration.ZERO, true);
+
+            assertThat(offline.fetch(url, Duration.ofSeconds(2)).latest()).isEqualTo("2.0");
+            assertThat(offline.fetch(missingUrl, Duration.ofSeconds(2))).isNull();
+        }
+
+        assertThat(requests.get()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRememberMissingMetadata() {
+        try (HttpTransport http = new HttpTransport(4, Duration.ofSeconds(2))) {
+            assertThat(new MavenMetadataCache(http, cacheDir, Duration.ofHours(1), false)
+                    .fetch(missingUrl, Duration.ofSeconds(2))).isNull();
+            assertThat(new MavenMetadataCache(http, cacheDir, Duration.ofHours(1), false)
+                    .fetch(missingUrl, Duration.ofSeconds(2))).isNull();
+        }
+
+        assertThat(requests.get()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldShareOneFetchPerUrlWithinAMemoizingInstance() throws Exception {
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        try (HttpTransport http = new HttpTransport(8, Duration.ofSeconds(2))) {
+            MavenMetadataCache cache = new MavenMetadataCache(http, null, Duration.ZERO, false, null, true);
+            List<Future<MavenMetadataCache.Metadata>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(callers.submit(() -> cache.fetch(slowUrl, Duration.ofSeconds(5))));
+            }
+            for (Future<MavenMetadataCache.Metadata> result : results) {
+                assertThat(result.get().versions()).containsExactly("1.0", "2.0");
+            }
+            // TTL 0, yet served without revalidation for the rest of the build
+            assertThat(cache.fetch(slowUrl, Duration.ofSeconds(5)).latest()).isEqualTo("2.0");
+        } finally {
+            callers.shutdownNow();
+        }
+
+        assertThat(requests.get()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotMemoizeLookupsCancelledByAnInterrupt() {
+        try (HttpTransport http = new HttpTransport(4, Duration.ofSeconds(2))) {
+            MavenMetadataCache cache = new MavenMetadataCache(http, null, Duration.ZERO, false, null, true);
+            Thread.currentThread().interrupt();
+            try {
+                assertThat(cache.fetch(url, Duration.ofSeconds(2))).isNull();
+            } finally {
+                Thread.interrupted();
+            }
+
+            assertThat(cache.fetch(url, Duration.ofSeconds(2)).latest()).isEqualTo("2.0");
+        }
+
+        assertThat(requests.get()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotMemoizeCompletedFetchesByDefault() {
+        try (HttpTransport http = new HttpTransport(4, Duration.ofSeconds(2))) {
+            MavenMetadataCache cache = MavenMetadataCache.inMemory(http);
+            cache.fetch(url, Duration.ofSeconds(2));
+            cache.fetch(url, Duration.ofSeconds(2));
+        }
+
+        assertThat(ifNoneMatch).containsExactly("null", "\"v1\"");
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
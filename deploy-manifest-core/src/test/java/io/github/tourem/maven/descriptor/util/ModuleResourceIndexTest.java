@@ -0,0 +1,82 @@
+package io.github.tourem.maven.descriptor.util;
+
+import io.github.tourem.maven.descriptor.model.EnvironmentConfig;
+import io.github.tourem.maven.descriptor.service.DeploymentMetadataDetector;
+import io.github.tourem.maven.descriptor.service.EnvironmentConfigDetector;
+import io.github.tourem.maven.descriptor.service.SpringBootProfileDetector;
+import org.apache.maven.model.Model;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ModuleResourceIndexTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldListTopLevelFilesOnly() throws Exception {
+        Path resources = Files.createDirectories(tempDir.resolve(ModuleResourceIndex.RESOURCES_DIR));
+        Files.writeString(resources.resolve("application.yml"), "server:\n  port: 8081\n");
+        Files.writeString(resources.resolve("application-dev.properties"), "server.port=9000\n");
+        Files.createDirectories(resources.resolve("config"));
+        Files.writeString(resources.resolve("config/application-nested.yml"), "a: b\n");
+
+        ModuleResourceIndex index = ModuleResourceIndex.of(tempDir);
+
+        assertThat(index.hasResourcesDir()).isTrue();
+        assertThat(index.getFileNames()).containsExactly("application-dev.properties", "application.yml");
+        assertThat(index.contains("application.yml")).isTrue();
+        assertThat(index.contains("application.yaml")).isFalse();
+    }
+
+    @Test
+    void shouldHandleModuleWithoutResources() {
+        ModuleResourceIndex index = ModuleResourceIndex.of(tempDir);
+
+        assertThat(index.hasResourcesDir()).isFalse();
+        assertThat(index.getFileNames()).isEmpty();
+        assertThat(index.yaml("application.yml")).isNull();
+        assertThat(index.properties("application.properties")).isNull();
+    }
+
+    @Test
+    void shouldParseEachDocumentOnceAcrossDetectors() throws Exception {
+        Path resources = Files.createDirectories(tempDir.resolve(ModuleResourceIndex.RESOURCES_DIR));
+        Files.writeString(resources.resolve("application.yml"),
+                "server:\n  port: 8081\nmanagement:\n  endpoints:\n    web:\n      base-path: /manage\n");
+        Files.writeString(resources.resolve("application-dev.yml"), "server:\n  port: 8082\n");
+        Files.writeString(resources.resolve("application-prod.yaml"), "server:\n  port: 8083\n");
+
+        ModuleResourceIndex index = ModuleResourceIndex.of(tempDir);
+        long before = FileReadCounter.current();
+
+        List<String> profiles = new SpringBootProfileDetector().detectProfiles(index, new Model(), tempDir);
+        List<EnvironmentConfig> environments = new EnvironmentConfigDetector().detectEnvironmentConfigs(index, profiles, true);
+        DeploymentMetadataDetector metadata = new DeploymentMetadataDetector();
+        Integer port = metadata.detectServerPort(index);
+        String basePath = metadata.detectActuatorBasePath(index, true);
+
+        assertThat(profiles).containsExactly("dev", "prod");
+        assertThat(environments).extracting(EnvironmentConfig::serverPort).containsExactly(8082, 8083);
+        assertThat(environments).extracting(EnvironmentConfig::actuatorBasePath).containsOnly("/manage");
+        assertThat(port).isEqualTo(8081);
+        assertThat(basePath).isEqualTo("/manage");
+        // application.yml, application-dev.yml, application-prod.yaml: one read each
+        assertThat(FileReadCounter.current() - before).isEqualTo(3);
+        assertThat(index.yaml("application.yml")).isSameAs(index.yaml("application.yml"));
+    }
+
+    @Test
+    void shouldIgnoreMalformedYaml() throws Exception {
+        Path resources = Files.createDirectories(tempDir.resolve(ModuleResourceIndex.RESOURCES_DIR));
+        Files.writeString(resources.resolve("application.yml"), "server: [unclosed\n");
+
+        assertThat(ModuleResourceIndex.of(tempDir).yaml("application.yml")).isNull();
+    }
+}
@@ -0,0 +1,91 @@
+package io.github.tourem.maven.descriptor.util;
+
+import org.apache.maven.model.Model;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PomModelCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldParseOnceAndServeRepeatedReadsFromCache() throws Exception {
+        PomModelCache cache = new PomModelCache(10);
+        Path pom = writePom("a", "1.0.0");
+
+        Model first = cache.read(pom);
+        Model second = cache.read(pom);
+
+        assertThat(second).isSameAs(first);
+        assertThat(cache.stats().misses()).isEqualTo(1);
+        assertThat(cache.stats().hits()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldShareEntryBetweenEquivalentPaths() throws Exception {
+        PomModelCache cache = new PomModelCache(10);
+        Path pom = writePom("a", "1.0.0");
+        Files.createDirectories(tempDir.resolve("sub"));
+
+        Model direct = cache.read(pom);
+        Model viaDotDot = cache.read(tempDir.resolve("sub").resolve("..").resolve("a-pom.xml"));
+
+        assertThat(viaDotDot).isSameAs(direct);
+        assertThat(cache.stats().misses()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldReparseWhenFileChanges() throws Exception {
+        PomModelCache cache = new PomModelCache(10);
+        Path pom = writePom("a", "1.0.0");
+        cache.read(pom);
+
+        writePom("a", "2.0.0-SNAPSHOT");
+        Files.setLastModifiedTime(pom, FileTime.fromMillis(Files.getLastModifiedTime(pom).toMillis() + 5_000));
+        Model updated = cache.read(pom);
+
+        assertThat(updated.getVersion()).isEqualTo("2.0.0-SNAPSHOT");
+        assertThat(cache.stats().misses()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedEntriesBeyondBound() throws Exception {
+        PomModelCache cache = new PomModelCache(2);
+        Path a = writePom("a", "1");
+        Path b = writePom("b", "1");
+        Path c = writePom("c", "1");
+
+        cache.read(a);
+        cache.read(b);
+        cache.read(a); // a is now most recently used
+        cache.read(c); // evicts b
+
+        assertThat(cache.stats().size()).isEqualTo(2);
+        assertThat(cache.stats().evictions()).isEqualTo(1);
+
+        cache.read(a);
+        assertThat(cache.stats().hits()).isEqualTo(2);
+        cache.read(b);
+        assertThat(cache.stats().misses()).isEqualTo(4);
+    }
+
+    private Path writePom(String artifactId, String version) throws Exception {
+        Path pom = tempDir.resolve(artifactId + "-pom.xml");
+        Files.writeString(pom, """
+            <project xmlns="http://maven.apache.org/POM/4.0.0">
+                <modelVersion>4.0.0</modelVersion>
+                <groupId>com.example</groupId>
+                <artifactId>%s</artifactId>
+                <version>%s</version>
+            </project>
+            """.formatted(artifactId, version));
+        return pom;
+    }
+}
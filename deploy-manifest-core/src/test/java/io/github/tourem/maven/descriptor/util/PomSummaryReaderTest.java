@@ -0,0 +1,166 @@
+package io.github.tourem.maven.descriptor.util;
+
+import org.apache.maven.model.io.xpp3.MavenXpp3Reader;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Tests for {@link PomSummaryReader}.
+ */
+class PomSummaryReaderTest {
+
+    private static final String POM = """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <project xmlns="http://maven.apache.org/POM/4.0.0">
+              <modelVersion>4.0.0</modelVersion>
+              <parent>
+                <groupId>org.acme</groupId>
+                <artifactId>acme-parent</artifactId>
+                <version>3</version>
+              </parent>
+              <artifactId>lib</artifactId>
+              <version>1.2.0</version>
+              <description>Skipped <!-- comment --> text</description>
+              <properties>
+                <slf4j.version> 2.0.9 </slf4j.version>
+                <empty/>
+              </properties>
+              <licenses>
+                <license>
+                  <name>Apache License, Version 2.0</name>
+                  <url>https://www.apache.org/licenses/LICENSE-2.0</url>
+                  <distribution>repo</distribution>
+                </license>
+                <license><name>MIT</name></license>
+              </licenses>
+              <build>
+                <plugins>
+                  <plugin>
+                    <artifactId>maven-compiler-plugin</artifactId>
+                    <configuration><dependencies><dependency><artifactId>nested</artifactId></dependency></dependencies></configuration>
+                  </plugin>
+                </plugins>
+              </build>
+              <dependencyManagement>
+                <dependencies>
+                  <dependency>
+                    <groupId>org.acme</groupId>
+                    <artifactId>acme-bom</artifactId>
+                    <version>${project.version}</version>
+                    <type>pom</type>
+                    <scope>import</scope>
+                  </dependency>
+                </dependencies>
+              </dependencyManagement>
+              <dependencies>
+                <dependency>
+                  <groupId>org.slf4j</groupId>
+                  <artifactId>slf4j-api</artifactId>
+                  <version>${slf4j.version}</version>
+                  <exclusions>
+                    <exclusion><groupId>x</groupId><artifactId>y</artifactId></exclusion>
+                  </exclusions>
+                </dependency>
+                <dependency>
+                  <groupId>org.junit.jupiter</groupId>
+                  <artifactId>junit-jupiter</artifactId>
+                  <scope>test</scope>
+                  <optional>true</optional>
+                </dependency>
+              </dependencies>
+            </project>
+            """;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldExtractTheSameSummaryAsTheFullReader() throws Exception {
+        PomSummary streamed = read(POM);
+        PomSummary full = PomSummary.of(new MavenXpp3Reader().read(
+                new ByteArrayInputStream(POM.getBytes(StandardCharsets.UTF_8))));
+
+        assertThat(streamed.properties()).isEqualTo(full.properties());
+        assertThat(streamed.licenses()).isEqualTo(full.licenses());
+        assertThat(streamed.parent()).isEqualTo(full.parent());
+        assertThat(streamed.artifactId()).isEqualTo(full.artifactId());
+        assertThat(streamed.effectiveGroupId()).isEqualTo("org.acme");
+        assertThat(streamed.effectiveVersion()).isEqualTo("1.2.0");
+        // The full reader defaults the dependency type to jar
+        assertThat(streamed.dependencies()).extracting(PomSummary.Dependency::artifactId, PomSummary.Dependency::version,
+                        PomSummary.Dependency::scope)
+                .containsExactly(
+                        tuple("slf4j-api", "${slf4j.version}", null),
+                        tuple("junit-jupiter", null, "test"));
+        assertThat(streamed.dependencyManagement())
+                .containsExactly(new PomSummary.Dependency("org.acme", "acme-bom", "${project.version}", "pom", "import"));
+    }
+
+    @Test
+    void shouldDefaultParentRelativePathLikeMaven() throws Exception {
+        PomSummary summary = read(POM);
+
+        assertThat(summary.parent().relativePath()).isEqualTo(PomSummary.DEFAULT_RELATIVE_PATH);
+        assertThat(summary.properties()).containsEntry("slf4j.version", "2.0.9").containsEntry("empty", "");
+    }
+
+    @Test
+    void shouldReadCoordinatesDeclaredAfterTheSections() throws Exception {
+        PomSummary summary = read("""
+                <project>
+                  <parent><groupId>org.acme</groupId><artifactId>acme-parent</artifactId><version>3</version></parent>
+                  <artifactId>lib</artifactId>
+                  <properties/>
+                  <licenses/>
+                  <dependencyManagement><dependencies/></dependencyManagement>
+                  <dependencies/>
+                  <groupId>org.acme.libs</groupId>
+                  <version>1.2.0</version>
+                </project>
+                """);
+
+        assertThat(summary.effectiveGroupId()).isEqualTo("org.acme.libs");
+        assertThat(summary.effectiveVersion()).isEqualTo("1.2.0");
+    }
+
+    @Test
+    void shouldRejectDocumentTypeDeclarations() {
+        String xxe = "<?xml version=\"1.0\"?><!DOCTYPE project [<!ENTITY x SYSTEM \"file:///etc/passwd\">]>"
+                + "<project><artifactId>&x;</artifactId></project>";
+
+        assertThatThrownBy(() -> read(xxe)).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void shouldCacheSummariesAndReuseCachedModels() throws Exception {
+        PomModelCache cache = new PomModelCache(10);
+        Path pom = tempDir.resolve("pom.xml");
+        Files.writeString(pom, POM);
+
+        PomSummary first = cache.readSummary(pom);
+        assertThat(cache.readSummary(pom)).isSameAs(first);
+        assertThat(cache.stats().misses()).isEqualTo(1);
+
+        Path other = tempDir.resolve("other.xml");
+        Files.writeString(other, POM);
+        cache.read(other);
+        PomSummary derived = cache.readSummary(other);
+
+        assertThat(derived.licenses()).isEqualTo(first.licenses());
+        assertThat(cache.stats().misses()).isEqualTo(2);
+    }
+
+    private static PomSummary read(String xml) throws IOException {
+        return PomSummaryReader.read(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)));
+    }
+}
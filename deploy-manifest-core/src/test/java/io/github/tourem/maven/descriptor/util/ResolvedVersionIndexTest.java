@@ -0,0 +1,61 @@
+package io.github.tourem.maven.descriptor.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ResolvedVersionIndex}.
+ */
+class ResolvedVersionIndexTest {
+
+    @Test
+    void shouldFindEveryRecordedVersion() {
+        ResolvedVersionIndex.Builder builder = ResolvedVersionIndex.builder();
+        for (int i = 0; i < 1000; i++) {
+            builder.put("org.acme.g" + (i % 10), "lib-" + i, "1." + i);
+        }
+        ResolvedVersionIndex index = builder.build();
+
+        assertThat(index.size()).isEqualTo(1000);
+        for (int i = 0; i < 1000; i++) {
+            // Lookup keys are not the interned instances
+            assertThat(index.version(new String("org.acme.g" + (i % 10)), new String("lib-" + i))).isEqualTo("1." + i);
+        }
+        assertThat(index.version("org.acme.g1", "lib-0")).isNull();
+        assertThat(index.version("org.acme", "unknown")).isNull();
+        assertThat(index.version(null, "lib-0")).isNull();
+    }
+
+    @Test
+    void shouldKeepFirstVersionAndIgnoreIncompleteEntries() {
+        ResolvedVersionIndex index = ResolvedVersionIndex.builder()
+                .put("org.acme", "lib", "1.0")
+                .put("org.acme", "lib", "2.0")
+                .put("org.acme", "noversion", null)
+                .put(null, "lib", "1.0")
+                .build();
+
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.version("org.acme", "lib")).isEqualTo("1.0");
+        assertThat(index.version("org.acme", "noversion")).isNull();
+    }
+
+    @Test
+    void shouldDistinguishGroupAndArtifactBoundaries() {
+        // Same "G:A" string once concatenated
+        ResolvedVersionIndex index = ResolvedVersionIndex.builder()
+                .put("a:b", "c", "1")
+                .put("a", "b:c", "2")
+                .build();
+
+        assertThat(index.version("a:b", "c")).isEqualTo("1");
+        assertThat(index.version("a", "b:c")).isEqualTo("2");
+    }
+
+    @Test
+    void emptyIndexShouldFindNothing() {
+        assertThat(ResolvedVersionIndex.EMPTY.isEmpty()).isTrue();
+        assertThat(ResolvedVersionIndex.EMPTY.version("org.acme", "lib")).isNull();
+    }
+}
@@ -19,7 +19,6 @@ import org.apache.maven.shared.dependency.analyzer.ProjectDependencyAnalysis;
 import org.apache.maven.shared.dependency.analyzer.ProjectDependencyAnalyzer;
 import org.apache.maven.shared.dependency.graph.DependencyGraphBuilder;
 import org.apache.maven.shared.dependency.graph.DependencyNode;
-import org.apache.maven.project.DefaultProjectBuildingRequest;
 
 import org.eclipse.jgit.api.BlameCommand;
 import org.eclipse.jgit.api.Git;
@@ -78,6 +77,10 @@ public class AnalyzeDependenciesMojo extends AbstractMojo {
     @Parameter(property = "manifest.aggregateModules", defaultValue = "false")
     private boolean aggregateModules;
 
+    /** At the execution root, report libraries resolved in different versions across reactor modules. */
+    @Parameter(property = "manifest.detectReactorConflicts", defaultValue = "true")
+    private boolean detectReactorConflicts;
+
     @Parameter(property = "manifest.generateHtml", defaultValue = "true")
     private boolean generateHtml;
 
@@ -101,6 +104,29 @@ public class AnalyzeDependenciesMojo extends AbstractMojo {
     @Parameter(property = "manifest.githubToken")
     private String githubToken;
 
+    @Parameter(property = "manifest.githubApiUrl", defaultValue = "https://api.github.com")
+    private String githubApiUrl;
+
+    // Batch GitHub lookups through the GraphQL API (requires githubToken), REST otherwise
+    @Parameter(property = "manifest.githubGraphql", defaultValue = "true")
+    private boolean githubGraphql;
+
+    // Concurrency of the version and health lookups
+    @Parameter(property = "manifest.enrichmentConcurrency", defaultValue = "8")
+    private int enrichmentConcurrency;
+
+    @Parameter(property = "manifest.enrichmentDeadlineMs", defaultValue = "60000")
+    private long enrichmentDeadlineMs;
+
+    // maven-metadata.xml cache
+    @Parameter(property = "manifest.metadataCacheTtlMinutes", defaultValue = "60")
+    private int metadataCacheTtlMinutes;
+
+    @Parameter(property = "manifest.metadataCacheDir")
+    private java.io.File metadataCacheDir;
+
+    private io.github.tourem.maven.descriptor.util.MavenMetadataCache metadataCache;
+
     // Plugin analysis
     @Parameter(property = "manifest.includePlugins", defaultValue = "true")
     private boolean includePlugins;
@@ -138,17 +164,22 @@ public class AnalyzeDependenciesMojo extends AbstractMojo {
             // Calculate dependency counts
             int directCount = safeCount(project.getDependencies());
 
-            // Count all resolved dependencies (direct + transitive) using dependency graph
+            // Count all resolved dependencies (direct + transitive) and collect the versions per GA
+            // for conflict detection in the same walk of the dependency graph
             int totalCount = 0;
+            java.util.Map<String, java.util.Set<String>> versionsByGa = null;
             try {
-                DefaultProjectBuildingRequest buildingRequest = new DefaultProjectBuildingRequest(session.getProjectBuildingRequest());
-                buildingRequest.setProject(project);
-                DependencyNode rootNode = dependencyGraphBuilder.buildDependencyGraph(buildingRequest, null);
-
-                // Count all nodes in the tree (excluding root)
-                Set<String> uniqueDeps = new java.util.HashSet<>();
-                countDependencies(rootNode, uniqueDeps);
-                totalCount = uniqueDeps.size();
+                DependencyNode rootNode = DependencyGraphCache.of(session).graph(session, dependencyGraphBuilder, project, null);
+
+                DependencyGraphWalker.UniqueArtifacts uniqueDeps = new DependencyGraphWalker.UniqueArtifacts();
+                DependencyGraphWalker.VersionsByGa versions = new DependencyGraphWalker.VersionsByGa();
+                if (detectConflicts) {
+                    DependencyGraphWalker.walk(rootNode, uniqueDeps, versions);
+                    versionsByGa = versions.versions();
+                } else {
+                    DependencyGraphWalker.walk(rootNode, uniqueDeps);
+                }
+                totalCount = uniqueDeps.count();
             } catch (Exception e) {
                 getLog().debug("Failed to build dependency graph for counting: " + e.getMessage());
                 // Fallback: count from analysis result (only direct dependencies)
@@ -195,8 +226,10 @@ public class AnalyzeDependenciesMojo extends AbstractMojo {
                 enrichWithAvailableVersions(undeclared);
             }
             if (checkRepositoryHealth) {
-                enrichWithRepositoryHealth(unused);
-                enrichWithRepositoryHealth(undeclared);
+                // One pass over both lists, so that GitHub lookups are batched together
+                List<AnalyzedDependency> checked = new java.util.ArrayList<>(unused);
+                checked.addAll(undeclared);
+                enrichWithRepositoryHealth(checked);
             }
             List<io.github.tourem.maven.descriptor.model.analysis.Recommendation> recs = null;
             if (generateRecommendations) {
@@ -206,13 +239,28 @@ public class AnalyzeDependenciesMojo extends AbstractMojo {
 
             java.util.List<io.github.tourem.maven.descriptor.model.analysis.VersionConflict> conflicts = null;
             if (detectConflicts) {
-                conflicts = detectVersionConflicts();
+                conflicts = detectVersionConflicts(versionsByGa);
                 builder.versionConflicts(conflicts);
             }
+            io.github.tourem.maven.descriptor.model.analysis.MultiModuleAnalysis mma = null;
             if (aggregateModules && session != null && isExecutionRoot()) {
-                io.github.tourem.maven.descriptor.model.analysis.MultiModuleAnalysis mma = aggregateAcrossModules();
-                builder.multiModule(mma);
+                mma = aggregateAcrossModules();
+            }
+            if (detectConflicts && detectReactorConflicts && session != null && isExecutionRoot()
+                    && session.getAllProjects() != null && session.getAllProjects().size() > 1) {
+                java.util.List<io.github.tourem.maven.descriptor.model.analysis.MultiModuleAnalysis.CrossModuleConflict> skew =
+                        detectReactorVersionConflicts();
+                if (mma == null) {
+                    mma = io.github.tourem.maven.descriptor.model.analysis.MultiModuleAnalysis.builder()
+                            .moduleCount(session.getAllProjects().size())
+                            .build();
+                }
+                mma.setCrossModuleConflicts(skew);
+                if (!skew.isEmpty()) {
+                    getLog().warn(skew.size() + " libraries are resolved in different versions across reactor modules");
+                }
             }
+            builder.multiModule(mma);
 
             // Collect plugin information
             if (includePlugins) {
@@ -249,25 +297,6 @@ public class AnalyzeDependenciesMojo extends AbstractMojo {
         return c == null ? 0 : c.size();
     }
 
-    private void countDependencies(DependencyNode node, Set<String> uniqueDeps) {
-        if (node == null) return;
-
-        // Add current node (skip root which is the project itself)
-        if (node.getArtifact() != null && node.getParent() != null) {
-            String key = node.getArtifact().getGroupId() + ":" +
-                        node.getArtifact().getArtifactId() + ":" +
-                        node.getArtifact().getVersion();
-            uniqueDeps.add(key);
-        }
-
-        // Recursively count children
-        if (node.getChildren() != null) {
-            for (DependencyNode child : node.getChildren()) {
-                countDependencies(child, uniqueDeps);
-            }
-        }
-    }
-
     private List<AnalyzedDependency> mapArtifacts(Set<Artifact> artifacts) {
         List<AnalyzedDependency> list = new ArrayList<>();
         if (artifacts == null) return list;
@@ -416,6 +445,16 @@ public class AnalyzeDependenciesMojo extends AbstractMojo {
         }
     }
 
+    /**
+     * Metadata cache of this execution, shared with the other goals and modules of the build.
+     */
+    private io.github.tourem.maven.descriptor.util.MavenMetadataCache metadataCache() {
+        if (metadataCache == null) {
+            metadataCache = BuildMetadataCache.of(session, metadataCacheDir, metadataCacheTtlMinutes);
+        }
+        return metadataCache;
+    }
+
     /**
      * Enrich dependencies with available versions from configured repositories.
      */
@@ -428,29 +467,38 @@ public class AnalyzeDependenciesMojo extends AbstractMojo {
             // Create version lookup service using project's Maven model
             DependencyVersionLookup versionLookup = new DependencyVersionLookup(
                     project.getModel(),
-                    versionLookupTimeoutMs
+                    versionLookupTimeoutMs,
+                    metadataCache()
             );
 
-            for (AnalyzedDependency dep : dependencies) {
-                try {
-                    List<String> availableVersions = versionLookup.lookupAvailableVersions(
+            List<List<String>> found = io.github.tourem.maven.descriptor.util.BoundedParallel.map(dependencies,
+                    dep -> {
+                        try {
+                            return versionLookup.lookupAvailableVersions(
+                                    dep.getGroupId(),
+                                    dep.getArtifactId(),
+                                    dep.getVersion(),
+                                    maxAvailableVersions
+                            );
+                        } catch (Exception e) {
+                            getLog().debug("Failed to lookup versions for " + dep.getGroupId() + ":" +
+                                           dep.getArtifactId() + ": " + e.getMessage());
+                            return null;
+                        }
+                    },
+                    enrichmentConcurrency, java.time.Duration.ofMillis(enrichmentDeadlineMs), "version-lookup");
+
+            // Write back in input order, on this thread
+            for (int i = 0; i < dependencies.size(); i++) {
+                AnalyzedDependency dep = dependencies.get(i);
+                List<String> availableVersions = found.get(i);
+                if (availableVersions != null && !availableVersions.isEmpty()) {
+                    dep.setAvailableVersions(availableVersions);
+                    getLog().debug(String.format("Found %d available versions for %s:%s:%s",
+                            availableVersions.size(),
                             dep.getGroupId(),
                             dep.getArtifactId(),
-                            dep.getVersion(),
-                            maxAvailableVersions
-                    );
-
-                    if (availableVersions != null && !availableVersions.isEmpty()) {
-                        dep.setAvailableVersions(availableVersions);
-                        getLog().debug(String.format("Found %d available versions for %s:%s:%s",
-                                availableVersions.size(),
-                                dep.getGroupId(),
-                                dep.getArtifactId(),
-                                dep.getVersion()));
-                    }
-                } catch (Exception e) {
-                    getLog().debug("Failed to lookup versions for " + dep.getGroupId() + ":" +
-                                   dep.getArtifactId() + ": " + e.getMessage());
+                            dep.getVersion()));
                 }
             }
         } catch (Exception e) {
@@ -471,44 +519,65 @@ public class AnalyzeDependenciesMojo extends AbstractMojo {
             // Create repository health checker
             RepositoryHealthChecker healthChecker = new RepositoryHealthChecker(
                     repositoryHealthTimeoutMs,
-                    githubToken
+                    githubToken,
+                    metadataCache(),
+                    githubApiUrl,
+                    githubGraphql
             );
+            long deadline = System.currentTimeMillis() + enrichmentDeadlineMs;
+
+            // Resolve the repository URLs first, then fetch GitHub information in batches
+            if (githubGraphql && githubToken != null && !githubToken.isEmpty()) {
+                List<String> repositoryUrls = io.github.tourem.maven.descriptor.util.BoundedParallel.map(dependencies,
+                        dep -> healthChecker.repositoryUrl(dep.getGroupId(), dep.getArtifactId()),
+                        enrichmentConcurrency, remaining(deadline), "repository-url");
+                healthChecker.prefetchGitHubInfo(repositoryUrls);
+            }
 
             int healthyCount = 0;
             int warningCount = 0;
             int dangerCount = 0;
 
-            for (AnalyzedDependency dep : dependencies) {
-                try {
-                    RepositoryHealth health = healthChecker.checkHealth(
-                            dep.getGroupId(),
-                            dep.getArtifactId(),
-                            dep.getVersion()
-                    );
-
-                    if (health != null) {
-                        dep.setRepositoryHealth(health);
-
-                        // Log warnings and dangers
-                        if (health.getLevel() == RepositoryHealth.HealthLevel.DANGER) {
-                            dangerCount++;
-                            getLog().warn(String.format("⚠️  DANGER: %s:%s - %s",
+            List<RepositoryHealth> checked = io.github.tourem.maven.descriptor.util.BoundedParallel.map(dependencies,
+                    dep -> {
+                        try {
+                            return healthChecker.checkHealth(
                                     dep.getGroupId(),
                                     dep.getArtifactId(),
-                                    health.getConcerns() != null ? String.join(", ", health.getConcerns()) : "Unknown issues"));
-                        } else if (health.getLevel() == RepositoryHealth.HealthLevel.WARNING) {
-                            warningCount++;
-                            getLog().warn(String.format("⚠️  WARNING: %s:%s - %s",
-                                    dep.getGroupId(),
-                                    dep.getArtifactId(),
-                                    health.getConcerns() != null ? String.join(", ", health.getConcerns()) : "Some concerns"));
-                        } else if (health.getLevel() == RepositoryHealth.HealthLevel.HEALTHY) {
-                            healthyCount++;
+                                    dep.getVersion()
+                            );
+                        } catch (Exception e) {
+                            getLog().debug("Failed to check repository health for " + dep.getGroupId() + ":" +
+                                           dep.getArtifactId() + ": " + e.getMessage());
+                            return null;
                         }
-                    }
-                } catch (Exception e) {
-                    getLog().debug("Failed to check repository health for " + dep.getGroupId() + ":" +
-                                   dep.getArtifactId() + ": " + e.getMessage());
+                    },
+                    enrichmentConcurrency, remaining(deadline), "repository-health");
+
+            // Write back in input order, on this thread
+            for (int i = 0; i < dependencies.size(); i++) {
+                AnalyzedDependency dep = dependencies.get(i);
+                RepositoryHealth health = checked.get(i);
+                if (health == null) {
+                    continue;
+                }
+                dep.setRepositoryHealth(health);
+
+                // Log warnings and dangers
+                if (health.getLevel() == RepositoryHealth.HealthLevel.DANGER) {
+                    dangerCount++;
+                    getLog().warn(String.format("⚠️  DANGER: %s:%s - %s",
+                            dep.getGroupId(),
+                            dep.getArtifactId(),
+                            health.getConcerns() != null ? String.join(", ", health.getConcerns()) : "Unknown issues"));
+                } else if (health.getLevel() == RepositoryHealth.HealthLevel.WARNING) {
+                    warningCount++;
+                    getLog().warn(String.format("⚠️  WARNING: %s:%s - %s",
+                            dep.getGroupId(),
+                            dep.getArtifactId(),
+                            health.getConcerns() != null ? String.join(", ", health.getConcerns()) : "Some concerns"));
+                } else if (health.getLevel() == RepositoryHealth.HealthLevel.HEALTHY) {
+                    healthyCount++;
                 }
             }
 
@@ -521,6 +590,16 @@ public class AnalyzeDependenciesMojo extends AbstractMojo {
         }
     }
 
+    /**
+     * Time left until {@code deadline}; no limit when {@code enrichmentDeadlineMs} is not positive.
+     */
+    private java.time.Duration remaining(long deadline) {
+        if (enrichmentDeadlineMs <= 0) {
+            return null;
+        }
+        return java.time.Duration.ofMillis(Math.max(1, deadline - System.currentTimeMillis()));
+    }
+
     /**
      * Check if a dependency is a Spring Boot Starter.
      * Spring Boot Starters are meta-dependencies that bring transitive dependencies.
@@ -596,14 +675,17 @@ public class AnalyzeDependenciesMojo extends AbstractMojo {
         return recs;
     }
 
-    private List<io.github.tourem.maven.descriptor.model.analysis.VersionConflict> detectVersionConflicts() {
+    /**
+     * @param versionsByGa versions per GA found in the dependency graph, or null when it could not be built
+     */
+    private List<io.github.tourem.maven.descriptor.model.analysis.VersionConflict> detectVersionConflicts(
+            java.util.Map<String, java.util.Set<String>> versionsByGa) {
         List<io.github.tourem.maven.descriptor.model.analysis.VersionConflict> out = new ArrayList<>();
+        if (versionsByGa == null) {
+            getLog().warn("Version conflict detection skipped: dependency graph not available");
+            return out;
+        }
         try {
-            DefaultProjectBuildingRequest req = new DefaultProjectBuildingRequest(session.getProjectBuildingRequest());
-            req.setProject(project);
-            DependencyNode root = dependencyGraphBuilder.buildDependencyGraph(req, null);
-            java.util.Map<String, java.util.Set<String>> versionsByGa = new java.util.HashMap<>();
-            collectVersions(root, versionsByGa);
             java.util.Map<String, String> selectedByGa = new java.util.HashMap<>();
             for (Artifact a : project.getArtifacts()) {
                 selectedByGa.put(a.getGroupId()+":"+a.getArtifactId(), a.getVersion());
@@ -612,7 +694,8 @@ public class AnalyzeDependenciesMojo extends AbstractMojo {
                 if (e.getValue().size() > 1) {
                     String[] ga = e.getKey().split(":", 2);
                     String selected = selectedByGa.get(e.getKey());
-                    io.github.tourem.maven.descriptor.model.analysis.VersionConflict.RiskLevel risk = riskLevel(e.getValue());
+                    io.github.tourem.maven.descriptor.model.analysis.VersionConflict.RiskLevel risk =
+                            io.github.tourem.maven.descriptor.model.analysis.VersionConflict.riskLevel(e.getValue());
                     out.add(io.github.tourem.maven.descriptor.model.analysis.VersionConflict.builder()
                             .groupId(ga[0]).artifactId(ga[1])
                             .versions(new java.util.ArrayList<>(e.getValue()))
@@ -627,33 +710,25 @@ public class AnalyzeDependenciesMojo extends AbstractMojo {
         return out;
     }
 
-    private void collectVersions(DependencyNode node, java.util.Map<String, java.util.Set<String>> map) {
-        if (node == null) return;
-        Artifact a = node.getArtifact();
-        if (a != null) {
-            String ga = a.getGroupId()+":"+a.getArtifactId();
-            map.computeIfAbsent(ga, k -> new java.util.HashSet<>()).add(a.getVersion());
-        }
-        if (node.getChildren() != null) {
-            for (DependencyNode c : node.getChildren()) collectVersions(c, map);
-        }
-    }
 
-    private io.github.tourem.maven.descriptor.model.analysis.VersionConflict.RiskLevel riskLevel(java.util.Set<String> versions) {
-        String major = null; String minor = null;
-        boolean diffMajor = false; boolean diffMinor = false;
-        for (String v : versions) {
-            String[] parts = v.split("\\.");
-            String m = parts.length>0?parts[0]:v; String n = parts.length>1?parts[1]:"0";
-            if (major==null) { major=m; minor=n; }
-            else {
-                if (!m.equals(major)) diffMajor = true;
-                if (!n.equals(minor)) diffMinor = true;
+    /**
+     * Build the library x module x version matrix of the reactor from the build-wide cached
+     * graphs (one walk per module) and report the libraries resolved in several versions.
+     */
+    private java.util.List<io.github.tourem.maven.descriptor.model.analysis.MultiModuleAnalysis.CrossModuleConflict> detectReactorVersionConflicts() {
+        ReactorConflictMatrix matrix = new ReactorConflictMatrix();
+        DependencyGraphCache graphs = DependencyGraphCache.of(session);
+        for (MavenProject p : session.getAllProjects()) {
+            // artifactIds alone may repeat across groups of the same reactor
+            String module = p.getGroupId() + ":" + p.getArtifactId();
+            try {
+                matrix.add(module, graphs.graph(session, dependencyGraphBuilder, p, null));
+            } catch (Exception e) {
+                getLog().warn("Skipping " + module + " in reactor conflict matrix, its conflicts are not reported: "
+                        + e.getMessage());
             }
         }
-        if (diffMajor) return io.github.tourem.maven.descriptor.model.analysis.VersionConflict.RiskLevel.HIGH;
-        if (diffMinor) return io.github.tourem.maven.descriptor.model.analysis.VersionConflict.RiskLevel.MEDIUM;
-        return io.github.tourem.maven.descriptor.model.analysis.VersionConflict.RiskLevel.LOW;
+        return matrix.conflicts();
     }
 
     private io.github.tourem.maven.descriptor.model.analysis.MultiModuleAnalysis aggregateAcrossModules() {
@@ -1158,6 +1233,30 @@ public class AnalyzeDependenciesMojo extends AbstractMojo {
             sb.append("</tbody>\n</table>\n");
         }
 
+        // Cross-module conflicts table
+        if (out.getMultiModule() != null && out.getMultiModule().getCrossModuleConflicts() != null
+                && !out.getMultiModule().getCrossModuleConflicts().isEmpty()) {
+            java.util.List<io.github.tourem.maven.descriptor.model.analysis.MultiModuleAnalysis.CrossModuleConflict> skew =
+                    out.getMultiModule().getCrossModuleConflicts();
+            sb.append("<h2>🧩 Version Skew Across Modules (").append(skew.size()).append(")</h2>\n");
+            sb.append("<table>\n<thead>\n<tr><th>Artifact</th><th>Versions by module</th><th>Risk</th></tr>\n</thead>\n<tbody>\n");
+            for (io.github.tourem.maven.descriptor.model.analysis.MultiModuleAnalysis.CrossModuleConflict c : skew) {
+                String ga = escapeHtml(c.getGroupId())+":"+escapeHtml(c.getArtifactId());
+                String risk = c.getRiskLevel()==io.github.tourem.maven.descriptor.model.analysis.VersionConflict.RiskLevel.HIGH?"<span class='badge riskH'>HIGH</span>"
+                        : (c.getRiskLevel()==io.github.tourem.maven.descriptor.model.analysis.VersionConflict.RiskLevel.MEDIUM?"<span class='badge riskM'>MEDIUM</span>":"<span class='badge ok'>LOW</span>");
+                StringBuilder byVersion = new StringBuilder();
+                for (java.util.Map.Entry<String, java.util.List<String>> e : c.getModulesByVersion().entrySet()) {
+                    if (byVersion.length() > 0) byVersion.append("<br>");
+                    byVersion.append("<strong>").append(escapeHtml(e.getKey())).append("</strong>: ")
+                             .append(escapeHtml(String.join(", ", e.getValue())));
+                }
+                sb.append("<tr>\n<td><strong>").append(ga).append("</strong></td>\n")
+                  .append("<td>").append(byVersion).append("</td>\n")
+                  .append("<td>").append(risk).append("</td>\n</tr>\n");
+            }
+            sb.append("</tbody>\n</table>\n");
+        }
+
         // Recommendations quick list
         if (out.getRecommendations() != null && !out.getRecommendations().isEmpty()) {
             sb.append("<h2>💡 Recommendations (").append(out.getRecommendations().size()).append(")</h2>\n<ul style='line-height:1.8;'>\n");
@@ -1268,15 +1367,12 @@ public class AnalyzeDependenciesMojo extends AbstractMojo {
                 return null;
             }
 
-            org.apache.maven.model.io.xpp3.MavenXpp3Reader reader = new org.apache.maven.model.io.xpp3.MavenXpp3Reader();
-            org.apache.maven.model.Model model;
-            try (java.io.FileReader fileReader = new java.io.FileReader(pomFile)) {
-                model = reader.read(fileReader);
-            }
+            org.apache.maven.model.Model model =
+                io.github.tourem.maven.descriptor.util.PomModelCache.shared().read(pomFile.toPath());
 
             // Use PluginCollector to collect plugin information
             io.github.tourem.maven.descriptor.service.PluginCollector pluginCollector =
-                new io.github.tourem.maven.descriptor.service.PluginCollector();
+                new io.github.tourem.maven.descriptor.service.PluginCollector(metadataCache());
 
             io.github.tourem.maven.descriptor.model.PluginOptions options =
                 io.github.tourem.maven.descriptor.model.PluginOptions.builder()
@@ -1303,11 +1399,8 @@ public class AnalyzeDependenciesMojo extends AbstractMojo {
                 return null;
             }
 
-            org.apache.maven.model.io.xpp3.MavenXpp3Reader reader = new org.apache.maven.model.io.xpp3.MavenXpp3Reader();
-            org.apache.maven.model.Model model;
-            try (java.io.FileReader fileReader = new java.io.FileReader(pomFile)) {
-                model = reader.read(fileReader);
-            }
+            org.apache.maven.model.Model model =
+                io.github.tourem.maven.descriptor.util.PomModelCache.shared().read(pomFile.toPath());
 
             io.github.tourem.maven.descriptor.service.DependencyTreeCollector collector =
                 new io.github.tourem.maven.descriptor.service.DependencyTreeCollector();
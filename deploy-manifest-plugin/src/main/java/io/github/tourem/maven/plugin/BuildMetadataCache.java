@@ -0,0 +1,53 @@
+package io.github.tourem.maven.plugin;
+
+import io.github.tourem.maven.descriptor.util.HttpTransport;
+import io.github.tourem.maven.descriptor.util.LocalRepositoryMetadata;
+import io.github.tourem.maven.descriptor.util.MavenMetadataCache;
+import org.apache.maven.execution.MavenSession;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+
+/**
+ * Build-scoped {@link MavenMetadataCache}, shared by every goal of this plugin
+ * ({@code analyze-dependencies}, {@code dependency-report}) and every module of the reactor, so
+ * that each {@code maven-metadata.xml} is fetched at most once per build whichever service asks
+ * for it (version lookup, repository health, plugin updates).
+ *
+ * <p>Like {@link DependencyGraphCache}, the instance lives in the repository session data and is
+ * discarded with the build; it memoizes each URL for that build only. Goals configured with a
+ * different cache directory or TTL get their own instance.</p>
+ *
+ * @author tourem
+ */
+final class BuildMetadataCache {
+
+    private BuildMetadataCache() {
+    }
+
+    /**
+     * Metadata cache of the current build: kept on disk unless {@code ttlMinutes} is 0; when
+     * Maven runs offline, it never fetches and falls back on the local repository.
+     *
+     * @param directory disk cache directory, or null for the default one
+     */
+    static MavenMetadataCache of(MavenSession session, File directory, int ttlMinutes) {
+        Path dir = ttlMinutes <= 0 ? null
+                : directory != null ? directory.toPath()
+                : MavenMetadataCache.defaultDirectory();
+        String key = BuildMetadataCache.class.getName() + ":" + dir + ":" + ttlMinutes;
+        return SessionCaches.get(session, key, MavenMetadataCache.class,
+                () -> create(session, dir, ttlMinutes));
+    }
+
+    private static MavenMetadataCache create(MavenSession session, Path dir, int ttlMinutes) {
+        boolean offline = session != null && session.isOffline();
+        LocalRepositoryMetadata local = session != null && session.getLocalRepository() != null
+                ? new LocalRepositoryMetadata(Paths.get(session.getLocalRepository().getBasedir()))
+                : LocalRepositoryMetadata.forCurrentBuild();
+        return new MavenMetadataCache(HttpTransport.shared(), dir, Duration.ofMinutes(Math.max(0, ttlMinutes)),
+                offline, local, true);
+    }
+}
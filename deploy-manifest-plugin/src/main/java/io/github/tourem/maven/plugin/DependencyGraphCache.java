@@ -0,0 +1,107 @@
+package io.github.tourem.maven.plugin;
+
+import org.apache.maven.artifact.resolver.filter.ArtifactFilter;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.project.DefaultProjectBuildingRequest;
+import org.apache.maven.project.MavenProject;
+import org.apache.maven.project.ProjectBuildingRequest;
+import org.apache.maven.shared.dependency.graph.DependencyGraphBuilder;
+import org.apache.maven.shared.dependency.graph.DependencyGraphBuilderException;
+import org.apache.maven.shared.dependency.graph.DependencyNode;
+
+import java.io.File;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Build-scoped cache of resolved dependency graphs, shared by every goal of this plugin
+ * ({@code generate}, {@code analyze-dependencies}) so that each module's graph is resolved once
+ * per build instead of once per use.
+ *
+ * <p>The instance lives in the repository session data of the {@link MavenSession}, hence
+ * is discarded with the build. Graphs are keyed by project (id and base directory) and
+ * resolution filter (compared with {@code equals}; {@code null} means unfiltered). Concurrent
+ * requests for the same graph (parallel builds) wait for a single resolution; failures are
+ * not cached.</p>
+ *
+ * <p>Returned graphs are shared and must be treated as read-only.</p>
+ *
+ * @author tourem
+ */
+final class DependencyGraphCache {
+
+    private static final String SESSION_KEY = DependencyGraphCache.class.getName();
+
+    private final Map<Key, CompletableFuture<DependencyNode>> graphs = new ConcurrentHashMap<>();
+    private final AtomicInteger resolutions = new AtomicInteger();
+
+    DependencyGraphCache() {
+    }
+
+    /**
+     * Cache of the current build; a fresh, unshared cache when the session carries no
+     * repository session (e.g. mojos instantiated by tests).
+     */
+    static DependencyGraphCache of(MavenSession session) {
+        return SessionCaches.get(session, SESSION_KEY, DependencyGraphCache.class, DependencyGraphCache::new);
+    }
+
+    /**
+     * Resolved dependency graph of a project, built with the session's project building
+     * request on first use.
+     *
+     * @param filter resolution filter, or null
+     */
+    DependencyNode graph(MavenSession session, DependencyGraphBuilder builder, MavenProject project,
+                         ArtifactFilter filter) throws DependencyGraphBuilderException {
+        return graph(session.getProjectBuildingRequest(), builder, project, filter);
+    }
+
+    DependencyNode graph(ProjectBuildingRequest template, DependencyGraphBuilder builder, MavenProject project,
+                         ArtifactFilter filter) throws DependencyGraphBuilderException {
+        Key key = new Key(project.getId(), project.getBasedir(), filter);
+        CompletableFuture<DependencyNode> pending = new CompletableFuture<>();
+        CompletableFuture<DependencyNode> existing = graphs.putIfAbsent(key, pending);
+        if (existing == null) {
+            try {
+                ProjectBuildingRequest request = new DefaultProjectBuildingRequest(template);
+                request.setProject(project);
+                DependencyNode root = builder.buildDependencyGraph(request, filter);
+                resolutions.incrementAndGet();
+                pending.complete(root);
+                return root;
+            } catch (Throwable e) {
+                // Errors included, or waiters would block forever; let a later caller retry
+                graphs.remove(key, pending);
+                pending.completeExceptionally(e);
+                throw e;
+            }
+        }
+        try {
+            return existing.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof DependencyGraphBuilderException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * @return number of graphs actually resolved (cache misses)
+     */
+    int resolutions() {
+        return resolutions.get();
+    }
+
+    private record Key(String projectId, File basedir, ArtifactFilter filter) {}
+}
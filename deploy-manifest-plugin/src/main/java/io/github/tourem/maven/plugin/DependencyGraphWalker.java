@@ -0,0 +1,237 @@
+package io.github.tourem.maven.plugin;
+
+import io.github.tourem.maven.descriptor.util.CompactDependencyGraph;
+import io.github.tourem.maven.descriptor.util.ResolvedVersionIndex;
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.shared.dependency.graph.DependencyNode;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Walks a resolved dependency graph once, feeding every node to several {@link Visitor}s, so
+ * that counters, version sets, version indexes and tree conversions share one traversal.
+ *
+ * <p>The walk is depth first, in child order, with an explicit stack (no recursion, whatever
+ * the depth of the graph). The root is visited at depth 0, direct dependencies at depth 1.
+ * Each visitor decides on its own whether to descend below a node; the children are walked
+ * as long as one visitor still descends.</p>
+ *
+ * @author tourem
+ */
+final class DependencyGraphWalker {
+
+    /**
+     * Receives the nodes of a walk.
+     */
+    interface Visitor {
+        /**
+         * @return whether to visit the children of the node (and call {@link #leave})
+         */
+        boolean enter(DependencyNode node, int depth);
+
+        /**
+         * Called after the children of a node entered with {@code true}.
+         */
+        default void leave(DependencyNode node, int depth) {
+        }
+    }
+
+    private DependencyGraphWalker() {
+    }
+
+    /**
+     * Walk the graph below {@code root} (included) with all the given visitors at once.
+     */
+    static void walk(DependencyNode root, Visitor... visitors) {
+        if (root == null || visitors.length == 0) {
+            return;
+        }
+        if (visitors.length > Long.SIZE) {
+            throw new IllegalArgumentException("At most " + Long.SIZE + " visitors per walk");
+        }
+        Deque<Frame> stack = new ArrayDeque<>();
+        stack.push(new Frame(root, 0, visitors.length == Long.SIZE ? -1L : (1L << visitors.length) - 1, false));
+        while (!stack.isEmpty()) {
+            Frame frame = stack.pop();
+            if (frame.leaving) {
+                for (int i = visitors.length - 1; i >= 0; i--) {
+                    if ((frame.visitors & (1L << i)) != 0) {
+                        visitors[i].leave(frame.node, frame.depth);
+                    }
+                }
+                continue;
+            }
+            long entered = 0;
+            for (int i = 0; i < visitors.length; i++) {
+                if ((frame.visitors & (1L << i)) != 0 && visitors[i].enter(frame.node, frame.depth)) {
+                    entered |= 1L << i;
+                }
+            }
+            if (entered == 0) {
+                continue;
+            }
+            stack.push(new Frame(frame.node, frame.depth, entered, true));
+            List<DependencyNode> children = frame.node.getChildren();
+            if (children != null) {
+                for (int i = children.size() - 1; i >= 0; i--) {
+                    if (children.get(i) != null) {
+                        stack.push(new Frame(children.get(i), frame.depth + 1, entered, false));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Restrict a visitor to the nodes down to {@code maxDepth} (root = 0); negative = unlimited.
+     */
+    static Visitor limitDepth(int maxDepth, Visitor visitor) {
+        if (maxDepth < 0) {
+            return visitor;
+        }
+        return new Visitor() {
+            @Override
+            public boolean enter(DependencyNode node, int depth) {
+                return depth <= maxDepth && visitor.enter(node, depth);
+            }
+
+            @Override
+            public void leave(DependencyNode node, int depth) {
+                visitor.leave(node, depth);
+            }
+        };
+    }
+
+    /**
+     * Publish the version of every artifact of the graph (root included) to an index.
+     */
+    static Visitor versionIndex(ResolvedVersionIndex.Builder index) {
+        return (node, depth) -> {
+            Artifact a = node.getArtifact();
+            if (a != null) {
+                index.put(a.getGroupId(), a.getArtifactId(), a.getVersion());
+            }
+            return true;
+        };
+    }
+
+    /**
+     * Distinct groupId:artifactId:version of the dependencies (root excluded).
+     */
+    static final class UniqueArtifacts implements Visitor {
+        private final Set<String> keys = new HashSet<>();
+
+        @Override
+        public boolean enter(DependencyNode node, int depth) {
+            Artifact a = node.getArtifact();
+            if (a != null && depth > 0) {
+                keys.add(a.getGroupId() + ":" + a.getArtifactId() + ":" + a.getVersion());
+            }
+            return true;
+        }
+
+        int count() {
+            return keys.size();
+        }
+    }
+
+    /**
+     * Versions found per groupId:artifactId.
+     */
+    static final class VersionsByGa implements Visitor {
+        private final Map<String, Set<String>> versions = new HashMap<>();
+
+        @Override
+        public boolean enter(DependencyNode node, int depth) {
+            Artifact a = node.getArtifact();
+            if (a != null) {
+                versions.computeIfAbsent(a.getGroupId() + ":" + a.getArtifactId(), k -> new HashSet<>()).add(a.getVersion());
+            }
+            return true;
+        }
+
+        Map<String, Set<String>> versions() {
+            return versions;
+        }
+    }
+
+    /**
+     * Converts the graph below the root to a {@link CompactDependencyGraph}, keeping the
+     * dependencies of the allowed scopes (and optional ones on demand). A dependency already
+     * on the path from the root is dropped to break cycles.
+     */
+    static final class CompactTree implements Visitor {
+        private final Set<String> allowedScopes;
+        private final boolean includeOptional;
+        private final CompactDependencyGraph.Builder graph = CompactDependencyGraph.builder();
+        private final Deque<int[]> childIds = new ArrayDeque<>();
+        private final Deque<Integer> childCounts = new ArrayDeque<>();
+        private final Set<String> path = new HashSet<>();
+
+        CompactTree(Set<String> allowedScopes, boolean includeOptional) {
+            this.allowedScopes = allowedScopes;
+            this.includeOptional = includeOptional;
+        }
+
+        @Override
+        public boolean enter(DependencyNode node, int depth) {
+            if (depth == 0) {
+                return true;
+            }
+            Artifact a = node.getArtifact();
+            if (a == null) {
+                return false;
+            }
+            if (!allowedScopes.contains(scope(a)) || (a.isOptional() && !includeOptional)) {
+                return false;
+            }
+            if (!path.add(key(a))) {
+                return false;
+            }
+            int children = node.getChildren() == null ? 0 : node.getChildren().size();
+            childIds.push(new int[children]);
+            childCounts.push(0);
+            return true;
+        }
+
+        @Override
+        public void leave(DependencyNode node, int depth) {
+            if (depth == 0) {
+                return;
+            }
+            Artifact a = node.getArtifact();
+            path.remove(key(a));
+            int[] children = Arrays.copyOf(childIds.pop(), childCounts.pop());
+            int id = graph.node(a.getGroupId(), a.getArtifactId(), a.getVersion(), a.getType(), scope(a),
+                    a.isOptional(), children);
+            if (depth == 1) {
+                graph.root(id);
+            } else {
+                int count = childCounts.pop();
+                childIds.peek()[count] = id;
+                childCounts.push(count + 1);
+            }
+        }
+
+        CompactDependencyGraph build() {
+            return graph.build();
+        }
+
+        private static String scope(Artifact a) {
+            return (a.getScope() == null || a.getScope().isEmpty()) ? "compile" : a.getScope().toLowerCase();
+        }
+
+        private static String key(Artifact a) {
+            return a.getGroupId() + ":" + a.getArtifactId() + ":" + a.getVersion();
+        }
+    }
+
+    private record Frame(DependencyNode node, int depth, long visitors, boolean leaving) {}
+}
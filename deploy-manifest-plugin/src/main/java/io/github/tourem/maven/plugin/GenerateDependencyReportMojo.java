@@ -71,6 +71,21 @@ public class GenerateDependencyReportMojo extends AbstractMojo {
     @Parameter(property = "dependency.report.versionLookupTimeoutMs", defaultValue = "5000")
     private int versionLookupTimeoutMs;
 
+    @Parameter(property = "dependency.report.enrichmentConcurrency", defaultValue = "8")
+    private int enrichmentConcurrency;
+
+    @Parameter(property = "dependency.report.enrichmentDeadlineMs", defaultValue = "60000")
+    private long enrichmentDeadlineMs;
+
+    // maven-metadata.xml cache
+    @Parameter(property = "dependency.report.metadataCacheTtlMinutes", defaultValue = "60")
+    private int metadataCacheTtlMinutes;
+
+    @Parameter(property = "dependency.report.metadataCacheDir")
+    private java.io.File metadataCacheDir;
+
+    private io.github.tourem.maven.descriptor.util.MavenMetadataCache metadataCache;
+
     @Override
     public void execute() throws MojoExecutionException {
         try {
@@ -178,24 +193,28 @@ public class GenerateDependencyReportMojo extends AbstractMojo {
             io.github.tourem.maven.descriptor.service.DependencyVersionLookup versionLookup =
                 new io.github.tourem.maven.descriptor.service.DependencyVersionLookup(
                     project.getModel(),
-                    versionLookupTimeoutMs
+                    versionLookupTimeoutMs,
+                    metadataCache()
                 );
 
-            // Enrich unused dependencies
+            List<io.github.tourem.maven.descriptor.model.analysis.AnalyzedDependency> pending = new ArrayList<>();
             if (result.getRawResults().getUnused() != null) {
-                for (io.github.tourem.maven.descriptor.model.analysis.AnalyzedDependency dep : result.getRawResults().getUnused()) {
-                    if (dep.getAvailableVersions() == null || dep.getAvailableVersions().isEmpty()) {
-                        enrichDependencyWithVersions(dep, versionLookup);
-                    }
-                }
+                pending.addAll(result.getRawResults().getUnused());
             }
-
-            // Enrich undeclared dependencies
             if (result.getRawResults().getUndeclared() != null) {
-                for (io.github.tourem.maven.descriptor.model.analysis.AnalyzedDependency dep : result.getRawResults().getUndeclared()) {
-                    if (dep.getAvailableVersions() == null || dep.getAvailableVersions().isEmpty()) {
-                        enrichDependencyWithVersions(dep, versionLookup);
-                    }
+                pending.addAll(result.getRawResults().getUndeclared());
+            }
+            pending.removeIf(dep -> dep.getAvailableVersions() != null && !dep.getAvailableVersions().isEmpty());
+
+            List<List<String>> found = io.github.tourem.maven.descriptor.util.BoundedParallel.map(pending,
+                    dep -> lookupVersions(dep, versionLookup),
+                    enrichmentConcurrency, java.time.Duration.ofMillis(enrichmentDeadlineMs), "version-lookup");
+
+            // Write back in input order, on this thread
+            for (int i = 0; i < pending.size(); i++) {
+                List<String> availableVersions = found.get(i);
+                if (availableVersions != null && !availableVersions.isEmpty()) {
+                    pending.get(i).setAvailableVersions(availableVersions);
                 }
             }
         } catch (Exception e) {
@@ -203,23 +222,30 @@ public class GenerateDependencyReportMojo extends AbstractMojo {
         }
     }
 
-    private void enrichDependencyWithVersions(
+    /**
+     * Metadata cache of this execution, shared with the other goals and modules of the build.
+     */
+    private io.github.tourem.maven.descriptor.util.MavenMetadataCache metadataCache() {
+        if (metadataCache == null) {
+            metadataCache = BuildMetadataCache.of(session, metadataCacheDir, metadataCacheTtlMinutes);
+        }
+        return metadataCache;
+    }
+
+    private List<String> lookupVersions(
             io.github.tourem.maven.descriptor.model.analysis.AnalyzedDependency dep,
             io.github.tourem.maven.descriptor.service.DependencyVersionLookup versionLookup) {
         try {
-            List<String> availableVersions = versionLookup.lookupAvailableVersions(
+            return versionLookup.lookupAvailableVersions(
                 dep.getGroupId(),
                 dep.getArtifactId(),
                 dep.getVersion(),
                 maxAvailableVersions
             );
-
-            if (availableVersions != null && !availableVersions.isEmpty()) {
-                dep.setAvailableVersions(availableVersions);
-            }
         } catch (Exception e) {
             getLog().debug("Failed to lookup versions for " + dep.getGroupId() + ":" +
                           dep.getArtifactId() + ": " + e.getMessage());
+            return null;
         }
     }
 
@@ -339,6 +339,27 @@ public class GenerateDescriptorMojo extends AbstractMojo {
     @Parameter(property = "manifest.includeTransitiveLicenses", defaultValue = "true")
     private boolean includeTransitiveLicenses;
 
+    /**
+     * Reuse licenses resolved by previous builds from the persistent index
+     * (~/.m2/deploy-manifest/licenses.idx). SNAPSHOT versions are never indexed.
+     */
+    @Parameter(property = "manifest.licenseIndex", defaultValue = "true")
+    private boolean licenseIndex;
+
+    /**
+     * Threads fetching transitive dependency POMs concurrently during license collection
+     * (1 = sequential). The collected licenses are identical whatever the value.
+     */
+    @Parameter(property = "manifest.licenseParallelism", defaultValue = "4")
+    private int licenseParallelism;
+
+    /**
+     * Emit a top-level licenseCatalog with one entry per dependency GAV; module license details
+     * then only hold a reference (plus scope and depth). Reduces descriptor size for large reactors.
+     */
+    @Parameter(property = "manifest.licenseCatalog", defaultValue = "false")
+    private boolean licenseCatalog;
+
     // =============================
     // Properties Feature Options
     // =============================
@@ -395,6 +416,57 @@ public class GenerateDescriptorMojo extends AbstractMojo {
     @Parameter(property = "manifest.pluginUpdateTimeoutMillis", defaultValue = "2000")
     private int pluginUpdateTimeoutMillis;
 
+    // =============================
+    // Analysis Options
+    // =============================
+
+    /**
+     * Number of modules analyzed concurrently. Default: 1 (serial).
+     * Module order in the descriptor is the same whatever the value.
+     */
+    @Parameter(property = "manifest.analysisParallelism", defaultValue = "1")
+    private int analysisParallelism;
+
+    /**
+     * Incremental mode: reuse the analysis of modules whose inputs (POMs, resources, Dockerfile,
+     * test reports, options) did not change since the previous build.
+     * Fingerprints are stored in each module's target/deploy-manifest directory.
+     * Default: false
+     */
+    @Parameter(property = "manifest.incremental", defaultValue = "false")
+    private boolean incremental;
+
+    /**
+     * Profile descriptor generation: records wall time, CPU time, allocated bytes and files read
+     * per detector and module, adds a generationStats section to the descriptor and prints a
+     * summary table.
+     * Default: false
+     */
+    @Parameter(property = "descriptor.profile", defaultValue = "false")
+    private boolean profileGeneration;
+
+    /**
+     * Streaming output: write the descriptor header, then each module as soon as it is analyzed,
+     * then the build info, instead of building the whole descriptor in memory first.
+     * Output is identical to the default mode. Ignored (in-memory mode is used) when the
+     * summary, HTML or webhook features need the complete descriptor.
+     * Default: false
+     */
+    @Parameter(property = "manifest.streamOutput", defaultValue = "false")
+    private boolean streamOutput;
+
+    /**
+     * Analyze the effective models Maven already built for the reactor instead of re-parsing
+     * every POM from disk. Falls back to reading POMs when the project directory is not part
+     * of the current reactor. Opt-in: effective models also carry inherited dependencies,
+     * lifecycle-bound plugins and interpolated properties that the raw POMs do not show.
+     * Default: false
+     */
+    @Parameter(property = "manifest.useReactorModels", defaultValue = "false")
+    private boolean useReactorModels;
+
+    /** Tree views converted while pre-resolving the reactor, by project. */
+    private final Map<MavenProject, io.github.tourem.maven.descriptor.util.CompactDependencyGraph> resolvedTrees = new HashMap<>();
 
 
     @Override
@@ -436,6 +508,10 @@ public class GenerateDescriptorMojo extends AbstractMojo {
                 scopeSet.add("runtime");
             }
             dtOptionsBuilder.scopes(scopeSet);
+            // Flat list and tree are rebuilt from the build's resolved graph: core lists direct dependencies only
+            if (session != null && dependencyGraphBuilder != null) {
+                dtOptionsBuilder.resolveTransitive(false);
+            }
 
             // Licenses options
             java.util.Set<String> licIncompatSet = new java.util.HashSet<>();
@@ -448,6 +524,9 @@ public class GenerateDescriptorMojo extends AbstractMojo {
                 .include(includeLicenses)
                 .licenseWarnings(licenseWarnings)
                 .includeTransitiveLicenses(includeTransitiveLicenses)
+                .persistentIndex(licenseIndex)
+                .resolutionParallelism(licenseParallelism)
+                .catalog(licenseCatalog)
                 .incompatibleLicenses(licIncompatSet)
                 .build();
 
@@ -475,6 +554,10 @@ public class GenerateDescriptorMojo extends AbstractMojo {
                     .checkPluginUpdates(checkPluginUpdates)
                     .filterSensitivePluginConfig(filterSensitivePluginConfig)
                     .updateCheckTimeoutMillis(pluginUpdateTimeoutMillis)
+                    .offline(session != null && session.isOffline())
+                    .localRepository(session != null && session.getLocalRepository() != null
+                            && session.getLocalRepository().getBasedir() != null
+                            ? Paths.get(session.getLocalRepository().getBasedir()) : null)
                     .build();
             // Ensure core uses the exact local repository Maven is using
             try {
@@ -489,17 +572,40 @@ public class GenerateDescriptorMojo extends AbstractMojo {
 
 
             // Pre-resolve dependencies to ensure POMs are present for license collection
+            Map<String, io.github.tourem.maven.descriptor.util.ResolvedVersionIndex> resolvedVersions = Map.of();
             if (includeLicenses) {
                 try {
-                    preResolveDependenciesForLicensesInSession();
+                    var treeOptions = dtOptionsBuilder.build();
+                    resolvedVersions = preResolveDependenciesForLicensesInSession(
+                            treeOptions.isInclude() && !excludeTransitive ? treeOptions : null);
                 } catch (Exception e) {
                     getLog().debug("Pre-resolving dependencies for license collection failed: " + e.getMessage(), e);
                 }
             }
 
 
-            MavenProjectAnalyzer analyzer = new MavenProjectAnalyzer(dtOptionsBuilder.build(), licOpts, propOpts, pluginOpts);
-            ProjectDescriptor descriptor = analyzer.analyzeProject(projectDir.toPath());
+            var analysisOpts = io.github.tourem.maven.descriptor.model.AnalysisOptions.builder()
+                    .parallelism(analysisParallelism)
+                    .incremental(incremental)
+                    .profile(profileGeneration)
+                    .build();
+
+            MavenProjectAnalyzer analyzer = new MavenProjectAnalyzer(dtOptionsBuilder.build(), licOpts, propOpts, pluginOpts, analysisOpts);
+            analyzer.setResolvedVersions(resolvedVersions);
+            if (streamOutput) {
+                if (summary || generateHtml || (webhookUrl != null && !webhookUrl.trim().isEmpty())) {
+                    getLog().info("Streaming output disabled: summary, HTML and webhook need the complete descriptor");
+                } else {
+                    generateStreaming(analyzer, projectDir.toPath(), dtOptionsBuilder.build());
+                    return;
+                }
+            }
+            ProjectDescriptor descriptor = analyze(analyzer, projectDir.toPath(), null);
+            getLog().debug("POM model cache: " + io.github.tourem.maven.descriptor.util.PomModelCache.shared().stats());
+            if (descriptor.generationStats() != null) {
+                io.github.tourem.maven.descriptor.service.AnalysisProfiler.formatTable(descriptor.generationStats(), 10)
+                        .forEach(line -> getLog().info(line));
+            }
 
             // Optionally enrich BuildInfo with properties, profiles, goals and Maven runtime
             if (includeProperties) {
@@ -525,7 +631,7 @@ public class GenerateDescriptorMojo extends AbstractMojo {
             Files.createDirectories(outputPath.getParent());
 
             // Configure ObjectMapper
-            ObjectMapper jsonMapper = new ObjectMapper();
+            ObjectMapper jsonMapper = createJsonMapper();
             // Enrich dependencies with resolved transitive tree for HTML if enabled
             var dtOptions = dtOptionsBuilder.build();
             if (dtOptions.isInclude() && !excludeTransitive) {
@@ -537,69 +643,23 @@ public class GenerateDescriptorMojo extends AbstractMojo {
                 }
             }
 
-            jsonMapper.findAndRegisterModules();
-            jsonMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
-            if (prettyPrint) {
-                jsonMapper.enable(SerializationFeature.INDENT_OUTPUT);
-            }
-
             // Export based on format
-            String normalizedExportFormat = exportFormat.trim().toLowerCase();
-            Path jsonOutputPath = null;
-            Path yamlOutputPath = null;
-
-            switch (normalizedExportFormat) {
-                case "json":
-                    jsonOutputPath = outputPath;
-                    jsonMapper.writeValue(jsonOutputPath.toFile(), descriptor);
-                    getLog().info("✓ Descriptor JSON generated successfully");
-                    break;
-
-                case "yaml":
-                    yamlOutputPath = changeExtension(outputPath, ".yaml");
-                    writeYaml(descriptor, yamlOutputPath);
-                    getLog().info("✓ Descriptor YAML generated successfully");
-                    break;
-
-                case "both":
-                    jsonOutputPath = outputPath;
-                    yamlOutputPath = changeExtension(outputPath, ".yaml");
-                    jsonMapper.writeValue(jsonOutputPath.toFile(), descriptor);
-                    writeYaml(descriptor, yamlOutputPath);
-                    getLog().info("✓ Descriptor JSON and YAML generated successfully");
-                    break;
-
-                default:
-                    throw new MojoExecutionException("Unsupported export format: " + exportFormat +
-                        ". Supported formats: json, yaml, both");
-            }
-
-            getLog().info("  - Total modules: " + descriptor.totalModules());
-            getLog().info("  - Deployable modules: " + descriptor.deployableModulesCount());
-
-            // Use JSON path as primary output for subsequent operations
-            Path primaryOutput = jsonOutputPath != null ? jsonOutputPath : yamlOutputPath;
-            getLog().info("  - Output: " + primaryOutput.toAbsolutePath());
-
-            // Generate digital signature if requested (for primary output)
-            if (sign && primaryOutput != null) {
-                generateSignature(primaryOutput);
-            }
+            Path jsonOutputPath = jsonOutputPath(outputPath);
+            Path yamlOutputPath = yamlOutputPath(outputPath);
 
-            // Build list of files to archive (all generated artifacts)
-            java.util.List<java.nio.file.Path> filesToArchive = new java.util.ArrayList<>();
             if (jsonOutputPath != null) {
-                filesToArchive.add(jsonOutputPath);
+                jsonMapper.writeValue(jsonOutputPath.toFile(), descriptor);
             }
             if (yamlOutputPath != null) {
-                filesToArchive.add(yamlOutputPath);
+                writeYaml(descriptor, yamlOutputPath);
             }
+            logGenerated(descriptor, jsonOutputPath, yamlOutputPath);
 
-            // Compress JSON if requested and include .gz in archive
-            if (compress && jsonOutputPath != null) {
-                compressFile(jsonOutputPath);
-                filesToArchive.add(java.nio.file.Paths.get(jsonOutputPath.toString() + ".gz"));
-            }
+            // Use JSON path as primary output for subsequent operations
+            Path primaryOutput = jsonOutputPath != null ? jsonOutputPath : yamlOutputPath;
+
+            // Sign and compress outputs, then collect the files to archive
+            java.util.List<java.nio.file.Path> filesToArchive = postProcessOutputs(jsonOutputPath, yamlOutputPath);
 
             // Generate HTML documentation before archiving so it can be included
             if (generateHtml) {
@@ -615,18 +675,7 @@ public class GenerateDescriptorMojo extends AbstractMojo {
                 collectAdditionalReports(filesToArchive, primaryOutput.getParent());
             }
 
-            // Handle archiving and attachment if format is specified
-            File finalArtifact = primaryOutput.toFile();
-
-            if (format != null && !format.trim().isEmpty()) {
-                finalArtifact = createArchive(filesToArchive);
-                getLog().info("✓ Archive created: " + finalArtifact.getAbsolutePath());
-            }
-
-            // Attach artifact to project if requested
-            if (attach) {
-                attachArtifact(finalArtifact);
-            }
+            archiveAndAttach(primaryOutput, filesToArchive);
 
             // Send webhook notification if configured
             if (webhookUrl != null && !webhookUrl.trim().isEmpty()) {
@@ -645,6 +694,207 @@ public class GenerateDescriptorMojo extends AbstractMojo {
         }
     }
 
+    /**
+     * Streaming mode: the header, each module and the build info are written as soon as they
+     * are available, so analyzed modules do not accumulate in memory.
+     */
+    private void generateStreaming(MavenProjectAnalyzer analyzer, Path projectDir,
+                                   io.github.tourem.maven.descriptor.model.DependencyTreeOptions dtOptions)
+            throws Exception {
+        Path outputPath = resolveOutputPath();
+        getLog().info("Generating descriptor (streaming): " + outputPath.toAbsolutePath());
+        Files.createDirectories(outputPath.getParent());
+
+        Path jsonOutputPath = jsonOutputPath(outputPath);
+        Path yamlOutputPath = yamlOutputPath(outputPath);
+
+        ProjectDescriptor descriptor;
+        try {
+            descriptor = writeStreaming(analyzer, projectDir, dtOptions, jsonOutputPath, yamlOutputPath);
+        } catch (Exception e) {
+            // Modules are already on disk when validation or analysis fails: drop the partial outputs
+            deletePartialOutput(jsonOutputPath);
+            deletePartialOutput(yamlOutputPath);
+            throw e;
+        }
+
+        logGenerated(descriptor, jsonOutputPath, yamlOutputPath);
+        Path primaryOutput = jsonOutputPath != null ? jsonOutputPath : yamlOutputPath;
+        java.util.List<java.nio.file.Path> filesToArchive = postProcessOutputs(jsonOutputPath, yamlOutputPath);
+        if (includeAllReports && format != null && !format.trim().isEmpty()) {
+            collectAdditionalReports(filesToArchive, primaryOutput.getParent());
+        }
+        archiveAndAttach(primaryOutput, filesToArchive);
+
+        if (postGenerationHook != null && !postGenerationHook.trim().isEmpty()) {
+            executePostGenerationHook(primaryOutput);
+        }
+    }
+
+    /**
+     * Analyze the project, writing each module to the outputs as soon as it is available.
+     */
+    private ProjectDescriptor writeStreaming(MavenProjectAnalyzer analyzer, Path projectDir,
+                                             io.github.tourem.maven.descriptor.model.DependencyTreeOptions dtOptions,
+                                             Path jsonOutputPath, Path yamlOutputPath) throws Exception {
+        boolean enrichTrees = dtOptions.isInclude() && !excludeTransitive;
+        try (StreamingDescriptorWriter writer = new StreamingDescriptorWriter()) {
+            if (jsonOutputPath != null) {
+                writer.addTarget(createJsonMapper(), jsonOutputPath);
+            }
+            if (yamlOutputPath != null) {
+                writer.addTarget(createYamlMapper(), yamlOutputPath);
+            }
+
+            ProjectDescriptor descriptor = analyze(analyzer, projectDir, new io.github.tourem.maven.descriptor.service.ModuleListener() {
+                @Override
+                public void onHeader(ProjectDescriptor header) throws IOException {
+                    writer.onHeader(header);
+                }
+
+                @Override
+                public void onModule(io.github.tourem.maven.descriptor.model.DeployableModule module) throws IOException {
+                    if (enrichTrees) {
+                        enrichDependencyTree(module, dtOptions);
+                    }
+                    writer.onModule(module);
+                }
+            });
+            getLog().debug("POM model cache: " + io.github.tourem.maven.descriptor.util.PomModelCache.shared().stats());
+            if (descriptor.generationStats() != null) {
+                io.github.tourem.maven.descriptor.service.AnalysisProfiler.formatTable(descriptor.generationStats(), 10)
+                        .forEach(line -> getLog().info(line));
+            }
+
+            if (includeProperties) {
+                descriptor = enrichBuildInfoWithProperties(descriptor);
+            }
+            if (validate) {
+                validateDescriptor(descriptor);
+            }
+            writer.finish(descriptor);
+            return descriptor;
+        }
+    }
+
+    /**
+     * Remove an output left incomplete by a failed streaming run.
+     */
+    private void deletePartialOutput(Path output) {
+        if (output == null) {
+            return;
+        }
+        try {
+            if (Files.deleteIfExists(output)) {
+                getLog().debug("Deleted incomplete output: " + output);
+            }
+        } catch (IOException e) {
+            getLog().warn("Could not delete incomplete output " + output + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * JSON output path for the configured export format, or null when JSON is not exported.
+     */
+    private Path jsonOutputPath(Path outputPath) throws MojoExecutionException {
+        String normalized = normalizedExportFormat();
+        return "json".equals(normalized) || "both".equals(normalized) ? outputPath : null;
+    }
+
+    /**
+     * YAML output path for the configured export format, or null when YAML is not exported.
+     */
+    private Path yamlOutputPath(Path outputPath) throws MojoExecutionException {
+        String normalized = normalizedExportFormat();
+        return "yaml".equals(normalized) || "both".equals(normalized) ? changeExtension(outputPath, ".yaml") : null;
+    }
+
+    private String normalizedExportFormat() throws MojoExecutionException {
+        String normalized = exportFormat.trim().toLowerCase();
+        if (!"json".equals(normalized) && !"yaml".equals(normalized) && !"both".equals(normalized)) {
+            throw new MojoExecutionException("Unsupported export format: " + exportFormat +
+                ". Supported formats: json, yaml, both");
+        }
+        return normalized;
+    }
+
+    private void logGenerated(ProjectDescriptor descriptor, Path jsonOutputPath, Path yamlOutputPath) {
+        if (jsonOutputPath != null && yamlOutputPath != null) {
+            getLog().info("✓ Descriptor JSON and YAML generated successfully");
+        } else if (jsonOutputPath != null) {
+            getLog().info("✓ Descriptor JSON generated successfully");
+        } else {
+            getLog().info("✓ Descriptor YAML generated successfully");
+        }
+        getLog().info("  - Total modules: " + descriptor.totalModules());
+        getLog().info("  - Deployable modules: " + descriptor.deployableModulesCount());
+        Path primaryOutput = jsonOutputPath != null ? jsonOutputPath : yamlOutputPath;
+        getLog().info("  - Output: " + primaryOutput.toAbsolutePath());
+    }
+
+    /**
+     * Sign and compress the written outputs.
+     *
+     * @return the files to include in the archive
+     */
+    private java.util.List<java.nio.file.Path> postProcessOutputs(Path jsonOutputPath, Path yamlOutputPath)
+            throws Exception {
+        Path primaryOutput = jsonOutputPath != null ? jsonOutputPath : yamlOutputPath;
+
+        // Generate digital signature if requested (for primary output)
+        if (sign && primaryOutput != null) {
+            generateSignature(primaryOutput);
+        }
+
+        // Build list of files to archive (all generated artifacts)
+        java.util.List<java.nio.file.Path> filesToArchive = new java.util.ArrayList<>();
+        if (jsonOutputPath != null) {
+            filesToArchive.add(jsonOutputPath);
+        }
+        if (yamlOutputPath != null) {
+            filesToArchive.add(yamlOutputPath);
+        }
+
+        // Compress JSON if requested and include .gz in archive
+        if (compress && jsonOutputPath != null) {
+            compressFile(jsonOutputPath);
+            filesToArchive.add(java.nio.file.Paths.get(jsonOutputPath.toString() + ".gz"));
+        }
+        return filesToArchive;
+    }
+
+    /**
+     * Archive the generated files when a format is configured, then attach the result if requested.
+     */
+    private void archiveAndAttach(Path primaryOutput, java.util.List<java.nio.file.Path> filesToArchive)
+            throws Exception {
+        // Handle archiving and attachment if format is specified
+        File finalArtifact = primaryOutput.toFile();
+
+        if (format != null && !format.trim().isEmpty()) {
+            finalArtifact = createArchive(filesToArchive);
+            getLog().info("✓ Archive created: " + finalArtifact.getAbsolutePath());
+        }
+
+        // Attach artifact to project if requested
+        if (attach) {
+            attachArtifact(finalArtifact);
+        }
+    }
+
+    /**
+     * JSON mapper used for the descriptor file.
+     */
+    private ObjectMapper createJsonMapper() {
+        ObjectMapper jsonMapper = new ObjectMapper();
+        jsonMapper.findAndRegisterModules();
+        jsonMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        if (prettyPrint) {
+            jsonMapper.enable(SerializationFeature.INDENT_OUTPUT);
+        }
+        return jsonMapper;
+    }
+
     /**
      * Resolves the output path based on configuration.
      *
@@ -879,6 +1129,13 @@ public class GenerateDescriptorMojo extends AbstractMojo {
      * Writes descriptor in YAML format.
      */
     private void writeYaml(ProjectDescriptor descriptor, Path yamlPath) throws IOException {
+        createYamlMapper().writeValue(yamlPath.toFile(), descriptor);
+    }
+
+    /**
+     * YAML mapper used for the descriptor file.
+     */
+    private ObjectMapper createYamlMapper() {
         YAMLFactory yamlFactory = YAMLFactory.builder()
             .disable(YAMLGenerator.Feature.WRITE_DOC_START_MARKER)
             .build();
@@ -889,8 +1146,7 @@ public class GenerateDescriptorMojo extends AbstractMojo {
         if (prettyPrint) {
             yamlMapper.enable(SerializationFeature.INDENT_OUTPUT);
         }
-
-        yamlMapper.writeValue(yamlPath.toFile(), descriptor);
+        return yamlMapper;
     }
 
     /**
@@ -1981,7 +2237,7 @@ public class GenerateDescriptorMojo extends AbstractMojo {
 
                     // Controls
                     boolean hasFlat = deps.getFlat() != null && !deps.getFlat().isEmpty();
-                    boolean hasTree = deps.getTree() != null && !deps.getTree().isEmpty();
+                    boolean hasTree = deps.hasTree();
                     String defaultView = hasFlat ? "flat" : (hasTree ? "tree" : "flat");
 
                     html.append("        <div id=\"dep-section-").append(moduleId).append("\" style=\"margin: 10px 0 5px 0;\">\n");
@@ -2089,8 +2345,9 @@ d af f CSV</button>\\n");
                         if (!"tree".equals(defaultView)) html.append("display:none;");
                         html.append("\">\n");
                         html.append("          <ul style=\"padding-left:18px;\">\n");
-                        for (var n : deps.getTree()) {
-                            appendTreeNodeHtml(html, n, moduleId, 1);
+                        io.github.tourem.maven.descriptor.util.CompactDependencyGraph graph = deps.compactTree();
+                        for (int r = 0; r < graph.rootCount(); r++) {
+                            appendTreeNodeHtml(html, graph, graph.root(r), moduleId, 1);
                         }
                         html.append("          </ul>\n");
                         html.append("        </div>\n");
@@ -2155,7 +2412,7 @@ d af f CSV</button>\\n");
 
                     // Controls
                     boolean hasFlat = deps.getFlat() != null && !deps.getFlat().isEmpty();
-                    boolean hasTree = deps.getTree() != null && !deps.getTree().isEmpty();
+                    boolean hasTree = deps.hasTree();
                     String defaultView = hasFlat ? "flat" : (hasTree ? "tree" : "flat");
 
                     html.append("        <div id=\"dep-section-").append(moduleId).append("\" style=\"margin: 10px 0 5px 0;\">\n");
@@ -2259,8 +2516,9 @@ d af f CSV</button>\\n");
                         if (!"tree".equals(defaultView)) html.append("display:none;");
                         html.append("'>\n");
                         html.append("          <ul style=\"padding-left:18px;\">\n");
-                        for (var n : deps.getTree()) {
-                            appendTreeNodeHtml(html, n, moduleId, 1);
+                        io.github.tourem.maven.descriptor.util.CompactDependencyGraph graph = deps.compactTree();
+                        for (int r = 0; r < graph.rootCount(); r++) {
+                            appendTreeNodeHtml(html, graph, graph.root(r), moduleId, 1);
                         }
                         html.append("          </ul>\n");
                         html.append("        </div>\n");
@@ -2403,7 +2661,7 @@ d af f CSV</button>\\n");
                             html.append("              <table id=\"lic-table-").append(escapeHtml(String.valueOf(module.getArtifactId()))).append("\">\n");
                             html.append("            <thead><tr><th>Group</th><th onclick=\"sortTable('lic-table-").append(escapeHtml(String.valueOf(module.getArtifactId()))).append("',1)\">Artifact</th><th>Version</th><th>Scope</th><th onclick=\"sortTable('lic-table-").append(escapeHtml(String.valueOf(module.getArtifactId()))).append("',4)\">License</th><th>URL</th><th>Depth</th></tr></thead>\n");
                             html.append("            <tbody>\n");
-                            for (var d : lic.getDetails()) {
+                            for (var d : io.github.tourem.maven.descriptor.service.LicenseCatalog.expand(lic.getDetails(), descriptor.licenseCatalog())) {
                                 html.append("            <tr data-license=\"").append(escapeHtml(String.valueOf(d.getLicense()))).append("\" data-artifact=\"").append(escapeHtml(String.valueOf(d.getArtifactId()))).append("\">\n");
                                 html.append("              <td>").append(escapeHtml(String.valueOf(d.getGroupId()))).append("</td>\n");
                                 html.append("              <td><strong>").append(escapeHtml(String.valueOf(d.getArtifactId()))).append("</strong></td>\n");
@@ -3009,77 +3267,82 @@ d af f CSV</button>\\n");
             return;
         }
 
-        // Normalize configuration
-        final Set<String> allowedScopes = (options.getScopes() == null || options.getScopes().isEmpty())
-                ? new HashSet<>(Arrays.asList("compile", "runtime"))
-                : new HashSet<>(options.getScopes().stream().map(String::toLowerCase).toList());
-        final boolean includeOptionalDeps = options.isIncludeOptional();
-        final int depthLimit = options.getDepth(); // -1 unlimited; 0 direct only; N max depth
-
         for (io.github.tourem.maven.descriptor.model.DeployableModule module : descriptor.deployableModules()) {
-            try {
-                // Find the MavenProject for this module in the session or build from its pom.xml
-                MavenProject moduleProject = findModuleProject(module);
-                if (moduleProject == null) {
-                    getLog().debug("Module project not found for " + module.getArtifactId() + "; skipping tree");
-                    continue;
-                }
+            enrichDependencyTree(module, options);
+        }
+    }
 
-                ProjectBuildingRequest req = new DefaultProjectBuildingRequest(session.getProjectBuildingRequest());
-                req.setProject(moduleProject);
+    /**
+     * Build the transitive dependency tree of one module (see {@link #enrichDependencyTrees}).
+     */
+    private void enrichDependencyTree(io.github.tourem.maven.descriptor.model.DeployableModule module,
+                                      io.github.tourem.maven.descriptor.model.DependencyTreeOptions options) {
+        if (session == null || dependencyGraphBuilder == null) {
+            return;
+        }
+
+        try {
+            // Find the MavenProject for this module in the session or build from its pom.xml
+            MavenProject moduleProject = findModuleProject(module);
+            if (moduleProject == null) {
+                getLog().debug("Module project not found for " + module.getArtifactId() + "; skipping tree");
+                return;
+            }
+
+            // Converted during the license pre-resolution walk when it ran; the public node tree
+            // is only expanded when the descriptor is written
+            io.github.tourem.maven.descriptor.util.CompactDependencyGraph tree = resolvedTrees.get(moduleProject);
+            if (tree == null) {
                 org.apache.maven.shared.dependency.graph.DependencyNode root =
-                        dependencyGraphBuilder.buildDependencyGraph(req, null);
+                        DependencyGraphCache.of(session).graph(session, dependencyGraphBuilder, moduleProject, null);
                 if (root == null || root.getChildren() == null) {
-                    continue;
+                    return;
                 }
+                DependencyGraphWalker.CompactTree converter = treeConverter(options);
+                DependencyGraphWalker.walk(root, limitTreeDepth(options, converter));
+                tree = converter.build();
+            }
 
-                // Convert to our model (top-level children of root are direct deps)
-                List<io.github.tourem.maven.descriptor.model.DependencyNode> topNodes = new ArrayList<>();
-                for (org.apache.maven.shared.dependency.graph.DependencyNode child : root.getChildren()) {
-                    io.github.tourem.maven.descriptor.model.DependencyNode converted =
-                            convertNode(child, allowedScopes, includeOptionalDeps, depthLimit, 1, new HashSet<>());
-                    if (converted != null) {
-                        topNodes.add(converted);
-                    }
-                }
+            // Compute summary counters from built tree
+            io.github.tourem.maven.descriptor.model.DependencySummary summary = tree.summary();
 
-                // Compute summary counters from built tree
-                int direct = topNodes.size();
-                SummaryCounters counters = new SummaryCounters();
-                for (io.github.tourem.maven.descriptor.model.DependencyNode n : topNodes) {
-                    accumulateCounters(n, counters);
-                }
-                int total = counters.total;
-                int transitive = Math.max(0, total - direct);
-
-                io.github.tourem.maven.descriptor.model.DependencySummary summary =
-                        io.github.tourem.maven.descriptor.model.DependencySummary.builder()
-                                .total(total)
-                                .direct(direct)
-                                .transitive(transitive)
-                                .optional(counters.optional)
-                                .scopes(counters.scopes)
-                                .build();
-
-                // Preserve existing flat entries if any
-                List<io.github.tourem.maven.descriptor.model.DependencyFlatEntry> flat = null;
-                if (module.getDependencies() != null) {
-                    flat = module.getDependencies().getFlat();
-                }
+            // Both views come from the same graph; conflicts reported by core are kept
+            List<io.github.tourem.maven.descriptor.model.DependencyFlatEntry> flat =
+                    options.getFormat() == io.github.tourem.maven.descriptor.model.DependencyTreeFormat.TREE
+                            ? null : tree.toFlatEntries();
+            List<io.github.tourem.maven.descriptor.model.analysis.VersionConflict> conflicts =
+                    module.getDependencies() != null ? module.getDependencies().getConflicts() : null;
+
+            io.github.tourem.maven.descriptor.model.DependencyTreeInfo info =
+                    io.github.tourem.maven.descriptor.model.DependencyTreeInfo.builder()
+                            .summary(summary)
+                            .flat(flat)
+                            .graph(tree)
+                            .conflicts(conflicts)
+                            .build();
 
-                io.github.tourem.maven.descriptor.model.DependencyTreeInfo info =
-                        io.github.tourem.maven.descriptor.model.DependencyTreeInfo.builder()
-                                .summary(summary)
-                                .flat(flat)
-                                .tree(topNodes)
-                                .build();
+            module.setDependencies(info);
 
-                module.setDependencies(info);
+        } catch (Exception ex) {
+            getLog().debug("Failed to enrich dependency tree for module " + module.getArtifactId() + ": " + ex.getMessage(), ex);
+        }
+    }
 
-            } catch (Exception ex) {
-                getLog().debug("Failed to enrich dependency tree for module " + module.getArtifactId() + ": " + ex.getMessage(), ex);
+    /**
+     * Analyze from the reactor's effective models when available, from the POM files otherwise.
+     */
+    private ProjectDescriptor analyze(MavenProjectAnalyzer analyzer, Path projectDir,
+                                      io.github.tourem.maven.descriptor.service.ModuleListener listener) {
+        if (useReactorModels && session != null && session.getAllProjects() != null) {
+            Path root = projectDir.toAbsolutePath().normalize();
+            boolean inReactor = session.getAllProjects().stream()
+                    .anyMatch(p -> p.getBasedir() != null && root.equals(p.getBasedir().toPath().toAbsolutePath().normalize()));
+            if (inReactor) {
+                getLog().debug("Analyzing reactor models (" + session.getAllProjects().size() + " projects)");
+                return analyzer.analyzeReactor(projectDir, session.getAllProjects(), listener);
             }
         }
+        return analyzer.analyzeProject(projectDir, listener);
     }
 
     private MavenProject findModuleProject(io.github.tourem.maven.descriptor.model.DeployableModule module) throws Exception {
@@ -3109,130 +3372,76 @@ d af f CSV</button>\\n");
      * Pre-resolve dependencies for all reactor modules so that required POMs are available
      * in the local repository before license collection runs. This prevents "unknown" licenses
      * and null versions when the build is invoked directly on this goal without a prior resolve.
+     *
+     * @param treeOptions options of the tree view to build from the same graphs, or null
+     * @return resolved GA -> version index of each module, keyed by module groupId:artifactId
      */
-    private void preResolveDependenciesForLicensesInSession() {
+    private Map<String, io.github.tourem.maven.descriptor.util.ResolvedVersionIndex> preResolveDependenciesForLicensesInSession(
+            io.github.tourem.maven.descriptor.model.DependencyTreeOptions treeOptions) {
         if (session == null || dependencyGraphBuilder == null) {
-            return;
+            return Map.of();
         }
         if (session.getAllProjects() == null || session.getAllProjects().isEmpty()) {
-            return;
+            return Map.of();
         }
         getLog().debug("Pre-resolving dependencies for license collection across reactor modules");
+        Map<String, io.github.tourem.maven.descriptor.util.ResolvedVersionIndex> byModule = new HashMap<>();
+        // Graphs are kept for the tree enrichment and the other goals of this build
+        DependencyGraphCache graphs = DependencyGraphCache.of(session);
         for (MavenProject p : session.getAllProjects()) {
             try {
-                ProjectBuildingRequest req = new DefaultProjectBuildingRequest(session.getProjectBuildingRequest());
-                req.setProject(p);
                 org.apache.maven.shared.dependency.graph.DependencyNode root =
-                        dependencyGraphBuilder.buildDependencyGraph(req, null);
+                        graphs.graph(session, dependencyGraphBuilder, p, null);
 
-                // Traverse the resolved graph to publish GA->V mapping so core can resolve versions fast
+                // Index GA->V so core can resolve versions fast, and convert the tree view in the same walk
                 if (root != null) {
-                    java.util.ArrayDeque<org.apache.maven.shared.dependency.graph.DependencyNode> stack = new java.util.ArrayDeque<>();
-                    java.util.HashSet<String> seen = new java.util.HashSet<>();
-                    stack.push(root);
-                    while (!stack.isEmpty()) {
-                        org.apache.maven.shared.dependency.graph.DependencyNode n = stack.pop();
-                        Artifact a = (n != null) ? n.getArtifact() : null;
-                        if (a != null) {
-                            String g = a.getGroupId();
-                            String aId = a.getArtifactId();
-                            String v = a.getVersion();
-                            if (g != null && aId != null && v != null) {
-                                String k = g + ":" + aId;
-                                if (seen.add(k)) {
-                                    System.setProperty("deploy.manifest.resolved.ga." + k, v);
-                                }
-                            }
-                        }
-                        if (n != null && n.getChildren() != null) {
-                            for (org.apache.maven.shared.dependency.graph.DependencyNode c : n.getChildren()) {
-                                if (c != null) stack.push(c);
-                            }
-                        }
+                    var versions = io.github.tourem.maven.descriptor.util.ResolvedVersionIndex.builder();
+                    if (treeOptions != null && root.getChildren() != null) {
+                        DependencyGraphWalker.CompactTree converter = treeConverter(treeOptions);
+                        DependencyGraphWalker.walk(root, DependencyGraphWalker.versionIndex(versions),
+                                limitTreeDepth(treeOptions, converter));
+                        resolvedTrees.put(p, converter.build());
+                    } else {
+                        DependencyGraphWalker.walk(root, DependencyGraphWalker.versionIndex(versions));
                     }
+                    byModule.put(p.getGroupId() + ":" + p.getArtifactId(), versions.build());
                 }
             } catch (Throwable t) {
                 // Best-effort: do not fail plugin execution because of pre-resolution
                 getLog().debug("Skipping pre-resolve for " + p.getGroupId() + ":" + p.getArtifactId() + ": " + t.getMessage());
             }
         }
+        return byModule;
     }
 
 
-    private io.github.tourem.maven.descriptor.model.DependencyNode convertNode(
-            org.apache.maven.shared.dependency.graph.DependencyNode node,
-            Set<String> allowedScopes,
-            boolean includeOptional,
-            int depthLimit,
-            int currentDepth,
-            Set<String> visited) {
-        Artifact a = node.getArtifact();
-        if (a == null) return null;
-        String scope = (a.getScope() == null || a.getScope().isEmpty()) ? "compile" : a.getScope().toLowerCase();
-        if (!allowedScopes.contains(scope)) return null;
-        boolean optional = a.isOptional();
-        if (optional && !includeOptional) return null;
-
-        String key = a.getGroupId() + ":" + a.getArtifactId() + ":" + a.getVersion();
-        if (!visited.add(key)) {
-            return null; // avoid cycles/duplicates
-        }
-
-        boolean canGoDeeper;
-        if (depthLimit < 0) {
-            canGoDeeper = true;
-        } else {
-            canGoDeeper = currentDepth < depthLimit; // depth=1 means direct
-        }
-
-        List<io.github.tourem.maven.descriptor.model.DependencyNode> children = null;
-        if (canGoDeeper && node.getChildren() != null && !node.getChildren().isEmpty()) {
-            children = new ArrayList<>();
-            for (org.apache.maven.shared.dependency.graph.DependencyNode c : node.getChildren()) {
-                io.github.tourem.maven.descriptor.model.DependencyNode cc =
-                        convertNode(c, allowedScopes, includeOptional, depthLimit, currentDepth + 1, new HashSet<>(visited));
-                if (cc != null) children.add(cc);
-            }
-            if (children.isEmpty()) children = null;
-        }
-
-        return io.github.tourem.maven.descriptor.model.DependencyNode.builder()
-                .groupId(a.getGroupId())
-                .artifactId(a.getArtifactId())
-                .version(a.getVersion())
-                .scope(scope)
-                .type(a.getType())
-                .optional(optional)
-                .children(children)
-                .build();
-    }
-
-    private static class SummaryCounters {
-        int total = 0;
-        int optional = 0;
-        Map<String, Integer> scopes = new HashMap<>();
+    /**
+     * Tree view converter for the configured scopes and optional dependencies.
+     */
+    private DependencyGraphWalker.CompactTree treeConverter(io.github.tourem.maven.descriptor.model.DependencyTreeOptions options) {
+        Set<String> allowedScopes = (options.getScopes() == null || options.getScopes().isEmpty())
+                ? new HashSet<>(Arrays.asList("compile", "runtime"))
+                : new HashSet<>(options.getScopes().stream().map(String::toLowerCase).toList());
+        return new DependencyGraphWalker.CompactTree(allowedScopes, options.isIncludeOptional());
     }
 
-    private void accumulateCounters(io.github.tourem.maven.descriptor.model.DependencyNode n, SummaryCounters c) {
-        if (n == null) return;
-        c.total++;
-        if (n.isOptional()) c.optional++;
-        String s = n.getScope() == null ? "" : n.getScope();
-        c.scopes.put(s, c.scopes.getOrDefault(s, 0) + 1);
-        if (n.getChildren() != null) {
-            for (io.github.tourem.maven.descriptor.model.DependencyNode ch : n.getChildren()) {
-                accumulateCounters(ch, c);
-            }
-        }
+    /**
+     * Apply the configured depth (-1 unlimited; 0 and 1 direct only) to the tree converter.
+     */
+    private DependencyGraphWalker.Visitor limitTreeDepth(io.github.tourem.maven.descriptor.model.DependencyTreeOptions options,
+                                                       DependencyGraphWalker.CompactTree converter) {
+        int depthLimit = options.getDepth();
+        return DependencyGraphWalker.limitDepth(depthLimit < 0 ? -1 : Math.max(1, depthLimit), converter);
     }
 
-    private void appendTreeNodeHtml(StringBuilder html, io.github.tourem.maven.descriptor.model.DependencyNode n, String moduleId, int depth) {
-        String scope = n.getScope() == null ? "" : n.getScope();
-        String ga = (n.getGroupId() == null ? "" : n.getGroupId()) + ":" + (n.getArtifactId() == null ? "" : n.getArtifactId());
-        String version = n.getVersion() == null ? "" : n.getVersion();
-        String type = n.getType() == null ? "" : n.getType();
-        String optional = n.isOptional() ? "true" : "false";
-        boolean hasChildren = n.getChildren() != null && !n.getChildren().isEmpty();
+    private void appendTreeNodeHtml(StringBuilder html, io.github.tourem.maven.descriptor.util.CompactDependencyGraph graph,
+                                    int n, String moduleId, int depth) {
+        String scope = graph.scope(n) == null ? "" : graph.scope(n);
+        String ga = (graph.groupId(n) == null ? "" : graph.groupId(n)) + ":" + (graph.artifactId(n) == null ? "" : graph.artifactId(n));
+        String version = graph.version(n) == null ? "" : graph.version(n);
+        String type = graph.type(n) == null ? "" : graph.type(n);
+        String optional = graph.optional(n) ? "true" : "false";
+        boolean hasChildren = graph.childCount(n) > 0;
         html.append("            <li class=\"dep-node").append(hasChildren ? " has-children" : "")
             .append("\" data-module=\"").append(moduleId)
             .append("\" data-ga=\"").append(escapeHtml(ga))
@@ -3256,8 +3465,8 @@ d af f CSV</button>\\n");
         html.append("</span>");
         if (hasChildren) {
             html.append("\n              <ul>\n");
-            for (io.github.tourem.maven.descriptor.model.DependencyNode ch : n.getChildren()) {
-                appendTreeNodeHtml(html, ch, moduleId, depth + 1);
+            for (int i = 0; i < graph.childCount(n); i++) {
+                appendTreeNodeHtml(html, graph, graph.child(n, i), moduleId, depth + 1);
             }
             html.append("              </ul>\n            ");
         }
@@ -3329,6 +3538,8 @@ d af f CSV</button>\\n");
                 .deployableModulesCount(descriptor.deployableModulesCount())
                 .buildInfo(newBuildInfo)
                 .mavenRepositoryUrl(descriptor.mavenRepositoryUrl())
+                .generationStats(descriptor.generationStats())
+                .licenseCatalog(descriptor.licenseCatalog())
                 .build();
     }
 
@@ -0,0 +1,69 @@
+package io.github.tourem.maven.plugin;
+
+import io.github.tourem.maven.descriptor.model.analysis.MultiModuleAnalysis;
+import io.github.tourem.maven.descriptor.model.analysis.VersionConflict;
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.shared.dependency.graph.DependencyNode;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Library x module x version matrix of a reactor, built from the resolved dependency graph of
+ * each module, to report the libraries that modules resolve in different versions.
+ *
+ * <p>Each graph is walked once; a module records the first version met for each library (the
+ * module artifact itself is not recorded).</p>
+ *
+ * @author tourem
+ */
+final class ReactorConflictMatrix {
+
+    /** groupId:artifactId -> module (groupId:artifactId) -> resolved version. */
+    private final Map<String, Map<String, String>> versions = new TreeMap<>();
+
+    /**
+     * Record the resolved dependencies of one module.
+     */
+    void add(String module, DependencyNode root) {
+        if (root == null) {
+            return;
+        }
+        DependencyGraphWalker.walk(root, (node, depth) -> {
+            Artifact a = node.getArtifact();
+            if (a != null && depth > 0) {
+                versions.computeIfAbsent(a.getGroupId() + ":" + a.getArtifactId(), k -> new HashMap<>())
+                        .putIfAbsent(module, a.getVersion());
+            }
+            return true;
+        });
+    }
+
+    /**
+     * @return the libraries resolved in more than one version, by groupId:artifactId
+     */
+    List<MultiModuleAnalysis.CrossModuleConflict> conflicts() {
+        List<MultiModuleAnalysis.CrossModuleConflict> out = new ArrayList<>();
+        for (Map.Entry<String, Map<String, String>> e : versions.entrySet()) {
+            Map<String, List<String>> modulesByVersion = new TreeMap<>();
+            for (Map.Entry<String, String> m : e.getValue().entrySet()) {
+                modulesByVersion.computeIfAbsent(m.getValue(), k -> new ArrayList<>()).add(m.getKey());
+            }
+            if (modulesByVersion.size() < 2) {
+                continue;
+            }
+            modulesByVersion.values().forEach(modules -> modules.sort(null));
+            String[] ga = e.getKey().split(":", 2);
+            out.add(MultiModuleAnalysis.CrossModuleConflict.builder()
+                    .groupId(ga[0])
+                    .artifactId(ga[1])
+                    .modulesByVersion(modulesByVersion)
+                    .riskLevel(VersionConflict.riskLevel(modulesByVersion.keySet()))
+                    .build());
+        }
+        return out;
+    }
+}
@@ -0,0 +1,43 @@
+package io.github.tourem.maven.plugin;
+
+import org.apache.maven.execution.MavenSession;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.SessionData;
+
+import java.util.function.Supplier;
+
+/**
+ * Build-scoped objects kept in the repository session data, hence shared by every goal and
+ * module of a build and discarded with it.
+ *
+ * @author tourem
+ */
+final class SessionCaches {
+
+    private SessionCaches() {
+    }
+
+    /**
+     * Instance registered under {@code key} for the current build, registering one created by
+     * {@code factory} on first use. A fresh, unshared instance when the session carries no
+     * repository session (e.g. mojos instantiated by tests).
+     */
+    static <T> T get(MavenSession session, String key, Class<T> type, Supplier<T> factory) {
+        RepositorySystemSession repositorySession = session != null ? session.getRepositorySession() : null;
+        SessionData data = repositorySession != null ? repositorySession.getData() : null;
+        if (data == null) {
+            return factory.get();
+        }
+        Object cached = data.get(key);
+        if (cached == null) {
+            T created = factory.get();
+            // Compare-and-set: SessionData.computeIfAbsent is not available on older Maven versions
+            if (data.set(key, null, created)) {
+                return created;
+            }
+            cached = data.get(key);
+        }
+        // Another version of the plugin (other class realm) may have registered its own instance
+        return type.isInstance(cached) ? type.cast(cached) : factory.get();
+    }
+}
@@ -0,0 +1,143 @@
+package io.github.tourem.maven.plugin;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.github.tourem.maven.descriptor.model.DeployableModule;
+import io.github.tourem.maven.descriptor.model.ProjectDescriptor;
+import io.github.tourem.maven.descriptor.service.ModuleListener;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.RecordComponent;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Writes a {@link ProjectDescriptor} incrementally: the header fields first, then each
+ * deployable module as soon as it is analyzed, then the trailing counters and build info.
+ *
+ * <p>Fields are written in {@link ProjectDescriptor} component order with the same mappers as
+ * the in-memory mode, so the output is byte-identical to {@code ObjectMapper.writeValue}.
+ * Each target (JSON, YAML) gets its own generator.</p>
+ *
+ * @author tourem
+ */
+class StreamingDescriptorWriter implements ModuleListener, Closeable {
+
+    private static final String MODULES_FIELD = "deployableModules";
+
+    private final List<Target> targets = new ArrayList<>();
+    private boolean modulesStarted;
+    private boolean finished;
+
+    /**
+     * Add an output file written with the given mapper (JSON or YAML).
+     */
+    StreamingDescriptorWriter addTarget(ObjectMapper mapper, Path path) throws IOException {
+        JsonGenerator generator = mapper.createGenerator(path.toFile(), JsonEncoding.UTF8);
+        targets.add(new Target(mapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE), generator));
+        return this;
+    }
+
+    @Override
+    public void onHeader(ProjectDescriptor header) throws IOException {
+        for (Target target : targets) {
+            target.generator().writeStartObject();
+        }
+        writeFields(header, true);
+    }
+
+    @Override
+    public void onModule(DeployableModule module) throws IOException {
+        startModules();
+        for (Target target : targets) {
+            target.writer().writeValue(target.generator(), module);
+        }
+    }
+
+    /**
+     * Close the module list and write the fields that follow it.
+     *
+     * @param descriptor descriptor returned by the analyzer (modules are ignored)
+     */
+    void finish(ProjectDescriptor descriptor) throws IOException {
+        startModules();
+        for (Target target : targets) {
+            target.generator().writeEndArray();
+        }
+        writeFields(descriptor, false);
+        for (Target target : targets) {
+            target.generator().writeEndObject();
+        }
+        finished = true;
+    }
+
+    boolean isFinished() {
+        return finished;
+    }
+
+    @Override
+    public void close() throws IOException {
+        IOException failure = null;
+        for (Target target : targets) {
+            try {
+                target.generator().close();
+            } catch (IOException e) {
+                failure = e;
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private void startModules() throws IOException {
+        if (modulesStarted) {
+            return;
+        }
+        modulesStarted = true;
+        for (Target target : targets) {
+            target.generator().writeFieldName(MODULES_FIELD);
+            target.generator().writeStartArray();
+        }
+    }
+
+    /**
+     * Write the non-null fields declared before (header) or after (trailer) the module list.
+     */
+    private void writeFields(ProjectDescriptor descriptor, boolean header) throws IOException {
+        boolean beforeModules = true;
+        for (RecordComponent component : ProjectDescriptor.class.getRecordComponents()) {
+            if (MODULES_FIELD.equals(component.getName())) {
+                beforeModules = false;
+                continue;
+            }
+            if (beforeModules != header) {
+                continue;
+            }
+            Object value = read(component, descriptor);
+            if (value == null) {
+                continue;
+            }
+            for (Target target : targets) {
+                target.generator().writeFieldName(component.getName());
+                target.writer().writeValue(target.generator(), value);
+            }
+        }
+    }
+
+    private static Object read(RecordComponent component, ProjectDescriptor descriptor) throws IOException {
+        try {
+            return component.getAccessor().invoke(descriptor);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IOException("Cannot read descriptor field " + component.getName(), e);
+        }
+    }
+
+    private record Target(ObjectWriter writer, JsonGenerator generator) {}
+}
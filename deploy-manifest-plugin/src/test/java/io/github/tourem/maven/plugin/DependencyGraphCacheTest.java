@@ -0,0 +1,164 @@
+package io.github.tourem.maven.plugin;
+
+import org.apache.maven.artifact.resolver.filter.ArtifactFilter;
+import org.apache.maven.project.DefaultProjectBuildingRequest;
+import org.apache.maven.project.MavenProject;
+import org.apache.maven.project.ProjectBuildingRequest;
+import org.apache.maven.shared.dependency.graph.DependencyGraphBuilder;
+import org.apache.maven.shared.dependency.graph.DependencyGraphBuilderException;
+import org.apache.maven.shared.dependency.graph.DependencyNode;
+import org.apache.maven.shared.dependency.graph.internal.DefaultDependencyNode;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link DependencyGraphCache}.
+ */
+class DependencyGraphCacheTest {
+
+    private final ProjectBuildingRequest template = new DefaultProjectBuildingRequest();
+
+    @Test
+    void shouldResolveEachProjectOnceAndShareTheGraph() throws Exception {
+        CountingBuilder builder = new CountingBuilder();
+        DependencyGraphCache cache = new DependencyGraphCache();
+        MavenProject app = project("app");
+        MavenProject lib = project("lib");
+
+        DependencyNode first = cache.graph(template, builder, app, null);
+        DependencyNode again = cache.graph(template, builder, app, null);
+        cache.graph(template, builder, lib, null);
+
+        assertThat(again).isSameAs(first);
+        assertThat(builder.calls.get()).isEqualTo(2);
+        assertThat(cache.resolutions()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldKeyGraphsByResolutionFilter() throws Exception {
+        CountingBuilder builder = new CountingBuilder();
+        DependencyGraphCache cache = new DependencyGraphCache();
+        MavenProject app = project("app");
+        ArtifactFilter compileOnly = artifact -> "compile".equals(artifact.getScope());
+
+        DependencyNode unfiltered = cache.graph(template, builder, app, null);
+        DependencyNode filtered = cache.graph(template, builder, app, compileOnly);
+
+        assertThat(filtered).isNotSameAs(unfiltered);
+        assertThat(cache.graph(template, builder, app, compileOnly)).isSameAs(filtered);
+        assertThat(builder.calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldResolveOnceForConcurrentCallers() throws Exception {
+        CountingBuilder builder = new CountingBuilder();
+        DependencyGraphCache cache = new DependencyGraphCache();
+        MavenProject app = project("app");
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<DependencyNode>> futures = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                futures.add(pool.submit(() -> cache.graph(template, builder, app, null)));
+            }
+            DependencyNode first = futures.get(0).get();
+            for (Future<DependencyNode> f : futures) {
+                assertThat(f.get()).isSameAs(first);
+            }
+        } finally {
+            pool.shutdown();
+        }
+        assertThat(builder.calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotCacheFailures() throws Exception {
+        CountingBuilder builder = new CountingBuilder();
+        builder.failures = 1;
+        DependencyGraphCache cache = new DependencyGraphCache();
+        MavenProject app = project("app");
+
+        assertThatThrownBy(() -> cache.graph(template, builder, app, null))
+                .isInstanceOf(DependencyGraphBuilderException.class);
+        assertThat(cache.graph(template, builder, app, null)).isNotNull();
+        assertThat(builder.calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldReleaseConcurrentCallersWhenResolutionThrowsAnError() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        DependencyGraphBuilder failing = (request, filter) -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            throw new LinkageError("broken classpath");
+        };
+        DependencyGraphCache cache = new DependencyGraphCache();
+        MavenProject app = project("app");
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            Future<DependencyNode> first = pool.submit(() -> cache.graph(template, failing, app, null));
+            started.await();
+            Future<DependencyNode> waiter = pool.submit(() -> cache.graph(template, failing, app, null));
+            Thread.sleep(50);
+            release.countDown();
+
+            for (Future<DependencyNode> f : List.of(first, waiter)) {
+                assertThatThrownBy(() -> f.get(5, TimeUnit.SECONDS))
+                        .isInstanceOf(ExecutionException.class)
+                        .hasCauseInstanceOf(LinkageError.class);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldFallBackToPrivateCacheWithoutRepositorySession() {
+        assertThat(DependencyGraphCache.of(null)).isNotSameAs(DependencyGraphCache.of(null));
+    }
+
+    private static MavenProject project(String artifactId) {
+        MavenProject project = new MavenProject();
+        project.setGroupId("com.example");
+        project.setArtifactId(artifactId);
+        project.setVersion("1.0.0");
+        return project;
+    }
+
+    private static final class CountingBuilder implements DependencyGraphBuilder {
+        final AtomicInteger calls = new AtomicInteger();
+        volatile int failures;
+
+        @Override
+        public DependencyNode buildDependencyGraph(ProjectBuildingRequest request, ArtifactFilter filter)
+                throws DependencyGraphBuilderException {
+            calls.incrementAndGet();
+            if (failures > 0) {
+                failures--;
+                throw new DependencyGraphBuilderException("offline");
+            }
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new DefaultDependencyNode(null, request.getProject().getArtifact(), null, null, null);
+        }
+    }
+}
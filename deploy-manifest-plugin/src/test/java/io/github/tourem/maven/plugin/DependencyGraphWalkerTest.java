@@ -0,0 +1,100 @@
+package io.github.tourem.maven.plugin;
+
+import io.github.tourem.maven.descriptor.util.CompactDependencyGraph;
+import io.github.tourem.maven.descriptor.util.ResolvedVersionIndex;
+import org.apache.maven.artifact.DefaultArtifact;
+import org.apache.maven.artifact.handler.DefaultArtifactHandler;
+import org.apache.maven.shared.dependency.graph.DependencyNode;
+import org.apache.maven.shared.dependency.graph.internal.DefaultDependencyNode;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link DependencyGraphWalker}.
+ */
+class DependencyGraphWalkerTest {
+
+    @Test
+    void shouldFeedAllVisitorsInOneWalk() {
+        DependencyNode root = node("app", "1.0", null, false,
+                node("web", "1.0", "compile", false, node("util", "1.0", "compile", false)),
+                node("batch", "1.0", "runtime", false, node("util", "2.0", "runtime", false)),
+                node("junit", "5.10", "test", false, node("util", "3.0", "test", false)));
+
+        DependencyGraphWalker.UniqueArtifacts unique = new DependencyGraphWalker.UniqueArtifacts();
+        DependencyGraphWalker.VersionsByGa versions = new DependencyGraphWalker.VersionsByGa();
+        ResolvedVersionIndex.Builder index = ResolvedVersionIndex.builder();
+        DependencyGraphWalker.CompactTree tree = new DependencyGraphWalker.CompactTree(Set.of("compile", "runtime"), false);
+        DependencyGraphWalker.walk(root, unique, versions, DependencyGraphWalker.versionIndex(index), tree);
+
+        assertThat(unique.count()).isEqualTo(6);
+        assertThat(versions.versions().get("org.acme:util")).containsExactlyInAnyOrder("1.0", "2.0", "3.0");
+        assertThat(index.build().version("org.acme", "web")).isEqualTo("1.0");
+        CompactDependencyGraph graph = tree.build();
+        assertThat(graph.rootCount()).isEqualTo(2);
+        assertThat(graph.artifactId(graph.root(0))).isEqualTo("web");
+        assertThat(graph.version(graph.child(graph.root(1), 0))).isEqualTo("2.0");
+        assertThat(graph.summary().getTotal()).isEqualTo(4);
+    }
+
+    @Test
+    void shouldLimitDepthPerVisitor() {
+        DependencyNode root = node("app", "1.0", null, false,
+                node("web", "1.0", "compile", false, node("util", "1.0", "compile", false)));
+
+        DependencyGraphWalker.UniqueArtifacts unique = new DependencyGraphWalker.UniqueArtifacts();
+        DependencyGraphWalker.CompactTree tree = new DependencyGraphWalker.CompactTree(Set.of("compile"), false);
+        DependencyGraphWalker.walk(root, unique, DependencyGraphWalker.limitDepth(1, tree));
+
+        assertThat(unique.count()).isEqualTo(2);
+        CompactDependencyGraph graph = tree.build();
+        assertThat(graph.rootCount()).isEqualTo(1);
+        assertThat(graph.childCount(graph.root(0))).isZero();
+    }
+
+    @Test
+    void shouldDropDependenciesAlreadyOnThePath() {
+        DefaultDependencyNode a = node("a", "1.0", "compile", false);
+        DefaultDependencyNode b = node("b", "1.0", "compile", false, node("a", "1.0", "compile", false));
+        a.setChildren(List.of(b));
+        DependencyNode root = node("app", "1.0", null, false, a);
+
+        DependencyGraphWalker.CompactTree tree = new DependencyGraphWalker.CompactTree(Set.of("compile"), false);
+        DependencyGraphWalker.walk(root, tree);
+
+        CompactDependencyGraph graph = tree.build();
+        assertThat(graph.summary().getTotal()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldWalkVeryDeepGraphsWithoutRecursion() {
+        DefaultDependencyNode deepest = node("n0", "1.0", "compile", false);
+        DefaultDependencyNode current = deepest;
+        for (int i = 1; i < 20_000; i++) {
+            current = node("n" + i, "1.0", "compile", false, current);
+        }
+        DependencyNode root = node("app", "1.0", null, false, current);
+
+        DependencyGraphWalker.UniqueArtifacts unique = new DependencyGraphWalker.UniqueArtifacts();
+        DependencyGraphWalker.CompactTree tree = new DependencyGraphWalker.CompactTree(Set.of("compile"), false);
+        DependencyGraphWalker.walk(root, unique, tree);
+
+        assertThat(unique.count()).isEqualTo(20_000);
+        assertThat(tree.build().nodeCount()).isEqualTo(20_000);
+    }
+
+    private static DefaultDependencyNode node(String artifactId, String version, String scope, boolean optional,
+                                              DependencyNode... children) {
+        DefaultArtifact artifact = new DefaultArtifact("org.acme", artifactId, version, scope, "jar", null,
+                new DefaultArtifactHandler("jar"));
+        artifact.setOptional(optional);
+        DefaultDependencyNode node = new DefaultDependencyNode(null, artifact, null, null, null);
+        node.setChildren(new ArrayList<>(List.of(children)));
+        return node;
+    }
+}
@@ -3,6 +3,7 @@ package io.github.tourem.maven.plugin;
 import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
 import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
 import org.apache.commons.compress.compressors.gzip.GzipCompressorInputStream;
+import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.project.MavenProject;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -21,6 +22,7 @@ import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 public class GenerateDescriptorMojoArchiveTest {
 
@@ -182,8 +184,49 @@ public class GenerateDescriptorMojoArchiveTest {
         assertThat(names).contains("deployment-manifest-report.json", "deployment-manifest-report.yaml", "deployment-manifest-report.json.gz");
     }
 
+    @Test
+    void zip_contains_json_yaml_and_gz_when_streaming_output() throws Exception {
+        File archive = runMojo("both", false, true, "zip", true);
+        assertThat(archive).exists();
+
+        Set<String> names = zipEntries(archive);
+        assertThat(names).contains("deployment-manifest-report.json", "deployment-manifest-report.yaml", "deployment-manifest-report.json.gz");
+        assertThat(Files.readString(tempDir.resolve("deployment-manifest-report.json")))
+            .contains("\"deployableModules\"", "\"deployableModulesCount\"");
+    }
+
+    @Test
+    void streaming_output_is_removed_when_validation_fails() throws Exception {
+        // No <name>: validation fails after the module has been streamed
+        Path projectDir = Files.createDirectories(tempDir.resolve("unnamed"));
+        Files.writeString(projectDir.resolve("pom.xml"), "<project><modelVersion>4.0.0</modelVersion>"
+            + "<groupId>org.acme</groupId><artifactId>unnamed</artifactId><version>1.0.0</version></project>");
+        GenerateDescriptorMojo mojo = new GenerateDescriptorMojo();
+        MavenProject project = new MavenProject();
+        project.setFile(projectDir.resolve("pom.xml").toFile());
+
+        setField(mojo, "project", project);
+        setField(mojo, "outputDirectory", tempDir.toString());
+        setField(mojo, "outputFile", "deployment-manifest-report.json");
+        setField(mojo, "exportFormat", "both");
+        setField(mojo, "format", null);
+        setField(mojo, "attach", false);
+        setField(mojo, "skip", false);
+        setField(mojo, "summary", false);
+        setField(mojo, "validate", true);
+        setField(mojo, "streamOutput", true);
+
+        assertThatThrownBy(mojo::execute).isInstanceOf(MojoExecutionException.class);
+        assertThat(tempDir.resolve("deployment-manifest-report.json")).doesNotExist();
+        assertThat(tempDir.resolve("deployment-manifest-report.yaml")).doesNotExist();
+    }
 
     private File runMojo(String exportFormat, boolean generateHtml, boolean compress, String archiveFormat) throws Exception {
+        return runMojo(exportFormat, generateHtml, compress, archiveFormat, false);
+    }
+
+    private File runMojo(String exportFormat, boolean generateHtml, boolean compress, String archiveFormat,
+                         boolean streamOutput) throws Exception {
         GenerateDescriptorMojo mojo = new GenerateDescriptorMojo();
 
         MavenProject project = new MavenProject();
@@ -212,6 +255,7 @@ public class GenerateDescriptorMojoArchiveTest {
         setField(mojo, "skip", false);
         setField(mojo, "summary", false);
         setField(mojo, "classifier", "descriptor");
+        setField(mojo, "streamOutput", streamOutput);
 
         mojo.execute();
 
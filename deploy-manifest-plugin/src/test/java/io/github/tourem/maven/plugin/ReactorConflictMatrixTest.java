@@ -0,0 +1,73 @@
+package io.github.tourem.maven.plugin;
+
+import io.github.tourem.maven.descriptor.model.analysis.MultiModuleAnalysis;
+import io.github.tourem.maven.descriptor.model.analysis.VersionConflict;
+import org.apache.maven.artifact.DefaultArtifact;
+import org.apache.maven.artifact.handler.DefaultArtifactHandler;
+import org.apache.maven.shared.dependency.graph.DependencyNode;
+import org.apache.maven.shared.dependency.graph.internal.DefaultDependencyNode;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ReactorConflictMatrix}.
+ */
+class ReactorConflictMatrixTest {
+
+    @Test
+    void shouldReportLibrariesResolvedInDifferentVersionsAcrossModules() {
+        ReactorConflictMatrix matrix = new ReactorConflictMatrix();
+        matrix.add("orders", node("org.acme", "orders", "1.0",
+                node("com.fasterxml.jackson.core", "jackson-databind", "2.15.3"),
+                node("org.slf4j", "slf4j-api", "2.0.9")));
+        matrix.add("billing", node("org.acme", "billing", "1.0",
+                node("org.acme", "client", "1.0", node("com.fasterxml.jackson.core", "jackson-databind", "2.17.0")),
+                node("org.slf4j", "slf4j-api", "2.0.9")));
+        matrix.add("gateway", node("org.acme", "gateway", "1.0",
+                node("com.fasterxml.jackson.core", "jackson-databind", "2.15.3")));
+
+        List<MultiModuleAnalysis.CrossModuleConflict> conflicts = matrix.conflicts();
+
+        assertThat(conflicts).singleElement().satisfies(c -> {
+            assertThat(c.getArtifactId()).isEqualTo("jackson-databind");
+            assertThat(c.getModulesByVersion()).isEqualTo(Map.of(
+                    "2.15.3", List.of("gateway", "orders"),
+                    "2.17.0", List.of("billing")));
+            assertThat(c.getRiskLevel()).isEqualTo(VersionConflict.RiskLevel.MEDIUM);
+        });
+    }
+
+    @Test
+    void shouldKeepModulesSharingAnArtifactIdApart() {
+        ReactorConflictMatrix matrix = new ReactorConflictMatrix();
+        matrix.add("org.acme.orders:api", node("org.acme.orders", "api", "1.0", node("org.slf4j", "slf4j-api", "2.0.9")));
+        matrix.add("org.acme.billing:api", node("org.acme.billing", "api", "1.0", node("org.slf4j", "slf4j-api", "1.7.36")));
+
+        assertThat(matrix.conflicts()).singleElement().satisfies(c -> assertThat(c.getModulesByVersion()).isEqualTo(Map.of(
+                "1.7.36", List.of("org.acme.billing:api"),
+                "2.0.9", List.of("org.acme.orders:api"))));
+    }
+
+    @Test
+    void shouldIgnoreModuleArtifactsAndMissingGraphs() {
+        ReactorConflictMatrix matrix = new ReactorConflictMatrix();
+        matrix.add("app", node("org.acme", "app", "1.0"));
+        matrix.add("other", node("org.acme", "other", "2.0", node("org.acme", "app", "1.0")));
+        matrix.add("broken", null);
+
+        assertThat(matrix.conflicts()).isEmpty();
+    }
+
+    private static DependencyNode node(String groupId, String artifactId, String version, DependencyNode... children) {
+        DefaultArtifact artifact = new DefaultArtifact(groupId, artifactId, version, "compile", "jar", null,
+                new DefaultArtifactHandler("jar"));
+        DefaultDependencyNode node = new DefaultDependencyNode(null, artifact, null, null, null);
+        node.setChildren(new ArrayList<>(List.of(children)));
+        return node;
+    }
+}
@@ -0,0 +1,124 @@
+package io.github.tourem.maven.plugin;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import com.fasterxml.jackson.dataformat.yaml.YAMLGenerator;
+import io.github.tourem.maven.descriptor.model.DeployableModule;
+import io.github.tourem.maven.descriptor.model.ProjectDescriptor;
+import io.github.tourem.maven.descriptor.service.MavenProjectAnalyzer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Streaming output must be byte-identical to the in-memory serialization.
+ */
+class StreamingDescriptorWriterTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void streamedJsonAndYamlMatchInMemoryOutput() throws Exception {
+        ProjectDescriptor descriptor = new MavenProjectAnalyzer().analyzeProject(createReactor(List.of("svc-a", "svc-b")));
+        assertThat(descriptor.deployableModules()).hasSize(2);
+
+        assertStreamedOutputMatches(descriptor);
+    }
+
+    @Test
+    void streamedOutputMatchesWhenNoModuleIsDeployable() throws Exception {
+        ProjectDescriptor descriptor = new MavenProjectAnalyzer().analyzeProject(createReactor(List.of()));
+        assertThat(descriptor.deployableModules()).isEmpty();
+
+        assertStreamedOutputMatches(descriptor);
+    }
+
+    private void assertStreamedOutputMatches(ProjectDescriptor descriptor) throws Exception {
+        ObjectMapper json = jsonMapper();
+        ObjectMapper yaml = yamlMapper();
+        Path streamedJson = tempDir.resolve("streamed.json");
+        Path streamedYaml = tempDir.resolve("streamed.yaml");
+
+        try (StreamingDescriptorWriter writer = new StreamingDescriptorWriter()) {
+            writer.addTarget(json, streamedJson).addTarget(yaml, streamedYaml);
+            writer.onHeader(descriptor);
+            for (DeployableModule module : descriptor.deployableModules()) {
+                writer.onModule(module);
+            }
+            writer.finish(descriptor);
+        }
+
+        assertThat(Files.readAllBytes(streamedJson)).isEqualTo(json.writeValueAsBytes(descriptor));
+        assertThat(Files.readAllBytes(streamedYaml)).isEqualTo(yaml.writeValueAsBytes(descriptor));
+    }
+
+    private static ObjectMapper jsonMapper() {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.findAndRegisterModules();
+        mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        mapper.enable(SerializationFeature.INDENT_OUTPUT);
+        return mapper;
+    }
+
+    private static ObjectMapper yamlMapper() {
+        ObjectMapper mapper = new ObjectMapper(YAMLFactory.builder()
+                .disable(YAMLGenerator.Feature.WRITE_DOC_START_MARKER)
+                .build());
+        mapper.findAndRegisterModules();
+        mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        mapper.enable(SerializationFeature.INDENT_OUTPUT);
+        return mapper;
+    }
+
+    private Path createReactor(List<String> services) throws Exception {
+        Path root = tempDir.resolve("reactor-" + services.size());
+        Files.createDirectories(root);
+        StringBuilder modules = new StringBuilder();
+        for (String service : services) {
+            modules.append("<module>").append(service).append("</module>");
+            Path dir = root.resolve(service);
+            Files.createDirectories(dir.resolve("src/main/resources"));
+            Files.writeString(dir.resolve("src/main/resources/application-prod.yml"), "server:\n  port: 8080\n");
+            Files.writeString(dir.resolve("pom.xml"), """
+                <project xmlns="http://maven.apache.org/POM/4.0.0">
+                    <modelVersion>4.0.0</modelVersion>
+                    <parent><groupId>com.example</groupId><artifactId>root</artifactId><version>1.0.0</version></parent>
+                    <artifactId>%s</artifactId>
+                    <dependencies>
+                        <dependency>
+                            <groupId>org.springframework.boot</groupId>
+                            <artifactId>spring-boot-starter-web</artifactId>
+                            <version>3.2.0</version>
+                        </dependency>
+                    </dependencies>
+                    <build><plugins><plugin>
+                        <groupId>org.springframework.boot</groupId>
+                        <artifactId>spring-boot-maven-plugin</artifactId>
+                    </plugin></plugins></build>
+                </project>
+                """.formatted(service));
+        }
+        Files.writeString(root.resolve("pom.xml"), """
+            <project xmlns="http://maven.apache.org/POM/4.0.0">
+                <modelVersion>4.0.0</modelVersion>
+                <groupId>com.example</groupId>
+                <artifactId>root</artifactId>
+                <version>1.0.0</version>
+                <packaging>pom</packaging>
+                <name>Streaming "test" reactor</name>
+                <modules>%s</modules>
+                <distributionManagement>
+                    <repository><id>r</id><url>https://repo.example.com/releases</url></repository>
+                </distributionManagement>
+            </project>
+            """.formatted(modules));
+        return root;
+    }
+}